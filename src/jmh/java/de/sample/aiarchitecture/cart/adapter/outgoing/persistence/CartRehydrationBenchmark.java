@@ -0,0 +1,138 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.persistence;
+
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CartItem;
+import de.sample.aiarchitecture.cart.domain.model.CartItemId;
+import de.sample.aiarchitecture.cart.domain.model.CartStatus;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.Quantity;
+import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Price;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares rebuilding {@link ShoppingCart} aggregates from stored rows via {@link
+ * ShoppingCart#reconstitute} with the former reflection-based path used by the persistence
+ * adapters.
+ *
+ * <p>Rows are prepared in memory so the benchmark measures aggregate reconstruction only, not
+ * database access. Run with {@code ./gradlew jmh -Pjmh.includes=CartRehydration}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CartRehydrationBenchmark {
+
+  @Param({"10000"})
+  private int cartCount;
+
+  @Param({"3"})
+  private int itemsPerCart;
+
+  private List<CartRow> rows;
+
+  @Setup
+  public void setUp() {
+    rows = new ArrayList<>(cartCount);
+    for (int i = 0; i < cartCount; i++) {
+      final List<ItemRow> items = new ArrayList<>(itemsPerCart);
+      for (int j = 0; j < itemsPerCart; j++) {
+        items.add(
+            new ItemRow(
+                UUID.randomUUID().toString(),
+                "product-" + j,
+                j + 1,
+                BigDecimal.valueOf(9.99),
+                "EUR"));
+      }
+      rows.add(
+          new CartRow(
+              UUID.randomUUID().toString(), "customer-" + i, CartStatus.ACTIVE.name(), items));
+    }
+  }
+
+  @Benchmark
+  public List<ShoppingCart> reconstitute() {
+    final List<ShoppingCart> carts = new ArrayList<>(rows.size());
+    for (final CartRow row : rows) {
+      final List<CartItem> items = new ArrayList<>(row.items().size());
+      for (final ItemRow item : row.items()) {
+        items.add(
+            CartItem.reconstitute(
+                CartItemId.of(item.id()),
+                ProductId.of(item.productId()),
+                Quantity.of(item.quantity()),
+                price(item)));
+      }
+      carts.add(
+          ShoppingCart.reconstitute(
+              CartId.of(row.id()),
+              CustomerId.of(row.customerId()),
+              CartStatus.valueOf(row.status()),
+              items));
+    }
+    return carts;
+  }
+
+  /** The path the adapters used before: field and constructor lookups per cart. */
+  @Benchmark
+  public List<ShoppingCart> reflection() throws ReflectiveOperationException {
+    final List<ShoppingCart> carts = new ArrayList<>(rows.size());
+    for (final CartRow row : rows) {
+      final ShoppingCart cart =
+          new ShoppingCart(CartId.of(row.id()), CustomerId.of(row.customerId()));
+
+      final Field statusField = ShoppingCart.class.getDeclaredField("status");
+      statusField.setAccessible(true);
+      statusField.set(cart, CartStatus.valueOf(row.status()));
+
+      final Field itemsField = ShoppingCart.class.getDeclaredField("items");
+      itemsField.setAccessible(true);
+      @SuppressWarnings("unchecked")
+      final List<CartItem> items = (List<CartItem>) itemsField.get(cart);
+
+      final Constructor<CartItem> ctor =
+          CartItem.class.getDeclaredConstructor(
+              CartItemId.class, ProductId.class, Quantity.class, Price.class);
+      ctor.setAccessible(true);
+
+      for (final ItemRow item : row.items()) {
+        items.add(
+            ctor.newInstance(
+                CartItemId.of(item.id()),
+                ProductId.of(item.productId()),
+                Quantity.of(item.quantity()),
+                price(item)));
+      }
+      cart.clearDomainEvents();
+      carts.add(cart);
+    }
+    return carts;
+  }
+
+  private static Price price(final ItemRow item) {
+    return Price.of(Money.of(item.priceAmount(), Currency.getInstance(item.priceCurrency())));
+  }
+
+  private record CartRow(String id, String customerId, String status, List<ItemRow> items) {}
+
+  private record ItemRow(
+      String id, String productId, int quantity, BigDecimal priceAmount, String priceCurrency) {}
+}
@@ -0,0 +1,160 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.product;
+
+import de.sample.aiarchitecture.cart.domain.model.CartArticle;
+import de.sample.aiarchitecture.inventory.api.InventoryService;
+import de.sample.aiarchitecture.inventory.application.getstockforproducts.GetStockForProductsResult;
+import de.sample.aiarchitecture.pricing.api.PricingService;
+import de.sample.aiarchitecture.pricing.application.getpricesforproducts.GetPricesForProductsResult;
+import de.sample.aiarchitecture.product.api.ArticleViewService;
+import de.sample.aiarchitecture.product.api.ProductCatalogService;
+import de.sample.aiarchitecture.product.application.getarticleviews.GetArticleViewsResult;
+import de.sample.aiarchitecture.product.application.getproductsbyids.GetProductsByIdsResult;
+import de.sample.aiarchitecture.product.domain.readmodel.ArticleView;
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout.FanOutMode;
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout.FanOutProperties;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares sequential and parallel fan-out in {@link CompositeArticleDataAdapter}, and both against
+ * reading the article view.
+ *
+ * <p>The Open Host Services are wired to stub input ports that sleep for {@code latencyMillis}
+ * before answering, simulating a round trip to a real store per context. Sequential mode should
+ * take about three times the latency, parallel mode about one. The article view is an in-memory
+ * snapshot and answers without latency. Run with {@code ./gradlew jmh
+ * -Pjmh.includes=ArticleDataFanOut}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArticleDataFanOutBenchmark {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+
+  @Param({"SEQUENTIAL", "PARALLEL"})
+  private FanOutMode mode;
+
+  @Param({"5"})
+  private int latencyMillis;
+
+  @Param({"10"})
+  private int itemCount;
+
+  @Param({"false", "true"})
+  private boolean articleView;
+
+  private CompositeArticleDataAdapter adapter;
+  private List<ProductId> productIds;
+
+  @Setup
+  public void setUp() {
+    productIds = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      productIds.add(ProductId.generate());
+    }
+
+    final ProductCatalogService productCatalogService =
+        new ProductCatalogService(
+            query -> unsupported(),
+            query ->
+                withLatency(
+                    new GetProductsByIdsResult(
+                        toMap(
+                            query.productIds(),
+                            id ->
+                                new GetProductsByIdsResult.ProductData(
+                                    id, "Product", "SKU-1", "/images/product.png")))),
+            query -> unsupported(),
+            command -> unsupported());
+
+    final PricingService pricingService =
+        new PricingService(
+            query ->
+                withLatency(
+                    new GetPricesForProductsResult(
+                        toMap(
+                            query.productIds(),
+                            id ->
+                                new GetPricesForProductsResult.PriceData(
+                                    id, Money.of(BigDecimal.TEN, EUR), Instant.EPOCH)))),
+            command -> unsupported());
+
+    final InventoryService inventoryService =
+        new InventoryService(
+            query ->
+                withLatency(
+                    new GetStockForProductsResult(
+                        toMap(
+                            query.productIds(),
+                            id -> new GetStockForProductsResult.StockData(id, 100, true)))),
+            command -> unsupported(),
+            command -> unsupported());
+
+    final ArticleViewService articleViewService =
+        new ArticleViewService(
+            query ->
+                new GetArticleViewsResult(
+                    toMap(
+                        query.productIds(),
+                        id ->
+                            new ArticleView(
+                                id,
+                                "Product",
+                                "/images/product.png",
+                                Money.of(BigDecimal.TEN, EUR),
+                                100,
+                                true))));
+
+    adapter =
+        new CompositeArticleDataAdapter(
+            productCatalogService,
+            pricingService,
+            inventoryService,
+            FanOutProperties.of(mode),
+            articleViewService,
+            new ArticleViewProperties(articleView));
+  }
+
+  @Benchmark
+  public Map<ProductId, CartArticle> getArticleData() {
+    return adapter.getArticleData(productIds);
+  }
+
+  private <T> T withLatency(final T result) {
+    try {
+      Thread.sleep(latencyMillis);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+    return result;
+  }
+
+  private static <V> Map<ProductId, V> toMap(
+      final Collection<ProductId> productIds, final Function<ProductId, V> valueFactory) {
+    return productIds.stream().collect(Collectors.toMap(Function.identity(), valueFactory));
+  }
+
+  private static <T> T unsupported() {
+    throw new UnsupportedOperationException("Not used by the benchmark");
+  }
+}
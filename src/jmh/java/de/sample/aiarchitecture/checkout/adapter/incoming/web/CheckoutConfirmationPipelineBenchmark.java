@@ -0,0 +1,176 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.web;
+
+import de.sample.aiarchitecture.checkout.adapter.outgoing.persistence.InMemoryCheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutCommand;
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutResult;
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutUseCase;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchUseCase;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutArticleDataPort;
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticle;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.model.DeliveryAddress;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentSelection;
+import de.sample.aiarchitecture.checkout.domain.model.ShippingOption;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.DomainEventPublisher;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.AggregateRoot;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Load test for checkout confirmations with and without the {@link CheckoutConfirmationPipeline}.
+ *
+ * <p>Each operation confirms a fresh session that is ready for review, from 16 concurrent request
+ * threads. The fresh article data lookup is wired to a stub that sleeps for {@code latencyMillis}
+ * and admits only {@code backendConnections} lookups at a time, simulating a backend whose
+ * connection pool is the bottleneck. Without batching, throughput is capped at about {@code
+ * backendConnections / latencyMillis} confirmations per millisecond; with batching, one lookup
+ * serves a whole batch and throughput grows with the batch size. Run with {@code ./gradlew jmh
+ * -Pjmh.includes=CheckoutConfirmationPipeline}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class CheckoutConfirmationPipelineBenchmark {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+
+  @Param({"false", "true"})
+  private boolean batching;
+
+  @Param({"5"})
+  private int latencyMillis;
+
+  @Param({"4"})
+  private int backendConnections;
+
+  @Param({"3"})
+  private int itemCount;
+
+  private InMemoryCheckoutSessionRepository repository;
+  private CheckoutConfirmationPipeline pipeline;
+  private List<ProductId> productIds;
+
+  @Setup
+  public void setUp() {
+    productIds = new ArrayList<>(itemCount);
+    for (int i = 0; i < itemCount; i++) {
+      productIds.add(ProductId.generate());
+    }
+
+    final Semaphore connections = new Semaphore(backendConnections);
+    final CheckoutArticleDataPort articleDataPort =
+        ids ->
+            withLatency(
+                connections,
+                toMap(
+                    ids,
+                    id -> new CheckoutArticle(id, "Product", euro(10), 1_000_000, true, null)));
+
+    final DomainEventPublisher eventPublisher =
+        new DomainEventPublisher() {
+          @Override
+          public void publish(final DomainEvent event) {}
+
+          @Override
+          public void publishAndClearEvents(final AggregateRoot<?, ?> aggregate) {
+            aggregate.clearDomainEvents();
+          }
+        };
+
+    repository = new InMemoryCheckoutSessionRepository();
+    pipeline =
+        new CheckoutConfirmationPipeline(
+            new ConfirmCheckoutUseCase(repository, articleDataPort, eventPublisher),
+            new ConfirmCheckoutBatchUseCase(repository, articleDataPort, eventPublisher),
+            new CheckoutConfirmationPipelineProperties(
+                batching, 32, Duration.ofMillis(1), Duration.ofSeconds(10)),
+            new SimpleMeterRegistry());
+    pipeline.start();
+  }
+
+  @TearDown
+  public void tearDown() {
+    pipeline.stop();
+  }
+
+  @Benchmark
+  public ConfirmCheckoutResult confirm() {
+    final CheckoutSession session = reviewReadySession();
+    repository.save(session);
+    return pipeline.confirm(new ConfirmCheckoutCommand(session.id().value()));
+  }
+
+  private CheckoutSession reviewReadySession() {
+    final List<CheckoutLineItem> lineItems =
+        productIds.stream()
+            .map(
+                id ->
+                    CheckoutLineItem.of(
+                        CheckoutLineItemId.generate(), id, "Product", euro(10), 1, null))
+            .toList();
+    final CheckoutSession session =
+        CheckoutSession.start(
+            CartId.generate(), CustomerId.of("customer"), lineItems, euro(10L * itemCount));
+    session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+    session.submitDelivery(
+        DeliveryAddress.of("Main Street 1", "Berlin", "10115", "DE"),
+        ShippingOption.of("standard", "Standard Shipping", "3-5 business days", euro(0)));
+    session.submitPayment(PaymentSelection.of(PaymentProviderId.of("mock")));
+    session.clearDomainEvents();
+    return session;
+  }
+
+  private <T> T withLatency(final Semaphore connections, final T result) {
+    try {
+      connections.acquire();
+      try {
+        Thread.sleep(latencyMillis);
+      } finally {
+        connections.release();
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+    return result;
+  }
+
+  private static Money euro(final long amount) {
+    return Money.of(BigDecimal.valueOf(amount), EUR);
+  }
+
+  private static <V> Map<ProductId, V> toMap(
+      final Collection<ProductId> productIds, final Function<ProductId, V> valueFactory) {
+    return productIds.stream().collect(Collectors.toMap(Function.identity(), valueFactory));
+  }
+}
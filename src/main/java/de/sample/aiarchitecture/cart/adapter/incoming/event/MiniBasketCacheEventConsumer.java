@@ -0,0 +1,73 @@
+package de.sample.aiarchitecture.cart.adapter.incoming.event;
+
+import de.sample.aiarchitecture.cart.application.shared.MiniBasketCache;
+import de.sample.aiarchitecture.cart.domain.event.CartAbandoned;
+import de.sample.aiarchitecture.cart.domain.event.CartCheckedOut;
+import de.sample.aiarchitecture.cart.domain.event.CartCompleted;
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.events.CartContentsChangedEvent;
+import de.sample.aiarchitecture.inventory.events.StockLevelChangedEvent;
+import de.sample.aiarchitecture.pricing.events.PriceChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event consumer that keeps the {@link MiniBasketCache} consistent.
+ *
+ * <p>Cart changes are handled synchronously after commit, so the redirect following an "add to
+ * cart" already renders the updated mini basket. Status changes (checkout, completion, abandonment)
+ * drop the summary as well, since the customer's active cart changes with them.
+ *
+ * <p>Price and stock changes arrive as integration events from the Pricing and Inventory contexts
+ * and drop the summaries of all carts containing the affected product.
+ */
+@Component
+public class MiniBasketCacheEventConsumer {
+
+  private static final Logger log = LoggerFactory.getLogger(MiniBasketCacheEventConsumer.class);
+
+  private final MiniBasketCache miniBasketCache;
+
+  public MiniBasketCacheEventConsumer(final MiniBasketCache miniBasketCache) {
+    this.miniBasketCache = miniBasketCache;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCartContentsChanged(final CartContentsChangedEvent event) {
+    miniBasketCache.invalidateCart(CartId.of(event.cartId().toString()));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCartCheckedOut(final CartCheckedOut event) {
+    miniBasketCache.invalidateCart(event.cartId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCartCompleted(final CartCompleted event) {
+    miniBasketCache.invalidateCart(event.cartId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCartAbandoned(final CartAbandoned event) {
+    miniBasketCache.invalidateCart(event.cartId());
+  }
+
+  @ApplicationModuleListener
+  void onPriceChanged(final PriceChangedEvent event) {
+    log.debug("Price of product {} changed, invalidating mini baskets", event.productId().value());
+    miniBasketCache.invalidateProduct(event.productId());
+  }
+
+  @ApplicationModuleListener
+  void onStockLevelChanged(final StockLevelChangedEvent event) {
+    log.debug(
+        "Stock of product {} changed [{}], invalidating mini baskets",
+        event.productId().value(),
+        event.changeType());
+    miniBasketCache.invalidateProduct(event.productId());
+  }
+}
@@ -3,12 +3,9 @@ package de.sample.aiarchitecture.cart.adapter.incoming.web;
 import de.sample.aiarchitecture.cart.application.additemtocart.AddItemToCartCommand;
 import de.sample.aiarchitecture.cart.application.additemtocart.AddItemToCartResult;
 import de.sample.aiarchitecture.cart.application.additemtocart.AddItemToCartUseCase;
-import de.sample.aiarchitecture.cart.application.getcartbyid.GetCartByIdQuery;
-import de.sample.aiarchitecture.cart.application.getcartbyid.GetCartByIdResult;
-import de.sample.aiarchitecture.cart.application.getcartbyid.GetCartByIdUseCase;
-import de.sample.aiarchitecture.cart.application.getorcreateactivecart.GetOrCreateActiveCartCommand;
-import de.sample.aiarchitecture.cart.application.getorcreateactivecart.GetOrCreateActiveCartResult;
-import de.sample.aiarchitecture.cart.application.getorcreateactivecart.GetOrCreateActiveCartUseCase;
+import de.sample.aiarchitecture.cart.application.getactivecart.GetActiveCartQuery;
+import de.sample.aiarchitecture.cart.application.getactivecart.GetActiveCartResult;
+import de.sample.aiarchitecture.cart.application.getactivecart.GetActiveCartUseCase;
 import de.sample.aiarchitecture.cart.domain.model.CustomerId;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.IdentityProvider;
 import org.springframework.stereotype.Controller;
@@ -39,18 +36,15 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequestMapping("/cart")
 public class CartPageController {
 
-  private final GetCartByIdUseCase getCartByIdUseCase;
-  private final GetOrCreateActiveCartUseCase getOrCreateActiveCartUseCase;
+  private final GetActiveCartUseCase getActiveCartUseCase;
   private final AddItemToCartUseCase addItemToCartUseCase;
   private final IdentityProvider identityProvider;
 
   public CartPageController(
-      final GetCartByIdUseCase getCartByIdUseCase,
-      final GetOrCreateActiveCartUseCase getOrCreateActiveCartUseCase,
+      final GetActiveCartUseCase getActiveCartUseCase,
       final AddItemToCartUseCase addItemToCartUseCase,
       final IdentityProvider identityProvider) {
-    this.getCartByIdUseCase = getCartByIdUseCase;
-    this.getOrCreateActiveCartUseCase = getOrCreateActiveCartUseCase;
+    this.getActiveCartUseCase = getActiveCartUseCase;
     this.addItemToCartUseCase = addItemToCartUseCase;
     this.identityProvider = identityProvider;
   }
@@ -69,21 +63,13 @@ public class CartPageController {
     final IdentityProvider.Identity identity = identityProvider.getCurrentIdentity();
     final CustomerId customerId = CustomerId.of(identity.userId().value());
 
-    // Get or create active cart for the current user
-    final GetOrCreateActiveCartResult cartResponse =
-        getOrCreateActiveCartUseCase.execute(new GetOrCreateActiveCartCommand(customerId.value()));
-
-    // Fetch cart details
-    final GetCartByIdResult result =
-        getCartByIdUseCase.execute(new GetCartByIdQuery(cartResponse.cartId()));
-
-    if (!result.found()) {
-      return "error/404";
-    }
+    // Look up the active cart; visitors without one see an empty cart page
+    final GetActiveCartResult result =
+        getActiveCartUseCase.execute(new GetActiveCartQuery(customerId.value()));
 
     // Convert to page-specific ViewModel
     final CartPageViewModel viewModel =
-        CartPageViewModel.fromEnrichedCart(result.cart().orElseThrow());
+        result.cart().map(CartPageViewModel::fromEnrichedCart).orElseGet(CartPageViewModel::empty);
 
     model.addAttribute("shoppingCart", viewModel);
     model.addAttribute("title", "Shopping Cart");
@@ -117,13 +103,9 @@ public class CartPageController {
     final IdentityProvider.Identity identity = identityProvider.getCurrentIdentity();
     final CustomerId customerId = CustomerId.of(identity.userId().value());
 
-    // Get or create active cart
-    final GetOrCreateActiveCartResult cartResponse =
-        getOrCreateActiveCartUseCase.execute(new GetOrCreateActiveCartCommand(customerId.value()));
-
-    // Add product to cart
+    // Add product to the active cart (created on first add)
     final AddItemToCartCommand command =
-        new AddItemToCartCommand(cartResponse.cartId(), productId, quantity);
+        AddItemToCartCommand.forCustomer(customerId.value(), productId, quantity);
     final AddItemToCartResult addResponse = addItemToCartUseCase.execute(command);
 
     // Add success message
@@ -1,5 +1,6 @@
 package de.sample.aiarchitecture.cart.adapter.incoming.web;
 
+import de.sample.aiarchitecture.cart.domain.model.CartStatus;
 import de.sample.aiarchitecture.cart.domain.model.EnrichedCart;
 import de.sample.aiarchitecture.cart.domain.model.EnrichedCartItem;
 import java.math.BigDecimal;
@@ -13,7 +14,7 @@ import org.jspecify.annotations.Nullable;
  * alerts, and checkout eligibility.
  */
 public record CartPageViewModel(
-    String cartId,
+    @Nullable String cartId,
     String status,
     List<LineItemViewModel> lineItems,
     TotalsViewModel totals,
@@ -39,6 +40,19 @@ public record CartPageViewModel(
         cart.isValidForCheckout());
   }
 
+  /** Creates an empty CartPageViewModel for a visitor who has no active cart yet. */
+  public static CartPageViewModel empty() {
+    return new CartPageViewModel(
+        null,
+        CartStatus.ACTIVE.name(),
+        List.of(),
+        new TotalsViewModel(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, "EUR"),
+        0,
+        0,
+        false,
+        false);
+  }
+
   /** Checks if the cart is empty. */
   public boolean isEmpty() {
     return lineItems.isEmpty();
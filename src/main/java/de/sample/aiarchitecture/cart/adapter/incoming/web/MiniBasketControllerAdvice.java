@@ -1,14 +1,11 @@
 package de.sample.aiarchitecture.cart.adapter.incoming.web;
 
-import de.sample.aiarchitecture.cart.application.getcartbyid.GetCartByIdQuery;
-import de.sample.aiarchitecture.cart.application.getcartbyid.GetCartByIdResult;
-import de.sample.aiarchitecture.cart.application.getcartbyid.GetCartByIdUseCase;
-import de.sample.aiarchitecture.cart.application.getorcreateactivecart.GetOrCreateActiveCartCommand;
-import de.sample.aiarchitecture.cart.application.getorcreateactivecart.GetOrCreateActiveCartResult;
-import de.sample.aiarchitecture.cart.application.getorcreateactivecart.GetOrCreateActiveCartUseCase;
+import de.sample.aiarchitecture.cart.application.getminibasket.GetMiniBasketQuery;
+import de.sample.aiarchitecture.cart.application.getminibasket.GetMiniBasketResult;
+import de.sample.aiarchitecture.cart.application.getminibasket.GetMiniBasketUseCase;
 import de.sample.aiarchitecture.cart.domain.model.CustomerId;
-import de.sample.aiarchitecture.cart.domain.model.EnrichedCart;
-import de.sample.aiarchitecture.cart.domain.model.EnrichedCartItem;
+import de.sample.aiarchitecture.cart.domain.model.MiniBasketSummary;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.IdentityProvider;
 import java.util.List;
 import org.slf4j.Logger;
@@ -30,6 +27,11 @@ import org.springframework.web.bind.annotation.ModelAttribute;
  *   <li>{@code identity} - the current user's {@link IdentityProvider.Identity}
  * </ul>
  *
+ * <p>The mini basket is read-only: visitors without an active cart get an empty basket, and no cart
+ * is created on their behalf. Carts are created when the first item is added. Summaries are cached
+ * per cart and invalidated by cart, price and stock changes, so rendering an unchanged basket does
+ * not touch the cart repository or the article data of other contexts.
+ *
  * <p>Errors are handled gracefully: if the cart cannot be loaded, the mini basket shows zero items
  * and an empty total.
  */
@@ -38,16 +40,12 @@ public class MiniBasketControllerAdvice {
 
   private static final Logger LOG = LoggerFactory.getLogger(MiniBasketControllerAdvice.class);
 
-  private final GetOrCreateActiveCartUseCase getOrCreateActiveCartUseCase;
-  private final GetCartByIdUseCase getCartByIdUseCase;
+  private final GetMiniBasketUseCase getMiniBasketUseCase;
   private final IdentityProvider identityProvider;
 
   public MiniBasketControllerAdvice(
-      final GetOrCreateActiveCartUseCase getOrCreateActiveCartUseCase,
-      final GetCartByIdUseCase getCartByIdUseCase,
-      final IdentityProvider identityProvider) {
-    this.getOrCreateActiveCartUseCase = getOrCreateActiveCartUseCase;
-    this.getCartByIdUseCase = getCartByIdUseCase;
+      final GetMiniBasketUseCase getMiniBasketUseCase, final IdentityProvider identityProvider) {
+    this.getMiniBasketUseCase = getMiniBasketUseCase;
     this.identityProvider = identityProvider;
   }
 
@@ -68,16 +66,11 @@ public class MiniBasketControllerAdvice {
 
     try {
       final CustomerId customerId = CustomerId.of(identity.userId().value());
-      final GetOrCreateActiveCartResult cartRef =
-          getOrCreateActiveCartUseCase.execute(
-              new GetOrCreateActiveCartCommand(customerId.value()));
-
-      final GetCartByIdResult result =
-          getCartByIdUseCase.execute(new GetCartByIdQuery(cartRef.cartId()));
+      final GetMiniBasketResult result =
+          getMiniBasketUseCase.execute(new GetMiniBasketQuery(customerId.value()));
 
-      if (result.found()) {
-        final EnrichedCart cart = result.cart().orElseThrow();
-        populateMiniBasket(model, cart);
+      if (result.miniBasket().isPresent()) {
+        populateMiniBasket(model, result.miniBasket().get());
         return;
       }
     } catch (final Exception ex) {
@@ -90,27 +83,21 @@ public class MiniBasketControllerAdvice {
     model.addAttribute("miniBasketItems", List.of());
   }
 
-  private void populateMiniBasket(final Model model, final EnrichedCart cart) {
-    final int itemCount = cart.items().stream().mapToInt(item -> item.quantity().value()).sum();
-
-    final var subtotal = cart.calculateCurrentSubtotal();
-    final String formattedTotal =
-        subtotal.amount().toPlainString() + " " + subtotal.currency().getCurrencyCode();
-
+  private void populateMiniBasket(final Model model, final MiniBasketSummary miniBasket) {
     final List<MiniBasketItemViewModel> items =
-        cart.items().stream().map(this::toMiniBasketItem).toList();
-
-    model.addAttribute("miniBasketItemCount", itemCount);
-    model.addAttribute("miniBasketTotal", formattedTotal);
+        miniBasket.lines().stream()
+            .map(
+                line ->
+                    new MiniBasketItemViewModel(
+                        line.name(), line.quantity(), format(line.lineTotal())))
+            .toList();
+
+    model.addAttribute("miniBasketItemCount", miniBasket.itemCount());
+    model.addAttribute("miniBasketTotal", format(miniBasket.total()));
     model.addAttribute("miniBasketItems", items);
   }
 
-  private MiniBasketItemViewModel toMiniBasketItem(final EnrichedCartItem item) {
-    final var lineTotal = item.currentLineTotal();
-    final String formattedPrice =
-        lineTotal.amount().toPlainString() + " " + lineTotal.currency().getCurrencyCode();
-
-    return new MiniBasketItemViewModel(
-        item.currentArticle().name(), item.quantity().value(), formattedPrice);
+  private static String format(final Money money) {
+    return money.amount().toPlainString() + " " + money.currency().getCurrencyCode();
   }
 }
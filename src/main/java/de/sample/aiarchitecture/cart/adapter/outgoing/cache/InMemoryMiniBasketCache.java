@@ -0,0 +1,170 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.cache;
+
+import de.sample.aiarchitecture.cart.application.shared.MiniBasketCache;
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.MiniBasketSummary;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, time-limited in-memory implementation of {@link MiniBasketCache}.
+ *
+ * <p>Summaries are stored per cart ID. Two secondary indexes resolve the lookups the cache needs:
+ * customer → cart ID for reads, and product → cart IDs for price and stock invalidations. A page
+ * view of an unchanged cart therefore costs two hash lookups and no repository or article data
+ * access.
+ *
+ * <p><b>Consistency:</b> Every invalidation bumps a generation counter. A loaded summary is only
+ * kept if no invalidation happened while it was being loaded, so a summary computed from data that
+ * changed in the meantime is never cached.
+ *
+ * <p><b>Bounds:</b> Entries expire after the configured TTL and are removed on access. When the
+ * configured maximum size is exceeded, expired entries are purged first, then arbitrary entries
+ * until the cache is back within bounds.
+ */
+@Component
+public class InMemoryMiniBasketCache implements MiniBasketCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(InMemoryMiniBasketCache.class);
+
+  private final ConcurrentHashMap<CartId, Entry> entries = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CustomerId, CartId> cartByCustomer = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<ProductId, Set<CartId>> cartsByProduct =
+      new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private final int maxSize;
+  private final long ttlNanos;
+
+  public InMemoryMiniBasketCache(final MiniBasketCacheProperties properties) {
+    this.maxSize = properties.maxSize();
+    this.ttlNanos = properties.ttl().toNanos();
+  }
+
+  @Override
+  public Optional<MiniBasketSummary> getOrLoad(
+      final CustomerId customerId, final Supplier<Optional<MiniBasketSummary>> loader) {
+    final CartId cartId = cartByCustomer.get(customerId);
+    if (cartId != null) {
+      final Entry entry = entries.get(cartId);
+      if (entry != null && !entry.isExpired(System.nanoTime())) {
+        hits.increment();
+        return Optional.of(entry.summary());
+      }
+      if (entry != null) {
+        remove(cartId);
+      }
+    }
+
+    misses.increment();
+    final long observedGeneration = generation.get();
+    final Optional<MiniBasketSummary> loaded = loader.get();
+    loaded.ifPresent(summary -> put(summary, observedGeneration));
+    return loaded;
+  }
+
+  @Override
+  public void invalidateCart(final CartId cartId) {
+    generation.incrementAndGet();
+    remove(cartId);
+  }
+
+  @Override
+  public void invalidateProduct(final ProductId productId) {
+    generation.incrementAndGet();
+    final Set<CartId> cartIds = cartsByProduct.remove(productId);
+    if (cartIds != null) {
+      cartIds.forEach(this::remove);
+    }
+  }
+
+  /**
+   * Returns the number of cache hits since startup.
+   *
+   * @return the hit count
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of cache misses since startup.
+   *
+   * @return the miss count
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  private void put(final MiniBasketSummary summary, final long observedGeneration) {
+    final CartId cartId = summary.cartId();
+    entries.put(cartId, new Entry(summary, System.nanoTime() + ttlNanos));
+    cartByCustomer.put(summary.customerId(), cartId);
+    for (final ProductId productId : summary.productIds()) {
+      cartsByProduct.computeIfAbsent(productId, key -> ConcurrentHashMap.newKeySet()).add(cartId);
+    }
+
+    // An invalidation raced with the load: the summary may be stale, do not keep it
+    if (generation.get() != observedGeneration) {
+      remove(cartId);
+      return;
+    }
+    if (entries.size() > maxSize) {
+      evict();
+    }
+  }
+
+  private void remove(final CartId cartId) {
+    final Entry removed = entries.remove(cartId);
+    if (removed == null) {
+      return;
+    }
+    cartByCustomer.remove(removed.summary().customerId(), cartId);
+    for (final ProductId productId : removed.summary().productIds()) {
+      cartsByProduct.computeIfPresent(
+          productId,
+          (key, cartIds) -> {
+            cartIds.remove(cartId);
+            return cartIds.isEmpty() ? null : cartIds;
+          });
+    }
+  }
+
+  private void evict() {
+    final long now = System.nanoTime();
+    entries.forEach(
+        (cartId, entry) -> {
+          if (entry.isExpired(now)) {
+            remove(cartId);
+          }
+        });
+
+    final Iterator<CartId> it = entries.keySet().iterator();
+    while (entries.size() > maxSize && it.hasNext()) {
+      remove(it.next());
+    }
+    logger.debug(
+        "Evicted mini basket summaries, {} cached (hits: {}, misses: {})",
+        entries.size(),
+        hits.sum(),
+        misses.sum());
+  }
+
+  private record Entry(MiniBasketSummary summary, long expiresAtNanos) {
+    boolean isExpired(final long now) {
+      return now - expiresAtNanos >= 0;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the mini basket summary cache.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   cart:
+ *     mini-basket-cache:
+ *       max-size: 10000
+ *       ttl: 10m
+ * </pre>
+ *
+ * @param maxSize maximum number of cached cart summaries (default: 10000)
+ * @param ttl time after which a summary is reloaded even without invalidation (default: 10 minutes)
+ */
+@ConfigurationProperties(prefix = "app.cart.mini-basket-cache")
+public record MiniBasketCacheProperties(int maxSize, Duration ttl) {
+
+  public MiniBasketCacheProperties {
+    if (maxSize <= 0) {
+      maxSize = 10_000;
+    }
+    if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+      ttl = Duration.ofMinutes(10);
+    }
+  }
+}
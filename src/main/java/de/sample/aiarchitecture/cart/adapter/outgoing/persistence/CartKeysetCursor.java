@@ -0,0 +1,71 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a cart in the keyset order shared by all cart persistence adapters: {@code
+ * updated_at} descending, then cart id descending as tie-breaker.
+ *
+ * <p>The cursor is handed to clients as an opaque URL-safe string and decoded back into the seek
+ * predicate {@code updated_at < ? OR (updated_at = ? AND id < ?)}.
+ *
+ * @param updatedAt the last update timestamp of the cart
+ * @param id the cart id
+ */
+public record CartKeysetCursor(Instant updatedAt, String id)
+    implements Comparable<CartKeysetCursor> {
+
+  private static final char SEPARATOR = '|';
+
+  public CartKeysetCursor {
+    if (updatedAt == null) {
+      throw new IllegalArgumentException("Updated at cannot be null");
+    }
+    if (id == null || id.isBlank()) {
+      throw new IllegalArgumentException("Id cannot be null or blank");
+    }
+  }
+
+  /**
+   * Decodes a cursor previously produced by {@link #encode()}.
+   *
+   * @param cursor the opaque cursor string
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public static CartKeysetCursor decode(final String cursor) {
+    try {
+      final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      final int separator = raw.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid cart cursor: " + cursor);
+      }
+      return new CartKeysetCursor(
+          Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+    } catch (final DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cart cursor: " + cursor, e);
+    }
+  }
+
+  /**
+   * Encodes this cursor into an opaque URL-safe string.
+   *
+   * @return the encoded cursor
+   */
+  public String encode() {
+    final String raw = updatedAt.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Orders cursors the way pages are read: most recently updated first. */
+  @Override
+  public int compareTo(final CartKeysetCursor other) {
+    final int byUpdatedAt = other.updatedAt.compareTo(this.updatedAt);
+    return byUpdatedAt != 0 ? byUpdatedAt : other.id.compareTo(this.id);
+  }
+}
@@ -0,0 +1,47 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.persistence;
+
+import de.sample.aiarchitecture.cart.domain.model.CartItem;
+import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import java.math.BigDecimal;
+
+/**
+ * Denormalized totals stored on the {@code carts} row ({@code item_count}, {@code total_amount},
+ * {@code total_currency}).
+ *
+ * <p>The totals are recomputed from the aggregate on every save, so specifications such as {@link
+ * de.sample.aiarchitecture.cart.domain.specification.HasMinTotal} can be pushed down as plain range
+ * predicates instead of aggregating {@code cart_items} per cart. The amount is based on the prices
+ * at addition, like {@link ShoppingCart#calculateTotal()}; an empty cart totals zero EUR. A cart
+ * with lines in different currencies has no single total and stores {@code null} amount and
+ * currency, so it never satisfies a minimum total.
+ *
+ * @param itemCount number of cart lines
+ * @param amount sum of price at addition times quantity, or {@code null} for mixed currencies
+ * @param currency ISO currency code of the amount, or {@code null} for mixed currencies
+ */
+public record CartTotals(int itemCount, BigDecimal amount, String currency) {
+
+  /**
+   * Computes the totals of the given cart.
+   *
+   * @param cart the cart to summarize
+   * @return the cart totals
+   */
+  public static CartTotals of(final ShoppingCart cart) {
+    Money total = Money.euro(0.0);
+    boolean first = true;
+    for (final CartItem item : cart.items()) {
+      final Money lineTotal = item.priceAtAddition().value().multiply(item.quantity().value());
+      if (first) {
+        total = lineTotal;
+        first = false;
+      } else if (!lineTotal.currency().equals(total.currency())) {
+        return new CartTotals(cart.itemCount(), null, null);
+      } else {
+        total = total.add(lineTotal);
+      }
+    }
+    return new CartTotals(cart.itemCount(), total.amount(), total.currency().getCurrencyCode());
+  }
+}
@@ -0,0 +1,65 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.persistence;
+
+import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Turns a lazily fetched stream of cart rows into a stream of aggregates, reconstituting one chunk
+ * of rows at a time.
+ *
+ * <p>Only the current chunk is held in memory, so streaming adapters can bulk-load the items of a
+ * chunk with one query while memory stays flat regardless of the result size. Closing the returned
+ * stream closes the row stream and with it the underlying database cursor.
+ */
+public final class ChunkedCartStream {
+
+  private ChunkedCartStream() {}
+
+  /**
+   * Creates a stream of carts backed by the given row stream.
+   *
+   * @param rows the lazily fetched rows, closed together with the returned stream
+   * @param chunkSize the maximum number of rows reconstituted at once
+   * @param loader reconstitutes the carts of a chunk, preserving the row order
+   * @param <R> the row type
+   * @return a sequential, ordered stream of carts
+   */
+  public static <R> Stream<ShoppingCart> of(
+      final Stream<R> rows,
+      final int chunkSize,
+      final Function<List<R>, List<ShoppingCart>> loader) {
+    final Iterator<R> source = rows.iterator();
+    final Iterator<List<R>> chunks =
+        new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return source.hasNext();
+          }
+
+          @Override
+          public List<R> next() {
+            if (!source.hasNext()) {
+              throw new NoSuchElementException();
+            }
+            final List<R> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && source.hasNext()) {
+              chunk.add(source.next());
+            }
+            return chunk;
+          }
+        };
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .flatMap(chunk -> loader.apply(chunk).stream())
+        .onClose(rows::close);
+  }
+}
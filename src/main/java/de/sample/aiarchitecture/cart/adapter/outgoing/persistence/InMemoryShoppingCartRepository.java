@@ -5,10 +5,22 @@ import de.sample.aiarchitecture.cart.domain.model.CartId;
 import de.sample.aiarchitecture.cart.domain.model.CartStatus;
 import de.sample.aiarchitecture.cart.domain.model.CustomerId;
 import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPageResult;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPagingRequest;
+import de.sample.aiarchitecture.sharedkernel.domain.specification.CompositeSpecification;
 import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.AsyncInitialize;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
@@ -20,6 +32,18 @@ import org.springframework.stereotype.Repository;
  * <p>This secondary adapter provides a thread-safe in-memory storage for shopping carts using
  * ConcurrentHashMap. In a production system, this would be replaced with a database implementation.
  *
+ * <p><b>Secondary Indexes:</b> Customer lookups are served from two concurrent indexes instead of
+ * scanning all carts: customer → cart ids and customer → active cart id. Both are maintained on
+ * {@link #save} and {@link #deleteById}; status transitions (checkout, completion, abandonment)
+ * reach the index through the {@code save} that follows them. Writes are serialized, so the map and
+ * the indexes are always updated together; reads are lock-free. A stale active-cart entry (cart
+ * changed status but was not saved yet) is detected on read and repaired from the customer's own
+ * carts, so lookups never depend on the total number of carts.
+ *
+ * <p><b>Keyset Order:</b> The save time of every cart is tracked in a concurrent skip list ordered
+ * like the database adapters ({@code updated_at DESC, id DESC}), so cursor pages start with a
+ * {@code tailSet} seek instead of sorting all carts.
+ *
  * <p><b>Async Initialization:</b> This repository uses {@link AsyncInitialize} to perform
  * non-blocking cache warmup. The {@code asyncInitialize()} method is invoked asynchronously after
  * bean initialization, allowing the application to start without waiting for initialization tasks.
@@ -35,6 +59,22 @@ public class InMemoryShoppingCartRepository implements ShoppingCartRepository {
       LoggerFactory.getLogger(InMemoryShoppingCartRepository.class);
 
   private final ConcurrentHashMap<CartId, ShoppingCart> carts = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CustomerId, Set<CartId>> cartIdsByCustomer =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CustomerId, CartId> activeCartByCustomer =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CartId, CartKeysetCursor> positions = new ConcurrentHashMap<>();
+  private final ConcurrentSkipListSet<CartKeysetCursor> keysetOrder = new ConcurrentSkipListSet<>();
+  private final Clock clock;
+
+  public InMemoryShoppingCartRepository() {
+    this(Clock.systemUTC());
+  }
+
+  /** Creates a repository that takes the save time of carts from the given clock. */
+  InMemoryShoppingCartRepository(final Clock clock) {
+    this.clock = clock;
+  }
 
   @Override
   public Optional<ShoppingCart> findById(final CartId id) {
@@ -43,15 +83,31 @@ public class InMemoryShoppingCartRepository implements ShoppingCartRepository {
 
   @Override
   public List<ShoppingCart> findByCustomerId(final CustomerId customerId) {
-    return carts.values().stream().filter(cart -> cart.customerId().equals(customerId)).toList();
+    final Set<CartId> ids = cartIdsByCustomer.get(customerId);
+    if (ids == null) {
+      return List.of();
+    }
+    return ids.stream().map(carts::get).filter(Objects::nonNull).toList();
   }
 
   @Override
   public Optional<ShoppingCart> findActiveCartByCustomerId(final CustomerId customerId) {
-    return carts.values().stream()
-        .filter(cart -> cart.customerId().equals(customerId))
-        .filter(cart -> cart.status() == CartStatus.ACTIVE)
-        .findFirst();
+    final CartId activeId = activeCartByCustomer.get(customerId);
+    if (activeId != null) {
+      final ShoppingCart cart = carts.get(activeId);
+      if (cart != null && cart.status() == CartStatus.ACTIVE) {
+        return Optional.of(cart);
+      }
+      activeCartByCustomer.remove(customerId, activeId);
+    }
+
+    // Index miss or stale entry: fall back to the customer's own carts only
+    final Optional<ShoppingCart> active =
+        findByCustomerId(customerId).stream()
+            .filter(cart -> cart.status() == CartStatus.ACTIVE)
+            .findFirst();
+    active.ifPresent(cart -> activeCartByCustomer.putIfAbsent(customerId, cart.id()));
+    return active;
   }
 
   @Override
@@ -60,14 +116,108 @@ public class InMemoryShoppingCartRepository implements ShoppingCartRepository {
   }
 
   @Override
-  public ShoppingCart save(final ShoppingCart cart) {
-    carts.put(cart.id(), cart);
+  public synchronized ShoppingCart save(final ShoppingCart cart) {
+    final CartId id = cart.id();
+    final CustomerId customerId = cart.customerId();
+
+    carts.put(id, cart);
+    cartIdsByCustomer.compute(
+        customerId,
+        (key, ids) -> {
+          final Set<CartId> result = ids != null ? ids : ConcurrentHashMap.newKeySet();
+          result.add(id);
+          return result;
+        });
+
+    if (cart.status() == CartStatus.ACTIVE) {
+      activeCartByCustomer.put(customerId, id);
+    } else {
+      activeCartByCustomer.remove(customerId, id);
+    }
+
+    positions.compute(
+        id,
+        (key, previous) -> {
+          if (previous != null) {
+            keysetOrder.remove(previous);
+          }
+          final CartKeysetCursor position = new CartKeysetCursor(clock.instant(), id.value());
+          keysetOrder.add(position);
+          return position;
+        });
     return cart;
   }
 
   @Override
-  public void deleteById(final CartId id) {
-    carts.remove(id);
+  public synchronized void deleteById(final CartId id) {
+    final ShoppingCart removed = carts.remove(id);
+    if (removed == null) {
+      return;
+    }
+    final CustomerId customerId = removed.customerId();
+    cartIdsByCustomer.computeIfPresent(
+        customerId,
+        (key, ids) -> {
+          ids.remove(id);
+          return ids.isEmpty() ? null : ids;
+        });
+    activeCartByCustomer.remove(customerId, id);
+    positions.computeIfPresent(
+        id,
+        (key, position) -> {
+          keysetOrder.remove(position);
+          return null;
+        });
+  }
+
+  /**
+   * Streams directly over the backing map. The iterator is weakly consistent: it never throws
+   * {@link java.util.ConcurrentModificationException}, and carts saved or deleted while the stream
+   * is consumed may or may not be reflected. No snapshot copy is taken.
+   */
+  @Override
+  public Stream<ShoppingCart> streamBy(final CompositeSpecification<ShoppingCart> specification) {
+    return carts.values().stream().filter(specification::isSatisfiedBy);
+  }
+
+  /**
+   * Walks the keyset order from the cursor position and filters with the specification until the
+   * page is full. The cost is proportional to the carts visited, not to the page number; the total
+   * is only counted on request.
+   */
+  @Override
+  public CursorPageResult<ShoppingCart> findBy(
+      final CompositeSpecification<ShoppingCart> specification,
+      final CursorPagingRequest pageQuery) {
+    final NavigableSet<CartKeysetCursor> remaining =
+        pageQuery.isFirstPage()
+            ? keysetOrder
+            : keysetOrder.tailSet(CartKeysetCursor.decode(pageQuery.cursor()), false);
+
+    final List<ShoppingCart> content = new ArrayList<>(pageQuery.pageSize());
+    CartKeysetCursor last = null;
+    boolean hasNext = false;
+    final Iterator<CartKeysetCursor> it = remaining.iterator();
+    while (it.hasNext()) {
+      final CartKeysetCursor position = it.next();
+      final ShoppingCart cart = carts.get(CartId.of(position.id()));
+      if (cart == null || !specification.isSatisfiedBy(cart)) {
+        continue;
+      }
+      if (content.size() == pageQuery.pageSize()) {
+        hasNext = true;
+        break;
+      }
+      content.add(cart);
+      last = position;
+    }
+
+    final OptionalLong total =
+        pageQuery.includeTotal()
+            ? OptionalLong.of(carts.values().stream().filter(specification::isSatisfiedBy).count())
+            : OptionalLong.empty();
+    return new CursorPageResult<>(
+        content, hasNext ? last.encode() : null, total, pageQuery.pageSize());
   }
 
   /**
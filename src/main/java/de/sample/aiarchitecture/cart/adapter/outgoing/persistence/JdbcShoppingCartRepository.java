@@ -3,20 +3,27 @@ package de.sample.aiarchitecture.cart.adapter.outgoing.persistence;
 import de.sample.aiarchitecture.cart.adapter.outgoing.persistence.jdbc.CartSpecToJdbc;
 import de.sample.aiarchitecture.cart.application.shared.ShoppingCartRepository;
 import de.sample.aiarchitecture.cart.domain.model.*;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPageResult;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PageResult;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Price;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
 import de.sample.aiarchitecture.sharedkernel.domain.specification.CompositeSpecification;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 import javax.sql.DataSource;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,99 +32,141 @@ import org.springframework.transaction.annotation.Transactional;
  * H2/JDBC implementation of ShoppingCartRepository.
  *
  * <p>This adapter persists carts and items to an in-memory H2 database using Spring JDBC. It
- * reconstructs aggregates without emitting domain events by using reflection to set internal state
- * and then clears any collected events.
+ * reconstructs aggregates through {@link ShoppingCart#reconstitute} and {@link
+ * CartItem#reconstitute}, which restore state without emitting domain events.
+ *
+ * <p>Items are loaded in bulk for a whole result set: one {@code IN (...)} query per chunk of
+ * {@value #ITEM_LOAD_CHUNK_SIZE} carts instead of one query per cart, so the number of statements
+ * does not grow with the page size.
+ *
+ * <p>Besides offset paging, {@link #findBy(CompositeSpecification, CursorPagingRequest)} supports
+ * keyset paging over {@code (updated_at, id)}, served by the {@code idx_carts_updated_id} index.
  */
 @org.springframework.context.annotation.Profile("jdbc")
 @Repository
 public class JdbcShoppingCartRepository implements ShoppingCartRepository {
 
+  /** Maximum number of cart ids bound into a single {@code IN (...)} item query. */
+  static final int ITEM_LOAD_CHUNK_SIZE = 500;
+
+  /** Rows fetched per round trip while streaming; the driver never buffers the full result. */
+  static final int STREAM_FETCH_SIZE = 500;
+
   private final JdbcTemplate jdbcTemplate;
+  private final JdbcTemplate streamingTemplate;
   private final CartSpecToJdbc specTranslator;
 
   public JdbcShoppingCartRepository(
       final DataSource dataSource, final CartSpecToJdbc specTranslator) {
     this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.streamingTemplate = new JdbcTemplate(dataSource);
+    this.streamingTemplate.setFetchSize(STREAM_FETCH_SIZE);
     this.specTranslator = specTranslator;
   }
 
   @Override
   public Optional<ShoppingCart> findById(final CartId id) {
-    final List<ShoppingCart> carts =
+    final List<CartRow> rows =
         jdbcTemplate.query(
             "SELECT id, customer_id, status FROM carts WHERE id = ?", cartRowMapper(), id.value());
-    if (carts.isEmpty()) return Optional.empty();
-    final ShoppingCart cart = carts.get(0);
-    loadItems(cart);
-    clearDomainEvents(cart);
-    return Optional.of(cart);
+    return rehydrate(rows).stream().findFirst();
   }
 
   @Override
   public List<ShoppingCart> findByCustomerId(final CustomerId customerId) {
-    final List<ShoppingCart> carts =
+    final List<CartRow> rows =
         jdbcTemplate.query(
             "SELECT id, customer_id, status FROM carts WHERE customer_id = ? ORDER BY updated_at DESC",
             cartRowMapper(),
             customerId.value());
-    carts.forEach(
-        c -> {
-          loadItems(c);
-          clearDomainEvents(c);
-        });
-    return carts;
+    return rehydrate(rows);
   }
 
   @Override
   public Optional<ShoppingCart> findActiveCartByCustomerId(final CustomerId customerId) {
-    final List<ShoppingCart> carts =
+    final List<CartRow> rows =
         jdbcTemplate.query(
             "SELECT id, customer_id, status FROM carts WHERE customer_id = ? AND status = ? ORDER BY updated_at DESC LIMIT 1",
             cartRowMapper(),
             customerId.value(),
             CartStatus.ACTIVE.name());
-    if (carts.isEmpty()) return Optional.empty();
-    final ShoppingCart cart = carts.get(0);
-    loadItems(cart);
-    clearDomainEvents(cart);
-    return Optional.of(cart);
+    return rehydrate(rows).stream().findFirst();
   }
 
   @Override
   public List<ShoppingCart> findAll() {
-    final List<ShoppingCart> carts =
+    final List<CartRow> rows =
         jdbcTemplate.query(
             "SELECT id, customer_id, status FROM carts ORDER BY updated_at DESC", cartRowMapper());
-    carts.forEach(
-        c -> {
-          loadItems(c);
-          clearDomainEvents(c);
-        });
-    return carts;
+    return rehydrate(rows);
   }
 
+  /**
+   * Upserts the cart row and writes only the item rows that changed since the last save.
+   *
+   * <p>The cart row also carries the {@link CartTotals} of the aggregate, so total-based
+   * specifications never need to aggregate the item rows.
+   *
+   * <p>The stored item quantities are read once and compared with the aggregate; removed, updated
+   * and inserted lines are then applied as JDBC batches. Product and price of a line never change
+   * after it has been added, so the quantity is the only column that needs to be compared.
+   */
   @Override
   @Transactional
   public ShoppingCart save(final ShoppingCart cart) {
-    // Upsert cart
+    final String cartId = cart.id().value();
+
+    // Upsert cart with its denormalized totals (always bumps updated_at)
+    final CartTotals totals = CartTotals.of(cart);
     jdbcTemplate.update(
-        "MERGE INTO carts (id, customer_id, status, updated_at) KEY(id) VALUES (?, ?, ?, CURRENT_TIMESTAMP)",
-        cart.id().value(),
+        "MERGE INTO carts (id, customer_id, status, updated_at, item_count, total_amount, total_currency) KEY(id) VALUES (?, ?, ?, CURRENT_TIMESTAMP, ?, ?, ?)",
+        cartId,
         cart.customerId().value(),
-        cart.status().name());
+        cart.status().name(),
+        totals.itemCount(),
+        totals.amount(),
+        totals.currency());
 
-    // Replace items
-    jdbcTemplate.update("DELETE FROM cart_items WHERE cart_id = ?", cart.id().value());
+    // Diff items against the stored rows
+    final Map<String, Integer> storedQuantities = new HashMap<>();
+    jdbcTemplate.query(
+        "SELECT id, quantity FROM cart_items WHERE cart_id = ?",
+        (RowCallbackHandler) rs -> storedQuantities.put(rs.getString("id"), rs.getInt("quantity")),
+        cartId);
 
+    final List<Object[]> inserted = new ArrayList<>();
+    final List<Object[]> updated = new ArrayList<>();
     for (final CartItem item : cart.items()) {
-      jdbcTemplate.update(
+      final String itemId = item.id().value();
+      final Integer storedQuantity = storedQuantities.remove(itemId);
+      if (storedQuantity == null) {
+        inserted.add(
+            new Object[] {
+              itemId,
+              cartId,
+              item.productId().value(),
+              item.quantity().value(),
+              item.priceAtAddition().value().amount(),
+              item.priceAtAddition().value().currency().getCurrencyCode()
+            });
+      } else if (storedQuantity != item.quantity().value()) {
+        updated.add(new Object[] {item.quantity().value(), itemId});
+      }
+    }
+    // Whatever is left in the stored rows is no longer part of the aggregate
+    final List<Object[]> removed =
+        storedQuantities.keySet().stream().map(id -> new Object[] {id}).toList();
+
+    if (!removed.isEmpty()) {
+      jdbcTemplate.batchUpdate("DELETE FROM cart_items WHERE id = ?", removed);
+    }
+    if (!updated.isEmpty()) {
+      jdbcTemplate.batchUpdate("UPDATE cart_items SET quantity = ? WHERE id = ?", updated);
+    }
+    if (!inserted.isEmpty()) {
+      jdbcTemplate.batchUpdate(
           "INSERT INTO cart_items (id, cart_id, product_id, quantity, price_amount, price_currency) VALUES (?, ?, ?, ?, ?, ?)",
-          item.id().value(),
-          cart.id().value(),
-          item.productId().value(),
-          item.quantity().value(),
-          item.priceAtAddition().value().amount(),
-          item.priceAtAddition().value().currency().getCurrencyCode());
+          inserted);
     }
 
     return cart;
@@ -148,16 +197,85 @@ public class JdbcShoppingCartRepository implements ShoppingCartRepository {
             + " ORDER BY updated_at DESC LIMIT ? OFFSET ?";
     final Object[] params =
         appendLimitOffset(pred.params().toArray(), pageQuery.pageSize(), (int) pageQuery.offset());
-    final List<ShoppingCart> content = jdbcTemplate.query(selectSql, cartRowMapper(), params);
-    content.forEach(
-        c -> {
-          loadItems(c);
-          clearDomainEvents(c);
-        });
+    final List<ShoppingCart> content =
+        rehydrate(jdbcTemplate.query(selectSql, cartRowMapper(), params));
 
     return new PageResult<>(content, total, pageQuery.pageNumber(), pageQuery.pageSize());
   }
 
+  /**
+   * Streams the matching cart rows through a forward-only cursor and reconstitutes them chunk by
+   * chunk, bulk-loading the items of each chunk. The connection of the cursor is released when the
+   * stream is closed.
+   */
+  @Override
+  public Stream<ShoppingCart> streamBy(final CompositeSpecification<ShoppingCart> specification) {
+    final CartSpecToJdbc translator = requireTranslator();
+    final var pred = specification.accept(translator);
+    final Stream<CartRow> rows =
+        streamingTemplate.queryForStream(
+            "SELECT id, customer_id, status FROM carts c WHERE " + pred.sql(),
+            cartRowMapper(),
+            pred.params().toArray());
+    return ChunkedCartStream.of(rows, ITEM_LOAD_CHUNK_SIZE, this::rehydrate);
+  }
+
+  /**
+   * Seeks past the cursor position instead of skipping rows, so every page is a bounded range scan
+   * on {@code idx_carts_updated_id}. One extra row is fetched to detect whether a next page exists;
+   * the total is only counted on request.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPageResult<ShoppingCart> findBy(
+      final CompositeSpecification<ShoppingCart> specification,
+      final CursorPagingRequest pageQuery) {
+    final CartSpecToJdbc translator = requireTranslator();
+    final var pred = specification.accept(translator);
+
+    final OptionalLong total =
+        pageQuery.includeTotal()
+            ? OptionalLong.of(
+                jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM carts c WHERE " + pred.sql(),
+                    pred.params().toArray(),
+                    Long.class))
+            : OptionalLong.empty();
+
+    final StringBuilder sql =
+        new StringBuilder("SELECT id, customer_id, status, updated_at FROM carts c WHERE ")
+            .append(pred.sql());
+    final List<Object> params = new ArrayList<>(pred.params());
+    if (!pageQuery.isFirstPage()) {
+      final CartKeysetCursor after = CartKeysetCursor.decode(pageQuery.cursor());
+      final Timestamp updatedAt = Timestamp.from(after.updatedAt());
+      sql.append(" AND (c.updated_at < ? OR (c.updated_at = ? AND c.id < ?))");
+      params.add(updatedAt);
+      params.add(updatedAt);
+      params.add(after.id());
+    }
+    sql.append(" ORDER BY c.updated_at DESC, c.id DESC LIMIT ?");
+    params.add(pageQuery.pageSize() + 1);
+
+    final List<CartKeysetCursor> positions = new ArrayList<>();
+    final List<CartRow> rows =
+        jdbcTemplate.query(
+            sql.toString(),
+            (rs, rowNum) -> {
+              positions.add(
+                  new CartKeysetCursor(
+                      rs.getTimestamp("updated_at").toInstant(), rs.getString("id")));
+              return cartRowMapper().mapRow(rs, rowNum);
+            },
+            params.toArray());
+
+    final boolean hasNext = rows.size() > pageQuery.pageSize();
+    final List<CartRow> pageRows = hasNext ? rows.subList(0, pageQuery.pageSize()) : rows;
+    final String nextCursor = hasNext ? positions.get(pageQuery.pageSize() - 1).encode() : null;
+
+    return new CursorPageResult<>(rehydrate(pageRows), nextCursor, total, pageQuery.pageSize());
+  }
+
   private Object[] appendLimitOffset(final Object[] base, final int limit, final int offset) {
     final Object[] arr = new Object[base.length + 2];
     System.arraycopy(base, 0, arr, 0, base.length);
@@ -173,61 +291,65 @@ public class JdbcShoppingCartRepository implements ShoppingCartRepository {
     return this.specTranslator;
   }
 
-  private RowMapper<ShoppingCart> cartRowMapper() {
-    return (rs, rowNum) -> {
-      final CartId id = CartId.of(rs.getString("id"));
-      final CustomerId customerId = CustomerId.of(rs.getString("customer_id"));
-      final ShoppingCart cart = new ShoppingCart(id, customerId);
-      final String status = rs.getString("status");
-      setStatus(cart, CartStatus.valueOf(status));
-      return cart;
-    };
+  private RowMapper<CartRow> cartRowMapper() {
+    return (rs, rowNum) ->
+        new CartRow(
+            rs.getString("id"),
+            CustomerId.of(rs.getString("customer_id")),
+            CartStatus.valueOf(rs.getString("status")));
   }
 
-  private void loadItems(final ShoppingCart cart) {
-    final List<Map<String, Object>> rows =
-        jdbcTemplate.queryForList(
-            "SELECT id, product_id, quantity, price_amount, price_currency FROM cart_items WHERE cart_id = ?",
-            cart.id().value());
-    if (rows.isEmpty()) return;
-    try {
-      final Field itemsField = ShoppingCart.class.getDeclaredField("items");
-      itemsField.setAccessible(true);
-      @SuppressWarnings("unchecked")
-      final List<CartItem> items = (List<CartItem>) itemsField.get(cart);
-
-      final Constructor<CartItem> ctor =
-          CartItem.class.getDeclaredConstructor(
-              CartItemId.class, ProductId.class, Quantity.class, Price.class);
-      ctor.setAccessible(true);
-
-      for (final Map<String, Object> row : rows) {
-        final CartItemId itemId = CartItemId.of((String) row.get("id"));
-        final ProductId productId = ProductId.of((String) row.get("product_id"));
-        final Quantity quantity = Quantity.of(((Number) row.get("quantity")).intValue());
-        final String currency = (String) row.get("price_currency");
-        final BigDecimal amount = (BigDecimal) row.get("price_amount");
-        final Price price = Price.of(Money.of(amount, java.util.Currency.getInstance(currency)));
-
-        final CartItem item = ctor.newInstance(itemId, productId, quantity, price);
-        items.add(item);
-      }
-    } catch (ReflectiveOperationException e) {
-      throw new IllegalStateException("Failed to reconstruct cart items via reflection", e);
+  /**
+   * Loads the items of all given cart rows in bulk and reconstitutes the aggregates.
+   *
+   * <p>Cart ids are bound in chunks of {@value #ITEM_LOAD_CHUNK_SIZE} so large result sets stay
+   * within driver parameter limits. Every item row is assigned to its cart in a single pass, and
+   * the carts are returned in the order of the given rows.
+   */
+  private List<ShoppingCart> rehydrate(final List<CartRow> rows) {
+    if (rows.isEmpty()) return List.of();
+
+    final Map<String, List<CartItem>> itemsByCartId = new HashMap<>(rows.size() * 2);
+    for (final CartRow row : rows) {
+      itemsByCartId.put(row.id(), new ArrayList<>());
     }
-  }
 
-  private void setStatus(final ShoppingCart cart, final CartStatus status) {
-    try {
-      final Field statusField = ShoppingCart.class.getDeclaredField("status");
-      statusField.setAccessible(true);
-      statusField.set(cart, status);
-    } catch (ReflectiveOperationException e) {
-      throw new IllegalStateException("Failed to set cart status via reflection", e);
+    final List<String> cartIds = List.copyOf(itemsByCartId.keySet());
+    for (int from = 0; from < cartIds.size(); from += ITEM_LOAD_CHUNK_SIZE) {
+      final List<String> chunk =
+          cartIds.subList(from, Math.min(from + ITEM_LOAD_CHUNK_SIZE, cartIds.size()));
+      final String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+      jdbcTemplate.query(
+          "SELECT cart_id, id, product_id, quantity, price_amount, price_currency FROM cart_items WHERE cart_id IN ("
+              + placeholders
+              + ")",
+          (RowCallbackHandler)
+              rs -> {
+                final Price price =
+                    Price.of(
+                        Money.of(
+                            rs.getBigDecimal("price_amount"),
+                            Currency.getInstance(rs.getString("price_currency"))));
+                final CartItem item =
+                    CartItem.reconstitute(
+                        CartItemId.of(rs.getString("id")),
+                        ProductId.of(rs.getString("product_id")),
+                        Quantity.of(rs.getInt("quantity")),
+                        price);
+                itemsByCartId.get(rs.getString("cart_id")).add(item);
+              },
+          chunk.toArray());
     }
-  }
 
-  private void clearDomainEvents(final ShoppingCart cart) {
-    cart.clearDomainEvents();
+    final List<ShoppingCart> carts = new ArrayList<>(rows.size());
+    for (final CartRow row : rows) {
+      carts.add(
+          ShoppingCart.reconstitute(
+              CartId.of(row.id()), row.customerId(), row.status(), itemsByCartId.get(row.id())));
+    }
+    return carts;
   }
+
+  /** Scalar columns of a {@code carts} row, held until the items of the result set are loaded. */
+  private record CartRow(String id, CustomerId customerId, CartStatus status) {}
 }
@@ -15,8 +15,9 @@ import org.springframework.stereotype.Component;
  * Translates domain cart specifications into JDBC WHERE fragments with bind parameters.
  *
  * <p>The resulting SQL snippets are intended to be appended to a base query that selects from the
- * {@code carts} table using the alias {@code c}. Item-related predicates use correlated subqueries
- * against {@code cart_items}.
+ * {@code carts} table using the alias {@code c}. Totals are read from the denormalized columns of
+ * {@code carts}; the remaining item-related predicates use correlated subqueries against {@code
+ * cart_items}.
  */
 @Component
 public class CartSpecToJdbc implements CartSpecificationVisitor<CartSpecToJdbc.JdbcPredicate> {
@@ -41,14 +42,13 @@ public class CartSpecToJdbc implements CartSpecificationVisitor<CartSpecToJdbc.J
 
   @Override
   public JdbcPredicate visit(HasMinTotal spec) {
-    // Sum over items of this cart filtered by currency
-    final String sql =
-        "(SELECT COALESCE(SUM(ci.price_amount * ci.quantity), 0) FROM cart_items ci "
-            + "WHERE ci.cart_id = c.id AND ci.price_currency = ?) >= ?";
+    // Range predicate on the materialized totals (idx_carts_status_total). A cart with lines in
+    // several currencies has no total and never matches, even if its lines in the requested
+    // currency reach the minimum; the domain cannot total such a cart either.
     final List<Object> params = new ArrayList<>();
     params.add(spec.minimum().currency().getCurrencyCode());
     params.add(spec.minimum().amount());
-    return new JdbcPredicate(sql, params);
+    return new JdbcPredicate("c.total_currency = ? AND c.total_amount >= ?", params);
   }
 
   @Override
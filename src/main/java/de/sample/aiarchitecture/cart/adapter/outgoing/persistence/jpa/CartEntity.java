@@ -1,13 +1,16 @@
 package de.sample.aiarchitecture.cart.adapter.outgoing.persistence.jpa;
 
 import jakarta.persistence.*;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "carts")
-public class CartEntity {
+public class CartEntity implements Persistable<String> {
 
   @Id
   @Column(length = 64)
@@ -22,6 +25,17 @@ public class CartEntity {
   @Column(name = "updated_at", nullable = false)
   private Instant updatedAt = Instant.now();
 
+  @Column(name = "item_count", nullable = false)
+  private int itemCount;
+
+  @Column(name = "total_amount", precision = 19, scale = 2)
+  private BigDecimal totalAmount = BigDecimal.ZERO;
+
+  @Column(name = "total_currency", length = 3)
+  private String totalCurrency = "EUR";
+
+  /** Items of up to 100 loaded carts are initialized together, e.g. while streaming in chunks. */
+  @BatchSize(size = 100)
   @OneToMany(
       mappedBy = "cart",
       cascade = CascadeType.ALL,
@@ -29,6 +43,31 @@ public class CartEntity {
       fetch = FetchType.LAZY)
   private List<CartItemEntity> items = new ArrayList<>();
 
+  /**
+   * Marks instances created for a cart that has no row yet, so Spring Data persists them directly
+   * instead of issuing a merge (and its extra SELECT) for the assigned id.
+   */
+  @Transient private boolean newEntity;
+
+  /** Creates a transient entity for a cart that has not been stored yet. */
+  public static CartEntity newCart(String id) {
+    final CartEntity entity = new CartEntity();
+    entity.setId(id);
+    entity.newEntity = true;
+    return entity;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostPersist
+  @PostLoad
+  void markNotNew() {
+    this.newEntity = false;
+  }
+
   public String getId() {
     return id;
   }
@@ -61,6 +100,30 @@ public class CartEntity {
     this.updatedAt = updatedAt;
   }
 
+  public int getItemCount() {
+    return itemCount;
+  }
+
+  public void setItemCount(int itemCount) {
+    this.itemCount = itemCount;
+  }
+
+  public BigDecimal getTotalAmount() {
+    return totalAmount;
+  }
+
+  public void setTotalAmount(BigDecimal totalAmount) {
+    this.totalAmount = totalAmount;
+  }
+
+  public String getTotalCurrency() {
+    return totalCurrency;
+  }
+
+  public void setTotalCurrency(String totalCurrency) {
+    this.totalCurrency = totalCurrency;
+  }
+
   public List<CartItemEntity> getItems() {
     return items;
   }
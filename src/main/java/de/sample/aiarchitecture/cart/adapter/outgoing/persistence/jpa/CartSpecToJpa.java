@@ -7,7 +7,6 @@ import de.sample.aiarchitecture.sharedkernel.domain.specification.AndSpecificati
 import de.sample.aiarchitecture.sharedkernel.domain.specification.CompositeSpecification;
 import de.sample.aiarchitecture.sharedkernel.domain.specification.NotSpecification;
 import de.sample.aiarchitecture.sharedkernel.domain.specification.OrSpecification;
-import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import java.math.BigDecimal;
@@ -35,34 +34,12 @@ public class CartSpecToJpa implements CartSpecificationVisitor<Specification<Car
 
   @Override
   public Specification<CartEntity> visit(HasMinTotal spec) {
-    return (root, query, cb) -> {
-      // Join items and aggregate sum(price_amount * quantity) filtered by currency
-      Join<CartEntity, CartItemEntity> items = root.join("items", JoinType.LEFT);
-
-      // Convert quantity to BigDecimal and multiply
-      Expression<BigDecimal> quantityAsBig = cb.toBigDecimal(items.get("quantity"));
-      Expression<BigDecimal> lineTotal = cb.prod(items.get("priceAmount"), quantityAsBig);
-
-      // Only sum items that match the target currency to avoid mixing currencies
-      query.groupBy(root.get("id"));
-      query.having(
-          cb.greaterThanOrEqualTo(
-              cb.coalesce(
-                  cb.sum(
-                      cb.<BigDecimal>selectCase()
-                          .when(
-                              cb.equal(
-                                  items.get("priceCurrency"),
-                                  spec.minimum().currency().getCurrencyCode()),
-                              lineTotal)
-                          .otherwise(cb.literal(BigDecimal.ZERO))),
-                  BigDecimal.ZERO),
-              spec.minimum().amount()));
-
-      // Some JPA providers require returning a dummy predicate when only HAVING is used; use TRUE =
-      // TRUE
-      return cb.conjunction();
-    };
+    // Range predicate on the materialized totals instead of aggregating the items. Mixed-currency
+    // carts have no total and never match, like in CartSpecToJdbc.
+    return (root, query, cb) ->
+        cb.and(
+            cb.equal(root.get("totalCurrency"), spec.minimum().currency().getCurrencyCode()),
+            cb.greaterThanOrEqualTo(root.<BigDecimal>get("totalAmount"), spec.minimum().amount()));
   }
 
   // Additions for new leaf specs
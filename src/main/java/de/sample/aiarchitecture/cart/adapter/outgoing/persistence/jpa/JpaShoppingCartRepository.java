@@ -1,21 +1,45 @@
 package de.sample.aiarchitecture.cart.adapter.outgoing.persistence.jpa;
 
+import de.sample.aiarchitecture.cart.adapter.outgoing.persistence.CartKeysetCursor;
+import de.sample.aiarchitecture.cart.adapter.outgoing.persistence.CartTotals;
+import de.sample.aiarchitecture.cart.adapter.outgoing.persistence.ChunkedCartStream;
 import de.sample.aiarchitecture.cart.application.shared.ShoppingCartRepository;
 import de.sample.aiarchitecture.cart.domain.model.*;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPageResult;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PageResult;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Price;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
 import de.sample.aiarchitecture.sharedkernel.domain.specification.CompositeSpecification;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,13 +48,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Primary
 public class JpaShoppingCartRepository implements ShoppingCartRepository {
 
+  /** Order shared with the cursor: most recently updated first, cart id as tie-breaker. */
+  private static final Sort KEYSET_ORDER =
+      Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"));
+
+  /** Carts fetched and reconstituted per persistence-context flush while streaming. */
+  static final int STREAM_CHUNK_SIZE = 100;
+
   private final CartJpaRepository cartRepo;
   private final CartSpecToJpa specTranslator;
+  private final EntityManagerFactory entityManagerFactory;
 
   public JpaShoppingCartRepository(
-      final CartJpaRepository cartRepo, final CartSpecToJpa specTranslator) {
+      final CartJpaRepository cartRepo,
+      final CartSpecToJpa specTranslator,
+      final EntityManagerFactory entityManagerFactory) {
     this.cartRepo = cartRepo;
     this.specTranslator = specTranslator;
+    this.entityManagerFactory = entityManagerFactory;
   }
 
   @Override
@@ -72,13 +107,105 @@ public class JpaShoppingCartRepository implements ShoppingCartRepository {
         page.getContent(), page.getTotalElements(), pageQuery.pageNumber(), pageQuery.pageSize());
   }
 
+  /**
+   * Scrolls the matching carts with a forward-only Hibernate cursor on a dedicated, read-only
+   * entity manager that lives until the stream is closed, independent of any caller transaction.
+   *
+   * <p>Carts are reconstituted in chunks of {@value #STREAM_CHUNK_SIZE}: the items of a chunk are
+   * batch-fetched together (see {@link CartEntity#getItems()}), then the persistence context is
+   * cleared, so memory stays flat however many carts are streamed.
+   */
+  @Override
+  public Stream<ShoppingCart> streamBy(final CompositeSpecification<ShoppingCart> specification) {
+    final Specification<CartEntity> jpaSpec = specification.accept(requireTranslator());
+    final EntityManager em = entityManagerFactory.createEntityManager();
+    try {
+      final CriteriaBuilder cb = em.getCriteriaBuilder();
+      final CriteriaQuery<CartEntity> criteria = cb.createQuery(CartEntity.class);
+      final Root<CartEntity> root = criteria.from(CartEntity.class);
+      final Predicate predicate = jpaSpec.toPredicate(root, criteria, cb);
+      if (predicate != null) {
+        criteria.where(predicate);
+      }
+
+      @SuppressWarnings("unchecked")
+      final Query<CartEntity> query = em.createQuery(criteria).unwrap(Query.class);
+      final ScrollableResults<CartEntity> results =
+          query.setReadOnly(true).setFetchSize(STREAM_CHUNK_SIZE).scroll(ScrollMode.FORWARD_ONLY);
+
+      final Stream<CartEntity> entities =
+          StreamSupport.stream(
+                  Spliterators.spliteratorUnknownSize(
+                      new ScrollIterator(results), Spliterator.ORDERED | Spliterator.NONNULL),
+                  false)
+              .onClose(
+                  () -> {
+                    results.close();
+                    em.close();
+                  });
+      return ChunkedCartStream.of(
+          entities,
+          STREAM_CHUNK_SIZE,
+          chunk -> {
+            final List<ShoppingCart> carts = chunk.stream().map(this::toDomain).toList();
+            em.clear();
+            return carts;
+          });
+    } catch (final RuntimeException e) {
+      em.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Keyset variant of {@link #findBy(CompositeSpecification, PagingRequest)}: the cursor becomes an
+   * additional range predicate on {@code (updatedAt, id)} and one extra row is fetched to detect
+   * whether a next page exists. No count query is issued unless the total was requested.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPageResult<ShoppingCart> findBy(
+      final CompositeSpecification<ShoppingCart> specification,
+      final CursorPagingRequest pageQuery) {
+    final CartSpecToJpa translator = requireTranslator();
+    final Specification<CartEntity> jpaSpec = specification.accept(translator);
+    final Specification<CartEntity> pageSpec =
+        pageQuery.isFirstPage()
+            ? jpaSpec
+            : jpaSpec.and(after(CartKeysetCursor.decode(pageQuery.cursor())));
+
+    final List<CartEntity> entities =
+        cartRepo.findBy(
+            pageSpec, q -> q.sortBy(KEYSET_ORDER).limit(pageQuery.pageSize() + 1).all());
+
+    final boolean hasNext = entities.size() > pageQuery.pageSize();
+    final List<CartEntity> page = hasNext ? entities.subList(0, pageQuery.pageSize()) : entities;
+    final String nextCursor = hasNext ? cursorOf(page.get(page.size() - 1)).encode() : null;
+    final OptionalLong total =
+        pageQuery.includeTotal() ? OptionalLong.of(cartRepo.count(jpaSpec)) : OptionalLong.empty();
+
+    return new CursorPageResult<>(
+        page.stream().map(this::toDomain).toList(), nextCursor, total, pageQuery.pageSize());
+  }
+
+  /**
+   * Applies the aggregate state to the managed entity graph instead of merging a rebuilt one.
+   *
+   * <p>Only lines that were added, removed or changed in quantity are touched, so Hibernate's dirty
+   * checking emits the minimal set of (batched) statements when the transaction flushes.
+   */
   @Override
   @Transactional
   public ShoppingCart save(final ShoppingCart cart) {
-    final CartEntity entity = toEntity(cart);
-    entity.setUpdatedAt(Instant.now());
-    final CartEntity saved = cartRepo.saveAndFlush(entity);
-    return toDomain(saved);
+    final CartEntity entity =
+        cartRepo.findById(cart.id().value()).orElseGet(() -> CartEntity.newCart(cart.id().value()));
+    applyToEntity(cart, entity);
+    // Database timestamps keep microseconds; truncate so cursors round-trip exactly
+    entity.setUpdatedAt(Instant.now().truncatedTo(ChronoUnit.MICROS));
+    if (entity.isNew()) {
+      cartRepo.save(entity);
+    }
+    return cart;
   }
 
   @Override
@@ -87,6 +214,19 @@ public class JpaShoppingCartRepository implements ShoppingCartRepository {
     cartRepo.deleteById(id.value());
   }
 
+  private static Specification<CartEntity> after(final CartKeysetCursor cursor) {
+    return (root, query, cb) ->
+        cb.or(
+            cb.lessThan(root.<Instant>get("updatedAt"), cursor.updatedAt()),
+            cb.and(
+                cb.equal(root.<Instant>get("updatedAt"), cursor.updatedAt()),
+                cb.lessThan(root.<String>get("id"), cursor.id())));
+  }
+
+  private static CartKeysetCursor cursorOf(final CartEntity entity) {
+    return new CartKeysetCursor(entity.getUpdatedAt(), entity.getId());
+  }
+
   private CartSpecToJpa requireTranslator() {
     if (this.specTranslator == null) {
       throw new IllegalStateException("CartSpecToJpa translator not configured");
@@ -95,50 +235,52 @@ public class JpaShoppingCartRepository implements ShoppingCartRepository {
   }
 
   private ShoppingCart toDomain(final CartEntity entity) {
-    final ShoppingCart cart =
-        new ShoppingCart(CartId.of(entity.getId()), CustomerId.of(entity.getCustomerId()));
-    setStatus(cart, CartStatus.valueOf(entity.getStatus()));
-
-    if (entity.getItems() != null && !entity.getItems().isEmpty()) {
-      try {
-        final Field itemsField = ShoppingCart.class.getDeclaredField("items");
-        itemsField.setAccessible(true);
-        @SuppressWarnings("unchecked")
-        final List<CartItem> items = (List<CartItem>) itemsField.get(cart);
-
-        final Constructor<CartItem> ctor =
-            CartItem.class.getDeclaredConstructor(
-                CartItemId.class, ProductId.class, Quantity.class, Price.class);
-        ctor.setAccessible(true);
-
-        for (final CartItemEntity it : entity.getItems()) {
-          final CartItemId itemId = CartItemId.of(it.getId());
-          final ProductId productId = ProductId.of(it.getProductId());
-          final Quantity quantity = Quantity.of(it.getQuantity());
-          final Price price =
+    final List<CartItem> items = new ArrayList<>(entity.getItems().size());
+    for (final CartItemEntity it : entity.getItems()) {
+      items.add(
+          CartItem.reconstitute(
+              CartItemId.of(it.getId()),
+              ProductId.of(it.getProductId()),
+              Quantity.of(it.getQuantity()),
               Price.of(
-                  Money.of(
-                      it.getPriceAmount(), java.util.Currency.getInstance(it.getPriceCurrency())));
-          final CartItem item = ctor.newInstance(itemId, productId, quantity, price);
-          items.add(item);
-        }
-      } catch (ReflectiveOperationException e) {
-        throw new IllegalStateException("Failed to reconstruct cart items via reflection", e);
-      }
+                  Money.of(it.getPriceAmount(), Currency.getInstance(it.getPriceCurrency())))));
     }
-
-    cart.clearDomainEvents();
-    return cart;
+    return ShoppingCart.reconstitute(
+        CartId.of(entity.getId()),
+        CustomerId.of(entity.getCustomerId()),
+        CartStatus.valueOf(entity.getStatus()),
+        items);
   }
 
-  private CartEntity toEntity(final ShoppingCart cart) {
-    final CartEntity e = new CartEntity();
-    e.setId(cart.id().value());
+  private void applyToEntity(final ShoppingCart cart, final CartEntity e) {
     e.setCustomerId(cart.customerId().value());
     e.setStatus(cart.status().name());
 
-    final List<CartItemEntity> itemEntities = new ArrayList<>();
+    final CartTotals totals = CartTotals.of(cart);
+    e.setItemCount(totals.itemCount());
+    e.setTotalAmount(totals.amount());
+    e.setTotalCurrency(totals.currency());
+
+    final Map<String, CartItem> current = new HashMap<>();
+    for (final CartItem item : cart.items()) {
+      current.put(item.id().value(), item);
+    }
+
+    // Drop removed lines (orphan removal deletes them) and update changed quantities
+    final Iterator<CartItemEntity> it = e.getItems().iterator();
+    while (it.hasNext()) {
+      final CartItemEntity ie = it.next();
+      final CartItem item = current.remove(ie.getId());
+      if (item == null) {
+        it.remove();
+      } else if (ie.getQuantity() != item.quantity().value()) {
+        ie.setQuantity(item.quantity().value());
+      }
+    }
+
+    // Remaining lines are new; keep the aggregate's item order
     for (final CartItem item : cart.items()) {
+      if (!current.containsKey(item.id().value())) continue;
       final CartItemEntity ie = new CartItemEntity();
       ie.setId(item.id().value());
       ie.setCart(e);
@@ -146,19 +288,35 @@ public class JpaShoppingCartRepository implements ShoppingCartRepository {
       ie.setQuantity(item.quantity().value());
       ie.setPriceAmount(item.priceAtAddition().value().amount());
       ie.setPriceCurrency(item.priceAtAddition().value().currency().getCurrencyCode());
-      itemEntities.add(ie);
+      e.getItems().add(ie);
     }
-    e.setItems(itemEntities);
-    return e;
   }
 
-  private void setStatus(final ShoppingCart cart, final CartStatus status) {
-    try {
-      final Field statusField = ShoppingCart.class.getDeclaredField("status");
-      statusField.setAccessible(true);
-      statusField.set(cart, status);
-    } catch (ReflectiveOperationException e) {
-      throw new IllegalStateException("Failed to set cart status via reflection", e);
+  /** Adapts Hibernate's cursor-style {@link ScrollableResults} to an {@link Iterator}. */
+  private static final class ScrollIterator implements Iterator<CartEntity> {
+
+    private final ScrollableResults<CartEntity> results;
+    private Boolean hasNext;
+
+    ScrollIterator(final ScrollableResults<CartEntity> results) {
+      this.results = results;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (hasNext == null) {
+        hasNext = results.next();
+      }
+      return hasNext;
+    }
+
+    @Override
+    public CartEntity next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      hasNext = null;
+      return results.get();
     }
   }
 }
@@ -0,0 +1,39 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.product;
+
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the Cart article data near-cache.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   cart:
+ *     article-data-cache:
+ *       enabled: true
+ *       max-size: 10000
+ *       ttl: 5m
+ * </pre>
+ *
+ * @param enabled whether article data is cached at all (default: true)
+ * @param maxSize maximum number of cached articles (default: 10000)
+ * @param ttl time after which an article is reloaded even without invalidation (default: 5 minutes)
+ */
+@ConfigurationProperties(prefix = "app.cart.article-data-cache")
+public record ArticleDataCacheProperties(@Nullable Boolean enabled, int maxSize, Duration ttl) {
+
+  public ArticleDataCacheProperties {
+    if (enabled == null) {
+      enabled = true;
+    }
+    if (maxSize <= 0) {
+      maxSize = 10_000;
+    }
+    if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+      ttl = Duration.ofMinutes(5);
+    }
+  }
+}
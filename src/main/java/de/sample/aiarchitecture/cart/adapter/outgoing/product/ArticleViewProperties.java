@@ -0,0 +1,31 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.product;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for reading Cart article data from the Product context's article view.
+ *
+ * <p>When enabled, article data is read from the event-maintained article view first, and only
+ * products missing from it are looked up in the Product, Pricing and Inventory contexts.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   cart:
+ *     article-view:
+ *       enabled: true
+ * </pre>
+ *
+ * @param enabled whether the article view is read before the owning contexts (default: false)
+ */
+@ConfigurationProperties(prefix = "app.cart.article-view")
+public record ArticleViewProperties(@Nullable Boolean enabled) {
+
+  public ArticleViewProperties {
+    if (enabled == null) {
+      enabled = false;
+    }
+  }
+}
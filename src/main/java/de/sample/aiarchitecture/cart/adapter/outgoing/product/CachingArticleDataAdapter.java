@@ -0,0 +1,98 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.product;
+
+import de.sample.aiarchitecture.cart.application.shared.ArticleDataCache;
+import de.sample.aiarchitecture.cart.application.shared.ArticleDataPort;
+import de.sample.aiarchitecture.cart.domain.model.CartArticle;
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.cache.ProductDataCache;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caching decorator around {@link CompositeArticleDataAdapter}.
+ *
+ * <p>Cart views, add-to-cart and the mini basket all resolve the same article data (name, price,
+ * stock) through three Open Host Services, although it rarely changes. This decorator keeps it in a
+ * bounded {@link ProductDataCache} and only forwards lookups for products that are not cached.
+ *
+ * <p>Entries are invalidated per product by {@code ArticleDataCacheEventConsumer} when a price,
+ * stock level or product name changes, and expire after the configured TTL. Lookup hits and misses
+ * are exposed as the {@code article.data.cache.lookups} metric, tagged with {@code cache=cart}.
+ *
+ * <p>With {@code app.cart.article-data-cache.enabled=false} every call is forwarded unchanged.
+ */
+@Primary
+@Component
+public class CachingArticleDataAdapter implements ArticleDataPort, ArticleDataCache {
+
+  private static final String CACHE_NAME = "cart";
+
+  private final CompositeArticleDataAdapter delegate;
+  private final ProductDataCache<CartArticle> cache;
+  private final boolean enabled;
+
+  public CachingArticleDataAdapter(
+      final CompositeArticleDataAdapter delegate,
+      final ArticleDataCacheProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.cache = new ProductDataCache<>(properties.maxSize(), properties.ttl());
+    this.enabled = properties.enabled();
+    registerMetrics(meterRegistry);
+  }
+
+  @Override
+  public Map<ProductId, CartArticle> getArticleData(final Collection<ProductId> productIds) {
+    if (!enabled || productIds == null || productIds.isEmpty()) {
+      return delegate.getArticleData(productIds);
+    }
+    return cache.getAll(productIds, delegate::getArticleData);
+  }
+
+  @Override
+  public Optional<CartArticle> getArticleData(final ProductId productId) {
+    if (!enabled || productId == null) {
+      return delegate.getArticleData(productId);
+    }
+    // The single-product lookup is stricter (requires stock data), so load through it on a miss
+    return Optional.ofNullable(
+        cache
+            .getAll(
+                List.of(productId),
+                missing ->
+                    delegate
+                        .getArticleData(productId)
+                        .map(article -> Map.of(productId, article))
+                        .orElse(Map.of()))
+            .get(productId));
+  }
+
+  @Override
+  public void invalidate(final ProductId productId) {
+    cache.invalidate(productId);
+  }
+
+  private void registerMetrics(final MeterRegistry meterRegistry) {
+    FunctionCounter.builder("article.data.cache.lookups", cache, ProductDataCache::hitCount)
+        .description("Article data lookups served from the near-cache")
+        .tag("cache", CACHE_NAME)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder("article.data.cache.lookups", cache, ProductDataCache::missCount)
+        .description("Article data lookups forwarded to the Open Host Services")
+        .tag("cache", CACHE_NAME)
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder("article.data.cache.size", cache, ProductDataCache::size)
+        .description("Number of cached articles")
+        .tag("cache", CACHE_NAME)
+        .register(meterRegistry);
+  }
+}
@@ -6,14 +6,21 @@ import de.sample.aiarchitecture.inventory.api.InventoryService;
 import de.sample.aiarchitecture.inventory.api.InventoryService.StockInfo;
 import de.sample.aiarchitecture.pricing.api.PricingService;
 import de.sample.aiarchitecture.pricing.api.PricingService.PriceInfo;
+import de.sample.aiarchitecture.product.api.ArticleViewService;
+import de.sample.aiarchitecture.product.api.ArticleViewService.ArticleViewInfo;
 import de.sample.aiarchitecture.product.api.ProductCatalogService;
 import de.sample.aiarchitecture.product.api.ProductCatalogService.ProductInfo;
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout.FanOut;
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout.FanOutProperties;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.springframework.stereotype.Component;
 
 /**
@@ -27,6 +34,15 @@ import org.springframework.stereotype.Component;
  *   <li>InventoryService - for stock availability
  * </ul>
  *
+ * <p>The three lookups are independent and run through a {@link FanOut}: concurrently on virtual
+ * threads with a shared deadline by default, or one after another when {@code app.fan-out.mode} is
+ * {@code sequential}. A single-product lookup asks the Product context first and only fans out
+ * pricing and inventory for a product that exists.
+ *
+ * <p>With {@code app.cart.article-view.enabled=true}, articles are first read from the Product
+ * context's event-maintained {@link ArticleViewService}, and only products missing from the view
+ * are fetched from the three services.
+ *
  * <p>This adapter is the ONLY place in Cart context that imports from Product, Pricing, and
  * Inventory contexts, isolating cross-context coupling to the adapter layer.
  *
@@ -39,14 +55,23 @@ public class CompositeArticleDataAdapter implements ArticleDataPort {
   private final ProductCatalogService productCatalogService;
   private final PricingService pricingService;
   private final InventoryService inventoryService;
+  private final FanOutProperties fanOutProperties;
+  private final ArticleViewService articleViewService;
+  private final boolean articleViewEnabled;
 
   public CompositeArticleDataAdapter(
       ProductCatalogService productCatalogService,
       PricingService pricingService,
-      InventoryService inventoryService) {
+      InventoryService inventoryService,
+      FanOutProperties fanOutProperties,
+      ArticleViewService articleViewService,
+      ArticleViewProperties articleViewProperties) {
     this.productCatalogService = productCatalogService;
     this.pricingService = pricingService;
     this.inventoryService = inventoryService;
+    this.fanOutProperties = fanOutProperties;
+    this.articleViewService = articleViewService;
+    this.articleViewEnabled = articleViewProperties.enabled();
   }
 
   @Override
@@ -54,19 +79,53 @@ public class CompositeArticleDataAdapter implements ArticleDataPort {
     if (productIds == null || productIds.isEmpty()) {
       return Map.of();
     }
+    if (!articleViewEnabled) {
+      return getArticleDataFromServices(productIds);
+    }
 
-    // Fetch data from all three OHS services
-    Map<ProductId, PriceInfo> prices = pricingService.getPrices(productIds);
-    Map<ProductId, StockInfo> stocks = inventoryService.getStock(productIds);
+    Map<ProductId, ArticleViewInfo> views = articleViewService.getArticleViews(productIds);
+    Map<ProductId, CartArticle> result = new HashMap<>();
+    List<ProductId> missing = new ArrayList<>();
+    for (ProductId productId : productIds) {
+      ArticleViewInfo view = views.get(productId);
+      if (view != null) {
+        result.put(productId, buildCartArticle(view));
+      } else {
+        missing.add(productId);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      result.putAll(getArticleDataFromServices(missing));
+    }
+    return result;
+  }
+
+  private Map<ProductId, CartArticle> getArticleDataFromServices(Collection<ProductId> productIds) {
+    // Fetch data from all three OHS services, one bulk call per context
+    Map<ProductId, ProductInfo> productInfos;
+    Map<ProductId, PriceInfo> prices;
+    Map<ProductId, StockInfo> stocks;
+    try (FanOut fanOut = fanOutProperties.open()) {
+      Supplier<Map<ProductId, ProductInfo>> productInfoLookup =
+          fanOut.fork("product", () -> productCatalogService.getProductInfos(productIds));
+      Supplier<Map<ProductId, PriceInfo>> priceLookup =
+          fanOut.fork("pricing", () -> pricingService.getPrices(productIds));
+      Supplier<Map<ProductId, StockInfo>> stockLookup =
+          fanOut.fork("inventory", () -> inventoryService.getStock(productIds));
+      fanOut.join();
+
+      productInfos = productInfoLookup.get();
+      prices = priceLookup.get();
+      stocks = stockLookup.get();
+    }
 
     Map<ProductId, CartArticle> result = new HashMap<>();
 
     for (ProductId productId : productIds) {
-      // ProductCatalogService doesn't have bulk fetch, so fetch individually
-      Optional<ProductInfo> productInfo = productCatalogService.getProductInfo(productId);
-
       // Only include if we have product info (name is required)
-      if (productInfo.isPresent()) {
+      ProductInfo productInfo = productInfos.get(productId);
+      if (productInfo != null) {
         PriceInfo priceInfo = prices.get(productId);
         if (priceInfo == null) {
           throw new IllegalStateException(
@@ -76,7 +135,7 @@ public class CompositeArticleDataAdapter implements ArticleDataPort {
         }
 
         CartArticle cartArticle =
-            buildCartArticle(productId, productInfo.get(), priceInfo, stocks.get(productId));
+            buildCartArticle(productId, productInfo, priceInfo, stocks.get(productId));
         result.put(productId, cartArticle);
       }
     }
@@ -89,16 +148,34 @@ public class CompositeArticleDataAdapter implements ArticleDataPort {
     if (productId == null) {
       return Optional.empty();
     }
+    if (articleViewEnabled) {
+      ArticleViewInfo view = articleViewService.getArticleViews(List.of(productId)).get(productId);
+      if (view != null) {
+        return Optional.of(buildCartArticle(view));
+      }
+    }
 
-    // Fetch product info (required - contains name)
+    // Fetch product info first (required - contains name), so unknown products stop here
     Optional<ProductInfo> productInfo = productCatalogService.getProductInfo(productId);
-
     if (productInfo.isEmpty()) {
       return Optional.empty();
     }
 
-    // Fetch pricing (required)
-    Optional<PriceInfo> priceInfo = pricingService.getPrice(productId);
+    // Fetch pricing and inventory in one fan-out, then check what is required
+    Optional<PriceInfo> priceInfo;
+    Optional<StockInfo> stockInfo;
+    try (FanOut fanOut = fanOutProperties.open()) {
+      Supplier<Optional<PriceInfo>> priceLookup =
+          fanOut.fork("pricing", () -> pricingService.getPrice(productId));
+      Supplier<Optional<StockInfo>> stockLookup =
+          fanOut.fork("inventory", () -> inventoryService.getStock(productId));
+      fanOut.join();
+
+      priceInfo = priceLookup.get();
+      stockInfo = stockLookup.get();
+    }
+
+    // Pricing is required
     if (priceInfo.isEmpty()) {
       throw new IllegalStateException(
           "Pricing data not available for product: "
@@ -106,8 +183,7 @@ public class CompositeArticleDataAdapter implements ArticleDataPort {
               + ". Ensure price is set in Pricing context.");
     }
 
-    // Fetch inventory (required - Inventory is the owner of stock data)
-    Optional<StockInfo> stockInfo = inventoryService.getStock(productId);
+    // Inventory is required - Inventory is the owner of stock data
     if (stockInfo.isEmpty()) {
       throw new IllegalStateException(
           "Inventory data not available for product: "
@@ -119,6 +195,17 @@ public class CompositeArticleDataAdapter implements ArticleDataPort {
         buildCartArticle(productId, productInfo.get(), priceInfo.get(), stockInfo.get()));
   }
 
+  /** Builds a CartArticle domain object from an article view. */
+  private CartArticle buildCartArticle(ArticleViewInfo view) {
+    return CartArticle.of(
+        view.productId(),
+        view.name(),
+        view.currentPrice(),
+        view.availableStock(),
+        view.isAvailable(),
+        view.imageUrl());
+  }
+
   /** Builds a CartArticle domain object from multiple OHS data sources. */
   private CartArticle buildCartArticle(
       ProductId productId, ProductInfo productInfo, PriceInfo priceInfo, StockInfo stockInfo) {
@@ -1,18 +1,26 @@
 package de.sample.aiarchitecture.cart.application.additemtocart;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * Input model for adding an item to a shopping cart.
  *
- * @param cartId the cart ID
+ * <p>The target cart is addressed either by its ID or by the customer owning it. In the latter case
+ * the customer's active cart is used and created on the fly if the customer has none yet, which is
+ * how carts come into existence for web shoppers.
+ *
+ * @param cartId the cart ID, or {@code null} to use the customer's active cart
+ * @param customerId the customer ID, or {@code null} if the cart is addressed by ID
  * @param productId the product ID to add
  * @param quantity the quantity to add
  */
-public record AddItemToCartCommand(String cartId, String productId, int quantity) {
+public record AddItemToCartCommand(
+    @Nullable String cartId, @Nullable String customerId, String productId, int quantity) {
 
   /** Compact constructor with validation. */
   public AddItemToCartCommand {
-    if (cartId == null || cartId.isBlank()) {
-      throw new IllegalArgumentException("Cart ID cannot be null or blank");
+    if ((cartId == null || cartId.isBlank()) == (customerId == null || customerId.isBlank())) {
+      throw new IllegalArgumentException("Exactly one of cart ID and customer ID must be given");
     }
     if (productId == null || productId.isBlank()) {
       throw new IllegalArgumentException("Product ID cannot be null or blank");
@@ -21,4 +29,28 @@ public record AddItemToCartCommand(String cartId, String productId, int quantity
       throw new IllegalArgumentException("Quantity must be positive");
     }
   }
+
+  /**
+   * Creates a command for an existing cart.
+   *
+   * @param cartId the cart ID
+   * @param productId the product ID to add
+   * @param quantity the quantity to add
+   */
+  public AddItemToCartCommand(final String cartId, final String productId, final int quantity) {
+    this(cartId, null, productId, quantity);
+  }
+
+  /**
+   * Creates a command for the active cart of a customer, creating the cart if necessary.
+   *
+   * @param customerId the customer ID
+   * @param productId the product ID to add
+   * @param quantity the quantity to add
+   * @return a new AddItemToCartCommand
+   */
+  public static AddItemToCartCommand forCustomer(
+      final String customerId, final String productId, final int quantity) {
+    return new AddItemToCartCommand(null, customerId, productId, quantity);
+  }
 }
@@ -4,6 +4,7 @@ import de.sample.aiarchitecture.cart.application.shared.ArticleDataPort;
 import de.sample.aiarchitecture.cart.application.shared.ShoppingCartRepository;
 import de.sample.aiarchitecture.cart.domain.model.CartArticle;
 import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
 import de.sample.aiarchitecture.cart.domain.model.Quantity;
 import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
@@ -20,7 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>This use case orchestrates adding an item to the cart by:
  *
  * <ol>
- *   <li>Retrieving the cart and article data
+ *   <li>Retrieving the cart (or creating the customer's active cart on first use) and article data
  *   <li>Validating business rules (product existence, stock availability)
  *   <li>Adding the item to cart (business logic in aggregate)
  *   <li>Persisting the updated cart
@@ -37,6 +38,10 @@ import org.springframework.transaction.annotation.Transactional;
  *   <li>{@link ArticleDataPort} - provides name (from Product), price (from Pricing), and stock
  *       (from Inventory) information
  * </ul>
+ *
+ * <p><b>Lazy Cart Creation:</b> Page views only read the active cart. The cart aggregate is created
+ * here, when a customer adds the first item, so visitors who never buy anything never allocate a
+ * cart.
  */
 @Service
 @Transactional
@@ -57,15 +62,11 @@ public class AddItemToCartUseCase implements AddItemToCartInputPort {
 
   @Override
   public AddItemToCartResult execute(final AddItemToCartCommand input) {
-    final CartId cartId = CartId.of(input.cartId());
     final ProductId productId = ProductId.of(input.productId());
     final Quantity quantity = new Quantity(input.quantity());
 
-    // Retrieve cart
-    final ShoppingCart cart =
-        shoppingCartRepository
-            .findById(cartId)
-            .orElseThrow(() -> new IllegalArgumentException("Cart not found: " + input.cartId()));
+    // Retrieve cart; a new active cart is only persisted once the item has been added
+    final ShoppingCart cart = resolveCart(input);
 
     // Retrieve article data through output port (includes product existence, pricing, and stock)
     final CartArticle cartArticle =
@@ -112,4 +113,16 @@ public class AddItemToCartUseCase implements AddItemToCartInputPort {
         total.amount(),
         total.currency().getCurrencyCode());
   }
+
+  private ShoppingCart resolveCart(final AddItemToCartCommand input) {
+    if (input.cartId() != null) {
+      return shoppingCartRepository
+          .findById(CartId.of(input.cartId()))
+          .orElseThrow(() -> new IllegalArgumentException("Cart not found: " + input.cartId()));
+    }
+    final CustomerId customerId = CustomerId.of(input.customerId());
+    return shoppingCartRepository
+        .findActiveCartByCustomerId(customerId)
+        .orElseGet(() -> new ShoppingCart(CartId.generate(), customerId));
+  }
 }
@@ -0,0 +1,27 @@
+package de.sample.aiarchitecture.cart.application.getactivecart;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for retrieving the active cart of a customer without creating one.
+ *
+ * <p>This port defines the contract for read-only cart lookups on every page render (e.g., the mini
+ * basket). Unlike {@code GetOrCreateActiveCartInputPort} it never persists anything, so visitors
+ * that never add an item never allocate a cart.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for read operations.
+ *
+ * @see GetActiveCartUseCase
+ */
+public interface GetActiveCartInputPort extends UseCase<GetActiveCartQuery, GetActiveCartResult> {
+
+  /**
+   * Retrieves the active cart of a customer.
+   *
+   * @param query the query containing the customer ID
+   * @return result containing the enriched cart read model, or not found if the customer has no
+   *     active cart yet
+   */
+  @Override
+  GetActiveCartResult execute(GetActiveCartQuery query);
+}
@@ -0,0 +1,16 @@
+package de.sample.aiarchitecture.cart.application.getactivecart;
+
+/**
+ * Input model for retrieving the active cart of a customer.
+ *
+ * @param customerId the customer ID
+ */
+public record GetActiveCartQuery(String customerId) {
+
+  /** Compact constructor with validation. */
+  public GetActiveCartQuery {
+    if (customerId == null || customerId.isBlank()) {
+      throw new IllegalArgumentException("Customer ID cannot be null or blank");
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package de.sample.aiarchitecture.cart.application.getactivecart;
+
+import de.sample.aiarchitecture.cart.domain.model.EnrichedCart;
+import java.util.Optional;
+
+/**
+ * Output model for the active cart lookup.
+ *
+ * <p>Wraps the {@link EnrichedCart} read model in an Optional. An empty result means the customer
+ * has not added anything yet and should be shown an empty basket.
+ *
+ * @param cart the enriched cart read model wrapped in Optional
+ */
+public record GetActiveCartResult(Optional<EnrichedCart> cart) {
+
+  public GetActiveCartResult {
+    if (cart == null) {
+      throw new IllegalArgumentException("Cart optional cannot be null, use Optional.empty()");
+    }
+  }
+
+  /**
+   * Checks if an active cart was found.
+   *
+   * @return true if the customer has an active cart
+   */
+  public boolean found() {
+    return cart.isPresent();
+  }
+
+  /** Creates a result for a customer without an active cart. */
+  public static GetActiveCartResult notFound() {
+    return new GetActiveCartResult(Optional.empty());
+  }
+
+  /** Creates a result for an active cart that was found. */
+  public static GetActiveCartResult found(final EnrichedCart cart) {
+    return new GetActiveCartResult(Optional.of(cart));
+  }
+}
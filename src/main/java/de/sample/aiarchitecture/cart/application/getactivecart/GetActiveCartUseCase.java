@@ -0,0 +1,65 @@
+package de.sample.aiarchitecture.cart.application.getactivecart;
+
+import de.sample.aiarchitecture.cart.application.shared.ArticleDataPort;
+import de.sample.aiarchitecture.cart.application.shared.ShoppingCartRepository;
+import de.sample.aiarchitecture.cart.domain.model.CartArticle;
+import de.sample.aiarchitecture.cart.domain.model.CartItem;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.EnrichedCart;
+import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for retrieving the active cart of a customer without creating one.
+ *
+ * <p>This is a query use case used on every page render. Returning not found instead of creating an
+ * empty cart keeps anonymous page views (including crawlers, which receive a fresh anonymous
+ * identity per request) from persisting carts. Carts are created lazily by {@code
+ * AddItemToCartUseCase} when the first item is added.
+ *
+ * <p><b>Hexagonal Architecture:</b> This class implements the {@link GetActiveCartInputPort}
+ * interface, which is a primary/driving port in the application layer.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequestMemoized
+public class GetActiveCartUseCase implements GetActiveCartInputPort {
+
+  private final ShoppingCartRepository shoppingCartRepository;
+  private final ArticleDataPort articleDataPort;
+
+  public GetActiveCartUseCase(
+      final ShoppingCartRepository shoppingCartRepository, final ArticleDataPort articleDataPort) {
+    this.shoppingCartRepository = shoppingCartRepository;
+    this.articleDataPort = articleDataPort;
+  }
+
+  @Override
+  public GetActiveCartResult execute(final GetActiveCartQuery input) {
+    final CustomerId customerId = CustomerId.of(input.customerId());
+
+    final Optional<ShoppingCart> cartOpt =
+        shoppingCartRepository.findActiveCartByCustomerId(customerId);
+
+    if (cartOpt.isEmpty()) {
+      return GetActiveCartResult.notFound();
+    }
+
+    final ShoppingCart cart = cartOpt.get();
+
+    // Collect product IDs and fetch article data in batch
+    final Set<ProductId> productIds =
+        cart.items().stream().map(CartItem::productId).collect(Collectors.toSet());
+
+    final Map<ProductId, CartArticle> articleData = articleDataPort.getArticleData(productIds);
+
+    return GetActiveCartResult.found(EnrichedCart.from(cart, articleData));
+  }
+}
@@ -0,0 +1,25 @@
+package de.sample.aiarchitecture.cart.application.getminibasket;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for retrieving the mini basket summary of a customer.
+ *
+ * <p>This port defines the contract for the read-only mini basket shown on every page. Primary
+ * adapters (controller advice, etc.) depend on this interface.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for read operations.
+ *
+ * @see GetMiniBasketUseCase
+ */
+public interface GetMiniBasketInputPort extends UseCase<GetMiniBasketQuery, GetMiniBasketResult> {
+
+  /**
+   * Retrieves the mini basket summary of a customer's active cart.
+   *
+   * @param query the query containing the customer ID
+   * @return result containing the summary, or empty if the customer has no active cart
+   */
+  @Override
+  GetMiniBasketResult execute(GetMiniBasketQuery query);
+}
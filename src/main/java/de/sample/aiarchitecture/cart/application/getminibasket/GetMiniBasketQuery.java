@@ -0,0 +1,16 @@
+package de.sample.aiarchitecture.cart.application.getminibasket;
+
+/**
+ * Input model for retrieving the mini basket summary.
+ *
+ * @param customerId the customer ID
+ */
+public record GetMiniBasketQuery(String customerId) {
+
+  /** Compact constructor with validation. */
+  public GetMiniBasketQuery {
+    if (customerId == null || customerId.isBlank()) {
+      throw new IllegalArgumentException("Customer ID cannot be null or blank");
+    }
+  }
+}
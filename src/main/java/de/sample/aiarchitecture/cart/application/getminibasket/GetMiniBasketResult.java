@@ -0,0 +1,24 @@
+package de.sample.aiarchitecture.cart.application.getminibasket;
+
+import de.sample.aiarchitecture.cart.domain.model.MiniBasketSummary;
+import java.util.Optional;
+
+/**
+ * Output model for the mini basket lookup.
+ *
+ * @param miniBasket the summary wrapped in Optional, empty if the customer has no active cart
+ */
+public record GetMiniBasketResult(Optional<MiniBasketSummary> miniBasket) {
+
+  public GetMiniBasketResult {
+    if (miniBasket == null) {
+      throw new IllegalArgumentException(
+          "Mini basket optional cannot be null, use Optional.empty()");
+    }
+  }
+
+  /** Creates a result for a customer without an active cart. */
+  public static GetMiniBasketResult empty() {
+    return new GetMiniBasketResult(Optional.empty());
+  }
+}
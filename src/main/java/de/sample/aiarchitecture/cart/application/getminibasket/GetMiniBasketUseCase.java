@@ -0,0 +1,76 @@
+package de.sample.aiarchitecture.cart.application.getminibasket;
+
+import de.sample.aiarchitecture.cart.application.shared.ArticleDataPort;
+import de.sample.aiarchitecture.cart.application.shared.MiniBasketCache;
+import de.sample.aiarchitecture.cart.application.shared.ShoppingCartRepository;
+import de.sample.aiarchitecture.cart.domain.model.CartArticle;
+import de.sample.aiarchitecture.cart.domain.model.CartItem;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.EnrichedCart;
+import de.sample.aiarchitecture.cart.domain.model.MiniBasketSummary;
+import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for retrieving the mini basket summary of a customer.
+ *
+ * <p>This is a query use case executed on every page render. Summaries are served from the {@link
+ * MiniBasketCache}; only on a miss is the active cart loaded and enriched with article data from
+ * the Product, Pricing and Inventory contexts. The cache is invalidated by cart content and status
+ * changes as well as price and stock changes of contained products.
+ *
+ * <p><b>Transactions:</b> Intentionally not {@code @Transactional}: a cache hit must not open a
+ * transaction (and acquire a connection). The repository loads the cart in its own read-only
+ * transaction on a miss.
+ *
+ * <p><b>Hexagonal Architecture:</b> This class implements the {@link GetMiniBasketInputPort}
+ * interface, which is a primary/driving port in the application layer.
+ */
+@Service
+@RequestMemoized
+public class GetMiniBasketUseCase implements GetMiniBasketInputPort {
+
+  private final ShoppingCartRepository shoppingCartRepository;
+  private final ArticleDataPort articleDataPort;
+  private final MiniBasketCache miniBasketCache;
+
+  public GetMiniBasketUseCase(
+      final ShoppingCartRepository shoppingCartRepository,
+      final ArticleDataPort articleDataPort,
+      final MiniBasketCache miniBasketCache) {
+    this.shoppingCartRepository = shoppingCartRepository;
+    this.articleDataPort = articleDataPort;
+    this.miniBasketCache = miniBasketCache;
+  }
+
+  @Override
+  public GetMiniBasketResult execute(final GetMiniBasketQuery input) {
+    final CustomerId customerId = CustomerId.of(input.customerId());
+    return new GetMiniBasketResult(miniBasketCache.getOrLoad(customerId, () -> load(customerId)));
+  }
+
+  private Optional<MiniBasketSummary> load(final CustomerId customerId) {
+    final Optional<ShoppingCart> cartOpt =
+        shoppingCartRepository.findActiveCartByCustomerId(customerId);
+
+    if (cartOpt.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final ShoppingCart cart = cartOpt.get();
+
+    // Collect product IDs and fetch article data in batch
+    final Set<ProductId> productIds =
+        cart.items().stream().map(CartItem::productId).collect(Collectors.toSet());
+
+    final Map<ProductId, CartArticle> articleData = articleDataPort.getArticleData(productIds);
+
+    return Optional.of(MiniBasketSummary.from(EnrichedCart.from(cart, articleData)));
+  }
+}
@@ -0,0 +1,23 @@
+package de.sample.aiarchitecture.cart.application.shared;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.OutputPort;
+
+/**
+ * Output port for dropping cached article data when the owning contexts change it.
+ *
+ * <p>Implementations cache what {@link ArticleDataPort} resolves per product, bound the number of
+ * entries and expire them after a time-to-live, so a missed invalidation can only serve stale data
+ * for a limited time.
+ */
+public interface ArticleDataCache extends OutputPort {
+
+  /**
+   * Drops the cached article data of a product.
+   *
+   * <p>Values loaded while the invalidation happened are not cached.
+   *
+   * @param productId the product whose data changed
+   */
+  void invalidate(ProductId productId);
+}
@@ -0,0 +1,45 @@
+package de.sample.aiarchitecture.cart.application.shared;
+
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.MiniBasketSummary;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.OutputPort;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Output port for caching {@link MiniBasketSummary} read models per cart.
+ *
+ * <p>Entries are dropped when the cart contents or status change, or when the price or stock of a
+ * contained product changes. Implementations bound the number of entries and expire them after a
+ * time-to-live, so a missed invalidation can only serve stale data for a limited time.
+ */
+public interface MiniBasketCache extends OutputPort {
+
+  /**
+   * Returns the cached summary of the customer's active cart, or loads and caches it.
+   *
+   * <p>A summary loaded while a concurrent invalidation happened is returned but not cached.
+   *
+   * @param customerId the customer ID
+   * @param loader loads the summary if it is not cached; empty if the customer has no active cart
+   * @return the summary, or empty if the customer has no active cart
+   */
+  Optional<MiniBasketSummary> getOrLoad(
+      CustomerId customerId, Supplier<Optional<MiniBasketSummary>> loader);
+
+  /**
+   * Drops the cached summary of a cart.
+   *
+   * @param cartId the cart ID
+   */
+  void invalidateCart(CartId cartId);
+
+  /**
+   * Drops all cached summaries containing a product.
+   *
+   * @param productId the product ID
+   */
+  void invalidateProduct(ProductId productId);
+}
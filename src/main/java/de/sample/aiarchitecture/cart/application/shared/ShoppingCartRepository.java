@@ -3,12 +3,17 @@ package de.sample.aiarchitecture.cart.application.shared;
 import de.sample.aiarchitecture.cart.domain.model.CartId;
 import de.sample.aiarchitecture.cart.domain.model.CustomerId;
 import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPageResult;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PageResult;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.specification.CompositeSpecification;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.Repository;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for ShoppingCart aggregate.
@@ -68,4 +73,56 @@ public interface ShoppingCartRepository extends Repository<ShoppingCart, CartId>
         start >= filtered.size() ? List.of() : filtered.subList(start, end);
     return new PageResult<>(content, filtered.size(), pageQuery.pageNumber(), pageQuery.pageSize());
   }
+
+  /**
+   * Streams all carts matching the given specification for bulk processing.
+   *
+   * <p>Persistence adapters fetch the carts lazily from a forward-only database cursor, so memory
+   * use stays flat regardless of the result size. The returned stream holds database resources and
+   * must be closed, preferably with try-with-resources. No particular order is guaranteed.
+   *
+   * <p>Default implementation falls back to filtering {@link #findAll()} in memory.
+   *
+   * @param specification the specification carts must satisfy
+   * @return a stream of matching carts that must be closed after use
+   */
+  default Stream<ShoppingCart> streamBy(CompositeSpecification<ShoppingCart> specification) {
+    return findAll().stream().filter(specification::isSatisfiedBy);
+  }
+
+  /**
+   * Find carts matching the given specification using keyset (seek) pagination.
+   *
+   * <p>Carts are returned most recently updated first. Instead of skipping {@code offset} rows, the
+   * persistence adapter encodes the position of the last returned cart, {@code (updated_at, id)},
+   * into {@link CursorPageResult#nextCursor()} and continues from there with an index-backed range
+   * predicate. The total count is only computed if {@link CursorPagingRequest#includeTotal()} is
+   * set, since counting is the expensive part of deep listings.
+   *
+   * <p>Default implementation falls back to in-memory filtering ordered by cart id, using the last
+   * cart id as cursor, because the aggregate itself does not carry a modification timestamp.
+   */
+  default CursorPageResult<ShoppingCart> findBy(
+      CompositeSpecification<ShoppingCart> specification, CursorPagingRequest pageQuery) {
+    final List<ShoppingCart> filtered =
+        findAll().stream()
+            .filter(specification::isSatisfiedBy)
+            .sorted(Comparator.comparing((ShoppingCart cart) -> cart.id().value()).reversed())
+            .toList();
+    final List<ShoppingCart> remaining =
+        pageQuery.isFirstPage()
+            ? filtered
+            : filtered.stream()
+                .filter(cart -> cart.id().value().compareTo(pageQuery.cursor()) < 0)
+                .toList();
+    final List<ShoppingCart> content =
+        remaining.subList(0, Math.min(pageQuery.pageSize(), remaining.size()));
+    final String nextCursor =
+        remaining.size() > content.size() ? content.get(content.size() - 1).id().value() : null;
+    return new CursorPageResult<>(
+        content,
+        nextCursor,
+        pageQuery.includeTotal() ? OptionalLong.of(filtered.size()) : OptionalLong.empty(),
+        pageQuery.pageSize());
+  }
 }
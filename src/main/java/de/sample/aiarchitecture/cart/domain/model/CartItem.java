@@ -11,7 +11,8 @@ import de.sample.aiarchitecture.sharedkernel.marker.tactical.Entity;
  * and should only be created and modified through the ShoppingCart aggregate root.
  *
  * <p><b>Important:</b> CartItem is NOT an aggregate root. It cannot exist outside of a ShoppingCart
- * and has package-private constructors to enforce this boundary.
+ * and has package-private constructors to enforce this boundary. Repositories use {@link
+ * #reconstitute} to restore stored items and hand them to {@link ShoppingCart#reconstitute}.
  */
 public final class CartItem implements Entity<CartItem, CartItemId> {
 
@@ -32,6 +33,25 @@ public final class CartItem implements Entity<CartItem, CartItemId> {
     this.priceAtAddition = priceAtAddition;
   }
 
+  /**
+   * Reconstructs a CartItem from persistence.
+   *
+   * <p>Used by repositories only; the result must be passed to {@link ShoppingCart#reconstitute}.
+   *
+   * @param id the item ID
+   * @param productId the referenced product
+   * @param quantity the stored quantity
+   * @param priceAtAddition the price snapshot taken when the item was added
+   * @return the reconstructed CartItem
+   */
+  public static CartItem reconstitute(
+      final CartItemId id,
+      final ProductId productId,
+      final Quantity quantity,
+      final Price priceAtAddition) {
+    return new CartItem(id, productId, quantity, priceAtAddition);
+  }
+
   @Override
   public CartItemId id() {
     return id;
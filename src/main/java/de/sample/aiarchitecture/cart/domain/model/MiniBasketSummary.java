@@ -0,0 +1,81 @@
+package de.sample.aiarchitecture.cart.domain.model;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.Value;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compact read model of a cart as shown in the mini basket on every page.
+ *
+ * <p>Derived from an {@link EnrichedCart}, so it reflects current prices and article names. It is
+ * small and immutable and therefore suitable for caching between page views; the product IDs of the
+ * lines tell which price or stock changes make it stale.
+ *
+ * @param cartId the cart ID
+ * @param customerId the owning customer
+ * @param itemCount total quantity of all lines
+ * @param total current subtotal of all lines
+ * @param lines the cart lines
+ */
+public record MiniBasketSummary(
+    CartId cartId, CustomerId customerId, int itemCount, Money total, List<Line> lines)
+    implements Value {
+
+  public MiniBasketSummary {
+    if (cartId == null) {
+      throw new IllegalArgumentException("Cart ID cannot be null");
+    }
+    if (customerId == null) {
+      throw new IllegalArgumentException("Customer ID cannot be null");
+    }
+    if (total == null) {
+      throw new IllegalArgumentException("Total cannot be null");
+    }
+    lines = lines == null ? List.of() : List.copyOf(lines);
+  }
+
+  /**
+   * Summarizes an enriched cart.
+   *
+   * @param cart the enriched cart
+   * @return the mini basket summary
+   */
+  public static MiniBasketSummary from(final EnrichedCart cart) {
+    final List<Line> lines =
+        cart.items().stream()
+            .map(
+                item ->
+                    new Line(
+                        item.productId(),
+                        item.currentArticle().name(),
+                        item.quantity().value(),
+                        item.currentLineTotal()))
+            .toList();
+    final int itemCount = lines.stream().mapToInt(Line::quantity).sum();
+    return new MiniBasketSummary(
+        cart.cartId(), cart.customerId(), itemCount, cart.calculateCurrentSubtotal(), lines);
+  }
+
+  /**
+   * Returns the products contained in this summary.
+   *
+   * @return the product IDs of all lines
+   */
+  public Set<ProductId> productIds() {
+    return lines.stream().map(Line::productId).collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * A single mini basket line.
+   *
+   * @param productId the product ID
+   * @param name the current article name
+   * @param quantity the quantity in the cart
+   * @param lineTotal the current line total
+   */
+  public record Line(ProductId productId, String name, int quantity, Money lineTotal)
+      implements Value {}
+}
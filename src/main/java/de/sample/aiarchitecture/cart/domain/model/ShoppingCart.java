@@ -57,6 +57,29 @@ public final class ShoppingCart extends BaseAggregateRoot<ShoppingCart, CartId>
     this.status = CartStatus.ACTIVE;
   }
 
+  /**
+   * Reconstructs a ShoppingCart from persistence.
+   *
+   * <p>Used by repositories when loading carts from storage. Restores identity, status and items
+   * without running business rules and without registering domain events.
+   *
+   * @param id the cart ID
+   * @param customerId the owning customer
+   * @param status the stored cart status
+   * @param items the stored cart items, see {@link CartItem#reconstitute}
+   * @return the reconstructed ShoppingCart
+   */
+  public static ShoppingCart reconstitute(
+      final CartId id,
+      final CustomerId customerId,
+      final CartStatus status,
+      final List<CartItem> items) {
+    final ShoppingCart cart = new ShoppingCart(id, customerId);
+    cart.status = status;
+    cart.items.addAll(items);
+    return cart;
+  }
+
   @Override
   public CartId id() {
     return id;
@@ -0,0 +1,10 @@
+package de.sample.aiarchitecture.cart.infrastructure;
+
+import de.sample.aiarchitecture.cart.adapter.outgoing.product.ArticleDataCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for the Cart article data near-cache. */
+@Configuration
+@EnableConfigurationProperties(ArticleDataCacheProperties.class)
+public class ArticleDataCacheConfiguration {}
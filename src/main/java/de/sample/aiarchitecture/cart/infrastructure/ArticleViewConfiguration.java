@@ -0,0 +1,10 @@
+package de.sample.aiarchitecture.cart.infrastructure;
+
+import de.sample.aiarchitecture.cart.adapter.outgoing.product.ArticleViewProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for reading Cart article data from the article view. */
+@Configuration
+@EnableConfigurationProperties(ArticleViewProperties.class)
+public class ArticleViewConfiguration {}
@@ -0,0 +1,10 @@
+package de.sample.aiarchitecture.cart.infrastructure;
+
+import de.sample.aiarchitecture.cart.adapter.outgoing.cache.MiniBasketCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for the mini basket summary cache. */
+@Configuration
+@EnableConfigurationProperties(MiniBasketCacheProperties.class)
+public class MiniBasketCacheConfiguration {}
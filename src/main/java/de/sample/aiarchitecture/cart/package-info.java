@@ -12,8 +12,11 @@
       "sharedkernel",
       "infrastructure",
       "product :: api",
+      "product :: events",
       "pricing :: api",
-      "inventory :: api"
+      "pricing :: events",
+      "inventory :: api",
+      "inventory :: events"
     })
 package de.sample.aiarchitecture.cart;
 
@@ -0,0 +1,39 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.actuator;
+
+import de.sample.aiarchitecture.checkout.application.getpaymentproviderstats.GetPaymentProviderStatsInputPort;
+import de.sample.aiarchitecture.checkout.application.getpaymentproviderstats.GetPaymentProviderStatsQuery;
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProviderStats;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing the live health statistics of the registered payment providers.
+ *
+ * <p>Available at {@code /actuator/paymentproviders} when included in {@code
+ * management.endpoints.web.exposure.include}.
+ */
+@Component
+@Endpoint(id = "paymentproviders")
+public class PaymentProviderStatsEndpoint {
+
+  private final GetPaymentProviderStatsInputPort getPaymentProviderStatsInputPort;
+
+  public PaymentProviderStatsEndpoint(
+      final GetPaymentProviderStatsInputPort getPaymentProviderStatsInputPort) {
+    this.getPaymentProviderStatsInputPort = getPaymentProviderStatsInputPort;
+  }
+
+  /**
+   * Returns the statistics of all registered payment providers.
+   *
+   * @return one entry per provider
+   */
+  @ReadOperation
+  public List<PaymentProviderStats> providers() {
+    return getPaymentProviderStatsInputPort
+        .execute(GetPaymentProviderStatsQuery.create())
+        .providers();
+  }
+}
@@ -1,8 +1,6 @@
 package de.sample.aiarchitecture.checkout.adapter.incoming.event;
 
 import de.sample.aiarchitecture.cart.events.CartContentsChangedEvent;
-import de.sample.aiarchitecture.checkout.application.synccheckoutwithcart.SyncCheckoutWithCartCommand;
-import de.sample.aiarchitecture.checkout.application.synccheckoutwithcart.SyncCheckoutWithCartInputPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.modulith.events.ApplicationModuleListener;
@@ -17,16 +15,19 @@ import org.springframework.stereotype.Component;
  *
  * <p>Consumes the consolidated {@link CartContentsChangedEvent} integration event instead of
  * individual cart domain events, respecting module boundaries.
+ *
+ * <p>Changes are handed to the {@link CartSyncCoalescer}, which collapses bursts of changes to the
+ * same cart into a single sync.
  */
 @Component
 public class CartChangeEventConsumer {
 
   private static final Logger logger = LoggerFactory.getLogger(CartChangeEventConsumer.class);
 
-  private final SyncCheckoutWithCartInputPort syncCheckoutWithCartUseCase;
+  private final CartSyncCoalescer cartSyncCoalescer;
 
-  public CartChangeEventConsumer(final SyncCheckoutWithCartInputPort syncCheckoutWithCartUseCase) {
-    this.syncCheckoutWithCartUseCase = syncCheckoutWithCartUseCase;
+  public CartChangeEventConsumer(final CartSyncCoalescer cartSyncCoalescer) {
+    this.cartSyncCoalescer = cartSyncCoalescer;
   }
 
   /**
@@ -52,23 +53,6 @@ public class CartChangeEventConsumer {
         event.changeType(),
         event.cartId());
 
-    syncCheckoutSession(event.cartId().toString());
-  }
-
-  private void syncCheckoutSession(final String cartId) {
-    try {
-      final var response =
-          syncCheckoutWithCartUseCase.execute(new SyncCheckoutWithCartCommand(cartId));
-
-      if (response.synced()) {
-        logger.info(
-            "Checkout session {} synced with cart {} - {} items",
-            response.sessionId(),
-            cartId,
-            response.itemCount());
-      }
-    } catch (Exception e) {
-      logger.error("Failed to sync checkout session with cart {}: {}", cartId, e.getMessage(), e);
-    }
+    cartSyncCoalescer.submit(event.cartId().toString());
   }
 }
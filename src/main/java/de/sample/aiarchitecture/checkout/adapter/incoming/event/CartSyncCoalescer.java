@@ -0,0 +1,144 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.event;
+
+import de.sample.aiarchitecture.checkout.application.synccheckoutwithcart.SyncCheckoutWithCartCommand;
+import de.sample.aiarchitecture.checkout.application.synccheckoutwithcart.SyncCheckoutWithCartInputPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collapses bursts of cart changes into one checkout sync per cart.
+ *
+ * <p>The first change of a cart schedules a sync after the configured window; further changes of
+ * the same cart within the window only join the pending sync. The pending marker is removed right
+ * before the sync runs, and the sync reads the cart as it is at that moment, so a change arriving
+ * while a sync is in progress schedules a new one and no change is ever lost. Bulk edits and cart
+ * merges therefore cost one sync instead of one per item.
+ *
+ * <p>Received changes and executed syncs are exposed as the {@code checkout.cart.sync.events} and
+ * {@code checkout.cart.sync.executions} metrics; {@code checkout.cart.sync.pending} is the number
+ * of carts waiting for their sync.
+ *
+ * <p>With {@code app.checkout.cart-sync.coalescing-enabled=false}, and before the component has
+ * started, every change is synced immediately on the calling thread.
+ */
+@Component
+public class CartSyncCoalescer implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(CartSyncCoalescer.class);
+
+  private final SyncCheckoutWithCartInputPort syncCheckoutWithCartUseCase;
+  private final CartSyncCoalescingProperties properties;
+  private final Map<String, Boolean> pending = new ConcurrentHashMap<>();
+  private final Counter received;
+  private final Counter executed;
+  private volatile @Nullable ScheduledExecutorService scheduler;
+
+  public CartSyncCoalescer(
+      final SyncCheckoutWithCartInputPort syncCheckoutWithCartUseCase,
+      final CartSyncCoalescingProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.syncCheckoutWithCartUseCase = syncCheckoutWithCartUseCase;
+    this.properties = properties;
+    this.received =
+        Counter.builder("checkout.cart.sync.events")
+            .description("Cart change events received for checkout sync")
+            .register(meterRegistry);
+    this.executed =
+        Counter.builder("checkout.cart.sync.executions")
+            .description("Checkout syncs executed after coalescing")
+            .register(meterRegistry);
+    Gauge.builder("checkout.cart.sync.pending", pending, Map::size)
+        .description("Carts with a scheduled checkout sync")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Requests a checkout sync for the cart, joining a sync that is already pending for it.
+   *
+   * @param cartId the ID of the changed cart
+   */
+  public void submit(final String cartId) {
+    received.increment();
+
+    final ScheduledExecutorService executor = scheduler;
+    if (executor == null) {
+      sync(cartId);
+      return;
+    }
+    if (pending.putIfAbsent(cartId, Boolean.TRUE) != null) {
+      logger.debug("Cart {} already has a pending checkout sync, coalesced", cartId);
+      return;
+    }
+    try {
+      executor.schedule(
+          () -> {
+            pending.remove(cartId);
+            sync(cartId);
+          },
+          properties.window().toMillis(),
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      pending.remove(cartId);
+      sync(cartId);
+    }
+  }
+
+  private void sync(final String cartId) {
+    executed.increment();
+    try {
+      final var response =
+          syncCheckoutWithCartUseCase.execute(new SyncCheckoutWithCartCommand(cartId));
+
+      if (response.synced()) {
+        logger.info(
+            "Checkout session {} synced with cart {} - {} items",
+            response.sessionId(),
+            cartId,
+            response.itemCount());
+      }
+    } catch (Exception e) {
+      logger.error("Failed to sync checkout session with cart {}: {}", cartId, e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void start() {
+    if (Boolean.TRUE.equals(properties.coalescingEnabled()) && scheduler == null) {
+      scheduler =
+          Executors.newSingleThreadScheduledExecutor(
+              Thread.ofPlatform().name("checkout-cart-sync").daemon().factory());
+    }
+  }
+
+  /** Stops accepting delayed syncs; syncs that are already pending still run before shutdown. */
+  @Override
+  public void stop() {
+    final ScheduledExecutorService executor = scheduler;
+    if (executor != null) {
+      scheduler = null;
+      executor.shutdown();
+      try {
+        executor.awaitTermination(properties.window().toMillis() + 5_000, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+}
@@ -0,0 +1,36 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.event;
+
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for coalescing cart change events before the checkout sync.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   checkout:
+ *     cart-sync:
+ *       coalescing-enabled: true
+ *       window: 100ms
+ * </pre>
+ *
+ * @param coalescingEnabled whether bursts of cart changes are collapsed into one sync (default:
+ *     true)
+ * @param window time a sync is delayed to collect further changes of the same cart (default: 100
+ *     milliseconds)
+ */
+@ConfigurationProperties(prefix = "app.checkout.cart-sync")
+public record CartSyncCoalescingProperties(@Nullable Boolean coalescingEnabled, Duration window) {
+
+  public CartSyncCoalescingProperties {
+    if (coalescingEnabled == null) {
+      coalescingEnabled = true;
+    }
+    if (window == null || window.isNegative() || window.isZero()) {
+      window = Duration.ofMillis(100);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.event;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutArticleDataCache;
+import de.sample.aiarchitecture.inventory.events.StockLevelChangedEvent;
+import de.sample.aiarchitecture.pricing.events.PriceChangedEvent;
+import de.sample.aiarchitecture.product.events.ProductNameChangedEvent;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Event consumer that invalidates cached article data through the {@link CheckoutArticleDataCache}
+ * port.
+ *
+ * <p>Price, stock and product name changes arrive as integration events from the Pricing, Inventory
+ * and Product contexts. The affected product is dropped synchronously, so the transaction that
+ * changed it already reads fresh data, and dropped again after that transaction completes, so a
+ * concurrent reader cannot re-cache the value from before the commit.
+ */
+@Component
+public class CheckoutArticleDataCacheEventConsumer {
+
+  private final CheckoutArticleDataCache articleDataCache;
+
+  public CheckoutArticleDataCacheEventConsumer(final CheckoutArticleDataCache articleDataCache) {
+    this.articleDataCache = articleDataCache;
+  }
+
+  @EventListener
+  void onPriceChanged(final PriceChangedEvent event) {
+    invalidate(event.productId());
+  }
+
+  @EventListener
+  void onStockLevelChanged(final StockLevelChangedEvent event) {
+    invalidate(event.productId());
+  }
+
+  @EventListener
+  void onProductNameChanged(final ProductNameChangedEvent event) {
+    invalidate(event.productId());
+  }
+
+  private void invalidate(final ProductId productId) {
+    articleDataCache.invalidate(productId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+              articleDataCache.invalidate(productId);
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.event;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSnapshotCache;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutAbandoned;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutCompleted;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutConfirmed;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutExpired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event consumer that drops cached snapshots of sessions that are no longer active.
+ *
+ * <p>Snapshots of active sessions are keyed by session version and never served stale, so only
+ * sessions leaving the active state need to be removed to keep {@link CheckoutSnapshotCache} small.
+ */
+@Component
+public class CheckoutSnapshotCacheEventConsumer {
+
+  private final CheckoutSnapshotCache checkoutSnapshotCache;
+
+  public CheckoutSnapshotCacheEventConsumer(final CheckoutSnapshotCache checkoutSnapshotCache) {
+    this.checkoutSnapshotCache = checkoutSnapshotCache;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onConfirmed(final CheckoutConfirmed event) {
+    checkoutSnapshotCache.invalidate(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCompleted(final CheckoutCompleted event) {
+    checkoutSnapshotCache.invalidate(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onAbandoned(final CheckoutAbandoned event) {
+    checkoutSnapshotCache.invalidate(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onExpired(final CheckoutExpired event) {
+    checkoutSnapshotCache.invalidate(event.sessionId());
+  }
+}
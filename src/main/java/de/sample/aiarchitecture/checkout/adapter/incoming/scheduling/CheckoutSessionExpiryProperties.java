@@ -0,0 +1,47 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.scheduling;
+
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for checkout session expiry and retention.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   checkout:
+ *     session-expiry:
+ *       enabled: true
+ *       inactivity-timeout: 30m
+ *       retention: 24h
+ *       tick: 1s
+ * </pre>
+ *
+ * @param enabled whether sessions are expired and evicted at all (default: true)
+ * @param inactivityTimeout time without checkout activity after which an active session expires
+ *     (default: 30 minutes)
+ * @param retention time a confirmed, completed, abandoned or expired session is kept before it is
+ *     evicted; confirmed and completed sessions are archived as placed orders (default: 24 hours)
+ * @param tick resolution of the expiry timers (default: 1 second)
+ */
+@ConfigurationProperties(prefix = "app.checkout.session-expiry")
+public record CheckoutSessionExpiryProperties(
+    @Nullable Boolean enabled, Duration inactivityTimeout, Duration retention, Duration tick) {
+
+  public CheckoutSessionExpiryProperties {
+    if (enabled == null) {
+      enabled = true;
+    }
+    if (inactivityTimeout == null || inactivityTimeout.isNegative() || inactivityTimeout.isZero()) {
+      inactivityTimeout = Duration.ofMinutes(30);
+    }
+    if (retention == null || retention.isNegative() || retention.isZero()) {
+      retention = Duration.ofHours(24);
+    }
+    if (tick == null || tick.isNegative() || tick.isZero()) {
+      tick = Duration.ofSeconds(1);
+    }
+  }
+}
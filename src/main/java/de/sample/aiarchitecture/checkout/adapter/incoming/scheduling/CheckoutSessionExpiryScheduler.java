@@ -0,0 +1,249 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.scheduling;
+
+import de.sample.aiarchitecture.checkout.application.evictcheckoutsession.EvictCheckoutSessionCommand;
+import de.sample.aiarchitecture.checkout.application.evictcheckoutsession.EvictCheckoutSessionInputPort;
+import de.sample.aiarchitecture.checkout.application.expirecheckoutsession.ExpireCheckoutSessionCommand;
+import de.sample.aiarchitecture.checkout.application.expirecheckoutsession.ExpireCheckoutSessionInputPort;
+import de.sample.aiarchitecture.checkout.application.expirecheckoutsession.ExpireCheckoutSessionResult;
+import de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps.GetCheckoutSessionTimestampsInputPort;
+import de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps.GetCheckoutSessionTimestampsQuery;
+import de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps.GetCheckoutSessionTimestampsResult.SessionTimestamp;
+import de.sample.aiarchitecture.checkout.domain.event.BuyerInfoSubmitted;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutAbandoned;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutCompleted;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutConfirmed;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutExpired;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutSessionStarted;
+import de.sample.aiarchitecture.checkout.domain.event.DeliverySubmitted;
+import de.sample.aiarchitecture.checkout.domain.event.PaymentSubmitted;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Expires inactive checkout sessions and evicts finished ones after their retention period.
+ *
+ * <p>Every checkout domain event (re)arms a timer for its session instead of the repository being
+ * scanned periodically: activity events push the inactivity deadline out, while confirmation and
+ * the terminal events (completed, abandoned, expired) disarm it and arm the retention timer.
+ * Evicted confirmed and completed sessions are archived as placed orders, so the live repository
+ * only keeps active sessions and those still within retention. Timers live in two {@link
+ * HierarchicalTimingWheel}s, so each event costs O(1) no matter how many sessions exist. A single
+ * daemon thread advances the wheels once per tick and drives the expire and evict use cases for the
+ * sessions that are due.
+ *
+ * <p>Timers are held in memory, so on startup they are seeded from the last save time of every
+ * stored session: active sessions get an expiry timer, all others a retention timer. Before a
+ * session is expired, the expire use case checks its last save time against the inactivity timeout
+ * again; a session that was saved more recently, for example after the timer was seeded, is kept
+ * and its timer re-armed for the reported due time.
+ *
+ * <p>Cart synchronization does not re-arm the timer: only steps the customer takes in the checkout
+ * itself keep a session alive. As a synchronization saves the session, it can still defer expiry
+ * until the inactivity timeout has passed since that save.
+ */
+@Component
+public class CheckoutSessionExpiryScheduler implements SmartLifecycle {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(CheckoutSessionExpiryScheduler.class);
+
+  private final ExpireCheckoutSessionInputPort expireCheckoutSessionUseCase;
+  private final EvictCheckoutSessionInputPort evictCheckoutSessionUseCase;
+  private final GetCheckoutSessionTimestampsInputPort getCheckoutSessionTimestampsUseCase;
+  private final CheckoutSessionExpiryProperties properties;
+  private final Clock clock = Clock.systemUTC();
+  private final Object lock = new Object();
+  private final HierarchicalTimingWheel<CheckoutSessionId> expiryTimers;
+  private final HierarchicalTimingWheel<CheckoutSessionId> retentionTimers;
+  private @Nullable ScheduledExecutorService ticker;
+
+  public CheckoutSessionExpiryScheduler(
+      final ExpireCheckoutSessionInputPort expireCheckoutSessionUseCase,
+      final EvictCheckoutSessionInputPort evictCheckoutSessionUseCase,
+      final GetCheckoutSessionTimestampsInputPort getCheckoutSessionTimestampsUseCase,
+      final CheckoutSessionExpiryProperties properties) {
+    this.expireCheckoutSessionUseCase = expireCheckoutSessionUseCase;
+    this.evictCheckoutSessionUseCase = evictCheckoutSessionUseCase;
+    this.getCheckoutSessionTimestampsUseCase = getCheckoutSessionTimestampsUseCase;
+    this.properties = properties;
+    final long tickMillis = properties.tick().toMillis();
+    this.expiryTimers = new HierarchicalTimingWheel<>(tickMillis, clock.millis());
+    this.retentionTimers = new HierarchicalTimingWheel<>(tickMillis, clock.millis());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStarted(final CheckoutSessionStarted event) {
+    touch(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onBuyerInfoSubmitted(final BuyerInfoSubmitted event) {
+    touch(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onDeliverySubmitted(final DeliverySubmitted event) {
+    touch(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPaymentSubmitted(final PaymentSubmitted event) {
+    touch(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onConfirmed(final CheckoutConfirmed event) {
+    retain(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onCompleted(final CheckoutCompleted event) {
+    retain(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onAbandoned(final CheckoutAbandoned event) {
+    retain(event.sessionId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onExpired(final CheckoutExpired event) {
+    retain(event.sessionId());
+  }
+
+  private void touch(final CheckoutSessionId sessionId) {
+    if (isEnabled()) {
+      final long deadline = clock.millis() + properties.inactivityTimeout().toMillis();
+      synchronized (lock) {
+        expiryTimers.schedule(sessionId, deadline);
+      }
+    }
+  }
+
+  private void retain(final CheckoutSessionId sessionId) {
+    if (isEnabled()) {
+      final long deadline = clock.millis() + properties.retention().toMillis();
+      synchronized (lock) {
+        expiryTimers.cancel(sessionId);
+        retentionTimers.schedule(sessionId, deadline);
+      }
+    }
+  }
+
+  /** Arms the timers of all stored sessions from their last save time. */
+  private void seed() {
+    final List<SessionTimestamp> sessions =
+        getCheckoutSessionTimestampsUseCase
+            .execute(new GetCheckoutSessionTimestampsQuery())
+            .sessions();
+    synchronized (lock) {
+      for (final SessionTimestamp session : sessions) {
+        final CheckoutSessionId sessionId = CheckoutSessionId.of(session.sessionId());
+        final long updatedAt = session.updatedAt().toEpochMilli();
+        if (session.active()) {
+          expiryTimers.schedule(sessionId, updatedAt + properties.inactivityTimeout().toMillis());
+        } else {
+          retentionTimers.schedule(sessionId, updatedAt + properties.retention().toMillis());
+        }
+      }
+    }
+    logger.info("Armed timers for {} stored checkout sessions", sessions.size());
+  }
+
+  /** Advances both wheels to now and runs the use cases for the due sessions outside the lock. */
+  private void tick() {
+    final List<CheckoutSessionId> expired;
+    final List<CheckoutSessionId> evicted;
+    synchronized (lock) {
+      final long now = clock.millis();
+      expired = expiryTimers.advanceTo(now);
+      evicted = retentionTimers.advanceTo(now);
+    }
+    for (final CheckoutSessionId sessionId : expired) {
+      expire(sessionId);
+    }
+    for (final CheckoutSessionId sessionId : evicted) {
+      evict(sessionId);
+    }
+  }
+
+  private void expire(final CheckoutSessionId sessionId) {
+    try {
+      final ExpireCheckoutSessionResult result =
+          expireCheckoutSessionUseCase.execute(
+              new ExpireCheckoutSessionCommand(sessionId.value(), properties.inactivityTimeout()));
+      final Instant dueAt = result.dueAt();
+      if (result.expired()) {
+        logger.info("Checkout session {} expired after inactivity", sessionId.value());
+      } else if (dueAt != null) {
+        // Saved within the inactivity timeout, e.g. after the timer was seeded
+        synchronized (lock) {
+          expiryTimers.schedule(sessionId, dueAt.toEpochMilli());
+        }
+      }
+    } catch (Exception e) {
+      logger.error(
+          "Failed to expire checkout session {}: {}", sessionId.value(), e.getMessage(), e);
+    }
+  }
+
+  private void evict(final CheckoutSessionId sessionId) {
+    try {
+      final var result =
+          evictCheckoutSessionUseCase.execute(new EvictCheckoutSessionCommand(sessionId.value()));
+      if (result.archived()) {
+        logger.debug(
+            "Checkout session {} archived as placed order after retention period",
+            sessionId.value());
+      } else if (result.evicted()) {
+        logger.debug("Checkout session {} evicted after retention period", sessionId.value());
+      }
+    } catch (Exception e) {
+      logger.error("Failed to evict checkout session {}: {}", sessionId.value(), e.getMessage(), e);
+    }
+  }
+
+  private boolean isEnabled() {
+    return Boolean.TRUE.equals(properties.enabled());
+  }
+
+  @Override
+  public void start() {
+    if (!isEnabled() || ticker != null) {
+      return;
+    }
+    seed();
+    final ScheduledExecutorService executor =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("checkout-session-expiry").daemon().factory());
+    final long tickMillis = properties.tick().toMillis();
+    executor.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    ticker = executor;
+  }
+
+  @Override
+  public void stop() {
+    final ScheduledExecutorService executor = ticker;
+    if (executor != null) {
+      executor.shutdownNow();
+      ticker = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return ticker != null;
+  }
+}
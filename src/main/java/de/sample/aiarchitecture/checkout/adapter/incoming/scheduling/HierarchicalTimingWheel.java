@@ -0,0 +1,214 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Hierarchical timing wheel holding at most one deadline per key.
+ *
+ * <p>Level 0 has one slot per tick; every higher level has slots spanning a full turn of the level
+ * below. A timer is placed in the lowest level whose turn still covers its deadline and cascades
+ * down as time advances, so scheduling, rescheduling and cancelling are O(1) regardless of how many
+ * timers are pending. Each slot is an intrusive doubly linked list, so a rescheduled timer is
+ * unlinked from its old slot instead of being left behind.
+ *
+ * <p>Deadlines beyond the range of the top level are parked in its last slot and re-placed when it
+ * comes round. Time is expressed in epoch milliseconds and rounded up to whole ticks; a timer never
+ * fires early.
+ *
+ * <p>Not thread-safe: callers serialize access.
+ *
+ * @param <K> the key identifying a timer
+ */
+final class HierarchicalTimingWheel<K> {
+
+  private static final int WHEEL_BITS = 6;
+  private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int LEVELS = 4;
+
+  private final long tickMillis;
+  private final long originMillis;
+  private final Slot<K>[][] levels;
+  private final Map<K, Timer<K>> timers = new HashMap<>();
+  private long currentTick;
+
+  @SuppressWarnings("unchecked")
+  HierarchicalTimingWheel(final long tickMillis, final long startMillis) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("Tick must be positive");
+    }
+    this.tickMillis = tickMillis;
+    this.originMillis = startMillis;
+    this.levels = new Slot[LEVELS][WHEEL_SIZE];
+    for (final Slot<K>[] level : levels) {
+      for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+        level[slot] = new Slot<>();
+      }
+    }
+  }
+
+  /**
+   * Schedules the timer of the key for the given deadline, replacing any pending deadline.
+   *
+   * @param key the timer key
+   * @param deadlineMillis the deadline in epoch milliseconds
+   */
+  void schedule(final K key, final long deadlineMillis) {
+    cancel(key);
+    final Timer<K> timer = new Timer<>(key, Math.max(toTick(deadlineMillis), currentTick + 1));
+    timers.put(key, timer);
+    place(timer);
+  }
+
+  /**
+   * Cancels the pending timer of the key, if any.
+   *
+   * @param key the timer key
+   * @return true if a timer was pending
+   */
+  boolean cancel(final K key) {
+    final Timer<K> timer = timers.remove(key);
+    if (timer == null) {
+      return false;
+    }
+    timer.unlink();
+    return true;
+  }
+
+  /** Returns the number of pending timers. */
+  int size() {
+    return timers.size();
+  }
+
+  /**
+   * Advances the wheel to the given time and removes all timers that are due.
+   *
+   * @param nowMillis the current time in epoch milliseconds
+   * @return the keys of the due timers, ordered by tick
+   */
+  List<K> advanceTo(final long nowMillis) {
+    final long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+    final List<K> due = new ArrayList<>();
+    while (currentTick < targetTick) {
+      currentTick++;
+      cascade();
+      final Slot<K> slot = levels[0][(int) (currentTick & WHEEL_MASK)];
+      for (Timer<K> timer = slot.drain(); timer != null; ) {
+        final Timer<K> next = timer.next;
+        timer.next = null;
+        if (timer.deadlineTick <= currentTick) {
+          timers.remove(timer.key);
+          due.add(timer.key);
+        } else {
+          place(timer);
+        }
+        timer = next;
+      }
+    }
+    return due;
+  }
+
+  /**
+   * Re-places the timers of every higher-level slot whose turn starts now. Runs top-down so timers
+   * moved into a lower slot that starts at the same tick are cascaded further in the same pass.
+   */
+  private void cascade() {
+    for (int level = LEVELS - 1; level > 0; level--) {
+      final int shift = WHEEL_BITS * level;
+      if ((currentTick & ((1L << shift) - 1)) != 0) {
+        continue;
+      }
+      final Slot<K> slot = levels[level][(int) ((currentTick >>> shift) & WHEEL_MASK)];
+      for (Timer<K> timer = slot.drain(); timer != null; ) {
+        final Timer<K> next = timer.next;
+        timer.next = null;
+        place(timer);
+        timer = next;
+      }
+    }
+  }
+
+  private void place(final Timer<K> timer) {
+    final long delta = timer.deadlineTick - currentTick;
+    for (int level = 0; level < LEVELS; level++) {
+      final int shift = WHEEL_BITS * level;
+      if (delta < (1L << (shift + WHEEL_BITS))) {
+        levels[level][(int) ((timer.deadlineTick >>> shift) & WHEEL_MASK)].add(timer);
+        return;
+      }
+    }
+    // Beyond the top level: park in the slot that comes round last and re-place from there
+    final int shift = WHEEL_BITS * (LEVELS - 1);
+    levels[LEVELS - 1][(int) (((currentTick >>> shift) - 1) & WHEEL_MASK)].add(timer);
+  }
+
+  private long toTick(final long millis) {
+    return Math.floorDiv(millis - originMillis + tickMillis - 1, tickMillis);
+  }
+
+  /** A pending timer, linked into exactly one slot. */
+  private static final class Timer<K> {
+
+    private final K key;
+    private final long deadlineTick;
+    private @Nullable Slot<K> slot;
+    private @Nullable Timer<K> prev;
+    private @Nullable Timer<K> next;
+
+    private Timer(final K key, final long deadlineTick) {
+      this.key = key;
+      this.deadlineTick = deadlineTick;
+    }
+
+    private void unlink() {
+      if (slot != null) {
+        slot.remove(this);
+      }
+    }
+  }
+
+  /** Doubly linked list of timers sharing a slot. */
+  private static final class Slot<K> {
+
+    private @Nullable Timer<K> head;
+
+    private void add(final Timer<K> timer) {
+      timer.slot = this;
+      timer.prev = null;
+      timer.next = head;
+      if (head != null) {
+        head.prev = timer;
+      }
+      head = timer;
+    }
+
+    private void remove(final Timer<K> timer) {
+      if (timer.prev != null) {
+        timer.prev.next = timer.next;
+      } else {
+        head = timer.next;
+      }
+      if (timer.next != null) {
+        timer.next.prev = timer.prev;
+      }
+      timer.slot = null;
+      timer.prev = null;
+      timer.next = null;
+    }
+
+    /** Detaches all timers; the returned chain is linked through {@code next} only. */
+    private @Nullable Timer<K> drain() {
+      final Timer<K> first = head;
+      head = null;
+      for (Timer<K> timer = first; timer != null; timer = timer.next) {
+        timer.slot = null;
+        timer.prev = null;
+      }
+      return first;
+    }
+  }
+}
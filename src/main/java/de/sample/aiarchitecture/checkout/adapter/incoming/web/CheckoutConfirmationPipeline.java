@@ -0,0 +1,240 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.web;
+
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutCommand;
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutInputPort;
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutResult;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchCommand;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchInputPort;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Group-commits checkout confirmations that arrive at the same time.
+ *
+ * <p>Request threads queue their confirmation and wait for its outcome. A single worker takes the
+ * first queued confirmation, collects further ones for up to the configured wait or until the batch
+ * is full, and confirms them together through {@link ConfirmCheckoutBatchInputPort}: one article
+ * data fetch, one transaction and one stock reduction per product for the whole batch. While a
+ * batch is being confirmed, the next one fills up, so batches grow with the load.
+ *
+ * <p>Each request receives the outcome of its own session; a rejected session is raised with the
+ * same exception type and reason as a failed single confirmation. If the batch fails as a whole,
+ * its sessions are confirmed one by one. A request waits at most the configured timeout; a
+ * confirmation that is still queued then is withdrawn, one already being confirmed completes
+ * without the request.
+ *
+ * <p>Batch sizes are exposed as the {@code checkout.confirmation.batch.size} metric.
+ *
+ * <p>With {@code app.checkout.confirmation-pipeline.enabled=false} (the default), and while the
+ * component is not running, every confirmation runs on the request thread through {@link
+ * ConfirmCheckoutInputPort}.
+ */
+@Component
+public class CheckoutConfirmationPipeline implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(CheckoutConfirmationPipeline.class);
+
+  private final ConfirmCheckoutInputPort confirmCheckoutInputPort;
+  private final ConfirmCheckoutBatchInputPort confirmCheckoutBatchInputPort;
+  private final CheckoutConfirmationPipelineProperties properties;
+  private final BlockingQueue<PendingConfirmation> queue = new LinkedBlockingQueue<>();
+  private final DistributionSummary batchSizes;
+  private volatile @Nullable Thread worker;
+
+  public CheckoutConfirmationPipeline(
+      final ConfirmCheckoutInputPort confirmCheckoutInputPort,
+      final ConfirmCheckoutBatchInputPort confirmCheckoutBatchInputPort,
+      final CheckoutConfirmationPipelineProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.confirmCheckoutInputPort = confirmCheckoutInputPort;
+    this.confirmCheckoutBatchInputPort = confirmCheckoutBatchInputPort;
+    this.properties = properties;
+    this.batchSizes =
+        DistributionSummary.builder("checkout.confirmation.batch.size")
+            .description("Checkout confirmations committed together")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Confirms a checkout session, batched with other confirmations if the pipeline is running.
+   *
+   * @param command the command containing the session ID
+   * @return the confirmed session state
+   * @throws IllegalArgumentException if the session is not found
+   * @throws IllegalStateException if the session cannot be confirmed, or the outcome did not arrive
+   *     within the timeout
+   */
+  public ConfirmCheckoutResult confirm(final ConfirmCheckoutCommand command) {
+    if (worker == null) {
+      return confirmCheckoutInputPort.execute(command);
+    }
+
+    final PendingConfirmation pending = new PendingConfirmation(command, new CompletableFuture<>());
+    queue.add(pending);
+    // The worker may have stopped and drained the queue in the meantime
+    if (worker == null && queue.remove(pending)) {
+      return confirmCheckoutInputPort.execute(command);
+    }
+
+    try {
+      return pending.result().get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Checkout confirmation failed", e.getCause());
+    } catch (TimeoutException e) {
+      queue.remove(pending);
+      throw new IllegalStateException("Checkout confirmation timed out, please check your order");
+    } catch (InterruptedException e) {
+      queue.remove(pending);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Checkout confirmation interrupted", e);
+    }
+  }
+
+  private void run() {
+    try {
+      collectAndConfirm();
+    } finally {
+      // However the worker ends, requests still queued must not wait for it
+      if (worker == Thread.currentThread()) {
+        worker = null;
+      }
+      final boolean interrupted = Thread.interrupted();
+      PendingConfirmation pending;
+      while ((pending = queue.poll()) != null) {
+        confirmSingle(pending);
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void collectAndConfirm() {
+    final List<PendingConfirmation> batch = new ArrayList<>(properties.maxBatchSize());
+    while (worker == Thread.currentThread()) {
+      try {
+        final PendingConfirmation first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        final long deadline = System.nanoTime() + properties.maxWait().toNanos();
+        while (batch.size() < properties.maxBatchSize()) {
+          final long remaining = deadline - System.nanoTime();
+          final PendingConfirmation next =
+              remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      if (!batch.isEmpty()) {
+        confirmBatch(batch);
+        batch.clear();
+      }
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+    }
+  }
+
+  private void confirmBatch(final List<PendingConfirmation> batch) {
+    batchSizes.record(batch.size());
+    final ConfirmCheckoutBatchResult result;
+    try {
+      result =
+          confirmCheckoutBatchInputPort.execute(
+              new ConfirmCheckoutBatchCommand(
+                  batch.stream().map(pending -> pending.command().sessionId()).toList()));
+    } catch (RuntimeException e) {
+      logger.warn(
+          "Confirmation batch of {} sessions failed, confirming one by one: {}",
+          batch.size(),
+          e.getMessage());
+      batch.forEach(this::confirmSingle);
+      return;
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      final ConfirmCheckoutBatchResult.Confirmation confirmation = result.confirmations().get(i);
+      if (confirmation.isConfirmed()) {
+        batch.get(i).result().complete(confirmation.result());
+      } else {
+        batch.get(i).result().completeExceptionally(toException(confirmation));
+      }
+    }
+  }
+
+  private static RuntimeException toException(
+      final ConfirmCheckoutBatchResult.Confirmation confirmation) {
+    if (confirmation.rejection() == ConfirmCheckoutBatchResult.Rejection.INVALID_ARGUMENT) {
+      return new IllegalArgumentException(confirmation.errorMessage());
+    }
+    return new IllegalStateException(confirmation.errorMessage());
+  }
+
+  private void confirmSingle(final PendingConfirmation pending) {
+    try {
+      pending.result().complete(confirmCheckoutInputPort.execute(pending.command()));
+    } catch (RuntimeException e) {
+      pending.result().completeExceptionally(e);
+    }
+  }
+
+  @Override
+  public void start() {
+    if (Boolean.TRUE.equals(properties.enabled()) && worker == null) {
+      final Thread thread =
+          Thread.ofPlatform().name("checkout-confirmation").daemon().unstarted(this::run);
+      worker = thread;
+      thread.start();
+    }
+  }
+
+  /** Stops batching; confirmations still queued are confirmed one by one before returning. */
+  @Override
+  public void stop() {
+    final Thread thread = worker;
+    if (thread != null) {
+      worker = null;
+      try {
+        thread.join(5_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      PendingConfirmation pending;
+      while ((pending = queue.poll()) != null) {
+        confirmSingle(pending);
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return worker != null;
+  }
+
+  private record PendingConfirmation(
+      ConfirmCheckoutCommand command, CompletableFuture<ConfirmCheckoutResult> result) {}
+}
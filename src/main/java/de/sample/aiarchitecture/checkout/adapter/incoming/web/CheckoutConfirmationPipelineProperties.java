@@ -0,0 +1,48 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.web;
+
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for group-committing checkout confirmations.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   checkout:
+ *     confirmation-pipeline:
+ *       enabled: true
+ *       max-batch-size: 32
+ *       max-wait: 5ms
+ *       timeout: 10s
+ * </pre>
+ *
+ * @param enabled whether confirmations are queued and confirmed in batches; otherwise each is
+ *     confirmed on the request thread (default: false)
+ * @param maxBatchSize maximum number of confirmations per batch (default: 32)
+ * @param maxWait time a batch waits for further confirmations after the first one arrived (default:
+ *     5 milliseconds)
+ * @param timeout how long a request waits for the outcome of its queued confirmation (default: 10
+ *     seconds)
+ */
+@ConfigurationProperties(prefix = "app.checkout.confirmation-pipeline")
+public record CheckoutConfirmationPipelineProperties(
+    @Nullable Boolean enabled, @Nullable Integer maxBatchSize, Duration maxWait, Duration timeout) {
+
+  public CheckoutConfirmationPipelineProperties {
+    if (enabled == null) {
+      enabled = false;
+    }
+    if (maxBatchSize == null || maxBatchSize < 1) {
+      maxBatchSize = 32;
+    }
+    if (maxWait == null || maxWait.isNegative()) {
+      maxWait = Duration.ofMillis(5);
+    }
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      timeout = Duration.ofSeconds(10);
+    }
+  }
+}
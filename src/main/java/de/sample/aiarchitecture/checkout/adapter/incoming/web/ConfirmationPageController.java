@@ -1,7 +1,6 @@
 package de.sample.aiarchitecture.checkout.adapter.incoming.web;
 
 import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutCommand;
-import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutInputPort;
 import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionInputPort;
 import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionQuery;
 import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionResult;
@@ -11,6 +10,9 @@ import de.sample.aiarchitecture.checkout.application.getcheckoutsession.GetCheck
 import de.sample.aiarchitecture.checkout.application.getconfirmedcheckoutsession.GetConfirmedCheckoutSessionInputPort;
 import de.sample.aiarchitecture.checkout.application.getconfirmedcheckoutsession.GetConfirmedCheckoutSessionQuery;
 import de.sample.aiarchitecture.checkout.application.getconfirmedcheckoutsession.GetConfirmedCheckoutSessionResult;
+import de.sample.aiarchitecture.checkout.application.getplacedorder.GetPlacedOrderInputPort;
+import de.sample.aiarchitecture.checkout.application.getplacedorder.GetPlacedOrderQuery;
+import de.sample.aiarchitecture.checkout.application.getplacedorder.GetPlacedOrderResult;
 import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.IdentityProvider;
 import org.springframework.stereotype.Controller;
@@ -39,22 +41,25 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequestMapping("/checkout")
 public class ConfirmationPageController {
 
-  private final ConfirmCheckoutInputPort confirmCheckoutInputPort;
+  private final CheckoutConfirmationPipeline checkoutConfirmationPipeline;
   private final GetCheckoutSessionInputPort getCheckoutSessionInputPort;
   private final GetActiveCheckoutSessionInputPort getActiveCheckoutSessionInputPort;
   private final GetConfirmedCheckoutSessionInputPort getConfirmedCheckoutSessionInputPort;
+  private final GetPlacedOrderInputPort getPlacedOrderInputPort;
   private final IdentityProvider identityProvider;
 
   public ConfirmationPageController(
-      final ConfirmCheckoutInputPort confirmCheckoutInputPort,
+      final CheckoutConfirmationPipeline checkoutConfirmationPipeline,
       final GetCheckoutSessionInputPort getCheckoutSessionInputPort,
       final GetActiveCheckoutSessionInputPort getActiveCheckoutSessionInputPort,
       final GetConfirmedCheckoutSessionInputPort getConfirmedCheckoutSessionInputPort,
+      final GetPlacedOrderInputPort getPlacedOrderInputPort,
       final IdentityProvider identityProvider) {
-    this.confirmCheckoutInputPort = confirmCheckoutInputPort;
+    this.checkoutConfirmationPipeline = checkoutConfirmationPipeline;
     this.getCheckoutSessionInputPort = getCheckoutSessionInputPort;
     this.getActiveCheckoutSessionInputPort = getActiveCheckoutSessionInputPort;
     this.getConfirmedCheckoutSessionInputPort = getConfirmedCheckoutSessionInputPort;
+    this.getPlacedOrderInputPort = getPlacedOrderInputPort;
     this.identityProvider = identityProvider;
   }
 
@@ -62,7 +67,9 @@ public class ConfirmationPageController {
    * Confirms the checkout and places the order.
    *
    * <p>This endpoint finds the active checkout session for the current user (via JWT identity),
-   * processes the order confirmation, and redirects to the confirmation page on success.
+   * processes the order confirmation, and redirects to the confirmation page on success. The
+   * confirmation may be committed together with concurrent ones, see {@link
+   * CheckoutConfirmationPipeline}.
    *
    * @param redirectAttributes for passing flash messages
    * @return redirect to confirmation page or back to review on error
@@ -85,7 +92,7 @@ public class ConfirmationPageController {
     }
 
     try {
-      confirmCheckoutInputPort.execute(new ConfirmCheckoutCommand(activeSession.sessionId()));
+      checkoutConfirmationPipeline.confirm(new ConfirmCheckoutCommand(activeSession.sessionId()));
 
       redirectAttributes.addFlashAttribute("orderConfirmed", true);
       return "redirect:/checkout/confirmation";
@@ -100,8 +107,9 @@ public class ConfirmationPageController {
    * Displays the order confirmation (thank you) page.
    *
    * <p>This endpoint shows the confirmation page after a successful order. It looks up the
-   * confirmed/completed session for the current user (via JWT identity). It is only accessible
-   * after the checkout has been confirmed.
+   * confirmed/completed session for the current user (via JWT identity), falling back to the
+   * archived placed order once the session has been evicted. It is only accessible after the
+   * checkout has been confirmed.
    *
    * @param model the Spring MVC model
    * @param redirectAttributes for passing flash messages on error
@@ -131,8 +139,18 @@ public class ConfirmationPageController {
             GetCheckoutSessionQuery.of(confirmedSession.sessionId()));
 
     if (!result.found()) {
-      redirectAttributes.addFlashAttribute("error", "Checkout session not found");
-      return "redirect:/cart";
+      // Sessions past their retention period only remain as archived placed orders
+      final GetPlacedOrderResult placedOrder =
+          getPlacedOrderInputPort.execute(GetPlacedOrderQuery.of(confirmedSession.sessionId()));
+      if (!placedOrder.found()) {
+        redirectAttributes.addFlashAttribute("error", "Checkout session not found");
+        return "redirect:/cart";
+      }
+
+      model.addAttribute(
+          "orderConfirmation", ConfirmationPageViewModel.fromPlacedOrder(placedOrder.order()));
+      model.addAttribute("title", "Order Confirmed - Thank You!");
+      return "checkout/confirmation";
     }
 
     // Only allow access to confirmation page if the session is confirmed or completed
@@ -2,6 +2,7 @@ package de.sample.aiarchitecture.checkout.adapter.incoming.web;
 
 import de.sample.aiarchitecture.checkout.domain.readmodel.CheckoutCartSnapshot;
 import de.sample.aiarchitecture.checkout.domain.readmodel.LineItemSnapshot;
+import de.sample.aiarchitecture.checkout.domain.readmodel.PlacedOrder;
 import java.math.BigDecimal;
 import java.util.List;
 import org.jspecify.annotations.Nullable;
@@ -9,7 +10,8 @@ import org.jspecify.annotations.Nullable;
 /**
  * ViewModel for the order confirmation (thank you) page.
  *
- * <p>Contains complete order details for display after successful checkout.
+ * <p>Contains complete order details for display after successful checkout. Orders that were
+ * already archived only carry line items and totals; buyer info, delivery and payment are absent.
  */
 public record ConfirmationPageViewModel(
     String sessionId,
@@ -17,9 +19,9 @@ public record ConfirmationPageViewModel(
     @Nullable String orderReference,
     List<LineItemViewModel> lineItems,
     TotalsViewModel totals,
-    BuyerInfoViewModel buyerInfo,
+    @Nullable BuyerInfoViewModel buyerInfo,
     @Nullable DeliveryViewModel delivery,
-    PaymentViewModel payment) {
+    @Nullable PaymentViewModel payment) {
 
   /** Creates a ConfirmationPageViewModel from a CheckoutCartSnapshot. */
   public static ConfirmationPageViewModel fromSnapshot(final CheckoutCartSnapshot snapshot) {
@@ -34,6 +36,25 @@ public record ConfirmationPageViewModel(
         PaymentViewModel.fromSnapshot(snapshot));
   }
 
+  /** Creates a ConfirmationPageViewModel from an archived PlacedOrder. */
+  public static ConfirmationPageViewModel fromPlacedOrder(final PlacedOrder order) {
+    final var totals = order.totals();
+    return new ConfirmationPageViewModel(
+        order.sessionId().value(),
+        order.status().name(),
+        order.orderReference(),
+        order.lines().stream().map(LineItemViewModel::fromPlacedOrderLine).toList(),
+        new TotalsViewModel(
+            totals.subtotal().amount(),
+            totals.shipping().amount(),
+            totals.tax().amount(),
+            totals.total().amount(),
+            totals.total().currency().getCurrencyCode()),
+        null,
+        null,
+        null);
+  }
+
   /** Line item for order display. */
   public record LineItemViewModel(
       String productId,
@@ -42,7 +63,7 @@ public record ConfirmationPageViewModel(
       BigDecimal unitPrice,
       BigDecimal lineTotal,
       String currencyCode,
-      String imageUrl) {
+      @Nullable String imageUrl) {
     static LineItemViewModel fromSnapshot(final LineItemSnapshot item) {
       return new LineItemViewModel(
           item.productId().value(),
@@ -53,6 +74,17 @@ public record ConfirmationPageViewModel(
           item.price().currency().getCurrencyCode(),
           item.imageUrl());
     }
+
+    static LineItemViewModel fromPlacedOrderLine(final PlacedOrder.Line line) {
+      return new LineItemViewModel(
+          line.productId().value(),
+          line.name(),
+          line.quantity(),
+          line.price().amount(),
+          line.lineTotal().amount(),
+          line.price().currency().getCurrencyCode(),
+          null);
+    }
   }
 
   /** Order totals. */
@@ -3,9 +3,9 @@ package de.sample.aiarchitecture.checkout.adapter.incoming.web;
 import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionInputPort;
 import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionQuery;
 import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionResult;
-import de.sample.aiarchitecture.checkout.application.getcheckoutsession.GetCheckoutSessionInputPort;
-import de.sample.aiarchitecture.checkout.application.getcheckoutsession.GetCheckoutSessionQuery;
-import de.sample.aiarchitecture.checkout.application.getcheckoutsession.GetCheckoutSessionResult;
+import de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot.GetActiveCheckoutSnapshotInputPort;
+import de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot.GetActiveCheckoutSnapshotQuery;
+import de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot.GetActiveCheckoutSnapshotResult;
 import de.sample.aiarchitecture.checkout.application.getshippingoptions.GetShippingOptionsInputPort;
 import de.sample.aiarchitecture.checkout.application.getshippingoptions.GetShippingOptionsQuery;
 import de.sample.aiarchitecture.checkout.application.getshippingoptions.GetShippingOptionsResult;
@@ -41,19 +41,19 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequestMapping("/checkout")
 public class DeliveryPageController {
 
-  private final GetCheckoutSessionInputPort getCheckoutSessionInputPort;
+  private final GetActiveCheckoutSnapshotInputPort getActiveCheckoutSnapshotInputPort;
   private final GetActiveCheckoutSessionInputPort getActiveCheckoutSessionInputPort;
   private final GetShippingOptionsInputPort getShippingOptionsInputPort;
   private final SubmitDeliveryInputPort submitDeliveryInputPort;
   private final IdentityProvider identityProvider;
 
   public DeliveryPageController(
-      final GetCheckoutSessionInputPort getCheckoutSessionInputPort,
+      final GetActiveCheckoutSnapshotInputPort getActiveCheckoutSnapshotInputPort,
       final GetActiveCheckoutSessionInputPort getActiveCheckoutSessionInputPort,
       final GetShippingOptionsInputPort getShippingOptionsInputPort,
       final SubmitDeliveryInputPort submitDeliveryInputPort,
       final IdentityProvider identityProvider) {
-    this.getCheckoutSessionInputPort = getCheckoutSessionInputPort;
+    this.getActiveCheckoutSnapshotInputPort = getActiveCheckoutSnapshotInputPort;
     this.getActiveCheckoutSessionInputPort = getActiveCheckoutSessionInputPort;
     this.getShippingOptionsInputPort = getShippingOptionsInputPort;
     this.submitDeliveryInputPort = submitDeliveryInputPort;
@@ -78,22 +78,13 @@ public class DeliveryPageController {
     final IdentityProvider.Identity identity = identityProvider.getCurrentIdentity();
     final CustomerId customerId = CustomerId.of(identity.userId().value());
 
-    // Find active checkout session for the user
-    final GetActiveCheckoutSessionResult activeSession =
-        getActiveCheckoutSessionInputPort.execute(
-            GetActiveCheckoutSessionQuery.of(customerId.value()));
-
-    if (!activeSession.found()) {
-      redirectAttributes.addFlashAttribute("error", "No active checkout session found");
-      return "redirect:/cart";
-    }
-
-    // Get full session details
-    final GetCheckoutSessionResult result =
-        getCheckoutSessionInputPort.execute(GetCheckoutSessionQuery.of(activeSession.sessionId()));
+    // Get snapshot of the active checkout session for the user
+    final GetActiveCheckoutSnapshotResult result =
+        getActiveCheckoutSnapshotInputPort.execute(
+            GetActiveCheckoutSnapshotQuery.of(customerId.value()));
 
     if (!result.found()) {
-      redirectAttributes.addFlashAttribute("error", "Checkout session not found");
+      redirectAttributes.addFlashAttribute("error", "No active checkout session found");
       return "redirect:/cart";
     }
 
@@ -1,11 +1,8 @@
 package de.sample.aiarchitecture.checkout.adapter.incoming.web;
 
-import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionInputPort;
-import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionQuery;
-import de.sample.aiarchitecture.checkout.application.getactivecheckoutsession.GetActiveCheckoutSessionResult;
-import de.sample.aiarchitecture.checkout.application.getcheckoutsession.GetCheckoutSessionInputPort;
-import de.sample.aiarchitecture.checkout.application.getcheckoutsession.GetCheckoutSessionQuery;
-import de.sample.aiarchitecture.checkout.application.getcheckoutsession.GetCheckoutSessionResult;
+import de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot.GetActiveCheckoutSnapshotInputPort;
+import de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot.GetActiveCheckoutSnapshotQuery;
+import de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot.GetActiveCheckoutSnapshotResult;
 import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.IdentityProvider;
 import org.springframework.stereotype.Controller;
@@ -33,16 +30,13 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @RequestMapping("/checkout")
 public class ReviewPageController {
 
-  private final GetCheckoutSessionInputPort getCheckoutSessionInputPort;
-  private final GetActiveCheckoutSessionInputPort getActiveCheckoutSessionInputPort;
+  private final GetActiveCheckoutSnapshotInputPort getActiveCheckoutSnapshotInputPort;
   private final IdentityProvider identityProvider;
 
   public ReviewPageController(
-      final GetCheckoutSessionInputPort getCheckoutSessionInputPort,
-      final GetActiveCheckoutSessionInputPort getActiveCheckoutSessionInputPort,
+      final GetActiveCheckoutSnapshotInputPort getActiveCheckoutSnapshotInputPort,
       final IdentityProvider identityProvider) {
-    this.getCheckoutSessionInputPort = getCheckoutSessionInputPort;
-    this.getActiveCheckoutSessionInputPort = getActiveCheckoutSessionInputPort;
+    this.getActiveCheckoutSnapshotInputPort = getActiveCheckoutSnapshotInputPort;
     this.identityProvider = identityProvider;
   }
 
@@ -64,22 +58,13 @@ public class ReviewPageController {
     final IdentityProvider.Identity identity = identityProvider.getCurrentIdentity();
     final CustomerId customerId = CustomerId.of(identity.userId().value());
 
-    // Find active checkout session for the user
-    final GetActiveCheckoutSessionResult activeSession =
-        getActiveCheckoutSessionInputPort.execute(
-            GetActiveCheckoutSessionQuery.of(customerId.value()));
-
-    if (!activeSession.found()) {
-      redirectAttributes.addFlashAttribute("error", "No active checkout session found");
-      return "redirect:/cart";
-    }
-
-    // Get full session details
-    final GetCheckoutSessionResult result =
-        getCheckoutSessionInputPort.execute(GetCheckoutSessionQuery.of(activeSession.sessionId()));
+    // Get snapshot of the active checkout session for the user
+    final GetActiveCheckoutSnapshotResult result =
+        getActiveCheckoutSnapshotInputPort.execute(
+            GetActiveCheckoutSnapshotQuery.of(customerId.value()));
 
     if (!result.found()) {
-      redirectAttributes.addFlashAttribute("error", "Checkout session not found");
+      redirectAttributes.addFlashAttribute("error", "No active checkout session found");
       return "redirect:/cart";
     }
 
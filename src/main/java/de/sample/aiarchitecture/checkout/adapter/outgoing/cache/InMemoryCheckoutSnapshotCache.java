@@ -0,0 +1,56 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.cache;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSnapshotCache;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.readmodel.CheckoutCartSnapshot;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory implementation of {@link CheckoutSnapshotCache}.
+ *
+ * <p>Holds at most one snapshot per session, the one of the latest version that was read. Entries
+ * of ended sessions are dropped by {@code CheckoutSnapshotCacheEventConsumer}; if the cache still
+ * grows beyond {@value #MAX_SIZE} entries, arbitrary entries are evicted to make room.
+ */
+@Component
+public class InMemoryCheckoutSnapshotCache implements CheckoutSnapshotCache {
+
+  static final int MAX_SIZE = 10_000;
+
+  private final ConcurrentHashMap<CheckoutSessionId, Entry> entries = new ConcurrentHashMap<>();
+
+  @Override
+  public Optional<CheckoutCartSnapshot> find(
+      final CheckoutSessionId sessionId, final long version) {
+    final Entry entry = entries.get(sessionId);
+    return entry != null && entry.version() == version
+        ? Optional.of(entry.snapshot())
+        : Optional.empty();
+  }
+
+  @Override
+  public void put(
+      final CheckoutSessionId sessionId, final long version, final CheckoutCartSnapshot snapshot) {
+    if (entries.size() >= MAX_SIZE && !entries.containsKey(sessionId)) {
+      final Iterator<CheckoutSessionId> eldest = entries.keySet().iterator();
+      if (eldest.hasNext()) {
+        entries.remove(eldest.next());
+      }
+    }
+    // Never replace a newer version with an older one read concurrently
+    entries.merge(
+        sessionId,
+        new Entry(version, snapshot),
+        (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+  }
+
+  @Override
+  public void invalidate(final CheckoutSessionId sessionId) {
+    entries.remove(sessionId);
+  }
+
+  private record Entry(long version, CheckoutCartSnapshot snapshot) {}
+}
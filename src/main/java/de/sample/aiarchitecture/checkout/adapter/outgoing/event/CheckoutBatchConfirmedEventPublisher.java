@@ -0,0 +1,54 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.event;
+
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutBatchConfirmed;
+import de.sample.aiarchitecture.checkout.events.CheckoutBatchConfirmedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outgoing event adapter that translates the internal {@link CheckoutBatchConfirmed} domain event
+ * into a {@link CheckoutBatchConfirmedEvent} integration event for cross-context consumption.
+ */
+@Component
+public class CheckoutBatchConfirmedEventPublisher {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(CheckoutBatchConfirmedEventPublisher.class);
+
+  private final ApplicationEventPublisher publisher;
+
+  public CheckoutBatchConfirmedEventPublisher(final ApplicationEventPublisher publisher) {
+    this.publisher = publisher;
+  }
+
+  /** Listens for the internal domain event and publishes the integration event. */
+  @EventListener
+  public void on(final CheckoutBatchConfirmed domainEvent) {
+    final var quantities =
+        domainEvent.quantities().stream()
+            .map(
+                item ->
+                    new CheckoutBatchConfirmedEvent.ProductQuantity(
+                        item.productId(), item.quantity()))
+            .toList();
+
+    final var integrationEvent =
+        new CheckoutBatchConfirmedEvent(
+            domainEvent.eventId(),
+            domainEvent.sessionIds().stream().map(id -> id.value()).toList(),
+            quantities,
+            domainEvent.occurredOn(),
+            1);
+
+    logger.info(
+        "Publishing CheckoutBatchConfirmedEvent v{} for {} session(s), {} product(s)",
+        integrationEvent.version(),
+        integrationEvent.sessionIds().size(),
+        quantities.size());
+
+    publisher.publishEvent(integrationEvent);
+  }
+}
@@ -45,6 +45,7 @@ public class CheckoutConfirmedEventPublisher {
             domainEvent.totalAmount(),
             items,
             domainEvent.occurredOn(),
+            domainEvent.stockReducedInBatch(),
             1);
 
     logger.info(
@@ -2,10 +2,14 @@ package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
 
 import de.sample.aiarchitecture.checkout.application.shared.PaymentProvider;
 import de.sample.aiarchitecture.checkout.application.shared.PaymentProviderRegistry;
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProviderStats;
 import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 /**
@@ -15,14 +19,33 @@ import org.springframework.stereotype.Component;
  * ConcurrentHashMap. It automatically registers any PaymentProvider beans discovered by Spring's
  * dependency injection.
  *
+ * <p>Registered providers are wrapped in a {@link PaymentProviderBulkhead}, so the providers handed
+ * out by the registry run every payment operation on a virtual thread with a deadline and a
+ * per-provider concurrency cap, configured through {@link PaymentProviderBulkheadProperties}. A
+ * slow provider can therefore neither hold request threads indefinitely nor starve other providers.
+ *
+ * <p>Each bulkhead tracks the rolling success rate and latency of its provider and trips a circuit
+ * breaker on failing ones, see {@link PaymentProviderHealth}. A provider with an open circuit
+ * breaker is not available, and {@link #findAvailable()} returns the remaining providers ordered by
+ * observed health: highest success rate first, then lowest p95 latency. The live statistics are
+ * exposed by the {@code paymentproviders} actuator endpoint.
+ *
  * <p>In a production system, this implementation may be extended to support dynamic provider
  * configuration from a database or external configuration service.
  */
 @Component
-public class InMemoryPaymentProviderRegistry implements PaymentProviderRegistry {
+public class InMemoryPaymentProviderRegistry implements PaymentProviderRegistry, AutoCloseable {
+
+  private static final Comparator<RankedProvider> BY_HEALTH =
+      Comparator.comparing(
+              (RankedProvider ranked) -> ranked.health().successRate(), Comparator.reverseOrder())
+          .thenComparingDouble(ranked -> ranked.health().p95LatencyMillis());
 
   private final ConcurrentHashMap<PaymentProviderId, PaymentProvider> providers =
       new ConcurrentHashMap<>();
+  private final PaymentProviderBulkheadProperties properties;
+  private final PaymentProviderHealthProperties healthProperties;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Creates a new registry with the given providers auto-registered.
@@ -31,8 +54,18 @@ public class InMemoryPaymentProviderRegistry implements PaymentProviderRegistry
    * startup.
    *
    * @param availableProviders list of payment providers to register (may be empty)
+   * @param properties bulkhead settings for the registered providers
+   * @param healthProperties health tracking and circuit breaker settings
+   * @param meterRegistry registry for the provider call metrics
    */
-  public InMemoryPaymentProviderRegistry(final List<PaymentProvider> availableProviders) {
+  public InMemoryPaymentProviderRegistry(
+      final List<PaymentProvider> availableProviders,
+      final PaymentProviderBulkheadProperties properties,
+      final PaymentProviderHealthProperties healthProperties,
+      final MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.healthProperties = healthProperties;
+    this.meterRegistry = meterRegistry;
     if (availableProviders != null) {
       for (final PaymentProvider provider : availableProviders) {
         register(provider);
@@ -52,21 +85,86 @@ public class InMemoryPaymentProviderRegistry implements PaymentProviderRegistry
 
   @Override
   public List<PaymentProvider> findAvailable() {
-    return providers.values().stream().filter(PaymentProvider::isAvailable).toList();
+    return providers.values().stream()
+        .filter(PaymentProvider::isAvailable)
+        // One statistics snapshot per provider: cheaper, and stable while calls complete
+        .map(provider -> new RankedProvider(provider, healthOf(provider)))
+        .sorted(BY_HEALTH)
+        .map(RankedProvider::provider)
+        .toList();
   }
 
   @Override
   public void register(final PaymentProvider provider) {
-    providers.put(provider.providerId(), provider);
+    close(providers.put(provider.providerId(), isolate(provider)));
   }
 
   @Override
   public boolean unregister(final PaymentProviderId providerId) {
-    return providers.remove(providerId) != null;
+    final PaymentProvider removed = providers.remove(providerId);
+    close(removed);
+    return removed != null;
   }
 
   @Override
   public boolean isRegistered(final PaymentProviderId providerId) {
     return providers.containsKey(providerId);
   }
+
+  @Override
+  public List<PaymentProviderStats> stats() {
+    return providers.values().stream()
+        .sorted(Comparator.comparing(provider -> provider.providerId().value()))
+        .map(InMemoryPaymentProviderRegistry::statsOf)
+        .toList();
+  }
+
+  /** Stops the bulkheads of all registered providers, interrupting calls still running. */
+  @Override
+  public void close() {
+    providers.values().forEach(InMemoryPaymentProviderRegistry::close);
+  }
+
+  private PaymentProvider isolate(final PaymentProvider provider) {
+    if (!Boolean.TRUE.equals(properties.bulkheadEnabled())) {
+      return provider;
+    }
+    final PaymentProvider unwrapped =
+        provider instanceof PaymentProviderBulkhead bulkhead ? bulkhead.delegate() : provider;
+    return new PaymentProviderBulkhead(
+        unwrapped,
+        properties.limitsFor(unwrapped.providerId()),
+        new PaymentProviderHealth(healthProperties),
+        meterRegistry);
+  }
+
+  private static PaymentProviderHealth.Stats healthOf(final PaymentProvider provider) {
+    return provider instanceof PaymentProviderBulkhead bulkhead
+        ? bulkhead.healthStats()
+        : new PaymentProviderHealth.Stats(PaymentProviderHealth.CircuitState.CLOSED, 0, 1.0, 0.0);
+  }
+
+  private static PaymentProviderStats statsOf(final PaymentProvider provider) {
+    final PaymentProviderHealth.Stats health = healthOf(provider);
+    final boolean isolated = provider instanceof PaymentProviderBulkhead;
+    return new PaymentProviderStats(
+        provider.providerId().value(),
+        provider.displayName(),
+        provider.isAvailable(),
+        health.circuitState().name(),
+        health.calls(),
+        health.successRate(),
+        health.p95LatencyMillis(),
+        isolated ? ((PaymentProviderBulkhead) provider).inFlight() : 0,
+        isolated ? ((PaymentProviderBulkhead) provider).maxConcurrentCalls() : 0);
+  }
+
+  private static void close(final @Nullable PaymentProvider provider) {
+    if (provider instanceof PaymentProviderBulkhead bulkhead) {
+      bulkhead.close();
+    }
+  }
+
+  /** A provider with the statistics it is ranked by. */
+  private record RankedProvider(PaymentProvider provider, PaymentProviderHealth.Stats health) {}
 }
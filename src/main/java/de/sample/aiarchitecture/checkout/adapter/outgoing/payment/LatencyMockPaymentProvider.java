@@ -0,0 +1,88 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
+
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProvider;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Variant of the {@link MockPaymentProvider} that responds slowly.
+ *
+ * <p>Every payment operation sleeps for the configured latency plus a random jitter before
+ * delegating to a plain mock provider, which makes it possible to reproduce a slow payment provider
+ * in load tests and to observe the bulkhead deadlines and concurrency caps. Interrupting the sleep,
+ * as the bulkhead does when a call exceeds its deadline, ends the operation with a failure.
+ *
+ * <p>Only registered with {@code app.checkout.mock-payment-latency.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.checkout.mock-payment-latency", name = "enabled")
+public class LatencyMockPaymentProvider implements PaymentProvider {
+
+  public static final PaymentProviderId PROVIDER_ID = PaymentProviderId.of("mock-slow");
+  private static final String DISPLAY_NAME = "Mock Payment (Slow)";
+
+  private final MockPaymentProvider delegate = new MockPaymentProvider();
+  private final MockPaymentLatencyProperties properties;
+
+  public LatencyMockPaymentProvider(final MockPaymentLatencyProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public PaymentProviderId providerId() {
+    return PROVIDER_ID;
+  }
+
+  @Override
+  public String displayName() {
+    return DISPLAY_NAME;
+  }
+
+  @Override
+  public PaymentResult initiatePayment(final CheckoutSessionId sessionId, final Money amount) {
+    return delayed(() -> delegate.initiatePayment(sessionId, amount));
+  }
+
+  @Override
+  public PaymentResult confirmPayment(final String providerReference) {
+    return delayed(() -> delegate.confirmPayment(providerReference));
+  }
+
+  @Override
+  public PaymentResult cancelPayment(final String providerReference) {
+    return delayed(() -> delegate.cancelPayment(providerReference));
+  }
+
+  @Override
+  public boolean isAvailable() {
+    return delegate.isAvailable();
+  }
+
+  /**
+   * Sets the availability state of this mock provider.
+   *
+   * @param available true to make the provider available, false to simulate unavailability
+   */
+  public void setAvailable(final boolean available) {
+    delegate.setAvailable(available);
+  }
+
+  private PaymentResult delayed(final Supplier<PaymentResult> operation) {
+    final long jitterMillis = properties.jitter().toMillis();
+    final long delayMillis =
+        properties.latency().toMillis()
+            + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+    try {
+      Thread.sleep(delayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return PaymentResult.failure("Mock payment provider was interrupted");
+    }
+    return operation.get();
+  }
+}
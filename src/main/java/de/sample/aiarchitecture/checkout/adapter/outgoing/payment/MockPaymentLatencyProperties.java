@@ -0,0 +1,40 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
+
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the {@link LatencyMockPaymentProvider}.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   checkout:
+ *     mock-payment-latency:
+ *       enabled: true
+ *       latency: 800ms
+ *       jitter: 400ms
+ * </pre>
+ *
+ * @param enabled whether the slow mock provider is registered (default: false)
+ * @param latency minimum duration of every payment operation (default: 500 milliseconds)
+ * @param jitter maximum random duration added to the latency (default: 0)
+ */
+@ConfigurationProperties(prefix = "app.checkout.mock-payment-latency")
+public record MockPaymentLatencyProperties(
+    @Nullable Boolean enabled, Duration latency, Duration jitter) {
+
+  public MockPaymentLatencyProperties {
+    if (enabled == null) {
+      enabled = false;
+    }
+    if (latency == null || latency.isNegative()) {
+      latency = Duration.ofMillis(500);
+    }
+    if (jitter == null || jitter.isNegative()) {
+      jitter = Duration.ZERO;
+    }
+  }
+}
@@ -0,0 +1,309 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
+
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProvider;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorator that isolates the calls to one payment provider.
+ *
+ * <p>Every call runs on its own virtual thread of the provider's executor, so a slow provider never
+ * blocks request threads beyond the deadline, and never blocks calls to other providers.
+ *
+ * <ul>
+ *   <li><b>Deadline:</b> a call that does not return within the timeout completes with a failure
+ *       result and its thread is interrupted. The provider may still have charged the customer: a
+ *       provider ignoring the interrupt can return a successful initiation or confirmation after
+ *       the deadline, which is then compensated with {@link PaymentProvider#cancelPayment}. A call
+ *       aborted by the interrupt leaves no reference to cancel, so its outcome at the provider
+ *       stays unknown and must be reconciled there.
+ *   <li><b>Concurrency cap:</b> a call that finds the maximum number of calls in flight is rejected
+ *       with a failure result right away instead of queueing. A permit is only returned once the
+ *       provider call actually finished, so calls hanging past their deadline still count.
+ * </ul>
+ *
+ * <p>Outcomes and latencies also feed the provider's {@link PaymentProviderHealth}. While its
+ * circuit breaker is open, calls are rejected without reaching the provider and the provider
+ * reports itself as unavailable, so it is not offered for payment.
+ *
+ * <p>Call latency is recorded in the {@code checkout.payment.provider.calls} timer with a
+ * percentile histogram, tagged by provider, operation and outcome. Rejected calls are counted in
+ * {@code checkout.payment.provider.rejected}, tagged by the reason; {@code
+ * checkout.payment.provider.in-flight} is the number of calls currently running.
+ *
+ * <p>Neither the blocking nor the asynchronous methods ever throw: provider exceptions, timeouts
+ * and rejections all end in {@link PaymentResult#failure}.
+ */
+final class PaymentProviderBulkhead implements PaymentProvider, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(PaymentProviderBulkhead.class);
+
+  private final PaymentProvider delegate;
+  private final Duration timeout;
+  private final int maxConcurrentCalls;
+  private final Semaphore permits;
+  private final ExecutorService executor;
+  private final PaymentProviderHealth health;
+  private final MeterRegistry meterRegistry;
+  private final Counter rejectedBulkheadFull;
+  private final Counter rejectedCircuitOpen;
+
+  PaymentProviderBulkhead(
+      final PaymentProvider delegate,
+      final PaymentProviderBulkheadProperties.Limits limits,
+      final PaymentProviderHealth health,
+      final MeterRegistry meterRegistry) {
+    if (limits.timeout() == null || limits.maxConcurrentCalls() == null) {
+      throw new IllegalArgumentException("Limits must be resolved");
+    }
+    this.delegate = delegate;
+    this.timeout = limits.timeout();
+    this.maxConcurrentCalls = limits.maxConcurrentCalls();
+    this.permits = new Semaphore(maxConcurrentCalls);
+    this.executor =
+        Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("payment-" + delegate.providerId().value() + "-", 0).factory());
+    this.health = health;
+    this.meterRegistry = meterRegistry;
+    this.rejectedBulkheadFull = rejectedCounter(delegate, "bulkhead-full", meterRegistry);
+    this.rejectedCircuitOpen = rejectedCounter(delegate, "circuit-open", meterRegistry);
+    Gauge.builder("checkout.payment.provider.in-flight", this, PaymentProviderBulkhead::inFlight)
+        .description("Payment provider calls currently running")
+        .tag("provider", delegate.providerId().value())
+        .register(meterRegistry);
+  }
+
+  @Override
+  public PaymentProviderId providerId() {
+    return delegate.providerId();
+  }
+
+  @Override
+  public String displayName() {
+    return delegate.displayName();
+  }
+
+  /**
+   * Returns whether the provider is available and its circuit breaker permits calls.
+   *
+   * @return true if the provider may be offered for payment
+   */
+  @Override
+  public boolean isAvailable() {
+    return delegate.isAvailable() && health.isCallPermitted();
+  }
+
+  @Override
+  public PaymentResult initiatePayment(final CheckoutSessionId sessionId, final Money amount) {
+    return initiatePaymentAsync(sessionId, amount).join();
+  }
+
+  @Override
+  public PaymentResult confirmPayment(final String providerReference) {
+    return confirmPaymentAsync(providerReference).join();
+  }
+
+  @Override
+  public PaymentResult cancelPayment(final String providerReference) {
+    return cancelPaymentAsync(providerReference).join();
+  }
+
+  @Override
+  public CompletableFuture<PaymentResult> initiatePaymentAsync(
+      final CheckoutSessionId sessionId, final Money amount) {
+    return call("initiate", () -> delegate.initiatePayment(sessionId, amount));
+  }
+
+  @Override
+  public CompletableFuture<PaymentResult> confirmPaymentAsync(final String providerReference) {
+    return call("confirm", () -> delegate.confirmPayment(providerReference));
+  }
+
+  @Override
+  public CompletableFuture<PaymentResult> cancelPaymentAsync(final String providerReference) {
+    return call("cancel", () -> delegate.cancelPayment(providerReference));
+  }
+
+  /**
+   * Returns the decorated provider.
+   *
+   * @return the provider whose calls are isolated
+   */
+  PaymentProvider delegate() {
+    return delegate;
+  }
+
+  /**
+   * Returns the current statistics of the provider.
+   *
+   * @return the rolling statistics and circuit breaker state
+   */
+  PaymentProviderHealth.Stats healthStats() {
+    return health.stats();
+  }
+
+  /**
+   * Returns the number of calls currently running.
+   *
+   * @return calls in flight
+   */
+  int inFlight() {
+    return maxConcurrentCalls - permits.availablePermits();
+  }
+
+  /**
+   * Returns the maximum number of calls that may run concurrently.
+   *
+   * @return the concurrency cap
+   */
+  int maxConcurrentCalls() {
+    return maxConcurrentCalls;
+  }
+
+  /** Interrupts all running calls and stops accepting new ones. */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private CompletableFuture<PaymentResult> call(
+      final String operation, final Supplier<PaymentResult> providerCall) {
+    if (!health.tryAcquirePermission()) {
+      rejectedCircuitOpen.increment();
+      return CompletableFuture.completedFuture(
+          PaymentResult.failure(displayName() + " is temporarily unavailable"));
+    }
+    if (!permits.tryAcquire()) {
+      health.onNotCalled();
+      rejectedBulkheadFull.increment();
+      logger.warn(
+          "Payment provider {} has {} calls in flight, rejected {}",
+          providerId().value(),
+          maxConcurrentCalls,
+          operation);
+      return CompletableFuture.completedFuture(
+          PaymentResult.failure(displayName() + " is busy, please try again"));
+    }
+
+    final CompletableFuture<PaymentResult> result = new CompletableFuture<>();
+    final long start = System.nanoTime();
+    final Future<?> task;
+    try {
+      task =
+          executor.submit(
+              () -> {
+                try {
+                  final PaymentResult outcome = providerCall.get();
+                  // A call that already timed out was recorded as such
+                  if (!result.isDone()) {
+                    health.onSuccess(System.nanoTime() - start);
+                    record(operation, outcome.success() ? "success" : "failure", start);
+                    result.complete(outcome);
+                  } else if (outcome.success() && !operation.equals("cancel")) {
+                    compensate(operation, outcome.providerReference());
+                  }
+                } catch (RuntimeException e) {
+                  if (!result.isDone()) {
+                    logger.error(
+                        "Payment provider {} failed to {}: {}",
+                        providerId().value(),
+                        operation,
+                        e.getMessage(),
+                        e);
+                    health.onFailure(System.nanoTime() - start);
+                    record(operation, "error", start);
+                    result.complete(PaymentResult.failure(displayName() + " failed to respond"));
+                  }
+                } finally {
+                  permits.release();
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      health.onNotCalled();
+      permits.release();
+      return CompletableFuture.completedFuture(
+          PaymentResult.failure(displayName() + " is shutting down"));
+    }
+
+    return result
+        .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+        .exceptionally(
+            timedOut -> {
+              task.cancel(true);
+              health.onFailure(System.nanoTime() - start);
+              record(operation, "timeout", start);
+              logger.warn(
+                  "Payment provider {} did not {} within {}",
+                  providerId().value(),
+                  operation,
+                  timeout);
+              return PaymentResult.failure(displayName() + " did not respond in time");
+            });
+  }
+
+  /** Cancels a payment the caller was already told had failed, as the provider completed late. */
+  private void compensate(final String operation, final String providerReference) {
+    // Clear the interrupt of the timed out call, so the cancellation is not aborted as well
+    Thread.interrupted();
+    try {
+      final PaymentResult cancelled = delegate.cancelPayment(providerReference);
+      if (cancelled.success()) {
+        logger.warn(
+            "Payment provider {} completed {} of {} after the deadline, cancelled it",
+            providerId().value(),
+            operation,
+            providerReference);
+      } else {
+        logger.error(
+            "Payment provider {} completed {} of {} after the deadline and could not cancel it: {}",
+            providerId().value(),
+            operation,
+            providerReference,
+            cancelled.errorMessage());
+      }
+    } catch (RuntimeException e) {
+      logger.error(
+          "Payment provider {} completed {} of {} after the deadline and could not cancel it",
+          providerId().value(),
+          operation,
+          providerReference,
+          e);
+    }
+  }
+
+  private void record(final String operation, final String outcome, final long start) {
+    Timer.builder("checkout.payment.provider.calls")
+        .description("Latency of payment provider calls")
+        .tag("provider", providerId().value())
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  private static Counter rejectedCounter(
+      final PaymentProvider provider, final String reason, final MeterRegistry meterRegistry) {
+    return Counter.builder("checkout.payment.provider.rejected")
+        .description("Payment provider calls rejected without reaching the provider")
+        .tag("provider", provider.providerId().value())
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,87 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
+
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import java.time.Duration;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for isolating payment provider calls in per-provider bulkheads.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   checkout:
+ *     payment-providers:
+ *       bulkhead-enabled: true
+ *       timeout: 5s
+ *       max-concurrent-calls: 32
+ *       providers:
+ *         stripe:
+ *           timeout: 10s
+ *           max-concurrent-calls: 64
+ * </pre>
+ *
+ * @param bulkheadEnabled whether provider calls run on virtual threads with a deadline and a
+ *     concurrency cap; otherwise they run on the calling thread (default: true)
+ * @param timeout default deadline of a single provider call (default: 5 seconds)
+ * @param maxConcurrentCalls default number of calls that may be in flight per provider; further
+ *     calls are rejected immediately (default: 32)
+ * @param providers overrides of timeout and concurrency cap by provider ID
+ */
+@ConfigurationProperties(prefix = "app.checkout.payment-providers")
+public record PaymentProviderBulkheadProperties(
+    @Nullable Boolean bulkheadEnabled,
+    Duration timeout,
+    @Nullable Integer maxConcurrentCalls,
+    Map<String, Limits> providers) {
+
+  public PaymentProviderBulkheadProperties {
+    if (bulkheadEnabled == null) {
+      bulkheadEnabled = true;
+    }
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      timeout = Duration.ofSeconds(5);
+    }
+    if (maxConcurrentCalls == null || maxConcurrentCalls < 1) {
+      maxConcurrentCalls = 32;
+    }
+    providers = providers == null ? Map.of() : Map.copyOf(providers);
+  }
+
+  /**
+   * Returns the effective limits of a provider, falling back to the defaults.
+   *
+   * @param providerId the payment provider ID
+   * @return the limits with all values set
+   */
+  public Limits limitsFor(final PaymentProviderId providerId) {
+    final Limits override = providers.get(providerId.value());
+    if (override == null) {
+      return new Limits(timeout, maxConcurrentCalls);
+    }
+    return new Limits(
+        override.timeout() != null ? override.timeout() : timeout,
+        override.maxConcurrentCalls() != null ? override.maxConcurrentCalls() : maxConcurrentCalls);
+  }
+
+  /**
+   * Limits of a single provider.
+   *
+   * @param timeout deadline of a single call, or null for the default
+   * @param maxConcurrentCalls number of calls that may be in flight, or null for the default
+   */
+  public record Limits(@Nullable Duration timeout, @Nullable Integer maxConcurrentCalls) {
+
+    public Limits {
+      if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+        throw new IllegalArgumentException("Timeout must be positive");
+      }
+      if (maxConcurrentCalls != null && maxConcurrentCalls < 1) {
+        throw new IllegalArgumentException("Max concurrent calls must be at least 1");
+      }
+    }
+  }
+}
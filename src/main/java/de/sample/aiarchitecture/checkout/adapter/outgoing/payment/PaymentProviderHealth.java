@@ -0,0 +1,181 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Rolling call statistics and circuit breaker of one payment provider.
+ *
+ * <p>Keeps outcome and latency of the most recent calls in a ring buffer. A call counts as failed
+ * if it timed out or threw; a failure result returned by the provider, such as a declined payment,
+ * is a healthy response.
+ *
+ * <p>The circuit breaker opens once the window holds the minimum number of calls and the failure
+ * rate reaches the threshold. While open, no calls are permitted. After the open duration a single
+ * trial call is let through (half-open): its success closes the breaker with a fresh window, its
+ * failure opens it again.
+ *
+ * <p>All methods are thread-safe.
+ */
+final class PaymentProviderHealth {
+
+  /** State of the circuit breaker. */
+  enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  /**
+   * Snapshot of the statistics.
+   *
+   * @param circuitState the circuit breaker state
+   * @param calls number of calls in the window
+   * @param successRate share of successful calls in the window, 1 without calls
+   * @param p95LatencyMillis 95th percentile latency of the calls in the window, 0 without calls
+   */
+  record Stats(CircuitState circuitState, int calls, double successRate, double p95LatencyMillis) {}
+
+  private final int minimumCalls;
+  private final double failureRateThreshold;
+  private final long openDurationNanos;
+  private final LongSupplier nanoClock;
+  private final long[] latencies;
+  private final boolean[] failures;
+  private int next;
+  private int calls;
+  private int failed;
+  private CircuitState state = CircuitState.CLOSED;
+  private long openedAt;
+  private boolean trialInFlight;
+
+  PaymentProviderHealth(final PaymentProviderHealthProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  PaymentProviderHealth(
+      final PaymentProviderHealthProperties properties, final LongSupplier nanoClock) {
+    this.minimumCalls = properties.minimumCalls();
+    this.failureRateThreshold = properties.failureRateThreshold();
+    this.openDurationNanos = properties.openDuration().toNanos();
+    this.nanoClock = nanoClock;
+    this.latencies = new long[properties.windowSize()];
+    this.failures = new boolean[properties.windowSize()];
+  }
+
+  /**
+   * Checks whether a call would currently be permitted, without claiming the half-open trial.
+   *
+   * @return false while the circuit breaker is open or its trial call is running
+   */
+  synchronized boolean isCallPermitted() {
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> nanoClock.getAsLong() - openedAt >= openDurationNanos;
+      case HALF_OPEN -> !trialInFlight;
+    };
+  }
+
+  /**
+   * Claims permission for a call. Every granted permission must be followed by exactly one of
+   * {@link #onSuccess}, {@link #onFailure} or {@link #onNotCalled}.
+   *
+   * @return true if the call may proceed
+   */
+  synchronized boolean tryAcquirePermission() {
+    if (state == CircuitState.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+      state = CircuitState.HALF_OPEN;
+    }
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> false;
+      case HALF_OPEN -> {
+        if (trialInFlight) {
+          yield false;
+        }
+        trialInFlight = true;
+        yield true;
+      }
+    };
+  }
+
+  /**
+   * Records a call the provider answered.
+   *
+   * @param latencyNanos duration of the call
+   */
+  synchronized void onSuccess(final long latencyNanos) {
+    if (state == CircuitState.HALF_OPEN) {
+      reset();
+      state = CircuitState.CLOSED;
+    }
+    add(latencyNanos, false);
+  }
+
+  /**
+   * Records a call that timed out or failed.
+   *
+   * @param latencyNanos duration of the call until it was given up
+   */
+  synchronized void onFailure(final long latencyNanos) {
+    add(latencyNanos, true);
+    if (state == CircuitState.HALF_OPEN
+        || (state == CircuitState.CLOSED
+            && calls >= minimumCalls
+            && failed >= failureRateThreshold * calls)) {
+      open();
+    }
+  }
+
+  /** Returns a permission that was granted for a call that did not reach the provider. */
+  synchronized void onNotCalled() {
+    trialInFlight = false;
+  }
+
+  /**
+   * Returns the current statistics.
+   *
+   * @return a snapshot of the statistics
+   */
+  synchronized Stats stats() {
+    final CircuitState current =
+        state == CircuitState.OPEN && isCallPermitted() ? CircuitState.HALF_OPEN : state;
+    if (calls == 0) {
+      return new Stats(current, 0, 1.0, 0.0);
+    }
+    final long[] sorted = Arrays.copyOf(latencies, calls);
+    Arrays.sort(sorted);
+    final int p95Index = (int) Math.ceil(0.95 * calls) - 1;
+    return new Stats(
+        current, calls, (double) (calls - failed) / calls, sorted[p95Index] / 1_000_000.0);
+  }
+
+  private void add(final long latencyNanos, final boolean failure) {
+    if (calls == latencies.length) {
+      if (failures[next]) {
+        failed--;
+      }
+    } else {
+      calls++;
+    }
+    latencies[next] = latencyNanos;
+    failures[next] = failure;
+    if (failure) {
+      failed++;
+    }
+    next = (next + 1) % latencies.length;
+  }
+
+  private void open() {
+    state = CircuitState.OPEN;
+    openedAt = nanoClock.getAsLong();
+    trialInFlight = false;
+  }
+
+  private void reset() {
+    next = 0;
+    calls = 0;
+    failed = 0;
+    trialInFlight = false;
+  }
+}
@@ -0,0 +1,54 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
+
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for tracking payment provider health and tripping circuit breakers.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   checkout:
+ *     payment-providers:
+ *       health:
+ *         window-size: 100
+ *         minimum-calls: 10
+ *         failure-rate-threshold: 0.5
+ *         open-duration: 30s
+ * </pre>
+ *
+ * @param windowSize number of most recent calls per provider the statistics are computed from
+ *     (default: 100)
+ * @param minimumCalls number of calls in the window before the circuit breaker may open (default:
+ *     10)
+ * @param failureRateThreshold share of timed out or failed calls in the window at which the circuit
+ *     breaker opens (default: 0.5)
+ * @param openDuration time an open circuit breaker rejects calls before a single trial call is let
+ *     through (default: 30 seconds)
+ */
+@ConfigurationProperties(prefix = "app.checkout.payment-providers.health")
+public record PaymentProviderHealthProperties(
+    @Nullable Integer windowSize,
+    @Nullable Integer minimumCalls,
+    @Nullable Double failureRateThreshold,
+    Duration openDuration) {
+
+  public PaymentProviderHealthProperties {
+    if (windowSize == null || windowSize < 1) {
+      windowSize = 100;
+    }
+    if (minimumCalls == null || minimumCalls < 1) {
+      minimumCalls = 10;
+    }
+    minimumCalls = Math.min(minimumCalls, windowSize);
+    if (failureRateThreshold == null || failureRateThreshold <= 0 || failureRateThreshold > 1) {
+      failureRateThreshold = 0.5;
+    }
+    if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+      openDuration = Duration.ofSeconds(30);
+    }
+  }
+}
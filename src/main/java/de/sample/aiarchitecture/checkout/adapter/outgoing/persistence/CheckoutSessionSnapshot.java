@@ -0,0 +1,196 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence;
+
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutTotals;
+import de.sample.aiarchitecture.checkout.domain.model.DeliveryAddress;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentSelection;
+import de.sample.aiarchitecture.checkout.domain.model.ShippingOption;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Nested state of a checkout session that is not queried by column: line items, totals and the data
+ * of the completed steps.
+ *
+ * <p>Stored as one compact binary value so a session is read and written with a single statement.
+ * The layout is a version byte followed by the fields in declaration order; amounts are written by
+ * {@link MoneyCodec}, optional values are prefixed with a presence flag. Unknown versions are
+ * rejected instead of being misread.
+ *
+ * @param lineItems the line items
+ * @param totals the totals
+ * @param buyerInfo the buyer info, or null if not submitted
+ * @param deliveryAddress the delivery address, or null if not submitted
+ * @param shippingOption the shipping option, or null if not submitted
+ * @param paymentSelection the payment selection, or null if not submitted
+ * @param orderReference the order reference, or null if not completed
+ */
+record CheckoutSessionSnapshot(
+    List<CheckoutLineItem> lineItems,
+    CheckoutTotals totals,
+    @Nullable BuyerInfo buyerInfo,
+    @Nullable DeliveryAddress deliveryAddress,
+    @Nullable ShippingOption shippingOption,
+    @Nullable PaymentSelection paymentSelection,
+    @Nullable String orderReference) {
+
+  private static final byte VERSION = 1;
+
+  static CheckoutSessionSnapshot of(final CheckoutSession session) {
+    return new CheckoutSessionSnapshot(
+        session.lineItems(),
+        session.totals(),
+        session.buyerInfo(),
+        session.deliveryAddress(),
+        session.shippingOption(),
+        session.paymentSelection(),
+        session.orderReference());
+  }
+
+  byte[] encode() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + lineItems.size() * 96);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+
+      out.writeInt(lineItems.size());
+      for (final CheckoutLineItem item : lineItems) {
+        out.writeUTF(item.id().value());
+        out.writeUTF(item.productId().value());
+        out.writeUTF(item.productName());
+        MoneyCodec.write(out, item.unitPrice());
+        out.writeInt(item.quantity());
+        writeNullable(out, item.imageUrl());
+      }
+
+      MoneyCodec.write(out, totals.subtotal());
+      MoneyCodec.write(out, totals.shipping());
+      MoneyCodec.write(out, totals.tax());
+      MoneyCodec.write(out, totals.total());
+
+      out.writeBoolean(buyerInfo != null);
+      if (buyerInfo != null) {
+        out.writeUTF(buyerInfo.email());
+        out.writeUTF(buyerInfo.firstName());
+        out.writeUTF(buyerInfo.lastName());
+        out.writeUTF(buyerInfo.phone());
+      }
+
+      out.writeBoolean(deliveryAddress != null);
+      if (deliveryAddress != null) {
+        out.writeUTF(deliveryAddress.street());
+        writeNullable(out, deliveryAddress.streetLine2());
+        out.writeUTF(deliveryAddress.city());
+        out.writeUTF(deliveryAddress.postalCode());
+        out.writeUTF(deliveryAddress.country());
+        writeNullable(out, deliveryAddress.state());
+      }
+
+      out.writeBoolean(shippingOption != null);
+      if (shippingOption != null) {
+        out.writeUTF(shippingOption.id());
+        out.writeUTF(shippingOption.name());
+        out.writeUTF(shippingOption.estimatedDelivery());
+        MoneyCodec.write(out, shippingOption.cost());
+      }
+
+      out.writeBoolean(paymentSelection != null);
+      if (paymentSelection != null) {
+        out.writeUTF(paymentSelection.providerId().value());
+        writeNullable(out, paymentSelection.providerReference());
+      }
+
+      writeNullable(out, orderReference);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to encode checkout session snapshot", e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static CheckoutSessionSnapshot decode(final byte[] snapshot) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+      final byte version = in.readByte();
+      if (version != VERSION) {
+        throw new IllegalStateException(
+            "Unsupported checkout session snapshot version: " + version);
+      }
+
+      final int itemCount = in.readInt();
+      final List<CheckoutLineItem> lineItems = new ArrayList<>(itemCount);
+      for (int i = 0; i < itemCount; i++) {
+        lineItems.add(
+            CheckoutLineItem.of(
+                CheckoutLineItemId.of(in.readUTF()),
+                ProductId.of(in.readUTF()),
+                in.readUTF(),
+                MoneyCodec.read(in),
+                in.readInt(),
+                readNullable(in)));
+      }
+
+      final CheckoutTotals totals =
+          CheckoutTotals.of(
+              MoneyCodec.read(in), MoneyCodec.read(in), MoneyCodec.read(in), MoneyCodec.read(in));
+
+      final BuyerInfo buyerInfo =
+          in.readBoolean()
+              ? BuyerInfo.of(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF())
+              : null;
+
+      final DeliveryAddress deliveryAddress =
+          in.readBoolean()
+              ? new DeliveryAddress(
+                  in.readUTF(),
+                  readNullable(in),
+                  in.readUTF(),
+                  in.readUTF(),
+                  in.readUTF(),
+                  readNullable(in))
+              : null;
+
+      final ShippingOption shippingOption =
+          in.readBoolean()
+              ? ShippingOption.of(in.readUTF(), in.readUTF(), in.readUTF(), MoneyCodec.read(in))
+              : null;
+
+      final PaymentSelection paymentSelection =
+          in.readBoolean()
+              ? new PaymentSelection(PaymentProviderId.of(in.readUTF()), readNullable(in))
+              : null;
+
+      return new CheckoutSessionSnapshot(
+          lineItems,
+          totals,
+          buyerInfo,
+          deliveryAddress,
+          shippingOption,
+          paymentSelection,
+          readNullable(in));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to decode checkout session snapshot", e);
+    }
+  }
+
+  private static void writeNullable(final DataOutputStream out, final @Nullable String value)
+      throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static @Nullable String readNullable(final DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+}
@@ -1,14 +1,21 @@
 package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence;
 
 import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionTimestamp;
 import de.sample.aiarchitecture.checkout.domain.model.CartId;
 import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
 import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
 import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
 import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -17,15 +24,60 @@ import org.springframework.stereotype.Repository;
  * <p>This secondary adapter provides a thread-safe in-memory storage for checkout sessions using
  * ConcurrentHashMap. In a production system, this would be replaced with a database implementation.
  *
- * <p>Note: No profile restriction - this is the default implementation until JPA/JDBC
- * implementations are added for the checkout bounded context.
+ * <p>Lookups by cart and customer go through secondary indexes instead of scanning all sessions, so
+ * they stay constant-time as the session history grows:
+ *
+ * <ul>
+ *   <li>cart ID → all sessions created from the cart
+ *   <li>customer ID → all sessions of the customer
+ *   <li>customer ID → the customer's active session
+ *   <li>customer ID → the customer's most recently confirmed session
+ * </ul>
+ *
+ * <p>Sessions are mutable aggregates, so the indexes cannot be derived from the stored instance
+ * alone. Every {@link #save} compares the session against the status and keys it was indexed with
+ * and moves it between indexes accordingly. Writes are serialized; reads are lock-free and verify
+ * the live status of the indexed session. When the indexed active session is no longer active, the
+ * lookup falls back to scanning the customer's own sessions, so another session that is still
+ * active is found again.
+ *
+ * <p>The time of each save is kept alongside the session, like the {@code updated_at} column of the
+ * JDBC implementation.
+ *
+ * <p>Active unless the "jdbc" profile is selected, which uses {@link JdbcCheckoutSessionRepository}
+ * instead.
  */
+@org.springframework.context.annotation.Profile("!jdbc")
 @Repository
 public class InMemoryCheckoutSessionRepository implements CheckoutSessionRepository {
 
   private final ConcurrentHashMap<CheckoutSessionId, CheckoutSession> sessions =
       new ConcurrentHashMap<>();
 
+  /** Keys and status each session was indexed with at its last save. */
+  private final ConcurrentHashMap<CheckoutSessionId, IndexEntry> indexed =
+      new ConcurrentHashMap<>();
+
+  private final ConcurrentHashMap<CartId, Set<CheckoutSessionId>> sessionsByCart =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CustomerId, Set<CheckoutSessionId>> sessionsByCustomer =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CustomerId, CheckoutSessionId> activeByCustomer =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CustomerId, CheckoutSessionId> latestConfirmedByCustomer =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CheckoutSessionId, Instant> updatedAt = new ConcurrentHashMap<>();
+
+  private final Clock clock;
+
+  public InMemoryCheckoutSessionRepository() {
+    this(Clock.systemUTC());
+  }
+
+  InMemoryCheckoutSessionRepository(final Clock clock) {
+    this.clock = clock;
+  }
+
   @Override
   public Optional<CheckoutSession> findById(final CheckoutSessionId id) {
     return Optional.ofNullable(sessions.get(id));
@@ -33,25 +85,40 @@ public class InMemoryCheckoutSessionRepository implements CheckoutSessionReposit
 
   @Override
   public Optional<CheckoutSession> findByCartId(final CartId cartId) {
-    return sessions.values().stream()
-        .filter(session -> session.cartId().equals(cartId))
-        .findFirst();
+    return sessionsOfCart(cartId).stream().map(sessions::get).filter(Objects::nonNull).findFirst();
   }
 
   @Override
   public Optional<CheckoutSession> findActiveByCartId(final CartId cartId) {
-    return sessions.values().stream()
-        .filter(session -> session.cartId().equals(cartId))
-        .filter(session -> session.status() == CheckoutSessionStatus.ACTIVE)
-        .findFirst();
+    for (final CheckoutSessionId id : sessionsOfCart(cartId)) {
+      final CheckoutSession session = sessions.get(id);
+      if (session != null && session.status() == CheckoutSessionStatus.ACTIVE) {
+        return Optional.of(session);
+      }
+    }
+    return Optional.empty();
   }
 
   @Override
   public Optional<CheckoutSession> findActiveByCustomerId(final CustomerId customerId) {
-    return sessions.values().stream()
-        .filter(session -> session.customerId().equals(customerId))
-        .filter(session -> session.status() == CheckoutSessionStatus.ACTIVE)
-        .findFirst();
+    final CheckoutSessionId activeId = activeByCustomer.get(customerId);
+    if (activeId != null) {
+      final CheckoutSession session = sessions.get(activeId);
+      if (session != null && session.status() == CheckoutSessionStatus.ACTIVE) {
+        return Optional.of(session);
+      }
+      activeByCustomer.remove(customerId, activeId);
+    }
+
+    // Index miss or stale entry: fall back to the customer's own sessions only
+    for (final CheckoutSessionId id : sessionsOfCustomer(customerId)) {
+      final CheckoutSession session = sessions.get(id);
+      if (session != null && session.status() == CheckoutSessionStatus.ACTIVE) {
+        activeByCustomer.putIfAbsent(customerId, id);
+        return Optional.of(session);
+      }
+    }
+    return Optional.empty();
   }
 
   @Override
@@ -61,31 +128,142 @@ public class InMemoryCheckoutSessionRepository implements CheckoutSessionReposit
         .toList();
   }
 
+  @Override
+  public Optional<Instant> findUpdatedAtById(final CheckoutSessionId id) {
+    return Optional.ofNullable(updatedAt.get(id));
+  }
+
+  @Override
+  public List<CheckoutSessionTimestamp> findAllTimestamps() {
+    final List<CheckoutSessionTimestamp> timestamps = new ArrayList<>();
+    sessions.forEach(
+        (id, session) -> {
+          final Instant savedAt = updatedAt.get(id);
+          if (savedAt != null) {
+            timestamps.add(new CheckoutSessionTimestamp(id, session.status(), savedAt));
+          }
+        });
+    return timestamps;
+  }
+
   @Override
   public List<CheckoutSession> findAll() {
     return List.copyOf(sessions.values());
   }
 
   @Override
-  public CheckoutSession save(final CheckoutSession session) {
+  public synchronized CheckoutSession save(final CheckoutSession session) {
     sessions.put(session.id(), session);
+    updatedAt.put(session.id(), clock.instant());
+    reindex(session);
     return session;
   }
 
   @Override
-  public void deleteById(final CheckoutSessionId id) {
+  public synchronized void deleteById(final CheckoutSessionId id) {
     sessions.remove(id);
+    updatedAt.remove(id);
+    final IndexEntry previous = indexed.remove(id);
+    if (previous != null) {
+      unindex(id, previous);
+    }
   }
 
   @Override
   public Optional<CheckoutSession> findConfirmedOrCompletedByCustomerId(
       final CustomerId customerId) {
-    return sessions.values().stream()
-        .filter(session -> session.customerId().equals(customerId))
-        .filter(
-            session ->
-                session.status() == CheckoutSessionStatus.CONFIRMED
-                    || session.status() == CheckoutSessionStatus.COMPLETED)
-        .findFirst();
+    return lookup(latestConfirmedByCustomer.get(customerId)).filter(this::isConfirmedOrCompleted);
+  }
+
+  private void reindex(final CheckoutSession session) {
+    final CheckoutSessionId id = session.id();
+    final IndexEntry current = IndexEntry.of(session);
+    final IndexEntry previous = indexed.put(id, current);
+    if (current.equals(previous)) {
+      return;
+    }
+
+    // Add to the new entries first, so lock-free readers never miss the session
+    sessionsByCart
+        .computeIfAbsent(current.cartId(), cartId -> ConcurrentHashMap.newKeySet())
+        .add(id);
+    sessionsByCustomer
+        .computeIfAbsent(current.customerId(), customerId -> ConcurrentHashMap.newKeySet())
+        .add(id);
+    if (current.status() == CheckoutSessionStatus.ACTIVE) {
+      activeByCustomer.put(current.customerId(), id);
+    }
+    final boolean wasConfirmed = previous != null && isConfirmedOrCompleted(previous.status());
+    if (isConfirmedOrCompleted(current.status()) && !wasConfirmed) {
+      // Newly confirmed sessions become the customer's latest confirmed session
+      latestConfirmedByCustomer.put(current.customerId(), id);
+    }
+
+    if (previous != null) {
+      if (!previous.cartId().equals(current.cartId())) {
+        removeFromCart(previous.cartId(), id);
+      }
+      if (current.status() != CheckoutSessionStatus.ACTIVE
+          || !previous.customerId().equals(current.customerId())) {
+        activeByCustomer.remove(previous.customerId(), id);
+      }
+      if (!previous.customerId().equals(current.customerId())) {
+        removeFromCustomer(previous.customerId(), id);
+        latestConfirmedByCustomer.remove(previous.customerId(), id);
+      }
+    }
+  }
+
+  private void unindex(final CheckoutSessionId id, final IndexEntry previous) {
+    removeFromCart(previous.cartId(), id);
+    removeFromCustomer(previous.customerId(), id);
+    activeByCustomer.remove(previous.customerId(), id);
+    latestConfirmedByCustomer.remove(previous.customerId(), id);
+  }
+
+  private void removeFromCart(final CartId cartId, final CheckoutSessionId id) {
+    sessionsByCart.computeIfPresent(
+        cartId,
+        (key, ids) -> {
+          ids.remove(id);
+          return ids.isEmpty() ? null : ids;
+        });
+  }
+
+  private void removeFromCustomer(final CustomerId customerId, final CheckoutSessionId id) {
+    sessionsByCustomer.computeIfPresent(
+        customerId,
+        (key, ids) -> {
+          ids.remove(id);
+          return ids.isEmpty() ? null : ids;
+        });
+  }
+
+  private Set<CheckoutSessionId> sessionsOfCart(final CartId cartId) {
+    return sessionsByCart.getOrDefault(cartId, Set.of());
+  }
+
+  private Set<CheckoutSessionId> sessionsOfCustomer(final CustomerId customerId) {
+    return sessionsByCustomer.getOrDefault(customerId, Set.of());
+  }
+
+  private Optional<CheckoutSession> lookup(final @Nullable CheckoutSessionId id) {
+    return id == null ? Optional.empty() : Optional.ofNullable(sessions.get(id));
+  }
+
+  private boolean isConfirmedOrCompleted(final CheckoutSession session) {
+    return isConfirmedOrCompleted(session.status());
+  }
+
+  private static boolean isConfirmedOrCompleted(final CheckoutSessionStatus status) {
+    return status == CheckoutSessionStatus.CONFIRMED || status == CheckoutSessionStatus.COMPLETED;
+  }
+
+  /** Index keys and status of a session as of its last save. */
+  private record IndexEntry(CartId cartId, CustomerId customerId, CheckoutSessionStatus status) {
+
+    static IndexEntry of(final CheckoutSession session) {
+      return new IndexEntry(session.cartId(), session.customerId(), session.status());
+    }
   }
 }
@@ -0,0 +1,45 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence;
+
+import de.sample.aiarchitecture.checkout.application.shared.PlacedOrderArchive;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.readmodel.PlacedOrder;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Repository;
+
+/**
+ * In-memory implementation of PlacedOrderArchive.
+ *
+ * <p>Keeps the immutable placed orders by session ID, plus a customer index pointing at each
+ * customer's latest archived order. Since the records are immutable, reads need no locking.
+ *
+ * <p>Active unless the "jdbc" profile is selected, which uses {@link JdbcPlacedOrderArchive}
+ * instead.
+ */
+@org.springframework.context.annotation.Profile("!jdbc")
+@Repository
+public class InMemoryPlacedOrderArchive implements PlacedOrderArchive {
+
+  private final ConcurrentHashMap<CheckoutSessionId, PlacedOrder> orders =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<CustomerId, CheckoutSessionId> latestByCustomer =
+      new ConcurrentHashMap<>();
+
+  @Override
+  public void archive(final PlacedOrder order) {
+    orders.put(order.sessionId(), order);
+    latestByCustomer.put(order.customerId(), order.sessionId());
+  }
+
+  @Override
+  public Optional<PlacedOrder> findBySessionId(final CheckoutSessionId sessionId) {
+    return Optional.ofNullable(orders.get(sessionId));
+  }
+
+  @Override
+  public Optional<PlacedOrder> findLatestByCustomerId(final CustomerId customerId) {
+    final CheckoutSessionId sessionId = latestByCustomer.get(customerId);
+    return sessionId == null ? Optional.empty() : findBySessionId(sessionId);
+  }
+}
@@ -0,0 +1,204 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionTimestamp;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutStep;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * H2/JDBC implementation of CheckoutSessionRepository.
+ *
+ * <p>Every session is a single {@code checkout_sessions} row. The columns the finders filter on
+ * (cart, customer, status, step, update time) are stored as indexed scalars; line items, totals and
+ * the data of the completed steps go into one compact {@link CheckoutSessionSnapshot} column. A
+ * session is therefore loaded with one {@code SELECT} and saved with one {@code MERGE}, without any
+ * child tables to join or diff. The session version is kept in its own column.
+ *
+ * <p>Saves are optimistically locked on that version: a loaded session only overwrites its row if
+ * the row still has the version the session was loaded with. Two requests saving the same loaded
+ * state therefore cannot both succeed, and every stored version identifies exactly one state.
+ *
+ * <p>Sessions are reconstructed through {@link CheckoutSession#reconstitute}, which restores state
+ * without emitting domain events.
+ *
+ * <p>Finders returning a single session pick the most recently saved match; every finder is served
+ * by one of the {@code idx_checkout_sessions_*} indexes.
+ */
+@org.springframework.context.annotation.Profile("jdbc")
+@Repository
+public class JdbcCheckoutSessionRepository implements CheckoutSessionRepository {
+
+  private static final String SELECT =
+      "SELECT id, cart_id, customer_id, status, step, version, snapshot FROM checkout_sessions";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcCheckoutSessionRepository(final DataSource dataSource) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @Override
+  public Optional<CheckoutSession> findById(final CheckoutSessionId id) {
+    return first(jdbcTemplate.query(SELECT + " WHERE id = ?", sessionRowMapper(), id.value()));
+  }
+
+  @Override
+  public Optional<CheckoutSession> findByCartId(final CartId cartId) {
+    return first(
+        jdbcTemplate.query(
+            SELECT + " WHERE cart_id = ? ORDER BY updated_at DESC LIMIT 1",
+            sessionRowMapper(),
+            cartId.value()));
+  }
+
+  @Override
+  public Optional<CheckoutSession> findActiveByCartId(final CartId cartId) {
+    return first(
+        jdbcTemplate.query(
+            SELECT + " WHERE cart_id = ? AND status = ? ORDER BY updated_at DESC LIMIT 1",
+            sessionRowMapper(),
+            cartId.value(),
+            CheckoutSessionStatus.ACTIVE.name()));
+  }
+
+  @Override
+  public Optional<CheckoutSession> findActiveByCustomerId(final CustomerId customerId) {
+    return first(
+        jdbcTemplate.query(
+            SELECT + " WHERE customer_id = ? AND status = ? ORDER BY updated_at DESC LIMIT 1",
+            sessionRowMapper(),
+            customerId.value(),
+            CheckoutSessionStatus.ACTIVE.name()));
+  }
+
+  @Override
+  public List<CheckoutSession> findExpiredSessions() {
+    return jdbcTemplate.query(
+        SELECT + " WHERE status = ? ORDER BY updated_at DESC",
+        sessionRowMapper(),
+        CheckoutSessionStatus.EXPIRED.name());
+  }
+
+  @Override
+  public Optional<Instant> findUpdatedAtById(final CheckoutSessionId id) {
+    return jdbcTemplate
+        .query(
+            "SELECT updated_at FROM checkout_sessions WHERE id = ?",
+            (rs, rowNum) -> rs.getTimestamp("updated_at").toInstant(),
+            id.value())
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public List<CheckoutSessionTimestamp> findAllTimestamps() {
+    return jdbcTemplate.query(
+        "SELECT id, status, updated_at FROM checkout_sessions",
+        (rs, rowNum) ->
+            new CheckoutSessionTimestamp(
+                CheckoutSessionId.of(rs.getString("id")),
+                CheckoutSessionStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("updated_at").toInstant()));
+  }
+
+  @Override
+  public List<CheckoutSession> findAll() {
+    return jdbcTemplate.query(SELECT + " ORDER BY updated_at DESC", sessionRowMapper());
+  }
+
+  @Override
+  public Optional<CheckoutSession> findConfirmedOrCompletedByCustomerId(
+      final CustomerId customerId) {
+    return first(
+        jdbcTemplate.query(
+            SELECT + " WHERE customer_id = ? AND status IN (?, ?) ORDER BY updated_at DESC LIMIT 1",
+            sessionRowMapper(),
+            customerId.value(),
+            CheckoutSessionStatus.CONFIRMED.name(),
+            CheckoutSessionStatus.COMPLETED.name()));
+  }
+
+  /**
+   * Inserts a new session row, or updates the row of a loaded session if it still has the version
+   * the session was loaded with (always bumps updated_at).
+   *
+   * @throws OptimisticLockingFailureException if the session was saved concurrently since it was
+   *     loaded
+   */
+  @Override
+  public CheckoutSession save(final CheckoutSession session) {
+    final byte[] snapshot = CheckoutSessionSnapshot.of(session).encode();
+    if (session.persistedVersion() == CheckoutSession.NOT_PERSISTED) {
+      jdbcTemplate.update(
+          "INSERT INTO checkout_sessions (id, cart_id, customer_id, status, step, version, updated_at, snapshot) VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, ?)",
+          session.id().value(),
+          session.cartId().value(),
+          session.customerId().value(),
+          session.status().name(),
+          session.currentStep().name(),
+          session.version(),
+          snapshot);
+    } else {
+      final int updated =
+          jdbcTemplate.update(
+              "UPDATE checkout_sessions SET status = ?, step = ?, version = ?, updated_at = CURRENT_TIMESTAMP, snapshot = ? WHERE id = ? AND version = ?",
+              session.status().name(),
+              session.currentStep().name(),
+              session.version(),
+              snapshot,
+              session.id().value(),
+              session.persistedVersion());
+      if (updated == 0) {
+        throw new OptimisticLockingFailureException(
+            "Checkout session "
+                + session.id().value()
+                + " was modified or deleted since version "
+                + session.persistedVersion());
+      }
+    }
+    session.markPersisted();
+    return session;
+  }
+
+  @Override
+  public void deleteById(final CheckoutSessionId id) {
+    jdbcTemplate.update("DELETE FROM checkout_sessions WHERE id = ?", id.value());
+  }
+
+  private static Optional<CheckoutSession> first(final List<CheckoutSession> sessions) {
+    return sessions.stream().findFirst();
+  }
+
+  private RowMapper<CheckoutSession> sessionRowMapper() {
+    return (rs, rowNum) -> {
+      final CheckoutSessionSnapshot snapshot =
+          CheckoutSessionSnapshot.decode(rs.getBytes("snapshot"));
+      return CheckoutSession.reconstitute(
+          CheckoutSessionId.of(rs.getString("id")),
+          CartId.of(rs.getString("cart_id")),
+          CustomerId.of(rs.getString("customer_id")),
+          CheckoutSessionStatus.valueOf(rs.getString("status")),
+          CheckoutStep.valueOf(rs.getString("step")),
+          snapshot.lineItems(),
+          snapshot.totals(),
+          snapshot.buyerInfo(),
+          snapshot.deliveryAddress(),
+          snapshot.shippingOption(),
+          snapshot.paymentSelection(),
+          snapshot.orderReference(),
+          rs.getLong("version"));
+    };
+  }
+}
@@ -0,0 +1,132 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence;
+
+import de.sample.aiarchitecture.checkout.application.shared.PlacedOrderArchive;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutTotals;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.readmodel.PlacedOrder;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * H2/JDBC implementation of PlacedOrderArchive.
+ *
+ * <p>Every placed order is a single {@code placed_orders} row. Session, customer, status and order
+ * reference are scalar columns; totals and lines go into one compact binary column with its own
+ * version byte. Amounts are written by {@link MoneyCodec}.
+ */
+@org.springframework.context.annotation.Profile("jdbc")
+@Repository
+public class JdbcPlacedOrderArchive implements PlacedOrderArchive {
+
+  private static final byte VERSION = 1;
+
+  private static final String SELECT =
+      "SELECT session_id, customer_id, status, order_reference, content FROM placed_orders";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public JdbcPlacedOrderArchive(final DataSource dataSource) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @Override
+  public void archive(final PlacedOrder order) {
+    jdbcTemplate.update(
+        "MERGE INTO placed_orders (session_id, customer_id, status, order_reference, archived_at, content) KEY(session_id) VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, ?)",
+        order.sessionId().value(),
+        order.customerId().value(),
+        order.status().name(),
+        order.orderReference(),
+        encode(order));
+  }
+
+  @Override
+  public Optional<PlacedOrder> findBySessionId(final CheckoutSessionId sessionId) {
+    return jdbcTemplate
+        .query(SELECT + " WHERE session_id = ?", rowMapper(), sessionId.value())
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public Optional<PlacedOrder> findLatestByCustomerId(final CustomerId customerId) {
+    return jdbcTemplate
+        .query(
+            SELECT + " WHERE customer_id = ? ORDER BY archived_at DESC LIMIT 1",
+            rowMapper(),
+            customerId.value())
+        .stream()
+        .findFirst();
+  }
+
+  private static byte[] encode(final PlacedOrder order) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + order.lines().size() * 64);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+
+      MoneyCodec.write(out, order.totals().subtotal());
+      MoneyCodec.write(out, order.totals().shipping());
+      MoneyCodec.write(out, order.totals().tax());
+      MoneyCodec.write(out, order.totals().total());
+
+      out.writeInt(order.lines().size());
+      for (final PlacedOrder.Line line : order.lines()) {
+        out.writeUTF(line.productId().value());
+        out.writeUTF(line.name());
+        MoneyCodec.write(out, line.price());
+        out.writeInt(line.quantity());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to encode placed order", e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private RowMapper<PlacedOrder> rowMapper() {
+    return (rs, rowNum) -> {
+      try (DataInputStream in =
+          new DataInputStream(new ByteArrayInputStream(rs.getBytes("content")))) {
+        final byte version = in.readByte();
+        if (version != VERSION) {
+          throw new IllegalStateException("Unsupported placed order version: " + version);
+        }
+
+        final CheckoutTotals totals =
+            CheckoutTotals.of(
+                MoneyCodec.read(in), MoneyCodec.read(in), MoneyCodec.read(in), MoneyCodec.read(in));
+
+        final int lineCount = in.readInt();
+        final List<PlacedOrder.Line> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+          lines.add(
+              new PlacedOrder.Line(
+                  ProductId.of(in.readUTF()), in.readUTF(), MoneyCodec.read(in), in.readInt()));
+        }
+
+        return new PlacedOrder(
+            CheckoutSessionId.of(rs.getString("session_id")),
+            CustomerId.of(rs.getString("customer_id")),
+            CheckoutSessionStatus.valueOf(rs.getString("status")),
+            rs.getString("order_reference"),
+            totals,
+            lines);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to decode placed order", e);
+      }
+    };
+  }
+}
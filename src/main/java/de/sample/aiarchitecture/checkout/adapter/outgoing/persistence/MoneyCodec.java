@@ -0,0 +1,37 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Currency;
+
+/**
+ * Binary encoding of {@link Money} shared by the compact binary columns of this package.
+ *
+ * <p>An amount is written as the length and bytes of its unscaled value, followed by its scale and
+ * the ISO currency code. Every column that embeds amounts carries its own version byte, so this
+ * layout must stay stable: changing it would silently break all stored values of those columns.
+ */
+final class MoneyCodec {
+
+  private MoneyCodec() {}
+
+  static void write(final DataOutputStream out, final Money money) throws IOException {
+    final byte[] unscaled = money.amount().unscaledValue().toByteArray();
+    out.writeByte(unscaled.length);
+    out.write(unscaled);
+    out.writeByte(money.amount().scale());
+    out.writeUTF(money.currency().getCurrencyCode());
+  }
+
+  static Money read(final DataInputStream in) throws IOException {
+    final byte[] unscaled = new byte[in.readUnsignedByte()];
+    in.readFully(unscaled);
+    final int scale = in.readByte();
+    final Currency currency = Currency.getInstance(in.readUTF());
+    return Money.of(new BigDecimal(new BigInteger(unscaled), scale), currency);
+  }
+}
@@ -0,0 +1,92 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.product;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutArticleDataCache;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutArticleDataPort;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticle;
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.cache.ProductDataCache;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caching decorator around {@link CompositeCheckoutArticleDataAdapter}.
+ *
+ * <p>Starting a checkout and syncing it with the cart resolve article data (name, price, stock)
+ * that rarely changes. This decorator keeps it in a bounded {@link ProductDataCache} and only
+ * forwards lookups for products that are not cached.
+ *
+ * <p>{@link #getFreshArticleData} always bypasses the cache and stores the fresh result, so
+ * checkout confirmation validates prices and stock against the owning contexts.
+ *
+ * <p>Entries are invalidated per product by {@code CheckoutArticleDataCacheEventConsumer} when a
+ * price, stock level or product name changes, and expire after the configured TTL. Lookup hits and
+ * misses are exposed as the {@code article.data.cache.lookups} metric, tagged with {@code
+ * cache=checkout}.
+ *
+ * <p>With {@code app.checkout.article-data-cache.enabled=false} every call is forwarded unchanged.
+ */
+@Primary
+@Component
+public class CachingCheckoutArticleDataAdapter
+    implements CheckoutArticleDataPort, CheckoutArticleDataCache {
+
+  private static final String CACHE_NAME = "checkout";
+
+  private final CompositeCheckoutArticleDataAdapter delegate;
+  private final ProductDataCache<CheckoutArticle> cache;
+  private final boolean enabled;
+
+  public CachingCheckoutArticleDataAdapter(
+      final CompositeCheckoutArticleDataAdapter delegate,
+      final CheckoutArticleDataCacheProperties properties,
+      final MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.cache = new ProductDataCache<>(properties.maxSize(), properties.ttl());
+    this.enabled = properties.enabled();
+    registerMetrics(meterRegistry);
+  }
+
+  @Override
+  public Map<ProductId, CheckoutArticle> getArticleData(final Collection<ProductId> productIds) {
+    if (!enabled || productIds == null || productIds.isEmpty()) {
+      return delegate.getArticleData(productIds);
+    }
+    return cache.getAll(productIds, delegate::getArticleData);
+  }
+
+  @Override
+  public Map<ProductId, CheckoutArticle> getFreshArticleData(
+      final Collection<ProductId> productIds) {
+    if (!enabled || productIds == null || productIds.isEmpty()) {
+      return delegate.getFreshArticleData(productIds);
+    }
+    return cache.refresh(productIds, delegate::getFreshArticleData);
+  }
+
+  @Override
+  public void invalidate(final ProductId productId) {
+    cache.invalidate(productId);
+  }
+
+  private void registerMetrics(final MeterRegistry meterRegistry) {
+    FunctionCounter.builder("article.data.cache.lookups", cache, ProductDataCache::hitCount)
+        .description("Article data lookups served from the near-cache")
+        .tag("cache", CACHE_NAME)
+        .tag("result", "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder("article.data.cache.lookups", cache, ProductDataCache::missCount)
+        .description("Article data lookups forwarded to the Open Host Services")
+        .tag("cache", CACHE_NAME)
+        .tag("result", "miss")
+        .register(meterRegistry);
+    Gauge.builder("article.data.cache.size", cache, ProductDataCache::size)
+        .description("Number of cached articles")
+        .tag("cache", CACHE_NAME)
+        .register(meterRegistry);
+  }
+}
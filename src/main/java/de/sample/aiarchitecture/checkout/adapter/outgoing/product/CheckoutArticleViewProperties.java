@@ -0,0 +1,32 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.product;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for reading Checkout article data from the Product context's article
+ * view.
+ *
+ * <p>When enabled, article data is read from the event-maintained article view first, and only
+ * products missing from it are looked up in the Product, Pricing and Inventory contexts.
+ *
+ * <p><b>Example configuration:</b>
+ *
+ * <pre>
+ * app:
+ *   checkout:
+ *     article-view:
+ *       enabled: true
+ * </pre>
+ *
+ * @param enabled whether the article view is read before the owning contexts (default: false)
+ */
+@ConfigurationProperties(prefix = "app.checkout.article-view")
+public record CheckoutArticleViewProperties(@Nullable Boolean enabled) {
+
+  public CheckoutArticleViewProperties {
+    if (enabled == null) {
+      enabled = false;
+    }
+  }
+}
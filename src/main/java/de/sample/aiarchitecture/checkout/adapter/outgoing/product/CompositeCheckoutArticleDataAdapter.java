@@ -6,14 +6,20 @@ import de.sample.aiarchitecture.inventory.api.InventoryService;
 import de.sample.aiarchitecture.inventory.api.InventoryService.StockInfo;
 import de.sample.aiarchitecture.pricing.api.PricingService;
 import de.sample.aiarchitecture.pricing.api.PricingService.PriceInfo;
+import de.sample.aiarchitecture.product.api.ArticleViewService;
+import de.sample.aiarchitecture.product.api.ArticleViewService.ArticleViewInfo;
 import de.sample.aiarchitecture.product.api.ProductCatalogService;
 import de.sample.aiarchitecture.product.api.ProductCatalogService.ProductInfo;
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout.FanOut;
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout.FanOutProperties;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.function.Supplier;
 import org.springframework.stereotype.Component;
 
 /**
@@ -27,6 +33,15 @@ import org.springframework.stereotype.Component;
  *   <li>InventoryService - for stock availability
  * </ul>
  *
+ * <p>The three lookups are independent and run through a {@link FanOut}: concurrently on virtual
+ * threads with a shared deadline by default, or one after another when {@code app.fan-out.mode} is
+ * {@code sequential}.
+ *
+ * <p>With {@code app.checkout.article-view.enabled=true}, articles are first read from the Product
+ * context's event-maintained {@link ArticleViewService}, and only products missing from the view
+ * are fetched from the three services. {@link #getFreshArticleData} always reads the three
+ * services, since the view may lag behind the owning contexts.
+ *
  * <p>This adapter is the ONLY place in Checkout context that imports from Product, Pricing, and
  * Inventory contexts, isolating cross-context coupling to the adapter layer.
  *
@@ -39,14 +54,23 @@ public class CompositeCheckoutArticleDataAdapter implements CheckoutArticleDataP
   private final ProductCatalogService productCatalogService;
   private final PricingService pricingService;
   private final InventoryService inventoryService;
+  private final FanOutProperties fanOutProperties;
+  private final ArticleViewService articleViewService;
+  private final boolean articleViewEnabled;
 
   public CompositeCheckoutArticleDataAdapter(
       ProductCatalogService productCatalogService,
       PricingService pricingService,
-      InventoryService inventoryService) {
+      InventoryService inventoryService,
+      FanOutProperties fanOutProperties,
+      ArticleViewService articleViewService,
+      CheckoutArticleViewProperties articleViewProperties) {
     this.productCatalogService = productCatalogService;
     this.pricingService = pricingService;
     this.inventoryService = inventoryService;
+    this.fanOutProperties = fanOutProperties;
+    this.articleViewService = articleViewService;
+    this.articleViewEnabled = articleViewProperties.enabled();
   }
 
   @Override
@@ -54,19 +78,58 @@ public class CompositeCheckoutArticleDataAdapter implements CheckoutArticleDataP
     if (productIds == null || productIds.isEmpty()) {
       return Map.of();
     }
+    if (!articleViewEnabled) {
+      return getFreshArticleData(productIds);
+    }
 
-    // Fetch data from all three OHS services
-    Map<ProductId, PriceInfo> prices = pricingService.getPrices(productIds);
-    Map<ProductId, StockInfo> stocks = inventoryService.getStock(productIds);
+    Map<ProductId, ArticleViewInfo> views = articleViewService.getArticleViews(productIds);
+    Map<ProductId, CheckoutArticle> result = new HashMap<>();
+    List<ProductId> missing = new ArrayList<>();
+    for (ProductId productId : productIds) {
+      ArticleViewInfo view = views.get(productId);
+      if (view != null) {
+        result.put(productId, buildCheckoutArticle(view));
+      } else {
+        missing.add(productId);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      result.putAll(getFreshArticleData(missing));
+    }
+    return result;
+  }
+
+  @Override
+  public Map<ProductId, CheckoutArticle> getFreshArticleData(Collection<ProductId> productIds) {
+    if (productIds == null || productIds.isEmpty()) {
+      return Map.of();
+    }
+
+    // Fetch data from all three OHS services, one bulk call per context
+    Map<ProductId, ProductInfo> productInfos;
+    Map<ProductId, PriceInfo> prices;
+    Map<ProductId, StockInfo> stocks;
+    try (FanOut fanOut = fanOutProperties.open()) {
+      Supplier<Map<ProductId, ProductInfo>> productInfoLookup =
+          fanOut.fork("product", () -> productCatalogService.getProductInfos(productIds));
+      Supplier<Map<ProductId, PriceInfo>> priceLookup =
+          fanOut.fork("pricing", () -> pricingService.getPrices(productIds));
+      Supplier<Map<ProductId, StockInfo>> stockLookup =
+          fanOut.fork("inventory", () -> inventoryService.getStock(productIds));
+      fanOut.join();
+
+      productInfos = productInfoLookup.get();
+      prices = priceLookup.get();
+      stocks = stockLookup.get();
+    }
 
     Map<ProductId, CheckoutArticle> result = new HashMap<>();
 
     for (ProductId productId : productIds) {
-      // ProductCatalogService doesn't have bulk fetch, so fetch individually
-      Optional<ProductInfo> productInfo = productCatalogService.getProductInfo(productId);
-
       // Only include if we have product info (name is required)
-      if (productInfo.isPresent()) {
+      ProductInfo productInfo = productInfos.get(productId);
+      if (productInfo != null) {
         PriceInfo priceInfo = prices.get(productId);
         if (priceInfo == null) {
           throw new IllegalStateException(
@@ -76,7 +139,7 @@ public class CompositeCheckoutArticleDataAdapter implements CheckoutArticleDataP
         }
 
         CheckoutArticle article =
-            buildCheckoutArticle(productId, productInfo.get(), priceInfo, stocks.get(productId));
+            buildCheckoutArticle(productId, productInfo, priceInfo, stocks.get(productId));
         result.put(productId, article);
       }
     }
@@ -84,6 +147,17 @@ public class CompositeCheckoutArticleDataAdapter implements CheckoutArticleDataP
     return result;
   }
 
+  /** Builds a CheckoutArticle domain object from an article view. */
+  private CheckoutArticle buildCheckoutArticle(ArticleViewInfo view) {
+    return CheckoutArticle.of(
+        view.productId(),
+        view.name(),
+        view.currentPrice(),
+        view.availableStock(),
+        view.isAvailable(),
+        view.imageUrl());
+  }
+
   /** Builds a CheckoutArticle domain object from data fetched from multiple sources. */
   private CheckoutArticle buildCheckoutArticle(
       ProductId productId, ProductInfo productInfo, PriceInfo priceInfo, StockInfo stockInfo) {
@@ -3,7 +3,9 @@ package de.sample.aiarchitecture.checkout.adapter.outgoing.product;
 import de.sample.aiarchitecture.checkout.application.shared.ProductInfoPort;
 import de.sample.aiarchitecture.product.api.ProductCatalogService;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
@@ -23,16 +25,11 @@ public class ProductInfoAdapter implements ProductInfoPort {
   }
 
   @Override
-  public Optional<String> getProductName(ProductId productId) {
-    return productCatalogService
-        .getProductInfo(productId)
-        .map(ProductCatalogService.ProductInfo::name);
-  }
-
-  @Override
-  public Optional<String> getProductImageUrl(ProductId productId) {
-    return productCatalogService
-        .getProductInfo(productId)
-        .map(ProductCatalogService.ProductInfo::imageUrl);
+  public Map<ProductId, ProductInfo> getProductInfos(Collection<ProductId> productIds) {
+    return productCatalogService.getProductInfos(productIds).values().stream()
+        .collect(
+            Collectors.toMap(
+                ProductCatalogService.ProductInfo::productId,
+                info -> new ProductInfo(info.productId(), info.name(), info.imageUrl())));
   }
 }
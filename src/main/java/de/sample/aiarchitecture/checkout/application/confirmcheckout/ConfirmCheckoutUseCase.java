@@ -64,9 +64,10 @@ public class ConfirmCheckoutUseCase implements ConfirmCheckoutInputPort {
     final List<ProductId> productIds =
         session.lineItems().stream().map(item -> item.productId()).toList();
 
-    // Fetch fresh article data (pricing, availability) for validation
+    // Fetch fresh article data (pricing, availability) for validation, bypassing any cache so
+    // confirmation stays authoritative
     final Map<ProductId, CheckoutArticle> articleDataMap =
-        checkoutArticleDataPort.getArticleData(productIds);
+        checkoutArticleDataPort.getFreshArticleData(productIds);
 
     // Build resolver from fetched data
     final CheckoutArticlePriceResolver resolver =
@@ -0,0 +1,22 @@
+package de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch;
+
+import java.util.List;
+
+/**
+ * Input model for confirming several checkout sessions in one transaction.
+ *
+ * @param sessionIds the checkout session IDs to confirm, in the order the confirmations arrived
+ */
+public record ConfirmCheckoutBatchCommand(List<String> sessionIds) {
+
+  /** Compact constructor with validation. */
+  public ConfirmCheckoutBatchCommand {
+    if (sessionIds == null || sessionIds.isEmpty()) {
+      throw new IllegalArgumentException("Session IDs cannot be null or empty");
+    }
+    if (sessionIds.stream().anyMatch(id -> id == null || id.isBlank())) {
+      throw new IllegalArgumentException("Session ID cannot be null or blank");
+    }
+    sessionIds = List.copyOf(sessionIds);
+  }
+}
@@ -0,0 +1,27 @@
+package de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for confirming several checkout sessions in one transaction.
+ *
+ * <p>Used by the confirmation pipeline to group-commit confirmations that arrive at the same time.
+ * Each session is validated and confirmed exactly as by {@code ConfirmCheckoutInputPort}; a
+ * rejected session does not affect the others.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for write operations.
+ *
+ * @see ConfirmCheckoutBatchUseCase
+ */
+public interface ConfirmCheckoutBatchInputPort
+    extends UseCase<ConfirmCheckoutBatchCommand, ConfirmCheckoutBatchResult> {
+
+  /**
+   * Confirms the checkout sessions of the batch.
+   *
+   * @param command the command containing the session IDs
+   * @return one confirmation outcome per session, confirmed or rejected with a reason
+   */
+  @Override
+  ConfirmCheckoutBatchResult execute(ConfirmCheckoutBatchCommand command);
+}
@@ -0,0 +1,55 @@
+package de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch;
+
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutResult;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Output model for a batch of checkout confirmations.
+ *
+ * @param confirmations one entry per requested session, in command order
+ */
+public record ConfirmCheckoutBatchResult(List<Confirmation> confirmations) {
+
+  /**
+   * Outcome of confirming a single session of the batch.
+   *
+   * @param sessionId the checkout session ID
+   * @param result the confirmed session state (null if the confirmation was rejected)
+   * @param errorMessage why the confirmation was rejected (null if confirmed)
+   * @param rejection the kind of rejection, matching the exception a single confirmation would have
+   *     thrown (null if confirmed)
+   */
+  public record Confirmation(
+      String sessionId,
+      @Nullable ConfirmCheckoutResult result,
+      @Nullable String errorMessage,
+      @Nullable Rejection rejection) {
+
+    public static Confirmation confirmed(final ConfirmCheckoutResult result) {
+      return new Confirmation(result.sessionId(), result, null, null);
+    }
+
+    public static Confirmation rejected(final String sessionId, final RuntimeException cause) {
+      return new Confirmation(
+          sessionId,
+          null,
+          cause.getMessage(),
+          cause instanceof IllegalArgumentException
+              ? Rejection.INVALID_ARGUMENT
+              : Rejection.INVALID_STATE);
+    }
+
+    public boolean isConfirmed() {
+      return result != null;
+    }
+  }
+
+  /** Kind of a rejected confirmation. */
+  public enum Rejection {
+    /** The session was not found or the request was invalid ({@link IllegalArgumentException}). */
+    INVALID_ARGUMENT,
+    /** The session could not be confirmed in its current state ({@link IllegalStateException}). */
+    INVALID_STATE
+  }
+}
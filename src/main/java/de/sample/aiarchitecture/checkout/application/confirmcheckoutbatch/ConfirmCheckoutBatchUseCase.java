@@ -0,0 +1,182 @@
+package de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch;
+
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutResult;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchResult.Confirmation;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutArticleDataPort;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutBatchConfirmed;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutConfirmed;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticle;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticlePriceResolver;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.DomainEventPublisher;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for confirming a batch of checkout sessions in one transaction.
+ *
+ * <p>Compared to confirming each session on its own, the batch:
+ *
+ * <ul>
+ *   <li>Fetches fresh article data once for the products of all sessions
+ *   <li>Validates and confirms every session against that single snapshot, with the stock taken by
+ *       the sessions confirmed before it already deducted
+ *   <li>Commits all confirmed sessions in one transaction
+ *   <li>Publishes one {@link CheckoutBatchConfirmed} event, so stock is reduced once per product
+ *       for the whole batch
+ * </ul>
+ *
+ * <p>A session that fails validation is reported as rejected and left unchanged; the other sessions
+ * of the batch are still confirmed. The sessions' own {@code CheckoutConfirmed} events are marked
+ * as {@code stockReducedInBatch}. A failure while saving rolls back the whole batch.
+ *
+ * <p><b>One Aggregate Per Transaction:</b> This use case deliberately modifies several {@code
+ * CheckoutSession} aggregates in one transaction, trading isolation between the sessions for
+ * throughput. Callers retry the sessions one by one if the batch fails as a whole.
+ */
+@Service
+@Transactional
+public class ConfirmCheckoutBatchUseCase implements ConfirmCheckoutBatchInputPort {
+
+  private final CheckoutSessionRepository checkoutSessionRepository;
+  private final CheckoutArticleDataPort checkoutArticleDataPort;
+  private final DomainEventPublisher domainEventPublisher;
+
+  public ConfirmCheckoutBatchUseCase(
+      final CheckoutSessionRepository checkoutSessionRepository,
+      final CheckoutArticleDataPort checkoutArticleDataPort,
+      final DomainEventPublisher domainEventPublisher) {
+    this.checkoutSessionRepository = checkoutSessionRepository;
+    this.checkoutArticleDataPort = checkoutArticleDataPort;
+    this.domainEventPublisher = domainEventPublisher;
+  }
+
+  @Override
+  public ConfirmCheckoutBatchResult execute(final ConfirmCheckoutBatchCommand command) {
+    // Load each session once, so a session requested twice is confirmed only once
+    final Map<String, Optional<CheckoutSession>> sessions = new LinkedHashMap<>();
+    command
+        .sessionIds()
+        .forEach(
+            id ->
+                sessions.computeIfAbsent(
+                    id, key -> checkoutSessionRepository.findById(CheckoutSessionId.of(key))));
+
+    // Fetch fresh article data once for the products of all sessions, bypassing any cache so
+    // confirmation stays authoritative
+    final Set<ProductId> productIds = new LinkedHashSet<>();
+    sessions
+        .values()
+        .forEach(
+            found ->
+                found.ifPresent(
+                    session ->
+                        session.lineItems().forEach(item -> productIds.add(item.productId()))));
+    final Map<ProductId, CheckoutArticle> articleDataMap =
+        productIds.isEmpty() ? Map.of() : checkoutArticleDataPort.getFreshArticleData(productIds);
+
+    // Stock still available to the batch; every confirmed session takes its quantities from it, so
+    // sessions that together exceed the stock cannot all be confirmed
+    final Map<ProductId, Integer> remainingStock = new HashMap<>();
+    articleDataMap.forEach(
+        (productId, article) -> remainingStock.put(productId, article.availableStock()));
+
+    // Build resolver from fetched data and the remaining stock
+    final CheckoutArticlePriceResolver resolver =
+        productId -> {
+          final CheckoutArticle article = articleDataMap.get(productId);
+          if (article == null) {
+            throw new IllegalArgumentException("Article data not found for: " + productId.value());
+          }
+          return new CheckoutArticlePriceResolver.ArticlePrice(
+              article.currentPrice(), article.isAvailable(), remainingStock.get(productId));
+        };
+
+    // Confirm each session; domain validation fails before the session is changed. A session
+    // requested twice gets the outcome of its first confirmation.
+    final Map<String, Confirmation> outcomes = new HashMap<>();
+    final List<Confirmation> confirmations = new ArrayList<>(command.sessionIds().size());
+    final List<CheckoutSession> confirmed = new ArrayList<>();
+    for (final String sessionId : command.sessionIds()) {
+      final Confirmation known = outcomes.get(sessionId);
+      if (known != null) {
+        confirmations.add(known);
+        continue;
+      }
+
+      final Confirmation confirmation = confirm(sessionId, sessions.get(sessionId), resolver);
+      if (confirmation.isConfirmed()) {
+        final CheckoutSession session = sessions.get(sessionId).orElseThrow();
+        session
+            .lineItems()
+            .forEach(
+                item -> remainingStock.merge(item.productId(), -item.quantity(), Integer::sum));
+        confirmed.add(session);
+      }
+      outcomes.put(sessionId, confirmation);
+      confirmations.add(confirmation);
+    }
+
+    // One stock reduction for the quantities of all confirmed sessions
+    if (!confirmed.isEmpty()) {
+      domainEventPublisher.publish(CheckoutBatchConfirmed.of(confirmed));
+    }
+
+    return new ConfirmCheckoutBatchResult(confirmations);
+  }
+
+  private Confirmation confirm(
+      final String sessionId,
+      final Optional<CheckoutSession> found,
+      final CheckoutArticlePriceResolver resolver) {
+    if (found.isEmpty()) {
+      return Confirmation.rejected(
+          sessionId, new IllegalArgumentException("Session not found: " + sessionId));
+    }
+
+    final CheckoutSession session = found.get();
+    try {
+      session.confirm(resolver);
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      return Confirmation.rejected(sessionId, e);
+    }
+
+    checkoutSessionRepository.save(session);
+
+    // Publish the session's events; its stock is reduced by the batch event instead
+    session
+        .domainEvents()
+        .forEach(
+            event ->
+                domainEventPublisher.publish(
+                    event instanceof CheckoutConfirmed checkoutConfirmed
+                        ? checkoutConfirmed.inBatch()
+                        : event));
+    session.clearDomainEvents();
+
+    return Confirmation.confirmed(mapToResponse(session));
+  }
+
+  private ConfirmCheckoutResult mapToResponse(final CheckoutSession session) {
+    return new ConfirmCheckoutResult(
+        session.id().value().toString(),
+        session.currentStep().name(),
+        session.status().name(),
+        session.cartId().value().toString(),
+        session.customerId().value(),
+        session.totals().total().amount().toPlainString(),
+        session.totals().total().currency().getCurrencyCode(),
+        session.orderReference());
+  }
+}
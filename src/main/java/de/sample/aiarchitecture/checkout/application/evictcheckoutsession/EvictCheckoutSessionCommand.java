@@ -0,0 +1,16 @@
+package de.sample.aiarchitecture.checkout.application.evictcheckoutsession;
+
+/**
+ * Input model for evicting a finished checkout session after its retention period.
+ *
+ * @param sessionId the checkout session ID to evict
+ */
+public record EvictCheckoutSessionCommand(String sessionId) {
+
+  /** Compact constructor with validation. */
+  public EvictCheckoutSessionCommand {
+    if (sessionId == null || sessionId.isBlank()) {
+      throw new IllegalArgumentException("Session ID cannot be null or blank");
+    }
+  }
+}
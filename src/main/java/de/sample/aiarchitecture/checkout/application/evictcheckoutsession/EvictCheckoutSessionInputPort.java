@@ -0,0 +1,24 @@
+package de.sample.aiarchitecture.checkout.application.evictcheckoutsession;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for evicting a finished checkout session once its retention period has passed.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for write operations.
+ *
+ * @see EvictCheckoutSessionUseCase
+ */
+public interface EvictCheckoutSessionInputPort
+    extends UseCase<EvictCheckoutSessionCommand, EvictCheckoutSessionResult> {
+
+  /**
+   * Removes the checkout session from the repository unless it is still active. Confirmed and
+   * completed sessions are archived as placed orders first.
+   *
+   * @param command the command containing the session ID
+   * @return response telling whether the session was evicted
+   */
+  @Override
+  EvictCheckoutSessionResult execute(EvictCheckoutSessionCommand command);
+}
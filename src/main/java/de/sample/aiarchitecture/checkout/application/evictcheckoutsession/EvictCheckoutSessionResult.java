@@ -0,0 +1,33 @@
+package de.sample.aiarchitecture.checkout.application.evictcheckoutsession;
+
+/**
+ * Output model for checkout session eviction.
+ *
+ * @param sessionId the checkout session ID
+ * @param evicted whether the session was removed by this call (false if it was missing or still
+ *     active)
+ * @param archived whether the session was archived as a placed order before its removal
+ */
+public record EvictCheckoutSessionResult(String sessionId, boolean evicted, boolean archived) {
+
+  /**
+   * Creates a response for a session that was not evicted.
+   *
+   * @param sessionId the checkout session ID
+   * @return a response indicating the session was kept
+   */
+  public static EvictCheckoutSessionResult kept(final String sessionId) {
+    return new EvictCheckoutSessionResult(sessionId, false, false);
+  }
+
+  /**
+   * Creates a response for an evicted session.
+   *
+   * @param sessionId the checkout session ID
+   * @param archived whether the session was archived as a placed order
+   * @return a response indicating the session was evicted
+   */
+  public static EvictCheckoutSessionResult evicted(final String sessionId, final boolean archived) {
+    return new EvictCheckoutSessionResult(sessionId, true, archived);
+  }
+}
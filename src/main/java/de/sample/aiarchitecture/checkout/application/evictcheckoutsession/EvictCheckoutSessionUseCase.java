@@ -0,0 +1,54 @@
+package de.sample.aiarchitecture.checkout.application.evictcheckoutsession;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.PlacedOrderArchive;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.readmodel.PlacedOrder;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for evicting a finished checkout session after its retention period.
+ *
+ * <p>Sessions are kept for a grace period so the confirmation page and late reads still find the
+ * full session; afterwards they only take up space in the live repository. Confirmed and completed
+ * sessions are archived as a compact {@link PlacedOrder} before they are removed, so order lookups
+ * keep working; abandoned and expired sessions are dropped.
+ */
+@Service
+@Transactional
+public class EvictCheckoutSessionUseCase implements EvictCheckoutSessionInputPort {
+
+  private final CheckoutSessionRepository checkoutSessionRepository;
+  private final PlacedOrderArchive placedOrderArchive;
+
+  public EvictCheckoutSessionUseCase(
+      final CheckoutSessionRepository checkoutSessionRepository,
+      final PlacedOrderArchive placedOrderArchive) {
+    this.checkoutSessionRepository = checkoutSessionRepository;
+    this.placedOrderArchive = placedOrderArchive;
+  }
+
+  @Override
+  public EvictCheckoutSessionResult execute(final EvictCheckoutSessionCommand command) {
+    final CheckoutSessionId sessionId = CheckoutSessionId.of(command.sessionId());
+    final Optional<CheckoutSession> found = checkoutSessionRepository.findById(sessionId);
+    if (found.isEmpty() || found.get().isActive()) {
+      return EvictCheckoutSessionResult.kept(command.sessionId());
+    }
+
+    final CheckoutSession session = found.get();
+    final boolean placed =
+        session.status() == CheckoutSessionStatus.CONFIRMED
+            || session.status() == CheckoutSessionStatus.COMPLETED;
+    if (placed) {
+      placedOrderArchive.archive(PlacedOrder.from(session));
+    }
+
+    checkoutSessionRepository.deleteById(sessionId);
+    return EvictCheckoutSessionResult.evicted(command.sessionId(), placed);
+  }
+}
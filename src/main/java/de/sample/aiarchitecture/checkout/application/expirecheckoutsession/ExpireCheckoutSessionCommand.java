@@ -0,0 +1,22 @@
+package de.sample.aiarchitecture.checkout.application.expirecheckoutsession;
+
+import java.time.Duration;
+
+/**
+ * Input model for expiring an inactive checkout session.
+ *
+ * @param sessionId the checkout session ID to expire
+ * @param inactivityTimeout time since the last save of the session after which it may be expired
+ */
+public record ExpireCheckoutSessionCommand(String sessionId, Duration inactivityTimeout) {
+
+  /** Compact constructor with validation. */
+  public ExpireCheckoutSessionCommand {
+    if (sessionId == null || sessionId.isBlank()) {
+      throw new IllegalArgumentException("Session ID cannot be null or blank");
+    }
+    if (inactivityTimeout == null || inactivityTimeout.isNegative() || inactivityTimeout.isZero()) {
+      throw new IllegalArgumentException("Inactivity timeout must be positive");
+    }
+  }
+}
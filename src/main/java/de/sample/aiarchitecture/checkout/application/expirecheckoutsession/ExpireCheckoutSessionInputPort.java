@@ -0,0 +1,36 @@
+package de.sample.aiarchitecture.checkout.application.expirecheckoutsession;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for expiring an inactive checkout session.
+ *
+ * <p>Driven by the session expiry scheduler once a session has seen no checkout activity for the
+ * configured inactivity timeout.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for write operations.
+ *
+ * @see ExpireCheckoutSessionUseCase
+ */
+public interface ExpireCheckoutSessionInputPort
+    extends UseCase<ExpireCheckoutSessionCommand, ExpireCheckoutSessionResult> {
+
+  /**
+   * Expires the checkout session if it is still active.
+   *
+   * <p>This operation:
+   *
+   * <ul>
+   *   <li>Loads the session; a missing session is ignored
+   *   <li>Skips sessions that are no longer active (confirmed, completed, abandoned or expired)
+   *   <li>Keeps sessions saved within the inactivity timeout and reports when they become due
+   *   <li>Transitions the session to EXPIRED status
+   *   <li>Publishes a CheckoutExpired event
+   * </ul>
+   *
+   * @param command the command containing the session ID and the inactivity timeout
+   * @return response telling whether the session was expired, or when it becomes due
+   */
+  @Override
+  ExpireCheckoutSessionResult execute(ExpireCheckoutSessionCommand command);
+}
@@ -0,0 +1,48 @@
+package de.sample.aiarchitecture.checkout.application.expirecheckoutsession;
+
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Output model for checkout session expiry.
+ *
+ * @param sessionId the checkout session ID
+ * @param expired whether the session was expired by this call (false if it was missing, no longer
+ *     active or not inactive for long enough)
+ * @param dueAt when the session may be expired instead, if it is active but was saved within the
+ *     inactivity timeout; null otherwise
+ */
+public record ExpireCheckoutSessionResult(
+    String sessionId, boolean expired, @Nullable Instant dueAt) {
+
+  /**
+   * Creates a response for an expired session.
+   *
+   * @param sessionId the checkout session ID
+   * @return a response indicating the session was expired
+   */
+  public static ExpireCheckoutSessionResult expired(final String sessionId) {
+    return new ExpireCheckoutSessionResult(sessionId, true, null);
+  }
+
+  /**
+   * Creates a response for a session that is missing or no longer active.
+   *
+   * @param sessionId the checkout session ID
+   * @return a response indicating there is nothing to expire
+   */
+  public static ExpireCheckoutSessionResult skipped(final String sessionId) {
+    return new ExpireCheckoutSessionResult(sessionId, false, null);
+  }
+
+  /**
+   * Creates a response for an active session that saw activity within the inactivity timeout.
+   *
+   * @param sessionId the checkout session ID
+   * @param dueAt when the session may be expired
+   * @return a response indicating the session was kept until the given time
+   */
+  public static ExpireCheckoutSessionResult notYetDue(final String sessionId, final Instant dueAt) {
+    return new ExpireCheckoutSessionResult(sessionId, false, dueAt);
+  }
+}
@@ -0,0 +1,60 @@
+package de.sample.aiarchitecture.checkout.application.expirecheckoutsession;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.DomainEventPublisher;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for expiring an inactive checkout session.
+ *
+ * <p>The session may have moved on between the expiry timer firing and this use case running, so
+ * only sessions that are still active are expired; everything else is a no-op.
+ *
+ * <p>The timer may also fire early, for example after a restart or when another instance served the
+ * last step. The persisted time of the last save is therefore checked against the inactivity
+ * timeout before the session is expired; a session saved more recently is kept, and the result
+ * tells when it becomes due.
+ */
+@Service
+@Transactional
+public class ExpireCheckoutSessionUseCase implements ExpireCheckoutSessionInputPort {
+
+  private final CheckoutSessionRepository checkoutSessionRepository;
+  private final DomainEventPublisher domainEventPublisher;
+
+  public ExpireCheckoutSessionUseCase(
+      final CheckoutSessionRepository checkoutSessionRepository,
+      final DomainEventPublisher domainEventPublisher) {
+    this.checkoutSessionRepository = checkoutSessionRepository;
+    this.domainEventPublisher = domainEventPublisher;
+  }
+
+  @Override
+  public ExpireCheckoutSessionResult execute(final ExpireCheckoutSessionCommand command) {
+    final Optional<CheckoutSession> found =
+        checkoutSessionRepository.findById(CheckoutSessionId.of(command.sessionId()));
+    if (found.isEmpty() || !found.get().isActive()) {
+      return ExpireCheckoutSessionResult.skipped(command.sessionId());
+    }
+
+    final CheckoutSession session = found.get();
+    final Optional<Instant> dueAt =
+        checkoutSessionRepository
+            .findUpdatedAtById(session.id())
+            .map(updatedAt -> updatedAt.plus(command.inactivityTimeout()));
+    if (dueAt.isPresent() && dueAt.get().isAfter(Instant.now())) {
+      return ExpireCheckoutSessionResult.notYetDue(command.sessionId(), dueAt.get());
+    }
+
+    session.expire();
+    checkoutSessionRepository.save(session);
+    domainEventPublisher.publishAndClearEvents(session);
+
+    return ExpireCheckoutSessionResult.expired(command.sessionId());
+  }
+}
@@ -2,6 +2,7 @@ package de.sample.aiarchitecture.checkout.application.getactivecheckoutsession;
 
 import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
 import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional(readOnly = true)
+@RequestMemoized
 public class GetActiveCheckoutSessionUseCase implements GetActiveCheckoutSessionInputPort {
 
   private final CheckoutSessionRepository checkoutSessionRepository;
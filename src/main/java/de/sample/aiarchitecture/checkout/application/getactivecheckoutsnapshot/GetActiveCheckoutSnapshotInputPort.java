@@ -0,0 +1,26 @@
+package de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for retrieving the snapshot of a customer's active checkout session.
+ *
+ * <p>Used by the checkout step pages, which need the full session state of the active session and
+ * previously had to look up the session ID first and then load the session by ID.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for read operations.
+ *
+ * @see GetActiveCheckoutSnapshotUseCase
+ */
+public interface GetActiveCheckoutSnapshotInputPort
+    extends UseCase<GetActiveCheckoutSnapshotQuery, GetActiveCheckoutSnapshotResult> {
+
+  /**
+   * Retrieves the snapshot of the customer's active checkout session.
+   *
+   * @param query the query containing the customer ID
+   * @return response containing the session snapshot or found=false
+   */
+  @Override
+  GetActiveCheckoutSnapshotResult execute(GetActiveCheckoutSnapshotQuery query);
+}
@@ -0,0 +1,19 @@
+package de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot;
+
+/**
+ * Query to get the snapshot of the active checkout session of a customer.
+ *
+ * @param customerId the customer ID
+ */
+public record GetActiveCheckoutSnapshotQuery(String customerId) {
+
+  public GetActiveCheckoutSnapshotQuery {
+    if (customerId == null || customerId.isBlank()) {
+      throw new IllegalArgumentException("Customer ID cannot be null or blank");
+    }
+  }
+
+  public static GetActiveCheckoutSnapshotQuery of(final String customerId) {
+    return new GetActiveCheckoutSnapshotQuery(customerId);
+  }
+}
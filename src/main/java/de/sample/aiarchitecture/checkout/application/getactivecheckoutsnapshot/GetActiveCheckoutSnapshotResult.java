@@ -0,0 +1,24 @@
+package de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot;
+
+import de.sample.aiarchitecture.checkout.domain.readmodel.CheckoutCartSnapshot;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Output model containing the snapshot of a customer's active checkout session.
+ *
+ * @param found whether an active session was found
+ * @param session the checkout cart snapshot (null if not found)
+ */
+public record GetActiveCheckoutSnapshotResult(
+    boolean found, @Nullable CheckoutCartSnapshot session) {
+
+  /** Creates a response indicating no active session was found. */
+  public static GetActiveCheckoutSnapshotResult notFound() {
+    return new GetActiveCheckoutSnapshotResult(false, null);
+  }
+
+  /** Creates a response with the snapshot of the active session. */
+  public static GetActiveCheckoutSnapshotResult found(final CheckoutCartSnapshot session) {
+    return new GetActiveCheckoutSnapshotResult(true, session);
+  }
+}
@@ -0,0 +1,58 @@
+package de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSnapshotCache;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.readmodel.CheckoutCartSnapshot;
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for retrieving the snapshot of a customer's active checkout session.
+ *
+ * <p>Looks the session up once through the customer index and serves the snapshot from the {@link
+ * CheckoutSnapshotCache} if it was already built for the current session version. Navigating
+ * between checkout steps without changing anything therefore does not copy the session again.
+ *
+ * <p><b>Hexagonal Architecture:</b> This class implements the {@link
+ * GetActiveCheckoutSnapshotInputPort} interface, which is a primary/driving port in the application
+ * layer.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequestMemoized
+public class GetActiveCheckoutSnapshotUseCase implements GetActiveCheckoutSnapshotInputPort {
+
+  private final CheckoutSessionRepository checkoutSessionRepository;
+  private final CheckoutSnapshotCache checkoutSnapshotCache;
+
+  public GetActiveCheckoutSnapshotUseCase(
+      final CheckoutSessionRepository checkoutSessionRepository,
+      final CheckoutSnapshotCache checkoutSnapshotCache) {
+    this.checkoutSessionRepository = checkoutSessionRepository;
+    this.checkoutSnapshotCache = checkoutSnapshotCache;
+  }
+
+  @Override
+  public GetActiveCheckoutSnapshotResult execute(final GetActiveCheckoutSnapshotQuery query) {
+    final Optional<CheckoutSession> found =
+        checkoutSessionRepository.findActiveByCustomerId(CustomerId.of(query.customerId()));
+    if (found.isEmpty()) {
+      return GetActiveCheckoutSnapshotResult.notFound();
+    }
+
+    final CheckoutSession session = found.get();
+    final Optional<CheckoutCartSnapshot> cached =
+        checkoutSnapshotCache.find(session.id(), session.version());
+    if (cached.isPresent()) {
+      return GetActiveCheckoutSnapshotResult.found(cached.get());
+    }
+
+    final CheckoutCartSnapshot snapshot = CheckoutCartSnapshot.from(session);
+    checkoutSnapshotCache.put(session.id(), session.version(), snapshot);
+    return GetActiveCheckoutSnapshotResult.found(snapshot);
+  }
+}
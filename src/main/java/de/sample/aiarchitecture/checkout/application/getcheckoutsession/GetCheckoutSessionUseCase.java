@@ -2,6 +2,7 @@ package de.sample.aiarchitecture.checkout.application.getcheckoutsession;
 
 import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
 import de.sample.aiarchitecture.checkout.domain.readmodel.CheckoutCartSnapshot;
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional(readOnly = true)
+@RequestMemoized
 public class GetCheckoutSessionUseCase implements GetCheckoutSessionInputPort {
 
   private final CheckoutSessionRepository checkoutSessionRepository;
@@ -0,0 +1,26 @@
+package de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for retrieving the last save time of all checkout sessions.
+ *
+ * <p>Driven by the session expiry scheduler at startup, so sessions stored before a restart get
+ * their expiry and retention timers back.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for read operations.
+ *
+ * @see GetCheckoutSessionTimestampsUseCase
+ */
+public interface GetCheckoutSessionTimestampsInputPort
+    extends UseCase<GetCheckoutSessionTimestampsQuery, GetCheckoutSessionTimestampsResult> {
+
+  /**
+   * Retrieves status and last save time of all stored checkout sessions.
+   *
+   * @param query the query (marker, no parameters required)
+   * @return response containing one entry per stored session
+   */
+  @Override
+  GetCheckoutSessionTimestampsResult execute(GetCheckoutSessionTimestampsQuery query);
+}
@@ -0,0 +1,8 @@
+package de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps;
+
+/**
+ * Query model for retrieving the last save time of all checkout sessions.
+ *
+ * <p>This is a marker record since no input parameters are required.
+ */
+public record GetCheckoutSessionTimestampsQuery() {}
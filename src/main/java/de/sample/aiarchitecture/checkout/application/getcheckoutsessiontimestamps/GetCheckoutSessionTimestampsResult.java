@@ -0,0 +1,21 @@
+package de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Output model containing the last save time of all checkout sessions.
+ *
+ * @param sessions one entry per stored checkout session
+ */
+public record GetCheckoutSessionTimestampsResult(List<SessionTimestamp> sessions) {
+
+  /**
+   * Last save time of a single checkout session.
+   *
+   * @param sessionId the checkout session ID
+   * @param active whether the session is still active
+   * @param updatedAt when the session was last saved
+   */
+  public record SessionTimestamp(String sessionId, boolean active, Instant updatedAt) {}
+}
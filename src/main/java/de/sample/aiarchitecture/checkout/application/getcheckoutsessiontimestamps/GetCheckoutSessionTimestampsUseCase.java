@@ -0,0 +1,38 @@
+package de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps;
+
+import de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps.GetCheckoutSessionTimestampsResult.SessionTimestamp;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for retrieving the last save time of all checkout sessions.
+ *
+ * <p>Reads the timestamps through {@link CheckoutSessionRepository#findAllTimestamps()}, so the
+ * sessions themselves are not loaded.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetCheckoutSessionTimestampsUseCase implements GetCheckoutSessionTimestampsInputPort {
+
+  private final CheckoutSessionRepository checkoutSessionRepository;
+
+  public GetCheckoutSessionTimestampsUseCase(
+      final CheckoutSessionRepository checkoutSessionRepository) {
+    this.checkoutSessionRepository = checkoutSessionRepository;
+  }
+
+  @Override
+  public GetCheckoutSessionTimestampsResult execute(final GetCheckoutSessionTimestampsQuery query) {
+    return new GetCheckoutSessionTimestampsResult(
+        checkoutSessionRepository.findAllTimestamps().stream()
+            .map(
+                timestamp ->
+                    new SessionTimestamp(
+                        timestamp.sessionId().value(),
+                        timestamp.status() == CheckoutSessionStatus.ACTIVE,
+                        timestamp.updatedAt()))
+            .toList());
+  }
+}
@@ -1,7 +1,9 @@
 package de.sample.aiarchitecture.checkout.application.getconfirmedcheckoutsession;
 
 import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.PlacedOrderArchive;
 import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,7 +11,8 @@ import org.springframework.transaction.annotation.Transactional;
  * Use case for getting a confirmed or completed checkout session for a customer.
  *
  * <p>This use case retrieves a confirmed or completed checkout session for displaying the
- * confirmation/thank you page after order confirmation.
+ * confirmation/thank you page after order confirmation. Once the session has been evicted from the
+ * live repository, the customer's latest archived placed order is returned instead.
  *
  * <p><b>Hexagonal Architecture:</b> This class implements the {@link
  * GetConfirmedCheckoutSessionInputPort} interface, which is a primary/driving port in the
@@ -17,13 +20,17 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional(readOnly = true)
+@RequestMemoized
 public class GetConfirmedCheckoutSessionUseCase implements GetConfirmedCheckoutSessionInputPort {
 
   private final CheckoutSessionRepository checkoutSessionRepository;
+  private final PlacedOrderArchive placedOrderArchive;
 
   public GetConfirmedCheckoutSessionUseCase(
-      final CheckoutSessionRepository checkoutSessionRepository) {
+      final CheckoutSessionRepository checkoutSessionRepository,
+      final PlacedOrderArchive placedOrderArchive) {
     this.checkoutSessionRepository = checkoutSessionRepository;
+    this.placedOrderArchive = placedOrderArchive;
   }
 
   @Override
@@ -36,6 +43,14 @@ public class GetConfirmedCheckoutSessionUseCase implements GetConfirmedCheckoutS
             session ->
                 GetConfirmedCheckoutSessionResult.of(
                     session.id().value(), session.customerId().value()))
+        .or(
+            () ->
+                placedOrderArchive
+                    .findLatestByCustomerId(customerId)
+                    .map(
+                        order ->
+                            GetConfirmedCheckoutSessionResult.of(
+                                order.sessionId().value(), order.customerId().value())))
         .orElseGet(GetConfirmedCheckoutSessionResult::notFound);
   }
 }
@@ -3,6 +3,7 @@ package de.sample.aiarchitecture.checkout.application.getpaymentproviders;
 import de.sample.aiarchitecture.checkout.application.getpaymentproviders.GetPaymentProvidersResult.PaymentProviderData;
 import de.sample.aiarchitecture.checkout.application.shared.PaymentProvider;
 import de.sample.aiarchitecture.checkout.application.shared.PaymentProviderRegistry;
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
 import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional(readOnly = true)
+@RequestMemoized
 public class GetPaymentProvidersUseCase implements GetPaymentProvidersInputPort {
 
   private final PaymentProviderRegistry paymentProviderRegistry;
@@ -0,0 +1,25 @@
+package de.sample.aiarchitecture.checkout.application.getpaymentproviderstats;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for retrieving the live health statistics of the registered payment providers.
+ *
+ * <p>Used by operational adapters such as the {@code paymentproviders} actuator endpoint.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for read operations.
+ *
+ * @see GetPaymentProviderStatsUseCase
+ */
+public interface GetPaymentProviderStatsInputPort
+    extends UseCase<GetPaymentProviderStatsQuery, GetPaymentProviderStatsResult> {
+
+  /**
+   * Retrieves the statistics of all registered payment providers.
+   *
+   * @param query the query (marker, no parameters required)
+   * @return response containing one entry per provider
+   */
+  @Override
+  GetPaymentProviderStatsResult execute(GetPaymentProviderStatsQuery query);
+}
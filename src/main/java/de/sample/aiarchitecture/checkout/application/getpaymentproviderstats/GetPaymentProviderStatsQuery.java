@@ -0,0 +1,18 @@
+package de.sample.aiarchitecture.checkout.application.getpaymentproviderstats;
+
+/**
+ * Query model for retrieving payment provider statistics.
+ *
+ * <p>This is a marker record since no input parameters are required.
+ */
+public record GetPaymentProviderStatsQuery() {
+
+  /**
+   * Creates a new query instance.
+   *
+   * @return a new GetPaymentProviderStatsQuery
+   */
+  public static GetPaymentProviderStatsQuery create() {
+    return new GetPaymentProviderStatsQuery();
+  }
+}
@@ -0,0 +1,11 @@
+package de.sample.aiarchitecture.checkout.application.getpaymentproviderstats;
+
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProviderStats;
+import java.util.List;
+
+/**
+ * Output model containing the statistics of the registered payment providers.
+ *
+ * @param providers one entry per registered provider, ordered by provider ID
+ */
+public record GetPaymentProviderStatsResult(List<PaymentProviderStats> providers) {}
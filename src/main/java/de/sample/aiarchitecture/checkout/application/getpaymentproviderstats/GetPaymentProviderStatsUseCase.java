@@ -0,0 +1,30 @@
+package de.sample.aiarchitecture.checkout.application.getpaymentproviderstats;
+
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProviderRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for retrieving the live health statistics of the registered payment providers.
+ *
+ * <p>The statistics (circuit state, success rate, latency, concurrency) are kept by the {@link
+ * PaymentProviderRegistry} implementation and change with every payment call, so they are read
+ * fresh on every execution.
+ *
+ * <p><b>Hexagonal Architecture:</b> This class implements the {@link
+ * GetPaymentProviderStatsInputPort} interface, which is a primary/driving port in the application
+ * layer.
+ */
+@Service
+public class GetPaymentProviderStatsUseCase implements GetPaymentProviderStatsInputPort {
+
+  private final PaymentProviderRegistry paymentProviderRegistry;
+
+  public GetPaymentProviderStatsUseCase(final PaymentProviderRegistry paymentProviderRegistry) {
+    this.paymentProviderRegistry = paymentProviderRegistry;
+  }
+
+  @Override
+  public GetPaymentProviderStatsResult execute(final GetPaymentProviderStatsQuery query) {
+    return new GetPaymentProviderStatsResult(paymentProviderRegistry.stats());
+  }
+}
@@ -0,0 +1,26 @@
+package de.sample.aiarchitecture.checkout.application.getplacedorder;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for retrieving the archived placed order of an evicted checkout session.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for read operations.
+ *
+ * @see GetPlacedOrderUseCase
+ */
+public interface GetPlacedOrderInputPort
+    extends UseCase<GetPlacedOrderQuery, GetPlacedOrderResult> {
+
+  /**
+   * Retrieves a placed order from the archive.
+   *
+   * <p>Sessions that are still in the live repository are not archived yet; use the checkout
+   * session queries for them.
+   *
+   * @param query the query containing the session ID
+   * @return response containing the placed order or found=false
+   */
+  @Override
+  GetPlacedOrderResult execute(GetPlacedOrderQuery query);
+}
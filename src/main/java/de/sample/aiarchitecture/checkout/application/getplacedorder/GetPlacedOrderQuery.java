@@ -0,0 +1,27 @@
+package de.sample.aiarchitecture.checkout.application.getplacedorder;
+
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+
+/**
+ * Query model for retrieving an archived placed order by checkout session ID.
+ *
+ * @param sessionId the checkout session ID of the order
+ */
+public record GetPlacedOrderQuery(CheckoutSessionId sessionId) {
+
+  public GetPlacedOrderQuery {
+    if (sessionId == null) {
+      throw new IllegalArgumentException("Session ID cannot be null");
+    }
+  }
+
+  /**
+   * Creates a new query for the given session ID string.
+   *
+   * @param sessionId the session ID string
+   * @return a new GetPlacedOrderQuery
+   */
+  public static GetPlacedOrderQuery of(final String sessionId) {
+    return new GetPlacedOrderQuery(CheckoutSessionId.of(sessionId));
+  }
+}
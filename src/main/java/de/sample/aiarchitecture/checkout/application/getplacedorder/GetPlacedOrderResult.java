@@ -0,0 +1,32 @@
+package de.sample.aiarchitecture.checkout.application.getplacedorder;
+
+import de.sample.aiarchitecture.checkout.domain.readmodel.PlacedOrder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Output model containing an archived placed order.
+ *
+ * @param found whether the order was found in the archive
+ * @param order the placed order (null if not found)
+ */
+public record GetPlacedOrderResult(boolean found, @Nullable PlacedOrder order) {
+
+  /**
+   * Creates a not-found response.
+   *
+   * @return a response indicating the order was not found
+   */
+  public static GetPlacedOrderResult notFound() {
+    return new GetPlacedOrderResult(false, null);
+  }
+
+  /**
+   * Creates a found response with the placed order.
+   *
+   * @param order the placed order
+   * @return a response containing the order
+   */
+  public static GetPlacedOrderResult found(final PlacedOrder order) {
+    return new GetPlacedOrderResult(true, order);
+  }
+}
@@ -0,0 +1,30 @@
+package de.sample.aiarchitecture.checkout.application.getplacedorder;
+
+import de.sample.aiarchitecture.checkout.application.shared.PlacedOrderArchive;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for retrieving an archived placed order.
+ *
+ * <p><b>Hexagonal Architecture:</b> This class implements the {@link GetPlacedOrderInputPort}
+ * interface, which is a primary/driving port in the application layer.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetPlacedOrderUseCase implements GetPlacedOrderInputPort {
+
+  private final PlacedOrderArchive placedOrderArchive;
+
+  public GetPlacedOrderUseCase(final PlacedOrderArchive placedOrderArchive) {
+    this.placedOrderArchive = placedOrderArchive;
+  }
+
+  @Override
+  public GetPlacedOrderResult execute(final GetPlacedOrderQuery query) {
+    return placedOrderArchive
+        .findBySessionId(query.sessionId())
+        .map(GetPlacedOrderResult::found)
+        .orElseGet(GetPlacedOrderResult::notFound);
+  }
+}
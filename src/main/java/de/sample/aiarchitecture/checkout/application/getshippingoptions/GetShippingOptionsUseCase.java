@@ -3,6 +3,7 @@ package de.sample.aiarchitecture.checkout.application.getshippingoptions;
 import de.sample.aiarchitecture.checkout.application.getshippingoptions.GetShippingOptionsResult.ShippingOptionData;
 import de.sample.aiarchitecture.checkout.domain.model.ShippingOption;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
 import java.math.BigDecimal;
 import java.util.Currency;
 import java.util.List;
@@ -20,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Service
 @Transactional(readOnly = true)
+@RequestMemoized
 public class GetShippingOptionsUseCase implements GetShippingOptionsInputPort {
 
   private static final Currency EUR = Currency.getInstance("EUR");
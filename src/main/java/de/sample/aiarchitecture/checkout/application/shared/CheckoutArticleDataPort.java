@@ -26,4 +26,19 @@ public interface CheckoutArticleDataPort extends OutputPort {
    *     not be included in the map
    */
   Map<ProductId, CheckoutArticle> getArticleData(Collection<ProductId> productIds);
+
+  /**
+   * Retrieves authoritative article data for a collection of product IDs, bypassing any cache.
+   *
+   * <p>Use this where prices and stock must be current, e.g. when confirming a checkout.
+   * Implementations without a cache can rely on the default, which delegates to {@link
+   * #getArticleData(Collection)}.
+   *
+   * @param productIds the collection of product IDs to fetch data for
+   * @return a map from ProductId to CheckoutArticle for all found products; products not found will
+   *     not be included in the map
+   */
+  default Map<ProductId, CheckoutArticle> getFreshArticleData(Collection<ProductId> productIds) {
+    return getArticleData(productIds);
+  }
 }
@@ -5,6 +5,7 @@ import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
 import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
 import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.Repository;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,6 +66,23 @@ public interface CheckoutSessionRepository extends Repository<CheckoutSession, C
    */
   List<CheckoutSession> findExpiredSessions();
 
+  /**
+   * Returns when a checkout session was last saved.
+   *
+   * @param id the checkout session ID
+   * @return the time of the last save, empty if the session does not exist
+   */
+  Optional<Instant> findUpdatedAtById(CheckoutSessionId id);
+
+  /**
+   * Retrieves status and last save time of all checkout sessions.
+   *
+   * <p>Used to re-arm expiry and retention timers after a restart, without loading the sessions.
+   *
+   * @return the timestamps of all checkout sessions
+   */
+  List<CheckoutSessionTimestamp> findAllTimestamps();
+
   /**
    * Retrieves all checkout sessions.
    *
@@ -0,0 +1,15 @@
+package de.sample.aiarchitecture.checkout.application.shared;
+
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import java.time.Instant;
+
+/**
+ * Status and last save time of a checkout session, read without loading the session.
+ *
+ * @param sessionId the checkout session ID
+ * @param status the status the session was saved with
+ * @param updatedAt when the session was last saved
+ */
+public record CheckoutSessionTimestamp(
+    CheckoutSessionId sessionId, CheckoutSessionStatus status, Instant updatedAt) {}
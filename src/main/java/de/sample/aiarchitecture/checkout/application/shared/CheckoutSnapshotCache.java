@@ -0,0 +1,44 @@
+package de.sample.aiarchitecture.checkout.application.shared;
+
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.readmodel.CheckoutCartSnapshot;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.Store;
+import java.util.Optional;
+
+/**
+ * Cache for {@link CheckoutCartSnapshot} read models, keyed by session and session version.
+ *
+ * <p>Every state change of a session increases its version, so a cached snapshot can only be
+ * returned for the exact state it was built from; no explicit invalidation is needed for
+ * correctness. {@link #invalidate} only frees entries of sessions that moved on.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a secondary/driven port implemented by an outgoing
+ * adapter.
+ */
+public interface CheckoutSnapshotCache extends Store {
+
+  /**
+   * Returns the cached snapshot of the session if it was built from the given version.
+   *
+   * @param sessionId the checkout session ID
+   * @param version the current version of the session
+   * @return the cached snapshot, or empty if none is cached for this version
+   */
+  Optional<CheckoutCartSnapshot> find(CheckoutSessionId sessionId, long version);
+
+  /**
+   * Caches the snapshot of a session version, replacing any snapshot of an older version.
+   *
+   * @param sessionId the checkout session ID
+   * @param version the version the snapshot was built from
+   * @param snapshot the snapshot
+   */
+  void put(CheckoutSessionId sessionId, long version, CheckoutCartSnapshot snapshot);
+
+  /**
+   * Drops the cached snapshot of a session.
+   *
+   * @param sessionId the checkout session ID
+   */
+  void invalidate(CheckoutSessionId sessionId);
+}
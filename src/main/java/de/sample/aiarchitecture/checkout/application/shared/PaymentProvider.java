@@ -4,6 +4,7 @@ import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
 import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.OutputPort;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Output port for payment processing operations.
@@ -13,6 +14,16 @@ import de.sample.aiarchitecture.sharedkernel.marker.port.out.OutputPort;
  *
  * <p>This is a plugin interface following the Strategy pattern, allowing the checkout system to
  * work with multiple payment providers without coupling to specific implementations.
+ *
+ * <p>Payment operations come in a blocking and an asynchronous flavour. Providers only implement
+ * the blocking methods; the asynchronous ones run the blocking call on the caller's thread by
+ * default, turning exceptions into failure results, and are overridden by the registry, which runs
+ * every call on its own thread with a deadline.
+ *
+ * <p>A failure result caused by a deadline does not prove that the provider did nothing: the
+ * provider may still have processed the call. Implementations with a deadline compensate a charge
+ * that completes late by cancelling it; callers must not retry a timed out initiation or
+ * confirmation blindly.
  */
 public interface PaymentProvider extends OutputPort {
 
@@ -71,6 +82,58 @@ public interface PaymentProvider extends OutputPort {
    */
   boolean isAvailable();
 
+  /**
+   * Initiates a payment without blocking the caller.
+   *
+   * @param sessionId the checkout session to process payment for
+   * @param amount the total amount to charge
+   * @return future completed with the result of the payment initiation; never completed
+   *     exceptionally
+   * @see #initiatePayment
+   */
+  default CompletableFuture<PaymentResult> initiatePaymentAsync(
+      final CheckoutSessionId sessionId, final Money amount) {
+    try {
+      return CompletableFuture.completedFuture(initiatePayment(sessionId, amount));
+    } catch (RuntimeException e) {
+      return CompletableFuture.completedFuture(
+          PaymentResult.failure(displayName() + " failed to respond"));
+    }
+  }
+
+  /**
+   * Confirms a previously initiated payment without blocking the caller.
+   *
+   * @param providerReference the reference returned from {@link #initiatePayment}
+   * @return future completed with the result of the payment confirmation; never completed
+   *     exceptionally
+   * @see #confirmPayment
+   */
+  default CompletableFuture<PaymentResult> confirmPaymentAsync(final String providerReference) {
+    try {
+      return CompletableFuture.completedFuture(confirmPayment(providerReference));
+    } catch (RuntimeException e) {
+      return CompletableFuture.completedFuture(
+          PaymentResult.failure(displayName() + " failed to respond"));
+    }
+  }
+
+  /**
+   * Cancels a previously initiated payment without blocking the caller.
+   *
+   * @param providerReference the reference returned from {@link #initiatePayment}
+   * @return future completed with the result of the cancellation; never completed exceptionally
+   * @see #cancelPayment
+   */
+  default CompletableFuture<PaymentResult> cancelPaymentAsync(final String providerReference) {
+    try {
+      return CompletableFuture.completedFuture(cancelPayment(providerReference));
+    } catch (RuntimeException e) {
+      return CompletableFuture.completedFuture(
+          PaymentResult.failure(displayName() + " failed to respond"));
+    }
+  }
+
   /**
    * Result of a payment operation.
    *
@@ -66,4 +66,11 @@ public interface PaymentProviderRegistry extends OutputPort {
    * @return true if registered, false otherwise
    */
   boolean isRegistered(PaymentProviderId providerId);
+
+  /**
+   * Returns the live statistics of all registered providers, ordered by provider ID.
+   *
+   * @return one entry per registered provider (never null, may be empty)
+   */
+  List<PaymentProviderStats> stats();
 }
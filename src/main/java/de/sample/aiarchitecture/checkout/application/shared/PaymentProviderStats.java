@@ -0,0 +1,26 @@
+package de.sample.aiarchitecture.checkout.application.shared;
+
+/**
+ * Live statistics of a registered payment provider, as reported by {@link
+ * PaymentProviderRegistry#stats()}.
+ *
+ * @param providerId the payment provider ID
+ * @param displayName the display name
+ * @param available whether the provider is currently offered for payment
+ * @param circuitState state of the circuit breaker (CLOSED, OPEN or HALF_OPEN)
+ * @param calls number of calls in the rolling window
+ * @param successRate share of calls in the window that did not time out or fail
+ * @param p95LatencyMillis 95th percentile latency of the calls in the window
+ * @param inFlight number of calls currently running
+ * @param maxConcurrentCalls concurrency cap of the provider, 0 if calls are not isolated
+ */
+public record PaymentProviderStats(
+    String providerId,
+    String displayName,
+    boolean available,
+    String circuitState,
+    int calls,
+    double successRate,
+    double p95LatencyMillis,
+    int inFlight,
+    int maxConcurrentCalls) {}
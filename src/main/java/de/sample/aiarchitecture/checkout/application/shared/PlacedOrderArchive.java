@@ -0,0 +1,43 @@
+package de.sample.aiarchitecture.checkout.application.shared;
+
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.readmodel.PlacedOrder;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.Store;
+import java.util.Optional;
+
+/**
+ * Archive of {@link PlacedOrder} records for checkout sessions that left the live repository.
+ *
+ * <p>Written by {@code EvictCheckoutSessionUseCase} when a confirmed or completed session is
+ * evicted; read by order lookups once the session itself is gone. Archived orders are immutable and
+ * never removed.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a secondary/driven port implemented by an outgoing
+ * adapter.
+ */
+public interface PlacedOrderArchive extends Store {
+
+  /**
+   * Archives a placed order, replacing an earlier archived form of the same session.
+   *
+   * @param order the placed order
+   */
+  void archive(PlacedOrder order);
+
+  /**
+   * Finds the placed order of a checkout session.
+   *
+   * @param sessionId the checkout session ID
+   * @return the placed order, or empty if the session was not archived
+   */
+  Optional<PlacedOrder> findBySessionId(CheckoutSessionId sessionId);
+
+  /**
+   * Finds the most recently archived placed order of a customer.
+   *
+   * @param customerId the customer ID
+   * @return the latest placed order, or empty if the customer has none archived
+   */
+  Optional<PlacedOrder> findLatestByCustomerId(CustomerId customerId);
+}
@@ -2,7 +2,8 @@ package de.sample.aiarchitecture.checkout.application.shared;
 
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.OutputPort;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * Output port for accessing product information from Checkout context.
@@ -13,24 +14,26 @@ import java.util.Optional;
  * <p><b>Hexagonal Architecture:</b> This is a secondary/driven port that defines what the Checkout
  * application layer needs from the Product context.
  *
- * <p><b>Note:</b> Checkout only needs product names for line items, so this port provides a minimal
- * interface specific to Checkout's needs.
+ * <p><b>Note:</b> Checkout only needs product names and images for line items, so this port
+ * provides a minimal interface specific to Checkout's needs. Lookups are always in bulk, so a cart
+ * sync costs one catalog call regardless of the number of lines.
  */
 public interface ProductInfoPort extends OutputPort {
 
   /**
-   * Retrieves the product name.
+   * Product information as needed by Checkout line items.
    *
    * @param productId the product ID
-   * @return product name if found
+   * @param name the product name
+   * @param imageUrl the product image URL
    */
-  Optional<String> getProductName(ProductId productId);
+  record ProductInfo(ProductId productId, String name, String imageUrl) {}
 
   /**
-   * Retrieves the product image URL.
+   * Retrieves name and image URL for multiple products in one call.
    *
-   * @param productId the product ID
-   * @return product image URL if found
+   * @param productIds the collection of product IDs to look up
+   * @return map of product IDs to their product info; products not found will not be in the map
    */
-  Optional<String> getProductImageUrl(ProductId productId);
+  Map<ProductId, ProductInfo> getProductInfos(Collection<ProductId> productIds);
 }
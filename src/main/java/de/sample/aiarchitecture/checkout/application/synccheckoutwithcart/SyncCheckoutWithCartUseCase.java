@@ -4,13 +4,16 @@ import de.sample.aiarchitecture.checkout.application.shared.CartData;
 import de.sample.aiarchitecture.checkout.application.shared.CartDataPort;
 import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
 import de.sample.aiarchitecture.checkout.application.shared.ProductInfoPort;
+import de.sample.aiarchitecture.checkout.application.shared.ProductInfoPort.ProductInfo;
 import de.sample.aiarchitecture.checkout.domain.model.CartId;
 import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
 import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
 import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
-import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,7 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <ul>
  *   <li>Cart data through {@link CartDataPort} output port
- *   <li>Product names through {@link ProductInfoPort} output port
+ *   <li>Product names and images through {@link ProductInfoPort} output port, in one bulk lookup
  * </ul>
  *
  * This isolates the Checkout context from direct coupling to other contexts' domain models.
@@ -92,38 +95,42 @@ public class SyncCheckoutWithCartUseCase implements SyncCheckoutWithCartInputPor
       return SyncCheckoutWithCartResult.noActiveSession();
     }
 
-    // Build new line items from current cart state
-    final List<CheckoutLineItem> newLineItems = new ArrayList<>();
-    Money subtotal = Money.euro(0.0);
+    // Load product names and images for all cart items in one call
+    final List<ProductId> productIds =
+        cart.items().stream().map(CartData.CartItemData::productId).toList();
+    final Map<ProductId, ProductInfo> productInfos = productInfoPort.getProductInfos(productIds);
 
+    // Lines of products already in the session keep their ID; only new products get one
+    final Map<ProductId, CheckoutLineItemId> lineItemIds = new HashMap<>();
+    for (final CheckoutLineItem existing : session.lineItems()) {
+      lineItemIds.put(existing.productId(), existing.id());
+    }
+
+    // Build line items from current cart state
+    final List<CheckoutLineItem> cartLineItems = new ArrayList<>(cart.items().size());
     for (final CartData.CartItemData cartItem : cart.items()) {
-      // Load product name through output port
-      final String productName =
-          productInfoPort
-              .getProductName(cartItem.productId())
-              .orElseThrow(
-                  () ->
-                      new IllegalArgumentException(
-                          "Product not found: " + cartItem.productId().value()));
-
-      // Load product image URL through output port
-      final String imageUrl = productInfoPort.getProductImageUrl(cartItem.productId()).orElse(null);
-
-      final CheckoutLineItem lineItem =
+      final ProductInfo productInfo = productInfos.get(cartItem.productId());
+      if (productInfo == null) {
+        throw new IllegalArgumentException("Product not found: " + cartItem.productId().value());
+      }
+
+      final CheckoutLineItemId lineItemId = lineItemIds.get(cartItem.productId());
+      cartLineItems.add(
           CheckoutLineItem.of(
-              CheckoutLineItemId.generate(),
+              lineItemId != null ? lineItemId : CheckoutLineItemId.generate(),
               cartItem.productId(),
-              productName,
+              productInfo.name(),
               cartItem.priceAtAddition().value(),
               cartItem.quantity(),
-              imageUrl);
-
-      newLineItems.add(lineItem);
-      subtotal = subtotal.add(lineItem.lineTotal());
+              productInfo.imageUrl()));
     }
 
-    // Sync line items to session
-    session.syncLineItems(newLineItems, subtotal);
+    // Diff line items into the session; an unchanged session is not saved again
+    if (!session.syncLineItems(cartLineItems)) {
+      logger.debug(
+          "Checkout session {} already matches cart {}", session.id().value(), command.cartId());
+      return SyncCheckoutWithCartResult.synced(session.id().value(), cartLineItems.size());
+    }
 
     // Persist updated session
     checkoutSessionRepository.save(session);
@@ -132,9 +139,9 @@ public class SyncCheckoutWithCartUseCase implements SyncCheckoutWithCartInputPor
         "Synced checkout session {} with cart {} - {} items, subtotal: {}",
         session.id().value(),
         command.cartId(),
-        newLineItems.size(),
-        subtotal);
+        cartLineItems.size(),
+        session.totals().subtotal());
 
-    return SyncCheckoutWithCartResult.synced(session.id().value().toString(), newLineItems.size());
+    return SyncCheckoutWithCartResult.synced(session.id().value(), cartLineItems.size());
   }
 }
@@ -0,0 +1,70 @@
+package de.sample.aiarchitecture.checkout.domain.event;
+
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.DomainEvent;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain Event indicating that one or more checkouts were confirmed in the same transaction.
+ *
+ * <p>Raised by the batch confirmation use case after the {@link CheckoutConfirmed} events of the
+ * individual sessions, with the ordered quantities of all sessions summed per product. Stock
+ * reduction handles the whole batch in one pass per product instead of one pass per order line; the
+ * sessions' own {@link CheckoutConfirmed} events are marked {@code stockReducedInBatch}.
+ *
+ * <p><b>Cross-context communication</b> uses the integration event {@code
+ * CheckoutBatchConfirmedEvent} (created by an outgoing event adapter), not this domain event
+ * directly.
+ *
+ * @see
+ *     de.sample.aiarchitecture.checkout.adapter.outgoing.event.CheckoutBatchConfirmedEventPublisher
+ */
+public record CheckoutBatchConfirmed(
+    UUID eventId,
+    List<CheckoutSessionId> sessionIds,
+    List<ProductQuantity> quantities,
+    Instant occurredOn)
+    implements DomainEvent {
+
+  /**
+   * Creates a CheckoutBatchConfirmed event from confirmed checkout sessions.
+   *
+   * @param sessions the sessions confirmed in the transaction, not empty
+   * @return the event
+   */
+  public static CheckoutBatchConfirmed of(final List<CheckoutSession> sessions) {
+    if (sessions == null || sessions.isEmpty()) {
+      throw new IllegalArgumentException("Confirmed sessions cannot be empty");
+    }
+
+    final Map<ProductId, Integer> quantities = new LinkedHashMap<>();
+    for (final CheckoutSession session : sessions) {
+      for (final CheckoutLineItem item : session.lineItems()) {
+        quantities.merge(item.productId(), item.quantity(), Integer::sum);
+      }
+    }
+
+    return new CheckoutBatchConfirmed(
+        UUID.randomUUID(),
+        sessions.stream().map(CheckoutSession::id).toList(),
+        quantities.entrySet().stream()
+            .map(entry -> new ProductQuantity(entry.getKey(), entry.getValue()))
+            .toList(),
+        Instant.now());
+  }
+
+  /**
+   * Total ordered quantity of a product across the batch.
+   *
+   * @param productId the product ID from Shared Kernel
+   * @param quantity the summed quantity
+   */
+  public record ProductQuantity(ProductId productId, int quantity) {}
+}
@@ -17,6 +17,10 @@ import java.util.UUID;
  * <p>This is an internal domain event raised by the {@code CheckoutSession} aggregate when the
  * customer reviews and confirms their order.
  *
+ * <p>When the session was confirmed as part of a batch, the ordered quantities are also carried by
+ * the batch's {@link CheckoutBatchConfirmed} event and {@code stockReducedInBatch} is set, so stock
+ * is reduced from the batch event only.
+ *
  * <p><b>Cross-context communication</b> uses the integration event {@code CheckoutConfirmedEvent}
  * (created by an outgoing event adapter), not this domain event directly.
  *
@@ -29,7 +33,8 @@ public record CheckoutConfirmed(
     CustomerId customerId,
     Money totalAmount,
     List<LineItemInfo> items,
-    Instant occurredOn)
+    Instant occurredOn,
+    boolean stockReducedInBatch)
     implements DomainEvent {
 
   /** Creates a CheckoutConfirmed event from checkout session data. */
@@ -46,7 +51,23 @@ public record CheckoutConfirmed(
             .toList();
 
     return new CheckoutConfirmed(
-        UUID.randomUUID(), sessionId, cartId, customerId, totalAmount, itemInfos, Instant.now());
+        UUID.randomUUID(),
+        sessionId,
+        cartId,
+        customerId,
+        totalAmount,
+        itemInfos,
+        Instant.now(),
+        false);
+  }
+
+  /**
+   * Returns a copy of this event marking the session as confirmed in a batch whose {@link
+   * CheckoutBatchConfirmed} event reduces the stock.
+   */
+  public CheckoutConfirmed inBatch() {
+    return new CheckoutConfirmed(
+        eventId, sessionId, cartId, customerId, totalAmount, items, occurredOn, true);
   }
 
   /**
@@ -10,10 +10,14 @@ import de.sample.aiarchitecture.checkout.domain.event.DeliverySubmitted;
 import de.sample.aiarchitecture.checkout.domain.event.PaymentSubmitted;
 import de.sample.aiarchitecture.checkout.domain.model.CheckoutValidationResult.ValidationError;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
 import de.sample.aiarchitecture.sharedkernel.marker.tactical.BaseAggregateRoot;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -47,6 +51,9 @@ import org.jspecify.annotations.Nullable;
  */
 public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, CheckoutSessionId> {
 
+  /** {@link #persistedVersion()} of a session that was never saved. */
+  public static final long NOT_PERSISTED = -1;
+
   private final CheckoutSessionId id;
   private final CartId cartId;
   private final CustomerId customerId;
@@ -64,6 +71,12 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
   // Order reference after completion
   private String orderReference;
 
+  // Number of state changes, restored on reconstitution; read models are cached per version
+  private long version;
+
+  // Version as of the last load or save, NOT_PERSISTED for a session that was never saved
+  private long persistedVersion = NOT_PERSISTED;
+
   private CheckoutSession(
       final CheckoutSessionId id,
       final CartId cartId,
@@ -112,6 +125,56 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
     return session;
   }
 
+  /**
+   * Reconstructs a CheckoutSession from persistence.
+   *
+   * <p>Used by repositories when loading sessions from storage. Restores identity, status, step
+   * data and totals without running business rules and without registering domain events.
+   *
+   * @param id the session ID
+   * @param cartId the cart the session was created from
+   * @param customerId the customer ID
+   * @param status the stored session status
+   * @param currentStep the stored checkout step
+   * @param lineItems the stored line items
+   * @param totals the stored totals
+   * @param buyerInfo the buyer info, or null if not submitted
+   * @param deliveryAddress the delivery address, or null if not submitted
+   * @param shippingOption the shipping option, or null if not submitted
+   * @param paymentSelection the payment selection, or null if not submitted
+   * @param orderReference the order reference, or null if not completed
+   * @param version the stored version, see {@link #version()}
+   * @return the reconstructed CheckoutSession
+   */
+  public static CheckoutSession reconstitute(
+      final CheckoutSessionId id,
+      final CartId cartId,
+      final CustomerId customerId,
+      final CheckoutSessionStatus status,
+      final CheckoutStep currentStep,
+      final List<CheckoutLineItem> lineItems,
+      final CheckoutTotals totals,
+      @Nullable final BuyerInfo buyerInfo,
+      @Nullable final DeliveryAddress deliveryAddress,
+      @Nullable final ShippingOption shippingOption,
+      @Nullable final PaymentSelection paymentSelection,
+      @Nullable final String orderReference,
+      final long version) {
+    final CheckoutSession session =
+        new CheckoutSession(id, cartId, customerId, lineItems, totals.subtotal());
+    session.totals = totals;
+    session.currentStep = currentStep;
+    session.status = status;
+    session.buyerInfo = buyerInfo;
+    session.deliveryAddress = deliveryAddress;
+    session.shippingOption = shippingOption;
+    session.paymentSelection = paymentSelection;
+    session.orderReference = orderReference;
+    session.version = version;
+    session.persistedVersion = version;
+    return session;
+  }
+
   @Override
   public CheckoutSessionId id() {
     return id;
@@ -166,35 +229,126 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
     return orderReference;
   }
 
+  /**
+   * Returns the version of this session.
+   *
+   * <p>Starts at zero and increases with every state change, so two reads with the same session ID
+   * and version see the same state.
+   *
+   * @return the version of this session
+   */
+  public long version() {
+    return version;
+  }
+
+  /**
+   * Returns the version this session had when it was last loaded or saved.
+   *
+   * <p>Repositories use it for optimistic locking: a save only succeeds if the stored session still
+   * has this version, so two saves of the same loaded state cannot both win.
+   *
+   * @return the persisted version, or {@link #NOT_PERSISTED} if the session was never saved
+   */
+  public long persistedVersion() {
+    return persistedVersion;
+  }
+
+  /** Records that the current state was saved. Called by repositories after a successful save. */
+  public void markPersisted() {
+    this.persistedVersion = version;
+  }
+
   /**
    * Synchronizes line items with the current cart state.
    *
    * <p>This method updates the checkout session's line items when the underlying cart changes
-   * during the checkout flow. It recalculates the subtotal and updates totals accordingly.
+   * during the checkout flow. Lines are matched by product: a matched line keeps its ID and is only
+   * replaced if its quantity, price, name or image changed; new products are added with the ID of
+   * the given line, and products no longer in the cart are removed. The subtotal is adjusted by the
+   * difference of each changed line instead of being recomputed.
    *
-   * @param newLineItems the updated line items from the cart
-   * @param newSubtotal the new subtotal calculated from the cart
+   * <p>If the cart still matches the session line by line, nothing is touched and no list is
+   * allocated.
+   *
+   * @param cartLineItems the line items built from the current cart, in cart order
+   * @return true if the line items changed, false if they already matched the cart
    * @throws IllegalStateException if session is not modifiable
-   * @throws IllegalArgumentException if newLineItems is empty
+   * @throws IllegalArgumentException if cartLineItems is empty
    */
-  public void syncLineItems(final List<CheckoutLineItem> newLineItems, final Money newSubtotal) {
+  public boolean syncLineItems(final List<CheckoutLineItem> cartLineItems) {
     ensureModifiable();
 
-    if (newLineItems == null || newLineItems.isEmpty()) {
+    if (cartLineItems == null || cartLineItems.isEmpty()) {
       throw new IllegalArgumentException("Cannot sync with empty line items");
     }
 
+    if (matchesInOrder(cartLineItems)) {
+      return false;
+    }
+
+    final Map<ProductId, CheckoutLineItem> previous = new HashMap<>(lineItems.size() * 2);
+    for (final CheckoutLineItem item : lineItems) {
+      previous.put(item.productId(), item);
+    }
+
+    Money subtotal = this.totals.subtotal();
+    final List<CheckoutLineItem> synced = new ArrayList<>(cartLineItems.size());
+    for (final CheckoutLineItem cartItem : cartLineItems) {
+      final CheckoutLineItem existing = previous.remove(cartItem.productId());
+      if (existing == null) {
+        synced.add(cartItem);
+        subtotal = subtotal.add(cartItem.lineTotal());
+      } else if (sameContent(existing, cartItem)) {
+        synced.add(existing);
+      } else {
+        final CheckoutLineItem updated =
+            CheckoutLineItem.of(
+                existing.id(),
+                cartItem.productId(),
+                cartItem.productName(),
+                cartItem.unitPrice(),
+                cartItem.quantity(),
+                cartItem.imageUrl());
+        synced.add(updated);
+        subtotal = subtotal.subtract(existing.lineTotal()).add(updated.lineTotal());
+      }
+    }
+    // Whatever was not matched is no longer in the cart
+    for (final CheckoutLineItem removed : previous.values()) {
+      subtotal = subtotal.subtract(removed.lineTotal());
+    }
+
     this.lineItems.clear();
-    this.lineItems.addAll(newLineItems);
+    this.lineItems.addAll(synced);
+    this.version++;
 
     // Recalculate totals with existing shipping cost
     final Money shippingCost = this.totals.shipping();
     this.totals =
         CheckoutTotals.of(
-            newSubtotal,
-            shippingCost,
-            Money.zero(newSubtotal.currency()),
-            newSubtotal.add(shippingCost));
+            subtotal, shippingCost, Money.zero(subtotal.currency()), subtotal.add(shippingCost));
+    return true;
+  }
+
+  private boolean matchesInOrder(final List<CheckoutLineItem> cartLineItems) {
+    if (cartLineItems.size() != lineItems.size()) {
+      return false;
+    }
+    for (int i = 0; i < cartLineItems.size(); i++) {
+      final CheckoutLineItem existing = lineItems.get(i);
+      final CheckoutLineItem cartItem = cartLineItems.get(i);
+      if (!existing.productId().equals(cartItem.productId()) || !sameContent(existing, cartItem)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean sameContent(final CheckoutLineItem a, final CheckoutLineItem b) {
+    return a.quantity() == b.quantity()
+        && a.unitPrice().equals(b.unitPrice())
+        && a.productName().equals(b.productName())
+        && Objects.equals(a.imageUrl(), b.imageUrl());
   }
 
   /**
@@ -216,6 +370,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
       this.currentStep = CheckoutStep.DELIVERY;
     }
 
+    this.version++;
     registerEvent(BuyerInfoSubmitted.now(this.id, buyerInfo));
   }
 
@@ -244,6 +399,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
       this.currentStep = CheckoutStep.PAYMENT;
     }
 
+    this.version++;
     registerEvent(DeliverySubmitted.now(this.id, address, shippingOption));
   }
 
@@ -268,6 +424,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
       this.currentStep = CheckoutStep.REVIEW;
     }
 
+    this.version++;
     registerEvent(PaymentSubmitted.now(this.id, payment));
   }
 
@@ -353,6 +510,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
     this.status = CheckoutSessionStatus.CONFIRMED;
     this.currentStep = CheckoutStep.CONFIRMATION;
 
+    this.version++;
     registerEvent(
         CheckoutConfirmed.now(
             this.id, this.cartId, this.customerId, this.totals.total(), this.lineItems));
@@ -379,6 +537,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
     this.status = CheckoutSessionStatus.CONFIRMED;
     this.currentStep = CheckoutStep.CONFIRMATION;
 
+    this.version++;
     registerEvent(
         CheckoutConfirmed.now(
             this.id, this.cartId, this.customerId, this.totals.total(), this.lineItems));
@@ -400,6 +559,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
     this.orderReference = orderReference;
     this.status = CheckoutSessionStatus.COMPLETED;
 
+    this.version++;
     registerEvent(CheckoutCompleted.now(this.id, this.totals.total(), orderReference));
   }
 
@@ -418,6 +578,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
     final CheckoutStep abandonedAt = this.currentStep;
     this.status = CheckoutSessionStatus.ABANDONED;
 
+    this.version++;
     registerEvent(CheckoutAbandoned.now(this.id, abandonedAt));
   }
 
@@ -436,6 +597,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
     final CheckoutStep expiredAt = this.currentStep;
     this.status = CheckoutSessionStatus.EXPIRED;
 
+    this.version++;
     registerEvent(CheckoutExpired.now(this.id, expiredAt));
   }
 
@@ -458,6 +620,7 @@ public final class CheckoutSession extends BaseAggregateRoot<CheckoutSession, Ch
     }
 
     this.currentStep = step;
+    this.version++;
   }
 
   /**
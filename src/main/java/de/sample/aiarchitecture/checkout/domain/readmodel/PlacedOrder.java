@@ -0,0 +1,117 @@
+package de.sample.aiarchitecture.checkout.domain.readmodel;
+
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutTotals;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.Value;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Read Model representing the archived form of a placed order.
+ *
+ * <p>Once a confirmed or completed checkout session has left the live repository, only what order
+ * lookups need is kept: the order reference, the totals and a snapshot of the ordered lines. Step
+ * data (buyer info, delivery, payment), line item IDs, image URLs and the aggregate's event list
+ * are dropped.
+ *
+ * <p>Use the {@link #from(CheckoutSession)} factory method to archive a checkout session.
+ */
+public record PlacedOrder(
+    CheckoutSessionId sessionId,
+    CustomerId customerId,
+    CheckoutSessionStatus status,
+    @Nullable String orderReference,
+    CheckoutTotals totals,
+    List<Line> lines)
+    implements Value {
+
+  public PlacedOrder {
+    if (sessionId == null) {
+      throw new IllegalArgumentException("Session ID cannot be null");
+    }
+    if (customerId == null) {
+      throw new IllegalArgumentException("Customer ID cannot be null");
+    }
+    if (status != CheckoutSessionStatus.CONFIRMED && status != CheckoutSessionStatus.COMPLETED) {
+      throw new IllegalArgumentException("Placed order must be confirmed or completed");
+    }
+    if (totals == null) {
+      throw new IllegalArgumentException("Totals cannot be null");
+    }
+    if (lines == null || lines.isEmpty()) {
+      throw new IllegalArgumentException("Lines cannot be null or empty");
+    }
+    lines = List.copyOf(lines);
+  }
+
+  /**
+   * Creates the placed order of a confirmed or completed checkout session.
+   *
+   * @param session the checkout session aggregate
+   * @return the placed order
+   * @throws IllegalStateException if the session is neither confirmed nor completed
+   */
+  public static PlacedOrder from(final CheckoutSession session) {
+    if (session == null) {
+      throw new IllegalArgumentException("Session cannot be null");
+    }
+    if (session.status() != CheckoutSessionStatus.CONFIRMED
+        && session.status() != CheckoutSessionStatus.COMPLETED) {
+      throw new IllegalStateException(
+          "Only confirmed or completed sessions are placed orders, was: " + session.status());
+    }
+
+    return new PlacedOrder(
+        session.id(),
+        session.customerId(),
+        session.status(),
+        session.orderReference(),
+        session.totals(),
+        session.lineItems().stream()
+            .map(
+                item ->
+                    new Line(
+                        item.productId(), item.productName(), item.unitPrice(), item.quantity()))
+            .toList());
+  }
+
+  /**
+   * Ordered line of a placed order.
+   *
+   * @param productId the product ID
+   * @param name the product name at the time of the order
+   * @param price the unit price at the time of the order
+   * @param quantity the ordered quantity
+   */
+  public record Line(ProductId productId, String name, Money price, int quantity) implements Value {
+
+    public Line {
+      if (productId == null) {
+        throw new IllegalArgumentException("Product ID cannot be null");
+      }
+      if (name == null || name.isBlank()) {
+        throw new IllegalArgumentException("Name cannot be null or blank");
+      }
+      if (price == null) {
+        throw new IllegalArgumentException("Price cannot be null");
+      }
+      if (quantity <= 0) {
+        throw new IllegalArgumentException("Quantity must be greater than zero");
+      }
+    }
+
+    /**
+     * Calculates the line total.
+     *
+     * @return price multiplied by quantity
+     */
+    public Money lineTotal() {
+      return price.multiply(quantity);
+    }
+  }
+}
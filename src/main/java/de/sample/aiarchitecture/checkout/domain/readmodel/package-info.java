@@ -6,6 +6,7 @@
  *
  * @see CheckoutCartSnapshot
  * @see LineItemSnapshot
+ * @see PlacedOrder
  */
 @NullMarked
 package de.sample.aiarchitecture.checkout.domain.readmodel;
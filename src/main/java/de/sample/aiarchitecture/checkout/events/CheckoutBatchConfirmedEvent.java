@@ -0,0 +1,46 @@
+package de.sample.aiarchitecture.checkout.events;
+
+import de.sample.aiarchitecture.inventory.events.StockReductionTrigger;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.IntegrationEvent;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Integration Event published once per transaction that confirmed one or more checkouts.
+ *
+ * <p>Internal domain event {@code CheckoutBatchConfirmed} is converted to this integration event by
+ * {@code CheckoutBatchConfirmedEventPublisher}. It carries the ordered quantities of all confirmed
+ * sessions summed per product; the per-order facts are published as {@link CheckoutConfirmedEvent}.
+ *
+ * <p>Implements consumer-defined trigger interfaces (Interface Inversion pattern):
+ *
+ * <ul>
+ *   <li>{@link StockReductionTrigger} — triggers stock reduction in the Inventory module, once per
+ *       product for the whole batch
+ * </ul>
+ */
+public record CheckoutBatchConfirmedEvent(
+    UUID eventId,
+    List<String> sessionIds,
+    List<ProductQuantity> quantities,
+    Instant occurredOn,
+    int version)
+    implements IntegrationEvent, StockReductionTrigger {
+
+  /**
+   * Total ordered quantity of a product across the batch.
+   *
+   * @param productId the product ID from Shared Kernel
+   * @param quantity the summed quantity
+   */
+  public record ProductQuantity(ProductId productId, int quantity) {}
+
+  @Override
+  public List<OrderLineItem> orderLineItems() {
+    return quantities.stream()
+        .map(item -> new OrderLineItem(item.productId(), item.quantity()))
+        .toList();
+  }
+}
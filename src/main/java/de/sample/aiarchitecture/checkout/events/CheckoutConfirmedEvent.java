@@ -23,6 +23,10 @@ import java.util.UUID;
  *   <li>{@link CartCompletionTrigger} — triggers cart completion in the Cart module
  *   <li>{@link StockReductionTrigger} — triggers stock reduction in the Inventory module
  * </ul>
+ *
+ * <p>Sessions confirmed by the confirmation pipeline set {@code stockReducedInBatch}; their stock
+ * is reduced once per product by the batch's {@link CheckoutBatchConfirmedEvent} instead, so {@link
+ * #orderLineItems()} is empty.
  */
 public record CheckoutConfirmedEvent(
     UUID eventId,
@@ -32,6 +36,7 @@ public record CheckoutConfirmedEvent(
     Money totalAmount,
     List<LineItemInfo> items,
     Instant occurredOn,
+    boolean stockReducedInBatch,
     int version)
     implements IntegrationEvent, CartCompletionTrigger, StockReductionTrigger {
 
@@ -45,6 +50,9 @@ public record CheckoutConfirmedEvent(
 
   @Override
   public List<OrderLineItem> orderLineItems() {
+    if (stockReducedInBatch) {
+      return List.of();
+    }
     return items.stream()
         .map(item -> new OrderLineItem(item.productId(), item.quantity()))
         .toList();
@@ -0,0 +1,10 @@
+package de.sample.aiarchitecture.checkout.infrastructure;
+
+import de.sample.aiarchitecture.checkout.adapter.incoming.event.CartSyncCoalescingProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for coalescing cart changes before the checkout sync. */
+@Configuration
+@EnableConfigurationProperties(CartSyncCoalescingProperties.class)
+public class CartSyncCoalescingConfiguration {}
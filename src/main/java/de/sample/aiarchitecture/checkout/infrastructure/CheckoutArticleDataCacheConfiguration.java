@@ -0,0 +1,10 @@
+package de.sample.aiarchitecture.checkout.infrastructure;
+
+import de.sample.aiarchitecture.checkout.adapter.outgoing.product.CheckoutArticleDataCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for the Checkout article data near-cache. */
+@Configuration
+@EnableConfigurationProperties(CheckoutArticleDataCacheProperties.class)
+public class CheckoutArticleDataCacheConfiguration {}
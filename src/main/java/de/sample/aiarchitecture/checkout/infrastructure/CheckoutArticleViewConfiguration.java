@@ -0,0 +1,10 @@
+package de.sample.aiarchitecture.checkout.infrastructure;
+
+import de.sample.aiarchitecture.checkout.adapter.outgoing.product.CheckoutArticleViewProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for reading Checkout article data from the article view. */
+@Configuration
+@EnableConfigurationProperties(CheckoutArticleViewProperties.class)
+public class CheckoutArticleViewConfiguration {}
@@ -0,0 +1,10 @@
+package de.sample.aiarchitecture.checkout.infrastructure;
+
+import de.sample.aiarchitecture.checkout.adapter.incoming.web.CheckoutConfirmationPipelineProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for group-committing checkout confirmations. */
+@Configuration
+@EnableConfigurationProperties(CheckoutConfirmationPipelineProperties.class)
+public class CheckoutConfirmationPipelineConfiguration {}
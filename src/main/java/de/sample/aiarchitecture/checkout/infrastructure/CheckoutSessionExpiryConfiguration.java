@@ -0,0 +1,10 @@
+package de.sample.aiarchitecture.checkout.infrastructure;
+
+import de.sample.aiarchitecture.checkout.adapter.incoming.scheduling.CheckoutSessionExpiryProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for expiring inactive checkout sessions and evicting terminal ones. */
+@Configuration
+@EnableConfigurationProperties(CheckoutSessionExpiryProperties.class)
+public class CheckoutSessionExpiryConfiguration {}
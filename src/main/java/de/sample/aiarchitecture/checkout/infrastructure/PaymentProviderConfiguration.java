@@ -0,0 +1,16 @@
+package de.sample.aiarchitecture.checkout.infrastructure;
+
+import de.sample.aiarchitecture.checkout.adapter.outgoing.payment.MockPaymentLatencyProperties;
+import de.sample.aiarchitecture.checkout.adapter.outgoing.payment.PaymentProviderBulkheadProperties;
+import de.sample.aiarchitecture.checkout.adapter.outgoing.payment.PaymentProviderHealthProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration for payment provider bulkheads, health tracking and the slow mock provider. */
+@Configuration
+@EnableConfigurationProperties({
+  PaymentProviderBulkheadProperties.class,
+  PaymentProviderHealthProperties.class,
+  MockPaymentLatencyProperties.class
+})
+public class PaymentProviderConfiguration {}
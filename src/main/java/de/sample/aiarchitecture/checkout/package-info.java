@@ -12,7 +12,9 @@
       "sharedkernel",
       "infrastructure",
       "product :: api",
+      "product :: events",
       "pricing :: api",
+      "pricing :: events",
       "inventory :: api",
       "inventory :: events",
       "cart :: api",
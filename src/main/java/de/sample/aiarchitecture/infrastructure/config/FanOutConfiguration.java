@@ -0,0 +1,15 @@
+package de.sample.aiarchitecture.infrastructure.config;
+
+import de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout.FanOutProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for cross-context fan-out lookups.
+ *
+ * <p>Binds {@link FanOutProperties} ({@code app.fan-out.*}), which the composite article data
+ * adapters of Cart and Checkout use to choose between sequential and parallel lookups.
+ */
+@Configuration
+@EnableConfigurationProperties(FanOutProperties.class)
+public class FanOutConfiguration {}
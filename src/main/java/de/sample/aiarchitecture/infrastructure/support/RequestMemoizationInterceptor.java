@@ -0,0 +1,138 @@
+package de.sample.aiarchitecture.infrastructure.support;
+
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Memoizes {@link RequestMemoized} use case results in the current web request.
+ *
+ * <p>The memo is stored as a request attribute and keyed by use case class and query, relying on
+ * record equality of the query. Failed executions are not memoized. Executing a command use case
+ * (any proxied use case that is not {@link RequestMemoized}) clears the memo before and after it
+ * runs, as it may change what the queries would return.
+ *
+ * <p>With DEBUG logging enabled, the number of executed and reused queries per query type is logged
+ * when the request completes.
+ */
+final class RequestMemoizationInterceptor implements MethodInterceptor {
+
+  private static final Logger logger = LoggerFactory.getLogger(RequestMemoizationInterceptor.class);
+  private static final String MEMO_ATTRIBUTE =
+      RequestMemoizationInterceptor.class.getName() + ".MEMO";
+
+  @Override
+  public @Nullable Object invoke(final MethodInvocation invocation) throws Throwable {
+    final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return invocation.proceed();
+    }
+
+    final Class<?> useCaseClass = AopUtils.getTargetClass(invocation.getThis());
+    if (AnnotationUtils.findAnnotation(useCaseClass, RequestMemoized.class) == null) {
+      clear(attributes);
+      try {
+        return invocation.proceed();
+      } finally {
+        clear(attributes);
+      }
+    }
+
+    final Object query = invocation.getArguments()[0];
+    if (query == null) {
+      return invocation.proceed();
+    }
+    final MemoKey key = new MemoKey(useCaseClass, query);
+    final RequestMemo memo = memo(attributes);
+    if (memo.results.containsKey(key)) {
+      memo.recordReused(query);
+      return memo.results.get(key);
+    }
+
+    // No computeIfAbsent: the use case may run further use cases that touch the memo
+    final Object result = invocation.proceed();
+    memo.results.put(key, result);
+    memo.recordExecuted(query);
+    return result;
+  }
+
+  private static void clear(final RequestAttributes attributes) {
+    final RequestMemo memo = existingMemo(attributes);
+    if (memo != null) {
+      memo.clear();
+    }
+  }
+
+  private static @Nullable RequestMemo existingMemo(final RequestAttributes attributes) {
+    return (RequestMemo) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+  }
+
+  private static RequestMemo memo(final RequestAttributes attributes) {
+    RequestMemo memo = existingMemo(attributes);
+    if (memo == null) {
+      memo = new RequestMemo();
+      attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+      if (logger.isDebugEnabled()) {
+        final RequestMemo completed = memo;
+        attributes.registerDestructionCallback(
+            MEMO_ATTRIBUTE,
+            () -> logger.debug("Query memoization for {}: {}", describe(attributes), completed),
+            RequestAttributes.SCOPE_REQUEST);
+      }
+    }
+    return memo;
+  }
+
+  private static String describe(final RequestAttributes attributes) {
+    if (attributes instanceof ServletRequestAttributes servletAttributes) {
+      return servletAttributes.getRequest().getMethod()
+          + " "
+          + servletAttributes.getRequest().getRequestURI();
+    }
+    return attributes.getSessionId();
+  }
+
+  private record MemoKey(Class<?> useCaseClass, Object query) {}
+
+  /** Per-request results and per-query-type counters. Confined to the request thread. */
+  private static final class RequestMemo {
+
+    private final Map<MemoKey, @Nullable Object> results = new HashMap<>();
+    private final Map<String, int[]> counters = new LinkedHashMap<>();
+
+    void clear() {
+      results.clear();
+    }
+
+    void recordExecuted(final Object query) {
+      counters(query)[0]++;
+    }
+
+    void recordReused(final Object query) {
+      counters(query)[1]++;
+    }
+
+    private int[] counters(final Object query) {
+      return counters.computeIfAbsent(query.getClass().getSimpleName(), name -> new int[2]);
+    }
+
+    @Override
+    public String toString() {
+      return counters.entrySet().stream()
+          .map(e -> e.getKey() + " executed=" + e.getValue()[0] + " reused=" + e.getValue()[1])
+          .collect(Collectors.joining(", "));
+    }
+  }
+}
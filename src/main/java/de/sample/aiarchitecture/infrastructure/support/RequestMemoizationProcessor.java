@@ -0,0 +1,110 @@
+package de.sample.aiarchitecture.infrastructure.support;
+
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+import java.lang.reflect.Method;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Infrastructure processor that IMPLEMENTS the behavior for {@link RequestMemoized}.
+ *
+ * <p>Wraps the {@link UseCase} beans that take part in memoization in a proxy that routes {@code
+ * execute(input)} through {@link RequestMemoizationInterceptor}:
+ *
+ * <ul>
+ *   <li>Use cases annotated with {@link RequestMemoized} are executed once per distinct query
+ *       within a web request; repeated calls return the first result
+ *   <li>Command use cases ({@code execute} takes a {@code ...Command}) discard the memoized results
+ *       of the current request before they run, so a query issued after a state change is never
+ *       answered from before it
+ * </ul>
+ *
+ * <p>Other query use cases are left unproxied.
+ *
+ * <p>The advisor is placed in front of existing advisors, so a memoized result is returned without
+ * opening a transaction.
+ *
+ * <p><b>Separation of Concerns:</b>
+ *
+ * <ul>
+ *   <li>Annotation definition: {@code sharedkernel.marker.infrastructure} (pure Java)
+ *   <li>Annotation processing: {@code infrastructure.support} (Spring-specific)
+ * </ul>
+ *
+ * @see RequestMemoized
+ */
+@Component
+public class RequestMemoizationProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+  private static final String EXECUTE_METHOD_NAME = "execute";
+  private static final String COMMAND_SUFFIX = "Command";
+
+  public RequestMemoizationProcessor() {
+    this.advisor =
+        new DefaultPointcutAdvisor(
+            new UseCaseExecutePointcut(), new RequestMemoizationInterceptor());
+    setBeforeExistingAdvisors(true);
+    setProxyTargetClass(true);
+  }
+
+  @Override
+  protected boolean isEligible(final Class<?> targetClass) {
+    if (!super.isEligible(targetClass)) {
+      return false;
+    }
+    if (AnnotationUtils.findAnnotation(targetClass, RequestMemoized.class) != null) {
+      verifyRecordQuery(targetClass);
+      return true;
+    }
+    return isCommandUseCase(targetClass);
+  }
+
+  private static boolean isCommandUseCase(final Class<?> useCaseClass) {
+    for (final Method method : useCaseClass.getMethods()) {
+      if (isExecuteMethod(method)
+          && !method.isBridge()
+          && method.getParameterTypes()[0].getSimpleName().endsWith(COMMAND_SUFFIX)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void verifyRecordQuery(final Class<?> useCaseClass) {
+    for (final Method method : useCaseClass.getMethods()) {
+      if (isExecuteMethod(method)
+          && !method.isBridge()
+          && !method.getParameterTypes()[0].isRecord()) {
+        throw new BeanInitializationException(
+            "@RequestMemoized use case "
+                + useCaseClass.getName()
+                + " must take a record query, but execute() accepts "
+                + method.getParameterTypes()[0].getName());
+      }
+    }
+  }
+
+  private static boolean isExecuteMethod(final Method method) {
+    return method.getName().equals(EXECUTE_METHOD_NAME) && method.getParameterCount() == 1;
+  }
+
+  /** Matches {@code execute(input)} on classes implementing {@link UseCase}. */
+  private static final class UseCaseExecutePointcut extends StaticMethodMatcherPointcut {
+
+    @Override
+    public boolean matches(final Method method, final Class<?> targetClass) {
+      return isExecuteMethod(method);
+    }
+
+    @Override
+    public ClassFilter getClassFilter() {
+      return UseCase.class::isAssignableFrom;
+    }
+  }
+}
@@ -9,6 +9,8 @@
  * <ul>
  *   <li>{@link de.sample.aiarchitecture.infrastructure.support.AsyncInitializationProcessor} -
  *       Spring BeanPostProcessor for async initialization
+ *   <li>{@link de.sample.aiarchitecture.infrastructure.support.RequestMemoizationProcessor} -
+ *       Spring BeanPostProcessor memoizing read-only query use cases per web request
  * </ul>
  *
  * <p><b>Distinction from config package:</b>
@@ -13,8 +13,9 @@ import org.springframework.stereotype.Component;
  *
  * <p>Uses the Interface Inversion pattern: this consumer listens to {@link StockReductionTrigger},
  * which is defined in the Inventory module's {@code events} package. The producing module
- * (Checkout) implements this interface on its {@code CheckoutConfirmedEvent}. This avoids a
- * dependency from Inventory to Checkout.
+ * (Checkout) implements this interface on its {@code CheckoutConfirmedEvent}, and on its {@code
+ * CheckoutBatchConfirmedEvent} for confirmations committed together. This avoids a dependency from
+ * Inventory to Checkout.
  *
  * <p>Each event is processed in its own transaction, ensuring one-aggregate-per-transaction
  * consistency.
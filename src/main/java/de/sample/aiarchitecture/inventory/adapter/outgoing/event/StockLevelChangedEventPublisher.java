@@ -0,0 +1,70 @@
+package de.sample.aiarchitecture.inventory.adapter.outgoing.event;
+
+import de.sample.aiarchitecture.inventory.domain.event.StockChanged;
+import de.sample.aiarchitecture.inventory.domain.event.StockDecreased;
+import de.sample.aiarchitecture.inventory.domain.event.StockIncreased;
+import de.sample.aiarchitecture.inventory.domain.event.StockLevelCreated;
+import de.sample.aiarchitecture.inventory.domain.event.StockReleased;
+import de.sample.aiarchitecture.inventory.domain.event.StockReserved;
+import de.sample.aiarchitecture.inventory.events.StockLevelChangedEvent;
+import de.sample.aiarchitecture.inventory.events.StockLevelChangedEvent.ChangeType;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outgoing event adapter that translates internal stock domain events into a consolidated {@link
+ * StockLevelChangedEvent} integration event for cross-context consumption.
+ */
+@Component
+public class StockLevelChangedEventPublisher {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(StockLevelChangedEventPublisher.class);
+
+  private final ApplicationEventPublisher publisher;
+
+  public StockLevelChangedEventPublisher(final ApplicationEventPublisher publisher) {
+    this.publisher = publisher;
+  }
+
+  @EventListener
+  public void onCreated(final StockLevelCreated event) {
+    publish(event.productId(), ChangeType.CREATED);
+  }
+
+  @EventListener
+  public void onIncreased(final StockIncreased event) {
+    publish(event.productId(), ChangeType.INCREASED);
+  }
+
+  @EventListener
+  public void onDecreased(final StockDecreased event) {
+    publish(event.productId(), ChangeType.DECREASED);
+  }
+
+  @EventListener
+  public void onAdjusted(final StockChanged event) {
+    publish(event.productId(), ChangeType.ADJUSTED);
+  }
+
+  @EventListener
+  public void onReserved(final StockReserved event) {
+    publish(event.productId(), ChangeType.RESERVED);
+  }
+
+  @EventListener
+  public void onReleased(final StockReleased event) {
+    publish(event.productId(), ChangeType.RELEASED);
+  }
+
+  private void publish(final ProductId productId, final ChangeType changeType) {
+    var integrationEvent = StockLevelChangedEvent.now(productId, changeType);
+    logger.debug(
+        "Publishing StockLevelChangedEvent [{}] for product: {}", changeType, productId.value());
+    publisher.publishEvent(integrationEvent);
+  }
+}
@@ -0,0 +1,36 @@
+package de.sample.aiarchitecture.inventory.events;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.IntegrationEvent;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Integration Event published when the stock level of a product changes.
+ *
+ * <p>Consolidates the internal stock domain events (StockLevelCreated, StockIncreased,
+ * StockDecreased, StockChanged, StockReserved, StockReleased) into a single cross-module event.
+ * Consumers that need the new quantity query the Inventory Open Host Service.
+ *
+ * <p>Consumers: Cart context (invalidates cached cart summaries that include availability), Product
+ * context (refreshes the article view of the product).
+ */
+public record StockLevelChangedEvent(
+    UUID eventId, ProductId productId, ChangeType changeType, Instant occurredOn, int version)
+    implements IntegrationEvent {
+
+  /** The type of stock change that occurred. */
+  public enum ChangeType {
+    CREATED,
+    INCREASED,
+    DECREASED,
+    ADJUSTED,
+    RESERVED,
+    RELEASED
+  }
+
+  /** Creates a new event with the given product ID and change type. */
+  public static StockLevelChangedEvent now(ProductId productId, ChangeType changeType) {
+    return new StockLevelChangedEvent(UUID.randomUUID(), productId, changeType, Instant.now(), 1);
+  }
+}
@@ -1,9 +1,11 @@
 /**
- * Inventory Events — published trigger interfaces for cross-module consumption.
+ * Inventory Events — published integration events and trigger interfaces for cross-module
+ * consumption.
  *
- * <p>Contains trigger interfaces that other modules' events implement (Interface Inversion
- * pattern). This allows inventory to listen to its own interfaces without depending on the
- * producing module.
+ * <p>Contains the {@link de.sample.aiarchitecture.inventory.events.StockLevelChangedEvent}
+ * integration event and trigger interfaces that other modules' events implement (Interface
+ * Inversion pattern). This allows inventory to listen to its own interfaces without depending on
+ * the producing module.
  */
 @NamedInterface("events")
 @NullMarked
@@ -0,0 +1,37 @@
+package de.sample.aiarchitecture.pricing.adapter.outgoing.event;
+
+import de.sample.aiarchitecture.pricing.domain.event.PriceChanged;
+import de.sample.aiarchitecture.pricing.events.PriceChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outgoing event adapter that translates the internal {@link PriceChanged} domain event into a
+ * {@link PriceChangedEvent} integration event for cross-context consumption.
+ */
+@Component
+public class PriceChangedEventPublisher {
+
+  private static final Logger logger = LoggerFactory.getLogger(PriceChangedEventPublisher.class);
+
+  private final ApplicationEventPublisher publisher;
+
+  public PriceChangedEventPublisher(final ApplicationEventPublisher publisher) {
+    this.publisher = publisher;
+  }
+
+  /** Listens for the internal domain event and publishes the integration event. */
+  @EventListener
+  public void on(final PriceChanged domainEvent) {
+    var integrationEvent =
+        PriceChangedEvent.now(
+            domainEvent.productId(), domainEvent.oldPrice(), domainEvent.newPrice());
+
+    logger.debug("Publishing PriceChangedEvent for product: {}", domainEvent.productId().value());
+
+    publisher.publishEvent(integrationEvent);
+  }
+}
@@ -0,0 +1,35 @@
+package de.sample.aiarchitecture.pricing.adapter.outgoing.event;
+
+import de.sample.aiarchitecture.pricing.domain.event.PriceCreated;
+import de.sample.aiarchitecture.pricing.events.PriceCreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outgoing event adapter that translates the internal {@link PriceCreated} domain event into a
+ * {@link PriceCreatedEvent} integration event for cross-context consumption.
+ */
+@Component
+public class PriceCreatedEventPublisher {
+
+  private static final Logger logger = LoggerFactory.getLogger(PriceCreatedEventPublisher.class);
+
+  private final ApplicationEventPublisher publisher;
+
+  public PriceCreatedEventPublisher(final ApplicationEventPublisher publisher) {
+    this.publisher = publisher;
+  }
+
+  /** Listens for the internal domain event and publishes the integration event. */
+  @EventListener
+  public void on(final PriceCreated domainEvent) {
+    var integrationEvent = PriceCreatedEvent.now(domainEvent.productId(), domainEvent.price());
+
+    logger.debug("Publishing PriceCreatedEvent for product: {}", domainEvent.productId().value());
+
+    publisher.publishEvent(integrationEvent);
+  }
+}
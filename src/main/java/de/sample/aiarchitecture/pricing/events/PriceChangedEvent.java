@@ -0,0 +1,32 @@
+package de.sample.aiarchitecture.pricing.events;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.IntegrationEvent;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Integration Event published when the price of a product changes.
+ *
+ * <p>This event is published for cross-module consumption. Internal domain event {@code
+ * PriceChanged} is converted to this integration event by {@code PriceChangedEventPublisher}.
+ *
+ * <p>Consumers: Cart context (invalidates cached cart summaries showing the old price), Product
+ * context (refreshes the article view of the product).
+ */
+public record PriceChangedEvent(
+    UUID eventId,
+    ProductId productId,
+    Money oldPrice,
+    Money newPrice,
+    Instant occurredOn,
+    int version)
+    implements IntegrationEvent {
+
+  /** Creates a new event from price change data. */
+  public static PriceChangedEvent now(ProductId productId, Money oldPrice, Money newPrice) {
+    return new PriceChangedEvent(
+        UUID.randomUUID(), productId, oldPrice, newPrice, Instant.now(), 1);
+  }
+}
@@ -0,0 +1,25 @@
+package de.sample.aiarchitecture.pricing.events;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.IntegrationEvent;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Integration Event published when a product is priced for the first time.
+ *
+ * <p>This event is published for cross-module consumption. Internal domain event {@code
+ * PriceCreated} is converted to this integration event by {@code PriceCreatedEventPublisher}.
+ *
+ * <p>Consumers: Product context (completes the article view of the product).
+ */
+public record PriceCreatedEvent(
+    UUID eventId, ProductId productId, Money price, Instant occurredOn, int version)
+    implements IntegrationEvent {
+
+  /** Creates a new event from price creation data. */
+  public static PriceCreatedEvent now(ProductId productId, Money price) {
+    return new PriceCreatedEvent(UUID.randomUUID(), productId, price, Instant.now(), 1);
+  }
+}
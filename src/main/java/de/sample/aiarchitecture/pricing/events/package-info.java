@@ -0,0 +1,12 @@
+/**
+ * Pricing Events — published integration events for cross-module consumption.
+ *
+ * <p>Contains integration events published by the Pricing context when prices are created or
+ * change. Other modules consume these events, e.g. to invalidate caches holding current prices.
+ */
+@NamedInterface("events")
+@NullMarked
+package de.sample.aiarchitecture.pricing.events;
+
+import org.jspecify.annotations.NullMarked;
+import org.springframework.modulith.NamedInterface;
@@ -0,0 +1,74 @@
+package de.sample.aiarchitecture.product.adapter.incoming.event;
+
+import de.sample.aiarchitecture.inventory.events.StockLevelChangedEvent;
+import de.sample.aiarchitecture.pricing.events.PriceChangedEvent;
+import de.sample.aiarchitecture.pricing.events.PriceCreatedEvent;
+import de.sample.aiarchitecture.product.application.refresharticleview.RefreshArticleViewCommand;
+import de.sample.aiarchitecture.product.application.refresharticleview.RefreshArticleViewInputPort;
+import de.sample.aiarchitecture.product.events.ProductCreatedEvent;
+import de.sample.aiarchitecture.product.events.ProductNameChangedEvent;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event consumer that maintains the article view projection.
+ *
+ * <p>Product, price and stock events are handled synchronously after commit, so a change is visible
+ * in the projection as soon as the request that made it returns. Every event refreshes the view of
+ * the affected product through {@link RefreshArticleViewInputPort}.
+ *
+ * <p>The handlers run before other after-commit callbacks, so caches of article data that are
+ * invalidated by the same events (e.g. in Cart and Checkout) reload from the refreshed view.
+ */
+@Component
+public class ArticleViewEventConsumer {
+
+  private static final Logger log = LoggerFactory.getLogger(ArticleViewEventConsumer.class);
+
+  private final RefreshArticleViewInputPort refreshArticleViewInputPort;
+
+  public ArticleViewEventConsumer(final RefreshArticleViewInputPort refreshArticleViewInputPort) {
+    this.refreshArticleViewInputPort = refreshArticleViewInputPort;
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductCreated(final ProductCreatedEvent event) {
+    refresh(event.productId(), "product created");
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProductNameChanged(final ProductNameChangedEvent event) {
+    refresh(event.productId(), "product renamed");
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPriceCreated(final PriceCreatedEvent event) {
+    refresh(event.productId(), "price created");
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onPriceChanged(final PriceChangedEvent event) {
+    refresh(event.productId(), "price changed");
+  }
+
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStockLevelChanged(final StockLevelChangedEvent event) {
+    refresh(event.productId(), "stock " + event.changeType());
+  }
+
+  private void refresh(final ProductId productId, final String reason) {
+    log.debug("Refreshing article view of product {} ({})", productId.value(), reason);
+    refreshArticleViewInputPort.execute(new RefreshArticleViewCommand(productId));
+  }
+}
@@ -0,0 +1,38 @@
+package de.sample.aiarchitecture.product.adapter.outgoing.event;
+
+import de.sample.aiarchitecture.product.domain.event.ProductNameChanged;
+import de.sample.aiarchitecture.product.events.ProductNameChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outgoing event adapter that translates the internal {@link ProductNameChanged} domain event into
+ * a {@link ProductNameChangedEvent} integration event for cross-context consumption.
+ */
+@Component
+public class ProductNameChangedEventPublisher {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(ProductNameChangedEventPublisher.class);
+
+  private final ApplicationEventPublisher publisher;
+
+  public ProductNameChangedEventPublisher(final ApplicationEventPublisher publisher) {
+    this.publisher = publisher;
+  }
+
+  /** Listens for the internal domain event and publishes the integration event. */
+  @EventListener
+  public void on(final ProductNameChanged domainEvent) {
+    var integrationEvent =
+        ProductNameChangedEvent.now(domainEvent.productId(), domainEvent.newName().value());
+
+    logger.debug(
+        "Publishing ProductNameChangedEvent for product: {}", domainEvent.productId().value());
+
+    publisher.publishEvent(integrationEvent);
+  }
+}
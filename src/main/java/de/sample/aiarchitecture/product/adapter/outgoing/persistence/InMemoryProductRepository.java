@@ -6,7 +6,9 @@ import de.sample.aiarchitecture.product.domain.model.Product;
 import de.sample.aiarchitecture.product.domain.model.SKU;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
 import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.AsyncInitialize;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
@@ -49,6 +51,11 @@ public class InMemoryProductRepository implements ProductRepository {
     return findById(productId);
   }
 
+  @Override
+  public List<Product> findByIds(final Collection<ProductId> productIds) {
+    return productIds.stream().distinct().map(products::get).filter(Objects::nonNull).toList();
+  }
+
   @Override
   public List<Product> findByCategory(final Category category) {
     return products.values().stream()
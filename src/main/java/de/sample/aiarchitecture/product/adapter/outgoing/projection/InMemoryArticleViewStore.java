@@ -0,0 +1,55 @@
+package de.sample.aiarchitecture.product.adapter.outgoing.projection;
+
+import de.sample.aiarchitecture.product.application.shared.ArticleViewStore;
+import de.sample.aiarchitecture.product.domain.readmodel.ArticleView;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory implementation of {@link ArticleViewStore} backed by an immutable snapshot map.
+ *
+ * <p>Readers dereference the current snapshot once and look up entries without taking a lock, so a
+ * bulk read always sees one consistent version of the projection. Writers are serialized, copy the
+ * snapshot, apply their change and publish the new snapshot with a single volatile write.
+ *
+ * <p>Copy-on-write favors reads: every page render reads the projection, while it only changes when
+ * a product, price or stock level changes.
+ */
+@Component
+public class InMemoryArticleViewStore implements ArticleViewStore {
+
+  private volatile Map<ProductId, ArticleView> snapshot = Map.of();
+
+  @Override
+  public Map<ProductId, ArticleView> findByIds(final Collection<ProductId> productIds) {
+    final Map<ProductId, ArticleView> current = snapshot;
+    final Map<ProductId, ArticleView> result = new HashMap<>();
+    for (final ProductId productId : productIds) {
+      final ArticleView view = current.get(productId);
+      if (view != null) {
+        result.put(productId, view);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public synchronized void save(final ArticleView view) {
+    final Map<ProductId, ArticleView> next = new HashMap<>(snapshot);
+    next.put(view.productId(), view);
+    snapshot = Map.copyOf(next);
+  }
+
+  @Override
+  public synchronized void remove(final ProductId productId) {
+    if (!snapshot.containsKey(productId)) {
+      return;
+    }
+    final Map<ProductId, ArticleView> next = new HashMap<>(snapshot);
+    next.remove(productId);
+    snapshot = Map.copyOf(next);
+  }
+}
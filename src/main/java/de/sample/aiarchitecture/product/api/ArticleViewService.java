@@ -0,0 +1,93 @@
+package de.sample.aiarchitecture.product.api;
+
+import de.sample.aiarchitecture.product.application.getarticleviews.GetArticleViewsInputPort;
+import de.sample.aiarchitecture.product.application.getarticleviews.GetArticleViewsQuery;
+import de.sample.aiarchitecture.product.domain.readmodel.ArticleView;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.strategic.OpenHostService;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+/**
+ * Open Host Service for the denormalized article view.
+ *
+ * <p>Exposes name, image, current price and available stock of articles from a single projection
+ * that the Product context maintains from product, price and stock events. One call replaces the
+ * three lookups against ProductCatalogService, PricingService and InventoryService.
+ *
+ * <p>The projection is updated after the owning contexts commit a change, so it may briefly lag
+ * behind them. Consumers that must validate against the current state (e.g. checkout confirmation)
+ * should use the owning services instead.
+ *
+ * <p><b>Hexagonal Architecture:</b> As an incoming adapter, this service calls input ports (use
+ * cases), NOT output ports (repositories) directly.
+ */
+@OpenHostService(
+    context = "Product Catalog",
+    description =
+        "Provides denormalized article views (name, image, price, stock) maintained from product, price and stock events.")
+@Service
+public class ArticleViewService {
+
+  private final GetArticleViewsInputPort getArticleViewsInputPort;
+
+  public ArticleViewService(GetArticleViewsInputPort getArticleViewsInputPort) {
+    this.getArticleViewsInputPort = getArticleViewsInputPort;
+  }
+
+  /**
+   * Article view DTO for cross-context communication.
+   *
+   * @param productId the product identifier
+   * @param name the product name
+   * @param imageUrl the product image URL
+   * @param currentPrice the current price
+   * @param availableStock the unreserved stock quantity
+   * @param isAvailable whether the product can be purchased
+   */
+  public record ArticleViewInfo(
+      ProductId productId,
+      String name,
+      String imageUrl,
+      Money currentPrice,
+      int availableStock,
+      boolean isAvailable) {}
+
+  /**
+   * Retrieves the article views of multiple products.
+   *
+   * <p>Only complete views are returned: products that are unknown to the projection or not priced
+   * yet are not included in the result, and consumers should fall back to the owning services.
+   *
+   * @param productIds the collection of product IDs to look up
+   * @return map of product IDs to their article views
+   */
+  public Map<ProductId, ArticleViewInfo> getArticleViews(Collection<ProductId> productIds) {
+    if (productIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    var result = getArticleViewsInputPort.execute(GetArticleViewsQuery.of(productIds));
+
+    Map<ProductId, ArticleViewInfo> views = new HashMap<>();
+    for (ArticleView view : result.views().values()) {
+      Money currentPrice = view.currentPrice();
+      if (currentPrice != null) {
+        views.put(
+            view.productId(),
+            new ArticleViewInfo(
+                view.productId(),
+                view.name(),
+                view.imageUrl(),
+                currentPrice,
+                view.availableStock(),
+                view.available()));
+      }
+    }
+    return views;
+  }
+}
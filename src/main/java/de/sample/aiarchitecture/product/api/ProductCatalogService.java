@@ -8,11 +8,18 @@ import de.sample.aiarchitecture.product.application.getallproducts.GetAllProduct
 import de.sample.aiarchitecture.product.application.getproductbyid.GetProductByIdInputPort;
 import de.sample.aiarchitecture.product.application.getproductbyid.GetProductByIdQuery;
 import de.sample.aiarchitecture.product.application.getproductbyid.GetProductByIdResult;
+import de.sample.aiarchitecture.product.application.getproductsbyids.GetProductsByIdsInputPort;
+import de.sample.aiarchitecture.product.application.getproductsbyids.GetProductsByIdsQuery;
+import de.sample.aiarchitecture.product.application.getproductsbyids.GetProductsByIdsResult;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
 import de.sample.aiarchitecture.sharedkernel.marker.strategic.OpenHostService;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 /**
@@ -43,14 +50,17 @@ import org.springframework.stereotype.Service;
 public class ProductCatalogService {
 
   private final GetProductByIdInputPort getProductByIdInputPort;
+  private final GetProductsByIdsInputPort getProductsByIdsInputPort;
   private final GetAllProductsInputPort getAllProductsInputPort;
   private final CreateProductInputPort createProductInputPort;
 
   public ProductCatalogService(
       GetProductByIdInputPort getProductByIdInputPort,
+      GetProductsByIdsInputPort getProductsByIdsInputPort,
       GetAllProductsInputPort getAllProductsInputPort,
       CreateProductInputPort createProductInputPort) {
     this.getProductByIdInputPort = getProductByIdInputPort;
+    this.getProductsByIdsInputPort = getProductsByIdsInputPort;
     this.getAllProductsInputPort = getAllProductsInputPort;
     this.createProductInputPort = createProductInputPort;
   }
@@ -126,6 +136,34 @@ public class ProductCatalogService {
         new ProductInfo(product.productId(), product.name(), product.sku(), product.imageUrl()));
   }
 
+  /**
+   * Retrieves product information for multiple products.
+   *
+   * <p>Products that do not exist are not included in the result.
+   *
+   * @param productIds the collection of product IDs to look up
+   * @return map of product IDs to their product info
+   */
+  public Map<ProductId, ProductInfo> getProductInfos(Collection<ProductId> productIds) {
+    if (productIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    GetProductsByIdsResult result =
+        getProductsByIdsInputPort.execute(new GetProductsByIdsQuery(productIds));
+
+    return result.products().entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey,
+                entry ->
+                    new ProductInfo(
+                        entry.getValue().productId(),
+                        entry.getValue().name(),
+                        entry.getValue().sku(),
+                        entry.getValue().imageUrl())));
+  }
+
   /**
    * Retrieves all products in the catalog.
    *
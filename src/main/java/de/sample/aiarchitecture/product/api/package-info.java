@@ -1,8 +1,9 @@
 /**
  * Product Catalog API — published interface for cross-module access.
  *
- * <p>Exposes product identity and description data (Open Host Service pattern). Consuming modules
- * should define their own output ports and implement adapters that delegate to this service.
+ * <p>Exposes product identity and description data as well as the denormalized article view (Open
+ * Host Service pattern). Consuming modules should define their own output ports and implement
+ * adapters that delegate to these services.
  */
 @NamedInterface("api")
 @NullMarked
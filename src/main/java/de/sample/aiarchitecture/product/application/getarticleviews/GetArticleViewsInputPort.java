@@ -0,0 +1,28 @@
+package de.sample.aiarchitecture.product.application.getarticleviews;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for reading the denormalized article views of multiple products.
+ *
+ * <p>Answers name, image, price and stock of an article from one projection instead of joining the
+ * Product, Pricing and Inventory contexts per request.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for read operations.
+ *
+ * @see GetArticleViewsUseCase
+ */
+public interface GetArticleViewsInputPort
+    extends UseCase<GetArticleViewsQuery, GetArticleViewsResult> {
+
+  /**
+   * Retrieves the article views for the specified products.
+   *
+   * <p>Products without a view will not be included in the result.
+   *
+   * @param query the query containing the product IDs to look up
+   * @return response containing the article views mapped by product ID
+   */
+  @Override
+  GetArticleViewsResult execute(GetArticleViewsQuery query);
+}
@@ -0,0 +1,29 @@
+package de.sample.aiarchitecture.product.application.getarticleviews;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Query model for reading the article views of multiple products.
+ *
+ * @param productIds the collection of product IDs to look up
+ */
+public record GetArticleViewsQuery(Collection<ProductId> productIds) {
+
+  public GetArticleViewsQuery {
+    if (productIds == null) {
+      throw new IllegalArgumentException("ProductIds cannot be null");
+    }
+  }
+
+  /**
+   * Creates a new query with the given product IDs.
+   *
+   * @param productIds the product IDs to query
+   * @return a new GetArticleViewsQuery
+   */
+  public static GetArticleViewsQuery of(final Collection<ProductId> productIds) {
+    return new GetArticleViewsQuery(List.copyOf(productIds));
+  }
+}
@@ -0,0 +1,20 @@
+package de.sample.aiarchitecture.product.application.getarticleviews;
+
+import de.sample.aiarchitecture.product.domain.readmodel.ArticleView;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.Map;
+
+/**
+ * Output model for article view lookups.
+ *
+ * @param views the article views mapped by product ID
+ */
+public record GetArticleViewsResult(Map<ProductId, ArticleView> views) {
+
+  public GetArticleViewsResult {
+    if (views == null) {
+      throw new IllegalArgumentException("Views cannot be null");
+    }
+    views = Map.copyOf(views);
+  }
+}
@@ -0,0 +1,29 @@
+package de.sample.aiarchitecture.product.application.getarticleviews;
+
+import de.sample.aiarchitecture.product.application.shared.ArticleViewStore;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for reading article views from the {@link ArticleViewStore} projection.
+ *
+ * <p>Reads never touch the Product, Pricing or Inventory repositories and need no transaction; the
+ * projection is kept current by {@code RefreshArticleViewUseCase}.
+ */
+@Service
+public class GetArticleViewsUseCase implements GetArticleViewsInputPort {
+
+  private final ArticleViewStore articleViewStore;
+
+  public GetArticleViewsUseCase(final ArticleViewStore articleViewStore) {
+    this.articleViewStore = articleViewStore;
+  }
+
+  @Override
+  public GetArticleViewsResult execute(final GetArticleViewsQuery query) {
+    if (query.productIds().isEmpty()) {
+      return new GetArticleViewsResult(Map.of());
+    }
+    return new GetArticleViewsResult(articleViewStore.findByIds(query.productIds()));
+  }
+}
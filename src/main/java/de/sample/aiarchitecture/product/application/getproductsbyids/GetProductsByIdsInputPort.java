@@ -0,0 +1,28 @@
+package de.sample.aiarchitecture.product.application.getproductsbyids;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for retrieving multiple products by their IDs.
+ *
+ * <p>This port provides bulk product lookup for Cart/Checkout to resolve names and images for all
+ * items of a cart in a single operation instead of one lookup per item.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for read operations.
+ *
+ * @see GetProductsByIdsUseCase
+ */
+public interface GetProductsByIdsInputPort
+    extends UseCase<GetProductsByIdsQuery, GetProductsByIdsResult> {
+
+  /**
+   * Retrieves identity and description data for the specified products.
+   *
+   * <p>Unknown product IDs will not be included in the result.
+   *
+   * @param query the query containing the product IDs to look up
+   * @return response containing product data mapped by product ID
+   */
+  @Override
+  GetProductsByIdsResult execute(GetProductsByIdsQuery query);
+}
@@ -0,0 +1,31 @@
+package de.sample.aiarchitecture.product.application.getproductsbyids;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Query model for retrieving multiple products by ID.
+ *
+ * <p>Used by Cart/Checkout to resolve product names and images for multiple products at once.
+ *
+ * @param productIds the collection of product IDs to look up
+ */
+public record GetProductsByIdsQuery(Collection<ProductId> productIds) {
+
+  public GetProductsByIdsQuery {
+    if (productIds == null) {
+      throw new IllegalArgumentException("ProductIds cannot be null");
+    }
+  }
+
+  /**
+   * Creates a new query with the given product IDs.
+   *
+   * @param productIds the product IDs to query
+   * @return a new GetProductsByIdsQuery
+   */
+  public static GetProductsByIdsQuery of(final Collection<ProductId> productIds) {
+    return new GetProductsByIdsQuery(List.copyOf(productIds));
+  }
+}
@@ -0,0 +1,39 @@
+package de.sample.aiarchitecture.product.application.getproductsbyids;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.Map;
+
+/**
+ * Output model containing identity and description data for multiple products.
+ *
+ * <p>Contains only data owned by the Product context. Prices and stock are provided by the Pricing
+ * and Inventory contexts.
+ *
+ * @param products map of product IDs to their product data
+ */
+public record GetProductsByIdsResult(Map<ProductId, ProductData> products) {
+
+  public GetProductsByIdsResult {
+    if (products == null) {
+      throw new IllegalArgumentException("Products cannot be null");
+    }
+    products = Map.copyOf(products);
+  }
+
+  /**
+   * Identity and description data for a single product.
+   *
+   * @param productId the product identifier
+   * @param name the product name
+   * @param sku the stock keeping unit
+   * @param imageUrl the product image URL
+   */
+  public record ProductData(ProductId productId, String name, String sku, String imageUrl) {
+
+    public ProductData {
+      if (productId == null) {
+        throw new IllegalArgumentException("ProductId cannot be null");
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package de.sample.aiarchitecture.product.application.getproductsbyids;
+
+import de.sample.aiarchitecture.product.application.getproductsbyids.GetProductsByIdsResult.ProductData;
+import de.sample.aiarchitecture.product.application.shared.ProductRepository;
+import de.sample.aiarchitecture.product.domain.model.Product;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for retrieving multiple products by their IDs.
+ *
+ * <p>This use case provides bulk product lookup for Cart/Checkout. Unlike {@code
+ * GetProductByIdUseCase}, it does not enrich products with pricing and stock data: callers fetch
+ * those in bulk from the owning contexts themselves, so enriching here would only add round trips.
+ *
+ * <p><b>Hexagonal Architecture:</b> This class implements the {@link GetProductsByIdsInputPort}
+ * interface, which is a primary/driving port in the application layer.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetProductsByIdsUseCase implements GetProductsByIdsInputPort {
+
+  private final ProductRepository productRepository;
+
+  public GetProductsByIdsUseCase(final ProductRepository productRepository) {
+    this.productRepository = productRepository;
+  }
+
+  @Override
+  public GetProductsByIdsResult execute(final GetProductsByIdsQuery query) {
+    if (query.productIds().isEmpty()) {
+      return new GetProductsByIdsResult(Map.of());
+    }
+
+    final List<Product> products = productRepository.findByIds(query.productIds());
+
+    final Map<ProductId, ProductData> productData =
+        products.stream()
+            .map(this::mapToProductData)
+            .collect(Collectors.toMap(ProductData::productId, data -> data));
+
+    return new GetProductsByIdsResult(productData);
+  }
+
+  private ProductData mapToProductData(final Product product) {
+    return new ProductData(
+        product.id(), product.name().value(), product.sku().value(), product.imageUrl().value());
+  }
+}
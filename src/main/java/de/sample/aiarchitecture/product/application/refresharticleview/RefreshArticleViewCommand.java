@@ -0,0 +1,18 @@
+package de.sample.aiarchitecture.product.application.refresharticleview;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+
+/**
+ * Input model for refreshing the article view of a product.
+ *
+ * @param productId the product whose view is refreshed
+ */
+public record RefreshArticleViewCommand(ProductId productId) {
+
+  /** Compact constructor with validation. */
+  public RefreshArticleViewCommand {
+    if (productId == null) {
+      throw new IllegalArgumentException("Product ID cannot be null");
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package de.sample.aiarchitecture.product.application.refresharticleview;
+
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+
+/**
+ * Input port for bringing the article view of a product up to date.
+ *
+ * <p>Triggered by product, price and stock events.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a driving/primary port for write operations.
+ *
+ * @see RefreshArticleViewUseCase
+ */
+public interface RefreshArticleViewInputPort
+    extends UseCase<RefreshArticleViewCommand, RefreshArticleViewResult> {
+
+  /**
+   * Rebuilds the article view of the product from its owning contexts.
+   *
+   * @param command the command identifying the product
+   * @return result telling whether a view is stored for the product
+   */
+  @Override
+  RefreshArticleViewResult execute(RefreshArticleViewCommand command);
+}
@@ -0,0 +1,8 @@
+package de.sample.aiarchitecture.product.application.refresharticleview;
+
+/**
+ * Output model for refreshing an article view.
+ *
+ * @param stored true if a view is stored for the product, false if the product does not exist
+ */
+public record RefreshArticleViewResult(boolean stored) {}
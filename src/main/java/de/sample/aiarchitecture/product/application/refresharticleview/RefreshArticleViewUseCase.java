@@ -0,0 +1,69 @@
+package de.sample.aiarchitecture.product.application.refresharticleview;
+
+import de.sample.aiarchitecture.product.application.shared.ArticleViewStore;
+import de.sample.aiarchitecture.product.application.shared.PricingDataPort;
+import de.sample.aiarchitecture.product.application.shared.PricingDataPort.PriceData;
+import de.sample.aiarchitecture.product.application.shared.ProductRepository;
+import de.sample.aiarchitecture.product.application.shared.ProductStockDataPort;
+import de.sample.aiarchitecture.product.application.shared.ProductStockDataPort.StockData;
+import de.sample.aiarchitecture.product.domain.model.Product;
+import de.sample.aiarchitecture.product.domain.readmodel.ArticleView;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for rebuilding the {@link ArticleView} of one product.
+ *
+ * <p>Events only identify the product that changed; the view is always rebuilt from the current
+ * state of the Product, Pricing and Inventory contexts. Events may therefore arrive late, twice or
+ * out of order without leaving the projection behind the owning contexts.
+ *
+ * <p>Products that no longer exist are removed from the projection.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RefreshArticleViewUseCase implements RefreshArticleViewInputPort {
+
+  private final ProductRepository productRepository;
+  private final PricingDataPort pricingDataPort;
+  private final ProductStockDataPort productStockDataPort;
+  private final ArticleViewStore articleViewStore;
+
+  public RefreshArticleViewUseCase(
+      final ProductRepository productRepository,
+      final PricingDataPort pricingDataPort,
+      final ProductStockDataPort productStockDataPort,
+      final ArticleViewStore articleViewStore) {
+    this.productRepository = productRepository;
+    this.pricingDataPort = pricingDataPort;
+    this.productStockDataPort = productStockDataPort;
+    this.articleViewStore = articleViewStore;
+  }
+
+  @Override
+  public RefreshArticleViewResult execute(final RefreshArticleViewCommand command) {
+    final ProductId productId = command.productId();
+
+    final Optional<Product> product = productRepository.findById(productId);
+    if (product.isEmpty()) {
+      articleViewStore.remove(productId);
+      return new RefreshArticleViewResult(false);
+    }
+
+    final Optional<PriceData> price = pricingDataPort.getPrice(productId);
+    final Optional<StockData> stock = productStockDataPort.getStockData(productId);
+
+    articleViewStore.save(
+        new ArticleView(
+            productId,
+            product.get().name().value(),
+            product.get().imageUrl().value(),
+            price.map(PriceData::currentPrice).orElse(null),
+            stock.map(StockData::availableStock).orElse(0),
+            stock.map(StockData::isAvailable).orElse(false)));
+
+    return new RefreshArticleViewResult(true);
+  }
+}
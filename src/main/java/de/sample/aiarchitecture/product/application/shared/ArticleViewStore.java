@@ -0,0 +1,42 @@
+package de.sample.aiarchitecture.product.application.shared;
+
+import de.sample.aiarchitecture.product.domain.readmodel.ArticleView;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.Store;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Store for the event-maintained {@link ArticleView} projection.
+ *
+ * <p>The projection is written by {@code RefreshArticleViewUseCase} whenever a product, price or
+ * stock event arrives and is read by {@code GetArticleViewsUseCase}. Reads must not block writers
+ * and vice versa.
+ *
+ * <p><b>Hexagonal Architecture:</b> This is a secondary/driven port implemented by an outgoing
+ * adapter.
+ */
+public interface ArticleViewStore extends Store {
+
+  /**
+   * Retrieves the views for multiple products.
+   *
+   * @param productIds the product IDs to look up
+   * @return map of product IDs to their views; products without a view are not in the map
+   */
+  Map<ProductId, ArticleView> findByIds(Collection<ProductId> productIds);
+
+  /**
+   * Stores the view of a product, replacing any previous one.
+   *
+   * @param view the view to store
+   */
+  void save(ArticleView view);
+
+  /**
+   * Removes the view of a product.
+   *
+   * @param productId the product ID
+   */
+  void remove(ProductId productId);
+}
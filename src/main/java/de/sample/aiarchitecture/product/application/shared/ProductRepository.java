@@ -5,6 +5,7 @@ import de.sample.aiarchitecture.product.domain.model.Product;
 import de.sample.aiarchitecture.product.domain.model.SKU;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
 import de.sample.aiarchitecture.sharedkernel.marker.port.out.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,16 @@ public interface ProductRepository extends Repository<Product, ProductId> {
    */
   Optional<Product> findBySku(SKU sku);
 
+  /**
+   * Finds multiple products by their IDs in a single lookup.
+   *
+   * <p>Unknown IDs are skipped, duplicates are returned once.
+   *
+   * @param productIds the product IDs to search for
+   * @return list of products found for the given IDs
+   */
+  List<Product> findByIds(Collection<ProductId> productIds);
+
   /**
    * Finds all products in a specific category.
    *
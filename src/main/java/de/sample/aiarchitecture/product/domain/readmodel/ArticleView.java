@@ -0,0 +1,53 @@
+package de.sample.aiarchitecture.product.domain.readmodel;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.Value;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Read Model combining everything needed to display or price an article in one immutable record.
+ *
+ * <p>Product identity (name, image) is owned by the Product context, the price by the Pricing
+ * context and the stock by the Inventory context. This view denormalizes them so readers do not
+ * have to join three services per request.
+ *
+ * <p>The price is {@code null} as long as the Pricing context has not priced the product yet; such
+ * a view is not {@link #isComplete() complete} and readers should fall back to the owning contexts.
+ *
+ * @param productId the product identifier
+ * @param name the product name
+ * @param imageUrl the product image URL
+ * @param currentPrice the current price, or {@code null} if not priced yet
+ * @param availableStock the unreserved stock quantity
+ * @param available whether the product can be purchased
+ */
+public record ArticleView(
+    ProductId productId,
+    String name,
+    String imageUrl,
+    @Nullable Money currentPrice,
+    int availableStock,
+    boolean available)
+    implements Value {
+
+  public ArticleView {
+    if (productId == null) {
+      throw new IllegalArgumentException("Product ID cannot be null");
+    }
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("Name cannot be null or blank");
+    }
+    if (imageUrl == null) {
+      throw new IllegalArgumentException("Image URL cannot be null");
+    }
+    if (availableStock < 0) {
+      throw new IllegalArgumentException("Available stock cannot be negative");
+    }
+  }
+
+  /** Returns whether all data needed to price the article is present. */
+  public boolean isComplete() {
+    return currentPrice != null;
+  }
+}
@@ -0,0 +1,12 @@
+/**
+ * Read Models for the Product bounded context.
+ *
+ * <p>This package contains read models that provide query-optimized views of product data,
+ * denormalized across the Product, Pricing and Inventory contexts.
+ *
+ * @see ArticleView
+ */
+@NullMarked
+package de.sample.aiarchitecture.product.domain.readmodel;
+
+import org.jspecify.annotations.NullMarked;
@@ -12,7 +12,8 @@ import java.util.UUID;
  * <p>This event is published for cross-module consumption. Internal domain event {@code
  * ProductCreated} is converted to this integration event by {@code ProductCreatedEventPublisher}.
  *
- * <p>Consumers: Pricing context (creates initial price), Inventory context (creates stock level).
+ * <p>Consumers: Pricing context (creates initial price), Inventory context (creates stock level),
+ * Product context (creates the article view of the product).
  */
 public record ProductCreatedEvent(
     UUID eventId,
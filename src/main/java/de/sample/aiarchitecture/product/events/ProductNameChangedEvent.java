@@ -0,0 +1,25 @@
+package de.sample.aiarchitecture.product.events;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.IntegrationEvent;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Integration Event published when a product's name changes.
+ *
+ * <p>Internal domain event {@code ProductNameChanged} is converted to this integration event by
+ * {@code ProductNameChangedEventPublisher}.
+ *
+ * <p>Consumers: Cart and Checkout contexts (invalidate cached article data), Product context
+ * (refreshes the article view of the product).
+ */
+public record ProductNameChangedEvent(
+    UUID eventId, ProductId productId, String newName, Instant occurredOn, int version)
+    implements IntegrationEvent {
+
+  /** Creates a new event from the product's new name. */
+  public static ProductNameChangedEvent now(ProductId productId, String newName) {
+    return new ProductNameChangedEvent(UUID.randomUUID(), productId, newName, Instant.now(), 1);
+  }
+}
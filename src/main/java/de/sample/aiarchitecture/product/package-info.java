@@ -8,7 +8,14 @@
     name = "Product Catalog",
     description = "Product management, catalog browsing, and inventory tracking")
 @ApplicationModule(
-    allowedDependencies = {"sharedkernel", "infrastructure", "pricing :: api", "inventory :: api"})
+    allowedDependencies = {
+      "sharedkernel",
+      "infrastructure",
+      "pricing :: api",
+      "pricing :: events",
+      "inventory :: api",
+      "inventory :: events"
+    })
 package de.sample.aiarchitecture.product;
 
 import de.sample.aiarchitecture.sharedkernel.marker.strategic.BoundedContext;
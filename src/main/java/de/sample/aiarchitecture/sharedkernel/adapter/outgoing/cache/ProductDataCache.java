@@ -0,0 +1,187 @@
+package de.sample.aiarchitecture.sharedkernel.adapter.outgoing.cache;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited near-cache for article data other contexts publish per product.
+ *
+ * <p>The caching article data adapters of the cart and checkout contexts use it to avoid
+ * re-fetching rarely changing article data (name, price, stock) from Open Host Services on every
+ * request. Lookups are bulk-oriented: cached products are served from memory, and all missing
+ * products are loaded with a single call to the loader.
+ *
+ * <p><b>Invalidation:</b> Entries are removed per product by event consumers reacting to changes in
+ * the owning contexts, and expire after the TTL as a safety net. Every invalidation bumps a
+ * generation counter; values loaded while an invalidation happened are returned to the caller but
+ * not kept, so data that changed during the load is never cached.
+ *
+ * <p><b>Bounds:</b> When the maximum size is exceeded, expired entries are purged first, then
+ * arbitrary entries until the cache is back within bounds.
+ *
+ * @param <V> the cached value type
+ */
+public final class ProductDataCache<V> {
+
+  private final ConcurrentHashMap<ProductId, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private final int maxSize;
+  private final long ttlNanos;
+
+  public ProductDataCache(final int maxSize, final Duration ttl) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Max size must be positive");
+    }
+    if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("TTL must be positive");
+    }
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl.toNanos();
+  }
+
+  /**
+   * Returns the values for the given products, loading all missing ones with one loader call.
+   *
+   * @param productIds the products to look up
+   * @param loader loads values for the products not in the cache; products it does not return are
+   *     absent from the result and not cached
+   * @return the values of all found products
+   */
+  public Map<ProductId, V> getAll(
+      final Collection<ProductId> productIds,
+      final Function<Collection<ProductId>, Map<ProductId, V>> loader) {
+    final Map<ProductId, V> result = new HashMap<>();
+    final List<ProductId> missing = new ArrayList<>();
+    final long now = System.nanoTime();
+
+    for (final ProductId productId : new LinkedHashSet<>(productIds)) {
+      final Entry<V> entry = entries.get(productId);
+      if (entry != null && !entry.isExpired(now)) {
+        result.put(productId, entry.value());
+      } else {
+        if (entry != null) {
+          entries.remove(productId, entry);
+        }
+        missing.add(productId);
+      }
+    }
+    hits.add(result.size());
+    misses.add(missing.size());
+
+    if (!missing.isEmpty()) {
+      result.putAll(load(missing, loader));
+    }
+    return result;
+  }
+
+  /**
+   * Loads the values for the given products, bypassing cached entries, and caches the result.
+   *
+   * @param productIds the products to load
+   * @param loader loads the values
+   * @return the freshly loaded values
+   */
+  public Map<ProductId, V> refresh(
+      final Collection<ProductId> productIds,
+      final Function<Collection<ProductId>, Map<ProductId, V>> loader) {
+    return load(productIds, loader);
+  }
+
+  /**
+   * Removes the entry of a product.
+   *
+   * @param productId the product whose data changed
+   */
+  public void invalidate(final ProductId productId) {
+    generation.incrementAndGet();
+    entries.remove(productId);
+  }
+
+  /** Removes all entries. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    entries.clear();
+  }
+
+  /**
+   * Returns the number of product lookups served from the cache since startup.
+   *
+   * @return the hit count
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of product lookups that had to be loaded since startup.
+   *
+   * @return the miss count
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the number of cached entries, including expired ones not yet purged.
+   *
+   * @return the cache size
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  private Map<ProductId, V> load(
+      final Collection<ProductId> productIds,
+      final Function<Collection<ProductId>, Map<ProductId, V>> loader) {
+    final long observedGeneration = generation.get();
+    final Map<ProductId, V> loaded = loader.apply(productIds);
+
+    final long expiresAtNanos = System.nanoTime() + ttlNanos;
+    final Map<ProductId, Entry<V>> stored = new HashMap<>();
+    loaded.forEach(
+        (productId, value) -> {
+          final Entry<V> entry = new Entry<>(value, expiresAtNanos);
+          entries.put(productId, entry);
+          stored.put(productId, entry);
+        });
+
+    // An invalidation raced with the load: the values may be stale, do not keep them
+    if (generation.get() != observedGeneration) {
+      stored.forEach(entries::remove);
+    } else if (entries.size() > maxSize) {
+      evict();
+    }
+    return loaded;
+  }
+
+  private void evict() {
+    final long now = System.nanoTime();
+    entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+
+    final Iterator<ProductId> it = entries.keySet().iterator();
+    while (entries.size() > maxSize && it.hasNext()) {
+      it.next();
+      it.remove();
+    }
+  }
+
+  private record Entry<V>(V value, long expiresAtNanos) {
+    boolean isExpired(final long now) {
+      return now - expiresAtNanos >= 0;
+    }
+  }
+}
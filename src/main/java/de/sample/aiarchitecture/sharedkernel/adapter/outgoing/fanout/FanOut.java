@@ -0,0 +1,206 @@
+package de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Scope for running independent cross-context lookups concurrently.
+ *
+ * <p>Outgoing adapters that aggregate data from several Open Host Services fork one lookup per
+ * service, {@link #join()} once, and then read the results:
+ *
+ * <pre>{@code
+ * try (FanOut fanOut = fanOutProperties.open()) {
+ *   Supplier<Map<ProductId, PriceInfo>> prices =
+ *       fanOut.fork("pricing", () -> pricingService.getPrices(productIds));
+ *   Supplier<Map<ProductId, StockInfo>> stocks =
+ *       fanOut.fork("inventory", () -> inventoryService.getStock(productIds));
+ *   fanOut.join();
+ *   // prices.get(), stocks.get()
+ * }
+ * }</pre>
+ *
+ * <p><b>Parallel mode:</b> Each lookup runs on its own virtual thread. {@link #join()} waits until
+ * all lookups completed, but fails fast: the first failing lookup, or the deadline elapsing,
+ * interrupts all lookups still running and raises a {@link FanOutException}. Closing the scope
+ * interrupts anything still running as well, so no lookup outlives the block that forked it. The
+ * structure follows {@code StructuredTaskScope}, which is still a preview API in the Java version
+ * used here.
+ *
+ * <p><b>Sequential mode:</b> Each lookup runs on the calling thread as soon as it is forked, and a
+ * failure is raised from {@link #fork} directly. There is no deadline, since a running lookup
+ * cannot be abandoned on its own thread.
+ *
+ * <p>A fan-out is confined to the thread that opened it. Lookups run outside the caller's
+ * transaction; the Open Host Services they call open their own read-only transactions.
+ */
+public final class FanOut implements AutoCloseable {
+
+  private static final ThreadFactory VIRTUAL_THREADS =
+      Thread.ofVirtual().name("fan-out-", 0).factory();
+
+  private final FanOutMode mode;
+  private final Duration deadline;
+  private final long deadlineNanos;
+  private final @Nullable ExecutorService executor;
+  private final @Nullable CompletionService<Object> completionService;
+  private final Map<Future<Object>, String> running = new LinkedHashMap<>();
+  private boolean joined;
+
+  private FanOut(final FanOutMode mode, final Duration deadline) {
+    this.mode = mode;
+    this.deadline = deadline;
+    this.deadlineNanos = System.nanoTime() + deadline.toNanos();
+    if (mode == FanOutMode.PARALLEL) {
+      this.executor = Executors.newThreadPerTaskExecutor(VIRTUAL_THREADS);
+      this.completionService = new ExecutorCompletionService<>(executor);
+    } else {
+      this.executor = null;
+      this.completionService = null;
+    }
+  }
+
+  /**
+   * Opens a new fan-out scope. The deadline starts counting immediately.
+   *
+   * @param mode the execution mode
+   * @param deadline maximum time {@link #join()} waits for all lookups (parallel mode only)
+   * @return a new fan-out, to be used in a try-with-resources block
+   */
+  public static FanOut open(final FanOutMode mode, final Duration deadline) {
+    if (mode == null) {
+      throw new IllegalArgumentException("Mode cannot be null");
+    }
+    if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+      throw new IllegalArgumentException("Deadline must be positive");
+    }
+    return new FanOut(mode, deadline);
+  }
+
+  /**
+   * Forks a lookup.
+   *
+   * @param source name of the looked up context, used in error messages
+   * @param lookup the lookup to run
+   * @param <T> the lookup result type
+   * @return supplier for the result, readable after {@link #join()} returned
+   * @throws FanOutException in sequential mode, if the lookup fails
+   */
+  public <T> Supplier<T> fork(final String source, final Callable<T> lookup) {
+    if (joined) {
+      throw new IllegalStateException("Cannot fork after join");
+    }
+
+    if (completionService == null) {
+      final T result = callInline(source, lookup);
+      return () -> result;
+    }
+
+    final Future<Object> future = completionService.submit(lookup::call);
+    running.put(future, source);
+    return () -> resultOf(future);
+  }
+
+  /**
+   * Waits for all forked lookups.
+   *
+   * @throws FanOutException if a lookup failed, the deadline elapsed, or the calling thread was
+   *     interrupted; all lookups still running are cancelled in that case
+   */
+  public void join() {
+    if (joined) {
+      throw new IllegalStateException("Already joined");
+    }
+    joined = true;
+    if (completionService == null) {
+      return;
+    }
+
+    final Map<Future<Object>, String> pending = new LinkedHashMap<>(running);
+    try {
+      while (!pending.isEmpty()) {
+        final long remainingNanos = deadlineNanos - System.nanoTime();
+        final Future<Object> completed =
+            remainingNanos > 0
+                ? completionService.poll(remainingNanos, TimeUnit.NANOSECONDS)
+                : completionService.poll();
+
+        if (completed == null) {
+          cancelRunning();
+          final List<String> sources = new ArrayList<>(pending.values());
+          throw new FanOutException(
+              String.join(", ", sources),
+              "No response from " + sources + " within " + deadline,
+              null);
+        }
+
+        final String source = pending.remove(completed);
+        if (completed.state() == Future.State.FAILED) {
+          cancelRunning();
+          throw failed(source, completed.exceptionNow());
+        }
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      cancelRunning();
+      throw new FanOutException(
+          String.join(", ", pending.values()), "Interrupted while waiting for lookups", ex);
+    }
+  }
+
+  /** Interrupts all lookups that are still running. Does not wait for them to finish. */
+  @Override
+  public void close() {
+    if (executor != null) {
+      cancelRunning();
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns the execution mode of this fan-out.
+   *
+   * @return the mode
+   */
+  public FanOutMode mode() {
+    return mode;
+  }
+
+  private <T> T callInline(final String source, final Callable<T> lookup) {
+    try {
+      return lookup.call();
+    } catch (final Exception ex) {
+      throw failed(source, ex);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T resultOf(final Future<Object> future) {
+    if (!joined) {
+      throw new IllegalStateException("Results are only available after join");
+    }
+    return (T) future.resultNow();
+  }
+
+  private void cancelRunning() {
+    running.keySet().forEach(future -> future.cancel(true));
+  }
+
+  private static FanOutException failed(final String source, final Throwable cause) {
+    return new FanOutException(
+        source, "Lookup '" + source + "' failed: " + cause.getMessage(), cause);
+  }
+}
@@ -0,0 +1,29 @@
+package de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Thrown by {@link FanOut#join()} when a forked lookup failed or the deadline elapsed.
+ *
+ * <p>Extends {@link IllegalStateException} so callers that already treat missing article data as an
+ * illegal state keep working unchanged.
+ */
+public class FanOutException extends IllegalStateException {
+
+  private final String source;
+
+  public FanOutException(
+      final String source, final String message, @Nullable final Throwable cause) {
+    super(message, cause);
+    this.source = source;
+  }
+
+  /**
+   * Returns the name of the lookup that failed or did not complete in time.
+   *
+   * @return the source name passed to {@link FanOut#fork}
+   */
+  public String source() {
+    return source;
+  }
+}
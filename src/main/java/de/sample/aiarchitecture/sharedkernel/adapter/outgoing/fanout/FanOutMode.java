@@ -0,0 +1,11 @@
+package de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout;
+
+/** How a {@link FanOut} executes its forked lookups. */
+public enum FanOutMode {
+
+  /** Lookups run one after another on the calling thread, latency is the sum of all lookups. */
+  SEQUENTIAL,
+
+  /** Lookups run concurrently on virtual threads, latency is the slowest lookup. */
+  PARALLEL
+}
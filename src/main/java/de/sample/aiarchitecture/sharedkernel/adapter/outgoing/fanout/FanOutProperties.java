@@ -0,0 +1,44 @@
+package de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for cross-context lookups that fan out to several Open Host Services.
+ *
+ * @param mode whether lookups run sequentially or in parallel
+ * @param deadline maximum time to wait for all lookups of one fan-out
+ */
+@ConfigurationProperties(prefix = "app.fan-out")
+public record FanOutProperties(FanOutMode mode, Duration deadline) {
+
+  private static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(2);
+
+  public FanOutProperties {
+    if (mode == null) {
+      mode = FanOutMode.PARALLEL;
+    }
+    if (deadline == null || deadline.isNegative() || deadline.isZero()) {
+      deadline = DEFAULT_DEADLINE;
+    }
+  }
+
+  /**
+   * Creates properties with the default deadline.
+   *
+   * @param mode the fan-out mode
+   * @return the properties
+   */
+  public static FanOutProperties of(final FanOutMode mode) {
+    return new FanOutProperties(mode, DEFAULT_DEADLINE);
+  }
+
+  /**
+   * Opens a new fan-out scope with these settings.
+   *
+   * @return a new fan-out, to be used in a try-with-resources block
+   */
+  public FanOut open() {
+    return FanOut.open(mode, deadline);
+  }
+}
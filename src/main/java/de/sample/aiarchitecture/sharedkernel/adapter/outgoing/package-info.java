@@ -7,7 +7,9 @@
  * <p><b>Subpackages:</b>
  *
  * <ul>
+ *   <li>{@code cache} - Near-caches for data published by other contexts
  *   <li>{@code event} - Domain event publishing infrastructure
+ *   <li>{@code fanout} - Concurrent cross-context lookups
  * </ul>
  */
 @org.jspecify.annotations.NullMarked
@@ -0,0 +1,46 @@
+package de.sample.aiarchitecture.sharedkernel.domain.model;
+
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.Value;
+import java.util.List;
+import java.util.OptionalLong;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Framework-independent keyset (seek) pagination result.
+ *
+ * @param content the page content
+ * @param nextCursor cursor for the following page, or {@code null} if this is the last page
+ * @param totalElements total number of matching elements, present only if requested
+ * @param pageSize the page size
+ * @param <T> the element type
+ * @see CursorPagingRequest
+ */
+public record CursorPageResult<T>(
+    List<T> content, @Nullable String nextCursor, OptionalLong totalElements, int pageSize)
+    implements Value {
+
+  public CursorPageResult {
+    if (content == null) {
+      throw new IllegalArgumentException("Content cannot be null");
+    }
+    if (totalElements == null) {
+      throw new IllegalArgumentException("Total elements cannot be null, use OptionalLong.empty()");
+    }
+    if (totalElements.isPresent() && totalElements.getAsLong() < 0) {
+      throw new IllegalArgumentException("Total elements cannot be negative");
+    }
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    content = List.copyOf(content);
+  }
+
+  /**
+   * Checks whether another page follows this one.
+   *
+   * @return true if a next cursor is available
+   */
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
@@ -0,0 +1,68 @@
+package de.sample.aiarchitecture.sharedkernel.domain.model;
+
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.Value;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Framework-independent keyset (seek) pagination request.
+ *
+ * <p>Unlike {@link PagingRequest}, pages are addressed by an opaque cursor pointing just past the
+ * last element of the previous page instead of by page number. Adapters translate the cursor into
+ * an index-backed range predicate, so deep pages cost the same as the first one.
+ *
+ * @param cursor the cursor returned as {@link CursorPageResult#nextCursor()} of the previous page,
+ *     or {@code null} for the first page
+ * @param pageSize the number of elements per page
+ * @param includeTotal whether the total number of matching elements should be counted
+ */
+public record CursorPagingRequest(@Nullable String cursor, int pageSize, boolean includeTotal)
+    implements Value {
+
+  public CursorPagingRequest {
+    if (cursor != null && cursor.isBlank()) {
+      throw new IllegalArgumentException("Cursor cannot be blank");
+    }
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+  }
+
+  /**
+   * Creates a request for the first page without a total count.
+   *
+   * @param pageSize the number of elements per page
+   * @return a new CursorPagingRequest
+   */
+  public static CursorPagingRequest first(final int pageSize) {
+    return new CursorPagingRequest(null, pageSize, false);
+  }
+
+  /**
+   * Creates a request for the page following the given cursor without a total count.
+   *
+   * @param cursor the cursor of the previous page
+   * @param pageSize the number of elements per page
+   * @return a new CursorPagingRequest
+   */
+  public static CursorPagingRequest after(final String cursor, final int pageSize) {
+    return new CursorPagingRequest(cursor, pageSize, false);
+  }
+
+  /**
+   * Returns a copy of this request that also counts all matching elements.
+   *
+   * @return a new CursorPagingRequest with {@code includeTotal} set
+   */
+  public CursorPagingRequest withTotal() {
+    return new CursorPagingRequest(cursor, pageSize, true);
+  }
+
+  /**
+   * Checks whether this request addresses the first page.
+   *
+   * @return true if no cursor is set
+   */
+  public boolean isFirstPage() {
+    return cursor == null;
+  }
+}
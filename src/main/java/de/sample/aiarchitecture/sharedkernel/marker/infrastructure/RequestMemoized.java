@@ -0,0 +1,41 @@
+package de.sample.aiarchitecture.sharedkernel.marker.infrastructure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only query use case whose results may be reused within one web request.
+ *
+ * <p>Pages are assembled from several independent parts (controller, controller advice, view
+ * helpers) that often run the same query. For use cases annotated with {@code @RequestMemoized},
+ * the first {@code execute(query)} call of a request runs the use case, and every further call with
+ * an equal query returns the same result. Queries are compared with {@code equals}, so the query
+ * type must be a record.
+ *
+ * <p><b>Only annotate use cases that:</b>
+ *
+ * <ul>
+ *   <li>do not modify state (typically {@code @Transactional(readOnly = true)})
+ *   <li>return immutable results, since callers share the same instance
+ * </ul>
+ *
+ * <p>Outside a web request (event listeners, scheduled jobs, tests without a request), calls are
+ * not memoized.
+ *
+ * <p><b>Architecture Pattern:</b>
+ *
+ * <ul>
+ *   <li>Annotation definition: {@code sharedkernel.marker.infrastructure} (pure Java)
+ *   <li>Annotation processing: {@code infrastructure.support.RequestMemoizationProcessor}
+ *       (Spring-specific)
+ * </ul>
+ *
+ * @see de.sample.aiarchitecture.infrastructure.support.RequestMemoizationProcessor
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestMemoized {}
@@ -8,6 +8,7 @@
  *
  * <ul>
  *   <li>{@link AsyncInitialize} - Marks components for asynchronous initialization
+ *   <li>{@link RequestMemoized} - Marks read-only query use cases memoized per web request
  * </ul>
  *
  * <p><b>Why in Shared Kernel?</b> These annotations are framework-agnostic (pure Java annotations)
@@ -3,7 +3,11 @@ CREATE TABLE IF NOT EXISTS carts (
   id VARCHAR(64) PRIMARY KEY,
   customer_id VARCHAR(64) NOT NULL,
   status VARCHAR(32) NOT NULL,
-  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  -- Denormalized from cart_items on every save; NULL amount/currency for mixed-currency carts
+  item_count INT DEFAULT 0 NOT NULL,
+  total_amount DECIMAL(19,2) DEFAULT 0,
+  total_currency VARCHAR(3) DEFAULT 'EUR'
 );
 
 CREATE TABLE IF NOT EXISTS cart_items (
@@ -17,5 +21,42 @@ CREATE TABLE IF NOT EXISTS cart_items (
 );
 
 CREATE INDEX IF NOT EXISTS idx_carts_customer ON carts(customer_id);
-CREATE INDEX IF NOT EXISTS idx_carts_status ON carts(status);
+CREATE INDEX IF NOT EXISTS idx_carts_status_updated ON carts(status, updated_at);
+CREATE INDEX IF NOT EXISTS idx_carts_status_total ON carts(status, total_currency, total_amount);
 CREATE INDEX IF NOT EXISTS idx_items_cart ON cart_items(cart_id);
+-- Keyset pagination order: ORDER BY updated_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_carts_updated_id ON carts(updated_at, id);
+
+-- Checkout sessions: scalar columns for the repository finders, nested state in one snapshot
+CREATE TABLE IF NOT EXISTS checkout_sessions (
+  id VARCHAR(64) PRIMARY KEY,
+  cart_id VARCHAR(64) NOT NULL,
+  customer_id VARCHAR(64) NOT NULL,
+  status VARCHAR(32) NOT NULL,
+  step VARCHAR(32) NOT NULL,
+  version BIGINT DEFAULT 0 NOT NULL,
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  -- Line items, totals and step data, see CheckoutSessionSnapshot
+  snapshot VARBINARY NOT NULL
+);
+
+-- findByCartId, findActiveByCartId
+CREATE INDEX IF NOT EXISTS idx_checkout_sessions_cart_status ON checkout_sessions(cart_id, status, updated_at);
+-- findActiveByCustomerId, findConfirmedOrCompletedByCustomerId
+CREATE INDEX IF NOT EXISTS idx_checkout_sessions_customer_status ON checkout_sessions(customer_id, status, updated_at);
+-- findExpiredSessions
+CREATE INDEX IF NOT EXISTS idx_checkout_sessions_status_updated ON checkout_sessions(status, updated_at);
+
+-- Archived form of confirmed and completed checkout sessions, see PlacedOrder
+CREATE TABLE IF NOT EXISTS placed_orders (
+  session_id VARCHAR(64) PRIMARY KEY,
+  customer_id VARCHAR(64) NOT NULL,
+  status VARCHAR(32) NOT NULL,
+  order_reference VARCHAR(64),
+  archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+  -- Totals and lines, see JdbcPlacedOrderArchive
+  content VARBINARY NOT NULL
+);
+
+-- findLatestByCustomerId
+CREATE INDEX IF NOT EXISTS idx_placed_orders_customer_archived ON placed_orders(customer_id, archived_at);
@@ -2,6 +2,7 @@ package de.sample.aiarchitecture;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import de.sample.aiarchitecture.cart.adapter.outgoing.product.CachingArticleDataAdapter;
 import de.sample.aiarchitecture.cart.adapter.outgoing.product.CompositeArticleDataAdapter;
 import de.sample.aiarchitecture.cart.application.additemtocart.AddItemToCartCommand;
 import de.sample.aiarchitecture.cart.application.additemtocart.AddItemToCartUseCase;
@@ -35,8 +36,12 @@ import de.sample.aiarchitecture.inventory.api.InventoryService;
 import de.sample.aiarchitecture.pricing.api.PricingService;
 import de.sample.aiarchitecture.pricing.application.setproductprice.SetProductPriceCommand;
 import de.sample.aiarchitecture.pricing.application.setproductprice.SetProductPriceInputPort;
+import de.sample.aiarchitecture.product.api.ArticleViewService;
+import de.sample.aiarchitecture.product.api.ArticleViewService.ArticleViewInfo;
 import de.sample.aiarchitecture.product.api.ProductCatalogService;
 import de.sample.aiarchitecture.product.api.ProductCatalogService.ProductInfo;
+import de.sample.aiarchitecture.product.application.refresharticleview.RefreshArticleViewCommand;
+import de.sample.aiarchitecture.product.application.refresharticleview.RefreshArticleViewInputPort;
 import de.sample.aiarchitecture.product.application.shared.ProductRepository;
 import de.sample.aiarchitecture.product.domain.model.Product;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
@@ -83,6 +88,8 @@ class ArticleDataFlowIntegrationTest {
 
   @Autowired private ArticleDataPort articleDataPort;
 
+  @Autowired private CompositeArticleDataAdapter compositeArticleDataAdapter;
+
   @Autowired private GetOrCreateActiveCartUseCase getOrCreateActiveCartUseCase;
 
   @Autowired private AddItemToCartUseCase addItemToCartUseCase;
@@ -103,6 +110,10 @@ class ArticleDataFlowIntegrationTest {
 
   @Autowired private SetProductPriceInputPort setProductPriceInputPort;
 
+  @Autowired private ArticleViewService articleViewService;
+
+  @Autowired private RefreshArticleViewInputPort refreshArticleViewInputPort;
+
   private ProductId testProductId;
   private String testProductIdString;
 
@@ -171,6 +182,30 @@ class ArticleDataFlowIntegrationTest {
       }
     }
 
+    @Test
+    @DisplayName("Should resolve product infos in bulk and skip unknown products")
+    void shouldResolveProductInfosInBulk() {
+      // Given: Two known products and one unknown product
+      List<Product> products = productRepository.findAll();
+      assertTrue(products.size() >= 2, "Need at least 2 products for bulk test");
+
+      ProductId unknownId = ProductId.of("00000000-0000-0000-0000-000000000000");
+      List<ProductId> productIds = List.of(products.get(0).id(), products.get(1).id(), unknownId);
+
+      // When: Fetching product infos in a single call
+      Map<ProductId, ProductInfo> result = productCatalogService.getProductInfos(productIds);
+
+      // Then: Known products are resolved with the same data as the single lookup
+      assertEquals(2, result.size(), "Should only return data for known products");
+      assertFalse(result.containsKey(unknownId), "Unknown product should be skipped");
+      for (Product product : products.subList(0, 2)) {
+        assertEquals(
+            productCatalogService.getProductInfo(product.id()).orElseThrow(),
+            result.get(product.id()),
+            "Bulk lookup should match single lookup for product: " + product.id().value());
+      }
+    }
+
     @Test
     @DisplayName("Should return empty for empty input")
     void shouldReturnEmptyForEmptyInput() {
@@ -187,12 +222,65 @@ class ArticleDataFlowIntegrationTest {
     }
 
     @Test
-    @DisplayName("CompositeArticleDataAdapter is properly wired as ArticleDataPort")
+    @DisplayName("CompositeArticleDataAdapter is wired as ArticleDataPort behind the cache")
     void compositeAdapterIsProperlyWired() {
-      // Verify that the ArticleDataPort is implemented by CompositeArticleDataAdapter
+      // Verify that the ArticleDataPort is the caching decorator around the composite adapter
       assertTrue(
-          articleDataPort instanceof CompositeArticleDataAdapter,
-          "ArticleDataPort should be implemented by CompositeArticleDataAdapter");
+          articleDataPort instanceof CachingArticleDataAdapter,
+          "ArticleDataPort should be implemented by CachingArticleDataAdapter");
+      assertNotNull(
+          compositeArticleDataAdapter, "CompositeArticleDataAdapter should be the cache delegate");
+    }
+  }
+
+  @Nested
+  @DisplayName("ArticleView Projection Tests")
+  class ArticleViewProjectionTests {
+
+    @Test
+    @DisplayName("Should serve the same article data as the owning contexts")
+    void shouldMatchCompositeArticleData() {
+      // Given: The view of the test product was refreshed from its owning contexts
+      refreshArticleViewInputPort.execute(new RefreshArticleViewCommand(testProductId));
+
+      // When: Reading the view and the composite article data
+      ArticleViewInfo view =
+          articleViewService.getArticleViews(List.of(testProductId)).get(testProductId);
+      CartArticle article = compositeArticleDataAdapter.getArticleData(testProductId).orElseThrow();
+
+      // Then: Both agree on name, image, price and stock
+      assertNotNull(view, "Article view should be available after refresh");
+      assertEquals(article.name(), view.name());
+      assertEquals(article.imageUrl(), view.imageUrl());
+      assertEquals(article.currentPrice(), view.currentPrice());
+      assertEquals(article.availableStock(), view.availableStock());
+      assertEquals(article.isAvailable(), view.isAvailable());
+    }
+
+    @Test
+    @DisplayName("Should reflect price changes once refreshed")
+    void shouldReflectPriceChangeAfterRefresh() {
+      // Given: A new price for the test product
+      setProductPriceInputPort.execute(
+          new SetProductPriceCommand(testProductIdString, new BigDecimal("123.45"), "EUR"));
+
+      // When: The view is refreshed, as the price event consumer does after commit
+      refreshArticleViewInputPort.execute(new RefreshArticleViewCommand(testProductId));
+
+      // Then: The view carries the new price
+      ArticleViewInfo view =
+          articleViewService.getArticleViews(List.of(testProductId)).get(testProductId);
+      assertNotNull(view, "Article view should be available after refresh");
+      assertEquals(0, new BigDecimal("123.45").compareTo(view.currentPrice().amount()));
+    }
+
+    @Test
+    @DisplayName("Should skip unknown products")
+    void shouldSkipUnknownProducts() {
+      ProductId unknownId = ProductId.of("00000000-0000-0000-0000-000000000000");
+      refreshArticleViewInputPort.execute(new RefreshArticleViewCommand(unknownId));
+
+      assertTrue(articleViewService.getArticleViews(List.of(unknownId)).isEmpty());
     }
   }
 
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import de.sample.aiarchitecture.cart.adapter.outgoing.persistence.JdbcShoppingCartRepository;
 import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CartItem;
+import de.sample.aiarchitecture.cart.domain.model.CartItemId;
 import de.sample.aiarchitecture.cart.domain.model.CustomerId;
 import de.sample.aiarchitecture.cart.domain.model.Quantity;
 import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
@@ -11,28 +13,50 @@ import de.sample.aiarchitecture.cart.domain.specification.ActiveCart;
 import de.sample.aiarchitecture.cart.domain.specification.ComposedCartSpecification;
 import de.sample.aiarchitecture.cart.domain.specification.HasMinTotal;
 import de.sample.aiarchitecture.infrastructure.AiArchitectureApplication;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPageResult;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PageResult;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Price;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
 import org.springframework.test.context.ActiveProfiles;
 
 /**
  * Integration tests for the JDBC ShoppingCartRepository implementation using the "jdbc" profile.
  *
  * <p>Mirrors the scenarios covered by the JPA-based test to ensure specification pushdown and
- * paging work equivalently in the JDBC adapter.
+ * paging work equivalently in the JDBC adapter. Also checks that saving a cart only writes the item
+ * rows that were added, changed or removed.
  */
 @ActiveProfiles("jdbc")
 @SpringBootTest(classes = AiArchitectureApplication.class)
 class ShoppingCartRepositoryJdbcIntegrationTest {
 
   @Autowired private JdbcShoppingCartRepository shoppingCartRepository;
+  @Autowired private DataSource dataSource;
+  @Autowired private CartSpecToJdbc specTranslator;
 
   @Test
   void save_thenFindById_andFindActiveByCustomer_shouldRoundTrip() {
@@ -80,4 +104,343 @@ class ShoppingCartRepositoryJdbcIntegrationTest {
     assertEquals(1, page.content().size(), "Expected a single cart in the first page");
     assertEquals(big.id().value(), page.content().get(0).id().value());
   }
+
+  @Test
+  void findBy_spec_withMinTotal_neverMatchesMixedCurrencyCarts() {
+    // given: a mixed-currency cart whose EUR lines alone reach the minimum, and a USD cart
+    CustomerId customerId = CustomerId.of("it-jdbc-customer-mixed");
+
+    ShoppingCart mixed = new ShoppingCart(CartId.generate(), customerId);
+    mixed.addItem(ProductId.of("P1"), Quantity.of(3), Price.of(Money.euro(25.00)));
+    mixed.addItem(ProductId.of("P2"), Quantity.of(1), Price.of(usd(10.00)));
+
+    ShoppingCart dollars = new ShoppingCart(CartId.generate(), customerId);
+    dollars.addItem(ProductId.of("P3"), Quantity.of(2), Price.of(usd(40.00))); // total 80 USD
+
+    shoppingCartRepository.save(mixed);
+    shoppingCartRepository.save(dollars);
+
+    // when
+    PageResult<ShoppingCart> euroPage =
+        shoppingCartRepository.findBy(
+            new ComposedCartSpecification(new ActiveCart().and(new HasMinTotal(Money.euro(50.00)))),
+            PagingRequest.of(0, 100));
+    PageResult<ShoppingCart> dollarPage =
+        shoppingCartRepository.findBy(
+            new ComposedCartSpecification(new ActiveCart().and(new HasMinTotal(usd(50.00)))),
+            PagingRequest.of(0, 100));
+
+    // then: the mixed cart has no total and matches neither currency
+    assertTrue(
+        euroPage.content().stream().noneMatch(cart -> cart.customerId().equals(customerId)),
+        "Mixed-currency cart must not match a EUR minimum");
+    assertEquals(
+        List.of(dollars.id()),
+        dollarPage.content().stream()
+            .filter(cart -> cart.customerId().equals(customerId))
+            .map(ShoppingCart::id)
+            .toList());
+  }
+
+  @Test
+  void findByCustomerId_loadsItemsWithConstantStatementCount() {
+    // given: two customers with a small and a large number of carts, each cart holding items
+    CustomerId fewCarts = CustomerId.of("it-jdbc-customer-3");
+    CustomerId manyCarts = CustomerId.of("it-jdbc-customer-4");
+    saveCartsWithItems(fewCarts, 2);
+    saveCartsWithItems(manyCarts, 40);
+
+    StatementCountingDataSource counting = new StatementCountingDataSource(dataSource);
+    JdbcShoppingCartRepository countingRepository =
+        new JdbcShoppingCartRepository(counting, specTranslator);
+
+    // when
+    List<ShoppingCart> small = countingRepository.findByCustomerId(fewCarts);
+    int smallStatements = counting.reset();
+    List<ShoppingCart> large = countingRepository.findByCustomerId(manyCarts);
+    int largeStatements = counting.reset();
+
+    // then: one statement for the carts plus one for all of their items
+    assertEquals(2, small.size());
+    assertEquals(40, large.size());
+    assertTrue(large.stream().allMatch(cart -> cart.items().size() == 2));
+    assertTrue(large.stream().allMatch(cart -> cart.domainEvents().isEmpty()));
+    assertEquals(2, smallStatements, "Expected carts query plus a single bulk item query");
+    assertEquals(smallStatements, largeStatements, "Statement count must not grow with carts");
+  }
+
+  @Test
+  void findBy_spec_statementCountStaysConstantAsPageSizeGrows() {
+    // given
+    saveCartsWithItems(CustomerId.of("it-jdbc-customer-5"), 30);
+
+    StatementCountingDataSource counting = new StatementCountingDataSource(dataSource);
+    JdbcShoppingCartRepository countingRepository =
+        new JdbcShoppingCartRepository(counting, specTranslator);
+    var spec = new ComposedCartSpecification(new ActiveCart());
+
+    // when
+    PageResult<ShoppingCart> smallPage = countingRepository.findBy(spec, PagingRequest.of(0, 5));
+    int smallStatements = counting.reset();
+    PageResult<ShoppingCart> largePage = countingRepository.findBy(spec, PagingRequest.of(0, 30));
+    int largeStatements = counting.reset();
+
+    // then: count + page + bulk item query, regardless of page size
+    assertEquals(5, smallPage.content().size());
+    assertEquals(30, largePage.content().size());
+    assertEquals(3, smallStatements, "Expected count, page and bulk item queries");
+    assertEquals(smallStatements, largeStatements, "Statement count must not grow with page size");
+  }
+
+  @Test
+  void findBy_cursor_walksAllPagesWithoutGapsOrDuplicates() {
+    // given
+    saveCartsWithItems(CustomerId.of("it-jdbc-customer-6"), 17);
+    var spec = new ComposedCartSpecification(new ActiveCart());
+
+    // when: first page with total, following pages by cursor only
+    CursorPageResult<ShoppingCart> page =
+        shoppingCartRepository.findBy(spec, CursorPagingRequest.first(5).withTotal());
+    long total = page.totalElements().orElseThrow();
+    Set<String> seen = new HashSet<>();
+    int pages = 0;
+    while (true) {
+      pages++;
+      assertTrue(page.content().size() <= 5);
+      page.content().forEach(cart -> assertTrue(seen.add(cart.id().value()), "Duplicate cart"));
+      if (!page.hasNext()) {
+        break;
+      }
+      page = shoppingCartRepository.findBy(spec, CursorPagingRequest.after(page.nextCursor(), 5));
+      assertTrue(page.totalElements().isEmpty(), "Total must only be counted on request");
+    }
+
+    // then
+    assertTrue(total >= 17);
+    assertEquals(total, seen.size(), "Expected every matching cart exactly once");
+    assertEquals((total + 4) / 5, pages);
+  }
+
+  @Test
+  void streamBy_spec_returnsAllMatchingCartsWithItems() {
+    // given
+    CustomerId customerId = CustomerId.of("it-jdbc-customer-7");
+    saveCartsWithItems(customerId, 12);
+    var spec = new ComposedCartSpecification(new ActiveCart());
+    long expected = shoppingCartRepository.findBy(spec, PagingRequest.of(0, 1)).totalElements();
+
+    // when
+    List<ShoppingCart> streamed;
+    try (Stream<ShoppingCart> carts = shoppingCartRepository.streamBy(spec)) {
+      streamed = carts.toList();
+    }
+
+    // then
+    assertEquals(expected, streamed.size());
+    List<ShoppingCart> own =
+        streamed.stream().filter(cart -> cart.customerId().equals(customerId)).toList();
+    assertEquals(12, own.size());
+    assertTrue(own.stream().allMatch(cart -> cart.items().size() == 2));
+  }
+
+  @Test
+  void save_addedItem_insertsOnlyThatRowAndKeepsItemIds() {
+    // given
+    ShoppingCart cart = saveCartWithTwoItems(CustomerId.of("it-jdbc-customer-8"));
+    StatementCountingDataSource counting = new StatementCountingDataSource(dataSource);
+    JdbcShoppingCartRepository countingRepository =
+        new JdbcShoppingCartRepository(counting, specTranslator);
+    ShoppingCart loaded = countingRepository.findById(cart.id()).orElseThrow();
+    Set<CartItemId> before = itemIds(loaded);
+    loaded.addItem(ProductId.of("P3"), Quantity.of(1), Price.of(Money.euro(7.00)));
+    counting.reset();
+
+    // when
+    countingRepository.save(loaded);
+
+    // then
+    assertEquals(List.of("INSERT"), itemWrites(counting));
+    Set<CartItemId> after = itemIds(countingRepository.findById(cart.id()).orElseThrow());
+    assertEquals(3, after.size());
+    assertTrue(after.containsAll(before), "Existing item rows must keep their IDs");
+  }
+
+  @Test
+  void save_changedQuantity_updatesOnlyThatRow() {
+    // given
+    ShoppingCart cart = saveCartWithTwoItems(CustomerId.of("it-jdbc-customer-9"));
+    StatementCountingDataSource counting = new StatementCountingDataSource(dataSource);
+    JdbcShoppingCartRepository countingRepository =
+        new JdbcShoppingCartRepository(counting, specTranslator);
+    ShoppingCart loaded = countingRepository.findById(cart.id()).orElseThrow();
+    CartItem changed = loaded.items().get(0);
+    loaded.updateItemQuantity(changed.id(), Quantity.of(5));
+    counting.reset();
+
+    // when
+    countingRepository.save(loaded);
+
+    // then
+    assertEquals(List.of("UPDATE"), itemWrites(counting));
+    ShoppingCart reloaded = countingRepository.findById(cart.id()).orElseThrow();
+    assertEquals(itemIds(loaded), itemIds(reloaded));
+    assertEquals(5, quantityOf(reloaded, changed.id()));
+  }
+
+  @Test
+  void save_removedItem_deletesOnlyThatRow() {
+    // given
+    ShoppingCart cart = saveCartWithTwoItems(CustomerId.of("it-jdbc-customer-10"));
+    StatementCountingDataSource counting = new StatementCountingDataSource(dataSource);
+    JdbcShoppingCartRepository countingRepository =
+        new JdbcShoppingCartRepository(counting, specTranslator);
+    ShoppingCart loaded = countingRepository.findById(cart.id()).orElseThrow();
+    CartItem kept = loaded.items().get(0);
+    loaded.removeItem(loaded.items().get(1).id());
+    counting.reset();
+
+    // when
+    countingRepository.save(loaded);
+
+    // then
+    assertEquals(List.of("DELETE"), itemWrites(counting));
+    ShoppingCart reloaded = countingRepository.findById(cart.id()).orElseThrow();
+    assertEquals(Set.of(kept.id()), itemIds(reloaded));
+  }
+
+  @Test
+  void save_unchangedCart_issuesNoItemStatements() {
+    // given
+    ShoppingCart cart = saveCartWithTwoItems(CustomerId.of("it-jdbc-customer-11"));
+    StatementCountingDataSource counting = new StatementCountingDataSource(dataSource);
+    JdbcShoppingCartRepository countingRepository =
+        new JdbcShoppingCartRepository(counting, specTranslator);
+    ShoppingCart loaded = countingRepository.findById(cart.id()).orElseThrow();
+    counting.reset();
+
+    // when
+    countingRepository.save(loaded);
+
+    // then
+    assertEquals(List.of(), itemWrites(counting));
+    assertEquals(itemIds(loaded), itemIds(countingRepository.findById(cart.id()).orElseThrow()));
+  }
+
+  private static Money usd(double amount) {
+    return Money.of(BigDecimal.valueOf(amount), Currency.getInstance("USD"));
+  }
+
+  private void saveCartsWithItems(CustomerId customerId, int cartCount) {
+    for (int i = 0; i < cartCount; i++) {
+      ShoppingCart cart = new ShoppingCart(CartId.generate(), customerId);
+      cart.addItem(ProductId.of("P1"), Quantity.of(1), Price.of(Money.euro(10.00)));
+      cart.addItem(ProductId.of("P2"), Quantity.of(2), Price.of(Money.euro(5.00)));
+      shoppingCartRepository.save(cart);
+    }
+  }
+
+  private ShoppingCart saveCartWithTwoItems(CustomerId customerId) {
+    ShoppingCart cart = new ShoppingCart(CartId.generate(), customerId);
+    cart.addItem(ProductId.of("P1"), Quantity.of(1), Price.of(Money.euro(10.00)));
+    cart.addItem(ProductId.of("P2"), Quantity.of(2), Price.of(Money.euro(5.00)));
+    shoppingCartRepository.save(cart);
+    return cart;
+  }
+
+  private static Set<CartItemId> itemIds(ShoppingCart cart) {
+    return cart.items().stream().map(CartItem::id).collect(Collectors.toSet());
+  }
+
+  private static int quantityOf(ShoppingCart cart, CartItemId itemId) {
+    return cart.items().stream()
+        .filter(item -> item.id().equals(itemId))
+        .findFirst()
+        .orElseThrow()
+        .quantity()
+        .value();
+  }
+
+  /** Returns the kind of each row written to {@code cart_items}, e.g. {@code INSERT}. */
+  private static List<String> itemWrites(StatementCountingDataSource counting) {
+    return counting.writes().stream()
+        .filter(sql -> sql.contains("cart_items"))
+        .map(sql -> sql.substring(0, sql.indexOf(' ')))
+        .toList();
+  }
+
+  /**
+   * Counts statements prepared or created through connections obtained from this data source, and
+   * records the SQL of every row written through them (one entry per batched or executed update).
+   */
+  private static final class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final List<String> writes = new CopyOnWriteArrayList<>();
+
+    StatementCountingDataSource(DataSource target) {
+      super(target);
+    }
+
+    int reset() {
+      writes.clear();
+      return statements.getAndSet(0);
+    }
+
+    List<String> writes() {
+      return List.copyOf(writes);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return countingProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return countingProxy(super.getConnection(username, password));
+    }
+
+    private Connection countingProxy(Connection target) {
+      return (Connection)
+          Proxy.newProxyInstance(
+              Connection.class.getClassLoader(),
+              new Class<?>[] {Connection.class},
+              (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("prepareStatement")
+                    || name.equals("createStatement")
+                    || name.equals("prepareCall")) {
+                  statements.incrementAndGet();
+                }
+                Object result = invoke(method, target, args);
+                if (name.equals("prepareStatement")) {
+                  return recordingProxy((PreparedStatement) result, (String) args[0]);
+                }
+                return result;
+              });
+    }
+
+    private PreparedStatement recordingProxy(PreparedStatement target, String sql) {
+      return (PreparedStatement)
+          Proxy.newProxyInstance(
+              PreparedStatement.class.getClassLoader(),
+              new Class<?>[] {PreparedStatement.class},
+              (proxy, method, args) -> {
+                String name = method.getName();
+                if ((name.equals("addBatch") || name.equals("executeUpdate"))
+                    && (args == null || args.length == 0)) {
+                  writes.add(sql);
+                }
+                return invoke(method, target, args);
+              });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getTargetException();
+      }
+    }
+  }
 }
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import de.sample.aiarchitecture.cart.application.shared.ShoppingCartRepository;
 import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CartItem;
+import de.sample.aiarchitecture.cart.domain.model.CartItemId;
 import de.sample.aiarchitecture.cart.domain.model.CustomerId;
 import de.sample.aiarchitecture.cart.domain.model.Quantity;
 import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
@@ -11,12 +13,27 @@ import de.sample.aiarchitecture.cart.domain.specification.ActiveCart;
 import de.sample.aiarchitecture.cart.domain.specification.ComposedCartSpecification;
 import de.sample.aiarchitecture.cart.domain.specification.HasMinTotal;
 import de.sample.aiarchitecture.infrastructure.AiArchitectureApplication;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPageResult;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PageResult;
 import de.sample.aiarchitecture.sharedkernel.domain.model.PagingRequest;
 import de.sample.aiarchitecture.sharedkernel.domain.model.Price;
 import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -27,6 +44,8 @@ import org.springframework.transaction.annotation.Transactional;
 class ShoppingCartRepositoryJpaIntegrationTest {
 
   @Autowired private ShoppingCartRepository shoppingCartRepository;
+  @Autowired private CartJpaRepository cartJpaRepository;
+  @Autowired private EntityManager entityManager;
 
   @Test
   void save_thenFindById_andFindActiveByCustomer_shouldRoundTrip() {
@@ -74,4 +93,217 @@ class ShoppingCartRepositoryJpaIntegrationTest {
     assertEquals(1, page.content().size(), "Expected a single cart in the first page");
     assertEquals(big.id().value(), page.content().get(0).id().value());
   }
+
+  @Test
+  void findBy_spec_withMinTotal_neverMatchesMixedCurrencyCarts() {
+    // given: a mixed-currency cart whose EUR lines alone reach the minimum, and a USD cart
+    CustomerId customerId = CustomerId.of("it-jpa-customer-mixed");
+
+    ShoppingCart mixed = new ShoppingCart(CartId.generate(), customerId);
+    mixed.addItem(ProductId.of("P1"), Quantity.of(3), Price.of(Money.euro(25.00)));
+    mixed.addItem(ProductId.of("P2"), Quantity.of(1), Price.of(usd(10.00)));
+
+    ShoppingCart dollars = new ShoppingCart(CartId.generate(), customerId);
+    dollars.addItem(ProductId.of("P3"), Quantity.of(2), Price.of(usd(40.00))); // total 80 USD
+
+    shoppingCartRepository.save(mixed);
+    shoppingCartRepository.save(dollars);
+
+    // when
+    PageResult<ShoppingCart> euroPage =
+        shoppingCartRepository.findBy(
+            new ComposedCartSpecification(new ActiveCart().and(new HasMinTotal(Money.euro(50.00)))),
+            PagingRequest.of(0, 100));
+    PageResult<ShoppingCart> dollarPage =
+        shoppingCartRepository.findBy(
+            new ComposedCartSpecification(new ActiveCart().and(new HasMinTotal(usd(50.00)))),
+            PagingRequest.of(0, 100));
+
+    // then: the mixed cart has no total and matches neither currency
+    assertTrue(
+        euroPage.content().stream().noneMatch(cart -> cart.customerId().equals(customerId)),
+        "Mixed-currency cart must not match a EUR minimum");
+    assertEquals(
+        List.of(dollars.id()),
+        dollarPage.content().stream()
+            .filter(cart -> cart.customerId().equals(customerId))
+            .map(ShoppingCart::id)
+            .toList());
+  }
+
+  @Test
+  void findBy_cursor_walksAllPagesWithoutGapsOrDuplicates() {
+    // given
+    saveCarts(CustomerId.of("it-customer-3"), 11);
+    var spec = new ComposedCartSpecification(new ActiveCart());
+
+    // when: first page with total, following pages by cursor only
+    CursorPageResult<ShoppingCart> page =
+        shoppingCartRepository.findBy(spec, CursorPagingRequest.first(4).withTotal());
+    long total = page.totalElements().orElseThrow();
+    Set<String> seen = new HashSet<>();
+    while (true) {
+      assertTrue(page.content().size() <= 4);
+      page.content().forEach(cart -> assertTrue(seen.add(cart.id().value()), "Duplicate cart"));
+      if (!page.hasNext()) {
+        break;
+      }
+      page = shoppingCartRepository.findBy(spec, CursorPagingRequest.after(page.nextCursor(), 4));
+      assertTrue(page.totalElements().isEmpty(), "Total must only be counted on request");
+    }
+
+    // then
+    assertTrue(total >= 11);
+    assertEquals(total, seen.size(), "Expected every matching cart exactly once");
+  }
+
+  @Test
+  void findBy_cursor_ordersCartsWithEqualUpdatedAtById() {
+    // given: carts sharing one updated_at, so page boundaries fall inside the tie
+    List<CartId> saved = saveCarts(CustomerId.of("it-customer-4"), 7);
+    Instant tie = Instant.parse("2020-01-01T00:00:00Z");
+    cartJpaRepository
+        .findAllById(saved.stream().map(CartId::value).toList())
+        .forEach(entity -> entity.setUpdatedAt(tie));
+    cartJpaRepository.flush();
+    var spec = new ComposedCartSpecification(new ActiveCart());
+
+    // when: walk all pages
+    List<String> walked = new ArrayList<>();
+    CursorPageResult<ShoppingCart> page =
+        shoppingCartRepository.findBy(spec, CursorPagingRequest.first(3));
+    page.content().forEach(cart -> walked.add(cart.id().value()));
+    while (page.hasNext()) {
+      page = shoppingCartRepository.findBy(spec, CursorPagingRequest.after(page.nextCursor(), 3));
+      page.content().forEach(cart -> walked.add(cart.id().value()));
+    }
+
+    // then: the tied carts appear exactly once, by id descending
+    List<String> expected =
+        saved.stream().map(CartId::value).sorted(Comparator.reverseOrder()).toList();
+    assertEquals(expected, walked.stream().filter(expected::contains).toList());
+  }
+
+  @Test
+  void save_addedItem_insertsOnlyThatRowAndKeepsItemIds() {
+    // given
+    CartId cartId = saveCartWithTwoItems(CustomerId.of("it-jpa-customer-5"));
+    ShoppingCart loaded = shoppingCartRepository.findById(cartId).orElseThrow();
+    Set<CartItemId> before = itemIds(loaded);
+    loaded.addItem(ProductId.of("P3"), Quantity.of(1), Price.of(Money.euro(7.00)));
+
+    // when
+    ItemWrites writes = saveAndFlush(loaded);
+
+    // then
+    assertEquals(new ItemWrites(1, 0, 0), writes);
+    Set<CartItemId> after = itemIds(shoppingCartRepository.findById(cartId).orElseThrow());
+    assertEquals(3, after.size());
+    assertTrue(after.containsAll(before), "Existing item rows must keep their IDs");
+  }
+
+  @Test
+  void save_changedQuantity_updatesOnlyThatRow() {
+    // given
+    CartId cartId = saveCartWithTwoItems(CustomerId.of("it-jpa-customer-6"));
+    ShoppingCart loaded = shoppingCartRepository.findById(cartId).orElseThrow();
+    CartItem changed = loaded.items().get(0);
+    loaded.updateItemQuantity(changed.id(), Quantity.of(5));
+
+    // when
+    ItemWrites writes = saveAndFlush(loaded);
+
+    // then
+    assertEquals(new ItemWrites(0, 1, 0), writes);
+    ShoppingCart reloaded = shoppingCartRepository.findById(cartId).orElseThrow();
+    assertEquals(itemIds(loaded), itemIds(reloaded));
+    assertEquals(
+        5,
+        reloaded.items().stream()
+            .filter(item -> item.id().equals(changed.id()))
+            .findFirst()
+            .orElseThrow()
+            .quantity()
+            .value());
+  }
+
+  @Test
+  void save_removedItem_deletesOnlyThatRow() {
+    // given
+    CartId cartId = saveCartWithTwoItems(CustomerId.of("it-jpa-customer-7"));
+    ShoppingCart loaded = shoppingCartRepository.findById(cartId).orElseThrow();
+    CartItem kept = loaded.items().get(0);
+    loaded.removeItem(loaded.items().get(1).id());
+
+    // when
+    ItemWrites writes = saveAndFlush(loaded);
+
+    // then
+    assertEquals(new ItemWrites(0, 0, 1), writes);
+    assertEquals(Set.of(kept.id()), itemIds(shoppingCartRepository.findById(cartId).orElseThrow()));
+  }
+
+  @Test
+  void save_unchangedCart_issuesNoItemStatements() {
+    // given
+    CartId cartId = saveCartWithTwoItems(CustomerId.of("it-jpa-customer-8"));
+    ShoppingCart loaded = shoppingCartRepository.findById(cartId).orElseThrow();
+
+    // when
+    ItemWrites writes = saveAndFlush(loaded);
+
+    // then
+    assertEquals(new ItemWrites(0, 0, 0), writes);
+    assertEquals(itemIds(loaded), itemIds(shoppingCartRepository.findById(cartId).orElseThrow()));
+  }
+
+  private static Money usd(double amount) {
+    return Money.of(BigDecimal.valueOf(amount), Currency.getInstance("USD"));
+  }
+
+  private List<CartId> saveCarts(CustomerId customerId, int cartCount) {
+    List<CartId> ids = new ArrayList<>();
+    for (int i = 0; i < cartCount; i++) {
+      ShoppingCart cart = new ShoppingCart(CartId.generate(), customerId);
+      cart.addItem(ProductId.of("P" + i), Quantity.of(1), Price.of(Money.euro(10.00)));
+      shoppingCartRepository.save(cart);
+      ids.add(cart.id());
+    }
+    return ids;
+  }
+
+  private CartId saveCartWithTwoItems(CustomerId customerId) {
+    ShoppingCart cart = new ShoppingCart(CartId.generate(), customerId);
+    cart.addItem(ProductId.of("P1"), Quantity.of(1), Price.of(Money.euro(10.00)));
+    cart.addItem(ProductId.of("P2"), Quantity.of(2), Price.of(Money.euro(5.00)));
+    shoppingCartRepository.save(cart);
+    entityManager.flush();
+    entityManager.clear();
+    return cart.id();
+  }
+
+  /**
+   * Saves the cart, flushes and detaches everything, and returns the item rows Hibernate wrote. The
+   * next load reads from the database, like a following request would.
+   */
+  private ItemWrites saveAndFlush(ShoppingCart cart) {
+    Statistics statistics =
+        entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    shoppingCartRepository.save(cart);
+    entityManager.flush();
+    entityManager.clear();
+
+    EntityStatistics items = statistics.getEntityStatistics(CartItemEntity.class.getName());
+    return new ItemWrites(items.getInsertCount(), items.getUpdateCount(), items.getDeleteCount());
+  }
+
+  private static Set<CartItemId> itemIds(ShoppingCart cart) {
+    return cart.items().stream().map(CartItem::id).collect(Collectors.toSet());
+  }
+
+  /** Number of {@code cart_items} rows inserted, updated and deleted by one flush. */
+  private record ItemWrites(long inserts, long updates, long deletes) {}
 }
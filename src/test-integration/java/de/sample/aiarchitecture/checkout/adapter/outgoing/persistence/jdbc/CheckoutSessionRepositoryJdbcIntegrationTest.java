@@ -0,0 +1,293 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.adapter.outgoing.persistence.JdbcCheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionTimestamp;
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticlePriceResolver;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutStep;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.model.DeliveryAddress;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentSelection;
+import de.sample.aiarchitecture.checkout.domain.model.ShippingOption;
+import de.sample.aiarchitecture.infrastructure.AiArchitectureApplication;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the JDBC CheckoutSessionRepository implementation using the "jdbc" profile.
+ *
+ * <p>Covers the snapshot round trip of the nested session state, the status-based finders served by
+ * the scalar columns and the last save times read for the expiry timers.
+ */
+@ActiveProfiles("jdbc")
+@SpringBootTest(classes = AiArchitectureApplication.class)
+class CheckoutSessionRepositoryJdbcIntegrationTest {
+
+  @Autowired private JdbcCheckoutSessionRepository checkoutSessionRepository;
+  @Autowired private DataSource dataSource;
+
+  @Test
+  void save_thenFindById_shouldRoundTripSnapshotState() {
+    // given: a session with every step completed
+    CustomerId customerId = CustomerId.of("it-jdbc-checkout-customer-1");
+    CheckoutSession session = startSession(CartId.generate(), customerId);
+    completeSteps(session);
+
+    // when
+    checkoutSessionRepository.save(session);
+    Optional<CheckoutSession> loaded = checkoutSessionRepository.findById(session.id());
+
+    // then: scalar and snapshot state are restored without domain events
+    assertTrue(loaded.isPresent(), "Expected session to be found by id after save");
+    CheckoutSession restored = loaded.get();
+    assertEquals(session.cartId(), restored.cartId());
+    assertEquals(customerId, restored.customerId());
+    assertEquals(CheckoutSessionStatus.ACTIVE, restored.status());
+    assertEquals(CheckoutStep.REVIEW, restored.currentStep());
+    assertEquals(session.version(), restored.version());
+    assertEquals(session.lineItems(), restored.lineItems());
+    assertEquals(session.totals(), restored.totals());
+    assertEquals(session.buyerInfo(), restored.buyerInfo());
+    assertEquals(session.deliveryAddress(), restored.deliveryAddress());
+    assertEquals(session.shippingOption(), restored.shippingOption());
+    assertEquals(session.paymentSelection(), restored.paymentSelection());
+    assertNull(restored.orderReference());
+    assertTrue(restored.domainEvents().isEmpty());
+  }
+
+  @Test
+  void finders_shouldFilterByStatus() {
+    // given: an active session and a completed one for the same customer
+    CustomerId customerId = CustomerId.of("it-jdbc-checkout-customer-2");
+    CheckoutSession completed = startSession(CartId.generate(), customerId);
+    completeSteps(completed);
+    completed.confirm(availableAtStoredPrice(completed));
+    completed.complete("ORDER-4711");
+    checkoutSessionRepository.save(completed);
+
+    CheckoutSession active = startSession(CartId.generate(), customerId);
+    checkoutSessionRepository.save(active);
+
+    // then: active finders only see the active session
+    assertEquals(active.id(), idOf(checkoutSessionRepository.findActiveByCustomerId(customerId)));
+    assertEquals(active.id(), idOf(checkoutSessionRepository.findActiveByCartId(active.cartId())));
+    assertTrue(checkoutSessionRepository.findActiveByCartId(completed.cartId()).isEmpty());
+
+    // and: the completed session is found by its cart and as the customer's confirmation
+    assertEquals(completed.id(), idOf(checkoutSessionRepository.findByCartId(completed.cartId())));
+    CheckoutSession confirmation =
+        checkoutSessionRepository.findConfirmedOrCompletedByCustomerId(customerId).orElseThrow();
+    assertEquals(completed.id(), confirmation.id());
+    assertEquals("ORDER-4711", confirmation.orderReference());
+  }
+
+  @Test
+  void save_existingSession_shouldUpdateRow_andDeleteShouldRemoveIt() {
+    // given
+    CheckoutSession session =
+        startSession(CartId.generate(), CustomerId.of("it-jdbc-checkout-customer-3"));
+    checkoutSessionRepository.save(session);
+
+    // when: expired and saved again
+    session.expire();
+    checkoutSessionRepository.save(session);
+
+    // then: the row is updated in place
+    assertEquals(
+        CheckoutSessionStatus.EXPIRED,
+        checkoutSessionRepository.findById(session.id()).orElseThrow().status());
+    assertTrue(
+        checkoutSessionRepository.findExpiredSessions().stream()
+            .anyMatch(expired -> expired.id().equals(session.id())));
+
+    // and: delete removes it
+    checkoutSessionRepository.deleteById(session.id());
+    assertTrue(checkoutSessionRepository.findById(session.id()).isEmpty());
+  }
+
+  @Test
+  void save_staleLoadedSession_shouldFailOptimisticCheck() {
+    // given: the same stored session loaded twice, and both copies changed
+    CheckoutSession session =
+        startSession(CartId.generate(), CustomerId.of("it-jdbc-checkout-customer-6"));
+    checkoutSessionRepository.save(session);
+    CheckoutSession first = checkoutSessionRepository.findById(session.id()).orElseThrow();
+    CheckoutSession second = checkoutSessionRepository.findById(session.id()).orElseThrow();
+    first.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+    second.abandon();
+
+    // when: the first save wins
+    checkoutSessionRepository.save(first);
+
+    // then: the second save of the same loaded version is rejected and the first one is kept
+    assertEquals(first.version(), second.version());
+    assertThrows(
+        OptimisticLockingFailureException.class, () -> checkoutSessionRepository.save(second));
+    CheckoutSession stored = checkoutSessionRepository.findById(session.id()).orElseThrow();
+    assertEquals(CheckoutSessionStatus.ACTIVE, stored.status());
+    assertEquals(first.buyerInfo(), stored.buyerInfo());
+
+    // and: the winner can keep saving from its new version
+    first.expire();
+    checkoutSessionRepository.save(first);
+    assertEquals(
+        CheckoutSessionStatus.EXPIRED,
+        checkoutSessionRepository.findById(session.id()).orElseThrow().status());
+  }
+
+  @Test
+  void timestamps_shouldReflectLastSave() {
+    // given: an active session and an expired one
+    CheckoutSession active =
+        startSession(CartId.generate(), CustomerId.of("it-jdbc-checkout-customer-5"));
+    CheckoutSession expired =
+        startSession(CartId.generate(), CustomerId.of("it-jdbc-checkout-customer-5"));
+    expired.expire();
+    Instant before = Instant.now().minusSeconds(1);
+    checkoutSessionRepository.save(active);
+    checkoutSessionRepository.save(expired);
+
+    // then: the last save time is read without loading the session
+    Instant updatedAt = checkoutSessionRepository.findUpdatedAtById(active.id()).orElseThrow();
+    assertFalse(updatedAt.isBefore(before));
+    assertFalse(updatedAt.isAfter(Instant.now().plusSeconds(1)));
+    assertTrue(checkoutSessionRepository.findUpdatedAtById(CheckoutSessionId.generate()).isEmpty());
+
+    // and: all timestamps carry the stored status
+    Map<CheckoutSessionId, CheckoutSessionStatus> statuses =
+        checkoutSessionRepository.findAllTimestamps().stream()
+            .collect(
+                Collectors.toMap(
+                    CheckoutSessionTimestamp::sessionId, CheckoutSessionTimestamp::status));
+    assertEquals(CheckoutSessionStatus.ACTIVE, statuses.get(active.id()));
+    assertEquals(CheckoutSessionStatus.EXPIRED, statuses.get(expired.id()));
+  }
+
+  @Test
+  void findById_andSave_shouldIssueSingleStatement() {
+    // given
+    CheckoutSession session =
+        startSession(CartId.generate(), CustomerId.of("it-jdbc-checkout-customer-4"));
+    completeSteps(session);
+    checkoutSessionRepository.save(session);
+
+    StatementCountingDataSource counting = new StatementCountingDataSource(dataSource);
+    JdbcCheckoutSessionRepository countingRepository = new JdbcCheckoutSessionRepository(counting);
+
+    // when / then: nested state travels in the snapshot column, not in extra statements
+    CheckoutSession loaded = countingRepository.findById(session.id()).orElseThrow();
+    assertEquals(1, counting.reset(), "Expected one statement to load a session");
+    countingRepository.save(loaded);
+    assertEquals(1, counting.reset(), "Expected one statement to save a session");
+  }
+
+  private static CheckoutSessionId idOf(Optional<CheckoutSession> session) {
+    assertTrue(session.isPresent(), "Expected a session to be found");
+    return session.get().id();
+  }
+
+  private static CheckoutSession startSession(CartId cartId, CustomerId customerId) {
+    List<CheckoutLineItem> lineItems =
+        List.of(
+            CheckoutLineItem.of(
+                CheckoutLineItemId.generate(),
+                ProductId.of("P1"),
+                "Product One",
+                Money.euro(10.00),
+                2,
+                "/images/p1.png"),
+            CheckoutLineItem.of(
+                CheckoutLineItemId.generate(),
+                ProductId.of("P2"),
+                "Product Two",
+                Money.euro(5.50),
+                1,
+                null));
+    return CheckoutSession.start(cartId, customerId, lineItems, Money.euro(25.50));
+  }
+
+  private static void completeSteps(CheckoutSession session) {
+    session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+    session.submitDelivery(
+        DeliveryAddress.of("Main Street 1", null, "Berlin", "10115", "DE", null),
+        ShippingOption.of("standard", "Standard Shipping", "3-5 business days", Money.euro(4.99)));
+    session.submitPayment(PaymentSelection.of(PaymentProviderId.of("mock"), "ref-1"));
+  }
+
+  private static CheckoutArticlePriceResolver availableAtStoredPrice(CheckoutSession session) {
+    return productId ->
+        session.lineItems().stream()
+            .filter(item -> item.productId().equals(productId))
+            .findFirst()
+            .map(item -> new CheckoutArticlePriceResolver.ArticlePrice(item.unitPrice(), true, 100))
+            .orElseThrow();
+  }
+
+  private static final class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    StatementCountingDataSource(DataSource target) {
+      super(target);
+    }
+
+    int reset() {
+      return statements.getAndSet(0);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return countingProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return countingProxy(super.getConnection(username, password));
+    }
+
+    private Connection countingProxy(Connection target) {
+      return (Connection)
+          Proxy.newProxyInstance(
+              Connection.class.getClassLoader(),
+              new Class<?>[] {Connection.class},
+              (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("prepareStatement")
+                    || name.equals("createStatement")
+                    || name.equals("prepareCall")) {
+                  statements.incrementAndGet();
+                }
+                try {
+                  return method.invoke(target, args);
+                } catch (java.lang.reflect.InvocationTargetException e) {
+                  throw e.getTargetException();
+                }
+              });
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.adapter.outgoing.persistence.JdbcPlacedOrderArchive;
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticlePriceResolver;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.model.DeliveryAddress;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentSelection;
+import de.sample.aiarchitecture.checkout.domain.model.ShippingOption;
+import de.sample.aiarchitecture.checkout.domain.readmodel.PlacedOrder;
+import de.sample.aiarchitecture.infrastructure.AiArchitectureApplication;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the JDBC PlacedOrderArchive implementation using the "jdbc" profile.
+ *
+ * <p>Covers the round trip of totals and lines through the compact content column and the lookup of
+ * a customer's most recently archived order.
+ */
+@ActiveProfiles("jdbc")
+@SpringBootTest(classes = AiArchitectureApplication.class)
+class PlacedOrderArchiveJdbcIntegrationTest {
+
+  @Autowired private JdbcPlacedOrderArchive placedOrderArchive;
+  @Autowired private DataSource dataSource;
+
+  @Test
+  void archive_thenFindBySessionId_shouldRoundTripContent() {
+    // given: a completed session with two lines
+    CheckoutSession session =
+        startSession(CartId.generate(), CustomerId.of("it-jdbc-placed-order-customer-1"));
+    completeSteps(session);
+    session.confirm(availableAtStoredPrice(session));
+    session.complete("ORDER-4711");
+    PlacedOrder order = PlacedOrder.from(session);
+
+    // when
+    placedOrderArchive.archive(order);
+
+    // then: scalar columns and the encoded totals and lines are restored
+    PlacedOrder restored = placedOrderArchive.findBySessionId(session.id()).orElseThrow();
+    assertEquals(order, restored);
+    assertEquals(CheckoutSessionStatus.COMPLETED, restored.status());
+    assertEquals("ORDER-4711", restored.orderReference());
+    assertEquals(session.totals(), restored.totals());
+    assertEquals(
+        List.of(
+            new PlacedOrder.Line(ProductId.of("P1"), "Product One", Money.euro(10.00), 2),
+            new PlacedOrder.Line(ProductId.of("P2"), "Product Two", Money.euro(5.50), 1)),
+        restored.lines());
+  }
+
+  @Test
+  void archive_confirmedSession_shouldRoundTripWithoutOrderReference() {
+    // given
+    CheckoutSession session =
+        startSession(CartId.generate(), CustomerId.of("it-jdbc-placed-order-customer-2"));
+    completeSteps(session);
+    session.confirm(availableAtStoredPrice(session));
+
+    // when
+    placedOrderArchive.archive(PlacedOrder.from(session));
+
+    // then
+    PlacedOrder restored = placedOrderArchive.findBySessionId(session.id()).orElseThrow();
+    assertEquals(CheckoutSessionStatus.CONFIRMED, restored.status());
+    assertNull(restored.orderReference());
+    assertTrue(placedOrderArchive.findBySessionId(CheckoutSessionId.generate()).isEmpty());
+  }
+
+  @Test
+  void findLatestByCustomerId_shouldReturnMostRecentlyArchivedOrder() {
+    // given: two placed orders of the same customer, the first archived a day earlier
+    CustomerId customerId = CustomerId.of("it-jdbc-placed-order-customer-3");
+    CheckoutSession earlier = placedSession(customerId);
+    CheckoutSession later = placedSession(customerId);
+    placedOrderArchive.archive(PlacedOrder.from(earlier));
+    new JdbcTemplate(dataSource)
+        .update(
+            "UPDATE placed_orders SET archived_at = DATEADD('DAY', -1, archived_at)"
+                + " WHERE session_id = ?",
+            earlier.id().value());
+    placedOrderArchive.archive(PlacedOrder.from(later));
+
+    // when
+    PlacedOrder latest = placedOrderArchive.findLatestByCustomerId(customerId).orElseThrow();
+
+    // then
+    assertEquals(later.id(), latest.sessionId());
+    assertTrue(
+        placedOrderArchive
+            .findLatestByCustomerId(CustomerId.of("it-jdbc-placed-order-nobody"))
+            .isEmpty());
+  }
+
+  private static CheckoutSession placedSession(CustomerId customerId) {
+    CheckoutSession session = startSession(CartId.generate(), customerId);
+    completeSteps(session);
+    session.confirm(availableAtStoredPrice(session));
+    return session;
+  }
+
+  private static CheckoutSession startSession(CartId cartId, CustomerId customerId) {
+    List<CheckoutLineItem> lineItems =
+        List.of(
+            CheckoutLineItem.of(
+                CheckoutLineItemId.generate(),
+                ProductId.of("P1"),
+                "Product One",
+                Money.euro(10.00),
+                2,
+                "/images/p1.png"),
+            CheckoutLineItem.of(
+                CheckoutLineItemId.generate(),
+                ProductId.of("P2"),
+                "Product Two",
+                Money.euro(5.50),
+                1,
+                null));
+    return CheckoutSession.start(cartId, customerId, lineItems, Money.euro(25.50));
+  }
+
+  private static void completeSteps(CheckoutSession session) {
+    session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+    session.submitDelivery(
+        DeliveryAddress.of("Main Street 1", null, "Berlin", "10115", "DE", null),
+        ShippingOption.of("standard", "Standard Shipping", "3-5 business days", Money.euro(4.99)));
+    session.submitPayment(PaymentSelection.of(PaymentProviderId.of("mock"), "ref-1"));
+  }
+
+  private static CheckoutArticlePriceResolver availableAtStoredPrice(CheckoutSession session) {
+    return productId ->
+        session.lineItems().stream()
+            .filter(item -> item.productId().equals(productId))
+            .findFirst()
+            .map(item -> new CheckoutArticlePriceResolver.ArticlePrice(item.unitPrice(), true, 100))
+            .orElseThrow();
+  }
+}
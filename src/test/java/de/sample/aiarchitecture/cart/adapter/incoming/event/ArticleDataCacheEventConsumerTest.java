@@ -0,0 +1,144 @@
+package de.sample.aiarchitecture.cart.adapter.incoming.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.cart.application.shared.ArticleDataCache;
+import de.sample.aiarchitecture.inventory.events.StockLevelChangedEvent;
+import de.sample.aiarchitecture.pricing.events.PriceChangedEvent;
+import de.sample.aiarchitecture.product.events.ProductNameChangedEvent;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * Unit tests for ArticleDataCacheEventConsumer.
+ *
+ * <p>Tests invalidation of cached article data, covering:
+ *
+ * <ul>
+ *   <li>Price, stock and product name changes each drop the product
+ *   <li>Within a transaction the product is dropped again after completion
+ *   <li>A value re-cached between the first drop and the commit does not survive the commit
+ * </ul>
+ */
+@DisplayName("ArticleDataCacheEventConsumer")
+class ArticleDataCacheEventConsumerTest {
+
+  private static final ProductId PRODUCT = ProductId.of("product-a");
+
+  private final TestArticleDataCache cache = new TestArticleDataCache();
+  private final ArticleDataCacheEventConsumer consumer = new ArticleDataCacheEventConsumer(cache);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Nested
+  @DisplayName("Without Transaction")
+  class WithoutTransaction {
+
+    @Test
+    @DisplayName("drops the product on a price change")
+    void dropsOnPriceChange() {
+      consumer.onPriceChanged(PriceChangedEvent.now(PRODUCT, Money.euro(10.00), Money.euro(12.00)));
+
+      assertEquals(List.of(PRODUCT), cache.invalidations);
+    }
+
+    @Test
+    @DisplayName("drops the product on a stock change")
+    void dropsOnStockChange() {
+      consumer.onStockLevelChanged(
+          StockLevelChangedEvent.now(PRODUCT, StockLevelChangedEvent.ChangeType.DECREASED));
+
+      assertEquals(List.of(PRODUCT), cache.invalidations);
+    }
+
+    @Test
+    @DisplayName("drops the product on a name change")
+    void dropsOnNameChange() {
+      consumer.onProductNameChanged(ProductNameChangedEvent.now(PRODUCT, "Renamed"));
+
+      assertEquals(List.of(PRODUCT), cache.invalidations);
+    }
+  }
+
+  @Nested
+  @DisplayName("Within Transaction")
+  class WithinTransaction {
+
+    @Test
+    @DisplayName("drops the product before and again after the commit")
+    void dropsBeforeAndAfterCommit() {
+      TransactionSynchronizationManager.initSynchronization();
+
+      consumer.onPriceChanged(PriceChangedEvent.now(PRODUCT, Money.euro(10.00), Money.euro(12.00)));
+      assertEquals(List.of(PRODUCT), cache.invalidations);
+
+      complete(TransactionSynchronization.STATUS_COMMITTED);
+      assertEquals(List.of(PRODUCT, PRODUCT), cache.invalidations);
+    }
+
+    @Test
+    @DisplayName("drops a value re-cached by a concurrent reader before the commit")
+    void dropsValueReCachedBeforeCommit() {
+      cache.entries.put(PRODUCT, "price 10.00");
+      TransactionSynchronizationManager.initSynchronization();
+
+      consumer.onPriceChanged(PriceChangedEvent.now(PRODUCT, Money.euro(10.00), Money.euro(12.00)));
+      assertFalse(cache.entries.containsKey(PRODUCT));
+
+      // A reader outside the transaction still sees the old price and caches it again
+      cache.entries.put(PRODUCT, "price 10.00");
+
+      complete(TransactionSynchronization.STATUS_COMMITTED);
+      assertFalse(cache.entries.containsKey(PRODUCT));
+    }
+
+    @Test
+    @DisplayName("drops the product after a rollback as well")
+    void dropsAfterRollback() {
+      TransactionSynchronizationManager.initSynchronization();
+
+      consumer.onStockLevelChanged(
+          StockLevelChangedEvent.now(PRODUCT, StockLevelChangedEvent.ChangeType.DECREASED));
+      complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+      assertEquals(List.of(PRODUCT, PRODUCT), cache.invalidations);
+    }
+
+    private void complete(final int status) {
+      List<TransactionSynchronization> synchronizations =
+          TransactionSynchronizationManager.getSynchronizations();
+      TransactionSynchronizationManager.clearSynchronization();
+      TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+    }
+  }
+
+  // Test doubles
+
+  private static class TestArticleDataCache implements ArticleDataCache {
+
+    private final Map<ProductId, String> entries = new HashMap<>();
+    private final List<ProductId> invalidations = new ArrayList<>();
+
+    @Override
+    public void invalidate(ProductId productId) {
+      invalidations.add(productId);
+      entries.remove(productId);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package de.sample.aiarchitecture.cart.adapter.incoming.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.cart.adapter.outgoing.cache.InMemoryMiniBasketCache;
+import de.sample.aiarchitecture.cart.adapter.outgoing.cache.MiniBasketCacheProperties;
+import de.sample.aiarchitecture.cart.domain.event.CartAbandoned;
+import de.sample.aiarchitecture.cart.domain.event.CartCompleted;
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.MiniBasketSummary;
+import de.sample.aiarchitecture.cart.events.CartContentsChangedEvent;
+import de.sample.aiarchitecture.inventory.events.StockLevelChangedEvent;
+import de.sample.aiarchitecture.pricing.events.PriceChangedEvent;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MiniBasketCacheEventConsumer.
+ *
+ * <p>Drives the consumer against an InMemoryMiniBasketCache, covering:
+ *
+ * <ul>
+ *   <li>Cart content and status changes evicting the cart's summary
+ *   <li>Price and stock changes evicting the summaries containing the product
+ *   <li>Summaries of unaffected carts staying cached
+ * </ul>
+ */
+@DisplayName("MiniBasketCacheEventConsumer")
+class MiniBasketCacheEventConsumerTest {
+
+  private static final CustomerId CUSTOMER = CustomerId.of("customer-1");
+  private static final ProductId PRODUCT = ProductId.of("product-a");
+  private static final ProductId OTHER_PRODUCT = ProductId.of("product-b");
+
+  private final InMemoryMiniBasketCache cache =
+      new InMemoryMiniBasketCache(new MiniBasketCacheProperties(100, Duration.ofMinutes(10)));
+  private final MiniBasketCacheEventConsumer consumer = new MiniBasketCacheEventConsumer(cache);
+  private final AtomicInteger loads = new AtomicInteger();
+  private MiniBasketSummary summary;
+
+  @BeforeEach
+  void setUp() {
+    summary = summary(CartId.of(UUID.randomUUID().toString()), CUSTOMER, PRODUCT);
+    read();
+  }
+
+  @Nested
+  @DisplayName("Cart Changes")
+  class CartChanges {
+
+    @Test
+    @DisplayName("evicts the summary when the cart contents change")
+    void evictsOnContentsChanged() {
+      consumer.onCartContentsChanged(
+          CartContentsChangedEvent.now(
+              UUID.fromString(summary.cartId().value()),
+              CartContentsChangedEvent.ChangeType.ITEM_ADDED));
+
+      assertReloaded();
+    }
+
+    @Test
+    @DisplayName("evicts the summary when the cart is completed")
+    void evictsOnCompleted() {
+      consumer.onCartCompleted(CartCompleted.now(summary.cartId()));
+
+      assertReloaded();
+    }
+
+    @Test
+    @DisplayName("evicts the summary when the cart is abandoned")
+    void evictsOnAbandoned() {
+      consumer.onCartAbandoned(CartAbandoned.now(summary.cartId()));
+
+      assertReloaded();
+    }
+
+    @Test
+    @DisplayName("keeps the summary when another cart changes")
+    void keepsOnOtherCartChanged() {
+      consumer.onCartCompleted(CartCompleted.now(CartId.generate()));
+
+      assertStillCached();
+    }
+  }
+
+  @Nested
+  @DisplayName("Article Changes")
+  class ArticleChanges {
+
+    @Test
+    @DisplayName("evicts the summary when the price of a contained product changes")
+    void evictsOnPriceChanged() {
+      consumer.onPriceChanged(PriceChangedEvent.now(PRODUCT, Money.euro(10.00), Money.euro(12.00)));
+
+      assertReloaded();
+    }
+
+    @Test
+    @DisplayName("evicts the summary when the stock of a contained product changes")
+    void evictsOnStockLevelChanged() {
+      consumer.onStockLevelChanged(
+          StockLevelChangedEvent.now(PRODUCT, StockLevelChangedEvent.ChangeType.DECREASED));
+
+      assertReloaded();
+    }
+
+    @Test
+    @DisplayName("keeps the summary when a product not in the cart changes")
+    void keepsOnOtherProductChanged() {
+      consumer.onPriceChanged(
+          PriceChangedEvent.now(OTHER_PRODUCT, Money.euro(10.00), Money.euro(12.00)));
+      consumer.onStockLevelChanged(
+          StockLevelChangedEvent.now(OTHER_PRODUCT, StockLevelChangedEvent.ChangeType.DECREASED));
+
+      assertStillCached();
+    }
+  }
+
+  private void read() {
+    cache.getOrLoad(
+        CUSTOMER,
+        () -> {
+          loads.incrementAndGet();
+          return Optional.of(summary);
+        });
+  }
+
+  private void assertReloaded() {
+    read();
+    assertEquals(2, loads.get(), "expected the summary to be loaded again");
+  }
+
+  private void assertStillCached() {
+    read();
+    assertEquals(1, loads.get(), "expected the summary to be served from the cache");
+  }
+
+  private static MiniBasketSummary summary(
+      CartId cartId, CustomerId customerId, ProductId productId) {
+    return new MiniBasketSummary(
+        cartId,
+        customerId,
+        1,
+        Money.euro(10.00),
+        List.of(new MiniBasketSummary.Line(productId, "Product A", 1, Money.euro(10.00))));
+  }
+}
@@ -0,0 +1,212 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.MiniBasketSummary;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for InMemoryMiniBasketCache.
+ *
+ * <p>Tests caching of mini basket summaries, covering:
+ *
+ * <ul>
+ *   <li>Repeated reads served from the cache, empty results not cached
+ *   <li>Cart and product invalidations dropping the affected summaries only
+ *   <li>A load racing with an invalidation never caching its stale summary
+ *   <li>Expiry after the TTL and the maximum size
+ * </ul>
+ */
+@DisplayName("InMemoryMiniBasketCache")
+class InMemoryMiniBasketCacheTest {
+
+  private static final CustomerId CUSTOMER = CustomerId.of("customer-1");
+  private static final ProductId PRODUCT_A = ProductId.of("product-a");
+  private static final ProductId PRODUCT_B = ProductId.of("product-b");
+
+  private final CountingLoader loader = new CountingLoader();
+
+  @Nested
+  @DisplayName("Reads")
+  class Reads {
+
+    @Test
+    @DisplayName("loads a summary once and serves repeated reads from the cache")
+    void servesRepeatedReadsFromCache() {
+      InMemoryMiniBasketCache cache = cache(10, Duration.ofMinutes(10));
+      MiniBasketSummary summary = summary(CUSTOMER, PRODUCT_A);
+      loader.next = Optional.of(summary);
+
+      assertEquals(Optional.of(summary), cache.getOrLoad(CUSTOMER, loader));
+      assertEquals(Optional.of(summary), cache.getOrLoad(CUSTOMER, loader));
+
+      assertEquals(1, loader.loads.get());
+      assertEquals(1, cache.hitCount());
+      assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("does not cache a customer without a cart")
+    void doesNotCacheEmptyResult() {
+      InMemoryMiniBasketCache cache = cache(10, Duration.ofMinutes(10));
+
+      assertTrue(cache.getOrLoad(CUSTOMER, loader).isEmpty());
+      assertTrue(cache.getOrLoad(CUSTOMER, loader).isEmpty());
+
+      assertEquals(2, loader.loads.get());
+    }
+  }
+
+  @Nested
+  @DisplayName("Invalidation")
+  class Invalidation {
+
+    @Test
+    @DisplayName("reloads a summary after its cart was invalidated")
+    void reloadsAfterCartInvalidation() {
+      InMemoryMiniBasketCache cache = cache(10, Duration.ofMinutes(10));
+      MiniBasketSummary summary = summary(CUSTOMER, PRODUCT_A);
+      loader.next = Optional.of(summary);
+      cache.getOrLoad(CUSTOMER, loader);
+
+      cache.invalidateCart(summary.cartId());
+      cache.getOrLoad(CUSTOMER, loader);
+
+      assertEquals(2, loader.loads.get());
+    }
+
+    @Test
+    @DisplayName("drops only the summaries containing an invalidated product")
+    void dropsSummariesContainingProduct() {
+      InMemoryMiniBasketCache cache = cache(10, Duration.ofMinutes(10));
+      CustomerId other = CustomerId.of("customer-2");
+      CountingLoader otherLoader = new CountingLoader();
+      loader.next = Optional.of(summary(CUSTOMER, PRODUCT_A));
+      otherLoader.next = Optional.of(summary(other, PRODUCT_B));
+      cache.getOrLoad(CUSTOMER, loader);
+      cache.getOrLoad(other, otherLoader);
+
+      cache.invalidateProduct(PRODUCT_A);
+      cache.getOrLoad(CUSTOMER, loader);
+      cache.getOrLoad(other, otherLoader);
+
+      assertEquals(2, loader.loads.get());
+      assertEquals(1, otherLoader.loads.get());
+    }
+
+    @Test
+    @DisplayName("does not cache a summary loaded while its cart was invalidated")
+    void staleLoadDoesNotOverwriteCartInvalidation() {
+      InMemoryMiniBasketCache cache = cache(10, Duration.ofMinutes(10));
+      MiniBasketSummary stale = summary(CUSTOMER, PRODUCT_A);
+      Supplier<Optional<MiniBasketSummary>> racingLoader =
+          () -> {
+            // The cart changes after the loader read it, but before the summary is stored
+            cache.invalidateCart(stale.cartId());
+            return Optional.of(stale);
+          };
+
+      assertEquals(Optional.of(stale), cache.getOrLoad(CUSTOMER, racingLoader));
+
+      MiniBasketSummary fresh = summary(CUSTOMER, PRODUCT_B);
+      loader.next = Optional.of(fresh);
+      assertEquals(Optional.of(fresh), cache.getOrLoad(CUSTOMER, loader));
+      assertEquals(1, loader.loads.get());
+    }
+
+    @Test
+    @DisplayName("does not cache a summary loaded while one of its products changed")
+    void staleLoadDoesNotOverwriteProductInvalidation() {
+      InMemoryMiniBasketCache cache = cache(10, Duration.ofMinutes(10));
+      MiniBasketSummary stale = summary(CUSTOMER, PRODUCT_A);
+      Supplier<Optional<MiniBasketSummary>> racingLoader =
+          () -> {
+            cache.invalidateProduct(PRODUCT_A);
+            return Optional.of(stale);
+          };
+
+      cache.getOrLoad(CUSTOMER, racingLoader);
+      loader.next = Optional.of(stale);
+      cache.getOrLoad(CUSTOMER, loader);
+
+      assertEquals(1, loader.loads.get());
+      assertEquals(0, cache.hitCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("Bounds")
+  class Bounds {
+
+    @Test
+    @DisplayName("reloads a summary after the TTL")
+    void reloadsAfterTtl() throws InterruptedException {
+      InMemoryMiniBasketCache cache = cache(10, Duration.ofMillis(1));
+      loader.next = Optional.of(summary(CUSTOMER, PRODUCT_A));
+      cache.getOrLoad(CUSTOMER, loader);
+
+      Thread.sleep(5);
+      cache.getOrLoad(CUSTOMER, loader);
+
+      assertEquals(2, loader.loads.get());
+      assertEquals(0, cache.hitCount());
+    }
+
+    @Test
+    @DisplayName("keeps no more summaries than the maximum size")
+    void keepsWithinMaximumSize() {
+      InMemoryMiniBasketCache cache = cache(1, Duration.ofMinutes(10));
+      CustomerId other = CustomerId.of("customer-2");
+      CountingLoader otherLoader = new CountingLoader();
+      loader.next = Optional.of(summary(CUSTOMER, PRODUCT_A));
+      otherLoader.next = Optional.of(summary(other, PRODUCT_B));
+      cache.getOrLoad(CUSTOMER, loader);
+      cache.getOrLoad(other, otherLoader);
+
+      cache.getOrLoad(CUSTOMER, loader);
+      cache.getOrLoad(other, otherLoader);
+
+      // Only one of the two summaries survived, so at most one of the re-reads is a hit
+      assertTrue(cache.hitCount() <= 1);
+      assertTrue(loader.loads.get() + otherLoader.loads.get() >= 3);
+    }
+  }
+
+  private static InMemoryMiniBasketCache cache(int maxSize, Duration ttl) {
+    return new InMemoryMiniBasketCache(new MiniBasketCacheProperties(maxSize, ttl));
+  }
+
+  private static MiniBasketSummary summary(CustomerId customerId, ProductId productId) {
+    return new MiniBasketSummary(
+        CartId.generate(),
+        customerId,
+        1,
+        Money.euro(10.00),
+        List.of(new MiniBasketSummary.Line(productId, "Product", 1, Money.euro(10.00))));
+  }
+
+  // Test doubles
+
+  private static class CountingLoader implements Supplier<Optional<MiniBasketSummary>> {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private Optional<MiniBasketSummary> next = Optional.empty();
+
+    @Override
+    public Optional<MiniBasketSummary> get() {
+      loads.incrementAndGet();
+      return next;
+    }
+  }
+}
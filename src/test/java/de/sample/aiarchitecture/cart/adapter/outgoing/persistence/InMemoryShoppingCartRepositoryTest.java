@@ -0,0 +1,248 @@
+package de.sample.aiarchitecture.cart.adapter.outgoing.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.cart.domain.specification.ActiveCart;
+import de.sample.aiarchitecture.cart.domain.specification.ComposedCartSpecification;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPageResult;
+import de.sample.aiarchitecture.sharedkernel.domain.model.CursorPagingRequest;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for InMemoryShoppingCartRepository.
+ *
+ * <p>Tests the keyset paging of {@code findBy(spec, CursorPagingRequest)} and the active cart index
+ * of {@code findActiveCartByCustomerId}, covering:
+ *
+ * <ul>
+ *   <li>Most recently saved carts first
+ *   <li>Carts saved at the same instant ordered by id, without gaps or duplicates across pages
+ *   <li>Totals counted only on request
+ *   <li>Active cart lookups after status changes, with and without a following save
+ *   <li>Active cart lookups after deletion
+ * </ul>
+ */
+@DisplayName("InMemoryShoppingCartRepository")
+class InMemoryShoppingCartRepositoryTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+  private static final ComposedCartSpecification ACTIVE =
+      new ComposedCartSpecification(new ActiveCart());
+
+  @Nested
+  @DisplayName("Order")
+  class Order {
+
+    @Test
+    @DisplayName("returns the most recently saved carts first")
+    void returnsMostRecentFirst() {
+      TickingClock clock = new TickingClock();
+      InMemoryShoppingCartRepository repository = new InMemoryShoppingCartRepository(clock);
+      List<CartId> saved = saveCarts(repository, 3, clock);
+
+      CursorPageResult<ShoppingCart> page = repository.findBy(ACTIVE, CursorPagingRequest.first(3));
+
+      assertEquals(List.of(saved.get(2), saved.get(1), saved.get(0)), ids(page.content()));
+      assertFalse(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("moves a saved-again cart to the front")
+    void movesSavedAgainCartToFront() {
+      TickingClock clock = new TickingClock();
+      InMemoryShoppingCartRepository repository = new InMemoryShoppingCartRepository(clock);
+      List<CartId> saved = saveCarts(repository, 3, clock);
+
+      clock.tick();
+      repository.save(repository.findById(saved.get(0)).orElseThrow());
+
+      CursorPageResult<ShoppingCart> page = repository.findBy(ACTIVE, CursorPagingRequest.first(1));
+
+      assertEquals(List.of(saved.get(0)), ids(page.content()));
+    }
+  }
+
+  @Nested
+  @DisplayName("Ties on updated_at")
+  class Ties {
+
+    @Test
+    @DisplayName("walks carts saved at the same instant by id without gaps or duplicates")
+    void walksTiedCartsById() {
+      InMemoryShoppingCartRepository repository =
+          new InMemoryShoppingCartRepository(Clock.fixed(NOW, ZoneOffset.UTC));
+      List<CartId> saved = saveCarts(repository, 7, null);
+
+      List<CartId> walked = new ArrayList<>();
+      CursorPageResult<ShoppingCart> page = repository.findBy(ACTIVE, CursorPagingRequest.first(3));
+      walked.addAll(ids(page.content()));
+      int pages = 1;
+      while (page.hasNext()) {
+        page = repository.findBy(ACTIVE, CursorPagingRequest.after(page.nextCursor(), 3));
+        walked.addAll(ids(page.content()));
+        pages++;
+      }
+
+      List<CartId> expected =
+          saved.stream().sorted(Comparator.comparing(CartId::value).reversed()).toList();
+      assertEquals(expected, walked);
+      assertEquals(3, pages);
+    }
+
+    @Test
+    @DisplayName("counts the total only on request")
+    void countsTotalOnlyOnRequest() {
+      InMemoryShoppingCartRepository repository =
+          new InMemoryShoppingCartRepository(Clock.fixed(NOW, ZoneOffset.UTC));
+      saveCarts(repository, 4, null);
+
+      CursorPageResult<ShoppingCart> first =
+          repository.findBy(ACTIVE, CursorPagingRequest.first(2).withTotal());
+      CursorPageResult<ShoppingCart> next =
+          repository.findBy(ACTIVE, CursorPagingRequest.after(first.nextCursor(), 2));
+
+      assertEquals(4, first.totalElements().orElseThrow());
+      assertTrue(next.totalElements().isEmpty());
+      assertFalse(next.hasNext());
+    }
+  }
+
+  @Nested
+  @DisplayName("Active cart by customer")
+  class ActiveCartByCustomer {
+
+    private static final CustomerId CUSTOMER = CustomerId.of("customer-active");
+
+    private final InMemoryShoppingCartRepository repository = new InMemoryShoppingCartRepository();
+
+    @Test
+    @DisplayName("finds the saved active cart")
+    void findsSavedActiveCart() {
+      ShoppingCart cart = new ShoppingCart(CartId.generate(), CUSTOMER);
+      repository.save(cart);
+
+      assertEquals(Optional.of(cart), repository.findActiveCartByCustomerId(CUSTOMER));
+    }
+
+    @Test
+    @DisplayName("finds nothing once the cart was abandoned and saved")
+    void findsNothingAfterStatusChangeAndSave() {
+      ShoppingCart cart = new ShoppingCart(CartId.generate(), CUSTOMER);
+      repository.save(cart);
+
+      cart.abandon();
+      repository.save(cart);
+
+      assertTrue(repository.findActiveCartByCustomerId(CUSTOMER).isEmpty());
+    }
+
+    @Test
+    @DisplayName("finds nothing once the cart was abandoned but not saved yet")
+    void findsNothingAfterStatusChangeWithoutSave() {
+      ShoppingCart cart = new ShoppingCart(CartId.generate(), CUSTOMER);
+      repository.save(cart);
+
+      cart.abandon();
+
+      assertTrue(repository.findActiveCartByCustomerId(CUSTOMER).isEmpty());
+    }
+
+    @Test
+    @DisplayName("falls back to another active cart of the customer when the indexed one ends")
+    void fallsBackToOtherActiveCart() {
+      ShoppingCart older = new ShoppingCart(CartId.generate(), CUSTOMER);
+      ShoppingCart newer = new ShoppingCart(CartId.generate(), CUSTOMER);
+      repository.save(older);
+      repository.save(newer);
+
+      newer.abandon();
+      repository.save(newer);
+
+      assertEquals(Optional.of(older), repository.findActiveCartByCustomerId(CUSTOMER));
+    }
+
+    @Test
+    @DisplayName("finds nothing once the cart was deleted")
+    void findsNothingAfterDelete() {
+      ShoppingCart cart = new ShoppingCart(CartId.generate(), CUSTOMER);
+      repository.save(cart);
+
+      repository.deleteById(cart.id());
+
+      assertTrue(repository.findActiveCartByCustomerId(CUSTOMER).isEmpty());
+      assertTrue(repository.findByCustomerId(CUSTOMER).isEmpty());
+    }
+
+    @Test
+    @DisplayName("keeps the active cart when another cart of the customer is deleted")
+    void keepsActiveCartWhenOtherCartDeleted() {
+      ShoppingCart abandoned = new ShoppingCart(CartId.generate(), CUSTOMER);
+      abandoned.abandon();
+      ShoppingCart active = new ShoppingCart(CartId.generate(), CUSTOMER);
+      repository.save(abandoned);
+      repository.save(active);
+
+      repository.deleteById(abandoned.id());
+
+      assertEquals(Optional.of(active), repository.findActiveCartByCustomerId(CUSTOMER));
+      assertEquals(List.of(active), repository.findByCustomerId(CUSTOMER));
+    }
+  }
+
+  private static List<CartId> saveCarts(
+      InMemoryShoppingCartRepository repository, int count, TickingClock clock) {
+    List<CartId> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      if (clock != null) {
+        clock.tick();
+      }
+      ShoppingCart cart = new ShoppingCart(CartId.generate(), CustomerId.of("customer-" + i));
+      repository.save(cart);
+      ids.add(cart.id());
+    }
+    return ids;
+  }
+
+  private static List<CartId> ids(List<ShoppingCart> carts) {
+    return carts.stream().map(ShoppingCart::id).toList();
+  }
+
+  // Test doubles
+
+  private static class TickingClock extends Clock {
+
+    private Instant now = NOW;
+
+    void tick() {
+      now = now.plusSeconds(1);
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,301 @@
+package de.sample.aiarchitecture.cart.application.additemtocart;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.cart.application.shared.ArticleDataPort;
+import de.sample.aiarchitecture.cart.application.shared.ShoppingCartRepository;
+import de.sample.aiarchitecture.cart.domain.model.CartArticle;
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.Quantity;
+import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Price;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.DomainEventPublisher;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.AggregateRoot;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.DomainEvent;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AddItemToCartUseCase.
+ *
+ * <p>Tests adding items to a cart addressed by customer, covering:
+ *
+ * <ul>
+ *   <li>Lazily creating and saving the customer's active cart on the first add
+ *   <li>Persisting nothing when the add fails
+ *   <li>Reusing an existing active cart instead of creating another one
+ *   <li>Validation of commands created with {@link AddItemToCartCommand#forCustomer}
+ * </ul>
+ */
+@DisplayName("AddItemToCartUseCase")
+class AddItemToCartUseCaseTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final String CUSTOMER_ID = "customer-123";
+  private static final ProductId PRODUCT = ProductId.of("product-a");
+  private static final ProductId OTHER_PRODUCT = ProductId.of("product-b");
+
+  private TestShoppingCartRepository repository;
+  private TestArticleDataPort articleDataPort;
+  private AddItemToCartUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    repository = new TestShoppingCartRepository();
+    articleDataPort = new TestArticleDataPort();
+    useCase = new AddItemToCartUseCase(repository, articleDataPort, new TestDomainEventPublisher());
+    articleDataPort.add(article(PRODUCT, 10));
+    articleDataPort.add(article(OTHER_PRODUCT, 10));
+  }
+
+  @Nested
+  @DisplayName("Lazy Cart Creation")
+  class LazyCartCreation {
+
+    @Test
+    @DisplayName("creates and saves exactly one cart on the first add")
+    void createsAndSavesOneCartOnFirstAdd() {
+      // Act
+      AddItemToCartResult result =
+          useCase.execute(AddItemToCartCommand.forCustomer(CUSTOMER_ID, PRODUCT.value(), 2));
+
+      // Assert
+      assertEquals(1, repository.saveCount);
+      assertEquals(1, repository.findAll().size());
+      ShoppingCart cart =
+          repository.findActiveCartByCustomerId(CustomerId.of(CUSTOMER_ID)).orElseThrow();
+      assertEquals(cart.id().value(), result.cartId());
+      assertEquals(CUSTOMER_ID, result.customerId());
+      assertEquals(1, cart.itemCount());
+      assertEquals(2, cart.totalQuantity());
+    }
+
+    @Test
+    @DisplayName("persists nothing when the product does not exist")
+    void persistsNothingForUnknownProduct() {
+      // Act & Assert
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> useCase.execute(AddItemToCartCommand.forCustomer(CUSTOMER_ID, "unknown", 1)));
+
+      assertEquals(0, repository.saveCount);
+      assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("persists nothing when stock is insufficient")
+    void persistsNothingForInsufficientStock() {
+      // Act & Assert
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              useCase.execute(AddItemToCartCommand.forCustomer(CUSTOMER_ID, PRODUCT.value(), 11)));
+
+      assertEquals(0, repository.saveCount);
+      assertTrue(repository.findAll().isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Existing Cart")
+  class ExistingCart {
+
+    @Test
+    @DisplayName("reuses the customer's active cart instead of creating a second one")
+    void reusesActiveCart() {
+      // Arrange
+      ShoppingCart existing = new ShoppingCart(CartId.generate(), CustomerId.of(CUSTOMER_ID));
+      existing.addItem(OTHER_PRODUCT, Quantity.of(1), price(5.00));
+      repository.save(existing);
+      repository.saveCount = 0;
+
+      // Act
+      AddItemToCartResult result =
+          useCase.execute(AddItemToCartCommand.forCustomer(CUSTOMER_ID, PRODUCT.value(), 1));
+
+      // Assert
+      assertEquals(existing.id().value(), result.cartId());
+      assertEquals(2, result.items().size());
+      assertEquals(1, repository.saveCount);
+      assertEquals(1, repository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("creates a new cart when the customer only has a checked out one")
+    void createsNewCartWhenOnlyCheckedOutCartExists() {
+      // Arrange
+      ShoppingCart checkedOut = new ShoppingCart(CartId.generate(), CustomerId.of(CUSTOMER_ID));
+      checkedOut.addItem(OTHER_PRODUCT, Quantity.of(1), price(5.00));
+      checkedOut.checkout();
+      repository.save(checkedOut);
+
+      // Act
+      AddItemToCartResult result =
+          useCase.execute(AddItemToCartCommand.forCustomer(CUSTOMER_ID, PRODUCT.value(), 1));
+
+      // Assert
+      assertNotEquals(checkedOut.id().value(), result.cartId());
+      assertEquals(1, result.items().size());
+      assertEquals(2, repository.findAll().size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Command Validation")
+  class CommandValidation {
+
+    @Test
+    @DisplayName("addresses the customer's cart when created for a customer")
+    void forCustomerAddressesCustomer() {
+      AddItemToCartCommand command =
+          AddItemToCartCommand.forCustomer(CUSTOMER_ID, PRODUCT.value(), 1);
+
+      assertNull(command.cartId());
+      assertEquals(CUSTOMER_ID, command.customerId());
+    }
+
+    @Test
+    @DisplayName("rejects a missing or blank customer ID")
+    void rejectsMissingCustomerId() {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> AddItemToCartCommand.forCustomer(null, PRODUCT.value(), 1));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> AddItemToCartCommand.forCustomer(" ", PRODUCT.value(), 1));
+    }
+
+    @Test
+    @DisplayName("rejects a missing product ID")
+    void rejectsMissingProductId() {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> AddItemToCartCommand.forCustomer(CUSTOMER_ID, "", 1));
+    }
+
+    @Test
+    @DisplayName("rejects a non-positive quantity")
+    void rejectsNonPositiveQuantity() {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> AddItemToCartCommand.forCustomer(CUSTOMER_ID, PRODUCT.value(), 0));
+    }
+
+    @Test
+    @DisplayName("rejects addressing both a cart and a customer")
+    void rejectsCartAndCustomer() {
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              new AddItemToCartCommand(CartId.generate().value(), CUSTOMER_ID, PRODUCT.value(), 1));
+    }
+  }
+
+  // Helper methods
+
+  private static CartArticle article(ProductId productId, int stock) {
+    return CartArticle.of(productId, "Article " + productId.value(), money(10.00), stock, true, "");
+  }
+
+  private static Price price(double amount) {
+    return Price.of(money(amount));
+  }
+
+  private static Money money(double amount) {
+    return Money.of(BigDecimal.valueOf(amount), EUR);
+  }
+
+  // Test doubles
+
+  private static class TestShoppingCartRepository implements ShoppingCartRepository {
+
+    private final Map<CartId, ShoppingCart> carts = new ConcurrentHashMap<>();
+    private int saveCount;
+
+    @Override
+    public Optional<ShoppingCart> findById(CartId id) {
+      return Optional.ofNullable(carts.get(id));
+    }
+
+    @Override
+    public List<ShoppingCart> findByCustomerId(CustomerId customerId) {
+      return carts.values().stream().filter(cart -> cart.customerId().equals(customerId)).toList();
+    }
+
+    @Override
+    public Optional<ShoppingCart> findActiveCartByCustomerId(CustomerId customerId) {
+      return carts.values().stream()
+          .filter(cart -> cart.customerId().equals(customerId))
+          .filter(ShoppingCart::isActive)
+          .findFirst();
+    }
+
+    @Override
+    public List<ShoppingCart> findAll() {
+      return new ArrayList<>(carts.values());
+    }
+
+    @Override
+    public ShoppingCart save(ShoppingCart cart) {
+      saveCount++;
+      carts.put(cart.id(), cart);
+      return cart;
+    }
+
+    @Override
+    public void deleteById(CartId id) {
+      carts.remove(id);
+    }
+  }
+
+  private static class TestArticleDataPort implements ArticleDataPort {
+
+    private final Map<ProductId, CartArticle> articles = new HashMap<>();
+
+    void add(CartArticle article) {
+      articles.put(article.productId(), article);
+    }
+
+    @Override
+    public Map<ProductId, CartArticle> getArticleData(Collection<ProductId> productIds) {
+      Map<ProductId, CartArticle> result = new HashMap<>();
+      productIds.forEach(id -> getArticleData(id).ifPresent(article -> result.put(id, article)));
+      return result;
+    }
+
+    @Override
+    public Optional<CartArticle> getArticleData(ProductId productId) {
+      return Optional.ofNullable(articles.get(productId));
+    }
+  }
+
+  private static class TestDomainEventPublisher implements DomainEventPublisher {
+
+    private final List<DomainEvent> publishedEvents = new ArrayList<>();
+
+    @Override
+    public void publish(DomainEvent event) {
+      publishedEvents.add(event);
+    }
+
+    @Override
+    public void publishAndClearEvents(AggregateRoot<?, ?> aggregate) {
+      publishedEvents.addAll(aggregate.domainEvents());
+      aggregate.clearDomainEvents();
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package de.sample.aiarchitecture.cart.application.getactivecart;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.cart.application.shared.ArticleDataPort;
+import de.sample.aiarchitecture.cart.application.shared.ShoppingCartRepository;
+import de.sample.aiarchitecture.cart.domain.model.CartArticle;
+import de.sample.aiarchitecture.cart.domain.model.CartId;
+import de.sample.aiarchitecture.cart.domain.model.CustomerId;
+import de.sample.aiarchitecture.cart.domain.model.EnrichedCart;
+import de.sample.aiarchitecture.cart.domain.model.Quantity;
+import de.sample.aiarchitecture.cart.domain.model.ShoppingCart;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Price;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for GetActiveCartUseCase.
+ *
+ * <p>Tests the read-only active cart lookup, covering:
+ *
+ * <ul>
+ *   <li>Not found, without creating a cart, when the customer has no active cart
+ *   <li>Returning the active cart enriched with article data
+ *   <li>Ignoring carts that are no longer active
+ * </ul>
+ */
+@DisplayName("GetActiveCartUseCase")
+class GetActiveCartUseCaseTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final String CUSTOMER_ID = "customer-123";
+  private static final ProductId PRODUCT = ProductId.of("product-a");
+
+  private TestShoppingCartRepository repository;
+  private TestArticleDataPort articleDataPort;
+  private GetActiveCartUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    repository = new TestShoppingCartRepository();
+    articleDataPort = new TestArticleDataPort();
+    useCase = new GetActiveCartUseCase(repository, articleDataPort);
+    articleDataPort.add(CartArticle.of(PRODUCT, "Product A", money(12.00), 10, true, ""));
+  }
+
+  @Nested
+  @DisplayName("No Active Cart")
+  class NoActiveCart {
+
+    @Test
+    @DisplayName("returns not found without creating a cart")
+    void returnsNotFoundWithoutCreatingCart() {
+      // Act
+      GetActiveCartResult result = useCase.execute(new GetActiveCartQuery(CUSTOMER_ID));
+
+      // Assert
+      assertFalse(result.found());
+      assertEquals(0, repository.saveCount);
+      assertTrue(repository.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("returns not found when the customer's cart is checked out")
+    void returnsNotFoundForCheckedOutCart() {
+      // Arrange
+      ShoppingCart cart = createCartWithItem();
+      cart.checkout();
+      repository.save(cart);
+
+      // Act
+      GetActiveCartResult result = useCase.execute(new GetActiveCartQuery(CUSTOMER_ID));
+
+      // Assert
+      assertFalse(result.found());
+    }
+  }
+
+  @Nested
+  @DisplayName("Active Cart")
+  class ActiveCart {
+
+    @Test
+    @DisplayName("returns the active cart enriched with current article data")
+    void returnsEnrichedActiveCart() {
+      // Arrange
+      ShoppingCart cart = createCartWithItem();
+      repository.save(cart);
+      repository.saveCount = 0;
+
+      // Act
+      GetActiveCartResult result = useCase.execute(new GetActiveCartQuery(CUSTOMER_ID));
+
+      // Assert
+      assertTrue(result.found());
+      EnrichedCart enriched = result.cart().orElseThrow();
+      assertEquals(cart.id(), enriched.cartId());
+      assertEquals(1, enriched.items().size());
+      assertEquals(
+          0, BigDecimal.valueOf(12.00).compareTo(enriched.calculateCurrentSubtotal().amount()));
+      assertEquals(0, repository.saveCount);
+    }
+  }
+
+  // Helper methods
+
+  private static ShoppingCart createCartWithItem() {
+    ShoppingCart cart = new ShoppingCart(CartId.generate(), CustomerId.of(CUSTOMER_ID));
+    cart.addItem(PRODUCT, Quantity.of(1), Price.of(money(10.00)));
+    return cart;
+  }
+
+  private static Money money(double amount) {
+    return Money.of(BigDecimal.valueOf(amount), EUR);
+  }
+
+  // Test doubles
+
+  private static class TestShoppingCartRepository implements ShoppingCartRepository {
+
+    private final Map<CartId, ShoppingCart> carts = new ConcurrentHashMap<>();
+    private int saveCount;
+
+    @Override
+    public Optional<ShoppingCart> findById(CartId id) {
+      return Optional.ofNullable(carts.get(id));
+    }
+
+    @Override
+    public List<ShoppingCart> findByCustomerId(CustomerId customerId) {
+      return carts.values().stream().filter(cart -> cart.customerId().equals(customerId)).toList();
+    }
+
+    @Override
+    public Optional<ShoppingCart> findActiveCartByCustomerId(CustomerId customerId) {
+      return carts.values().stream()
+          .filter(cart -> cart.customerId().equals(customerId))
+          .filter(ShoppingCart::isActive)
+          .findFirst();
+    }
+
+    @Override
+    public List<ShoppingCart> findAll() {
+      return new ArrayList<>(carts.values());
+    }
+
+    @Override
+    public ShoppingCart save(ShoppingCart cart) {
+      saveCount++;
+      carts.put(cart.id(), cart);
+      return cart;
+    }
+
+    @Override
+    public void deleteById(CartId id) {
+      carts.remove(id);
+    }
+  }
+
+  private static class TestArticleDataPort implements ArticleDataPort {
+
+    private final Map<ProductId, CartArticle> articles = new HashMap<>();
+
+    void add(CartArticle article) {
+      articles.put(article.productId(), article);
+    }
+
+    @Override
+    public Map<ProductId, CartArticle> getArticleData(Collection<ProductId> productIds) {
+      Map<ProductId, CartArticle> result = new HashMap<>();
+      productIds.forEach(id -> getArticleData(id).ifPresent(article -> result.put(id, article)));
+      return result;
+    }
+
+    @Override
+    public Optional<CartArticle> getArticleData(ProductId productId) {
+      return Optional.ofNullable(articles.get(productId));
+    }
+  }
+}
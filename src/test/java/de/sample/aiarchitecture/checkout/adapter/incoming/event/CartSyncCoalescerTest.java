@@ -0,0 +1,203 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.synccheckoutwithcart.SyncCheckoutWithCartCommand;
+import de.sample.aiarchitecture.checkout.application.synccheckoutwithcart.SyncCheckoutWithCartInputPort;
+import de.sample.aiarchitecture.checkout.application.synccheckoutwithcart.SyncCheckoutWithCartResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CartSyncCoalescer.
+ *
+ * <p>Tests collapsing cart changes into checkout syncs, covering:
+ *
+ * <ul>
+ *   <li>A burst of changes within the window results in exactly one sync per cart
+ *   <li>A change arriving while a sync runs schedules another sync
+ *   <li>With coalescing disabled every change is synced immediately
+ *   <li>The events and executions counters match what was received and synced
+ * </ul>
+ */
+@DisplayName("CartSyncCoalescer")
+class CartSyncCoalescerTest {
+
+  private static final Duration WINDOW = Duration.ofMillis(50);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RecordingSyncUseCase syncUseCase = new RecordingSyncUseCase();
+  private CartSyncCoalescer coalescer;
+
+  @AfterEach
+  void tearDown() {
+    syncUseCase.release.countDown();
+    if (coalescer != null) {
+      coalescer.stop();
+    }
+  }
+
+  @Nested
+  @DisplayName("Coalescing Enabled")
+  class CoalescingEnabled {
+
+    @Test
+    @DisplayName("syncs a burst of changes within the window exactly once")
+    void syncsBurstOnce() throws InterruptedException {
+      start(true);
+      syncUseCase.release.countDown();
+
+      for (int i = 0; i < 5; i++) {
+        coalescer.submit("cart-1");
+      }
+      awaitSyncs(1);
+      Thread.sleep(WINDOW.toMillis() * 3);
+
+      assertEquals(List.of("cart-1"), syncUseCase.synced);
+      assertEquals(5, events());
+      assertEquals(1, executions());
+    }
+
+    @Test
+    @DisplayName("syncs different carts separately")
+    void syncsCartsSeparately() throws InterruptedException {
+      start(true);
+      syncUseCase.release.countDown();
+
+      coalescer.submit("cart-1");
+      coalescer.submit("cart-2");
+      coalescer.submit("cart-1");
+      awaitSyncs(2);
+
+      assertEquals(2, syncUseCase.synced.stream().distinct().count());
+      assertEquals(3, events());
+      assertEquals(2, executions());
+    }
+
+    @Test
+    @DisplayName("schedules another sync for a change arriving while a sync runs")
+    void schedulesAnotherSyncForChangeDuringSync() throws InterruptedException {
+      start(true);
+
+      coalescer.submit("cart-1");
+      assertTrue(syncUseCase.inSync.await(5, TimeUnit.SECONDS), "first sync did not start");
+      coalescer.submit("cart-1");
+      syncUseCase.release.countDown();
+      awaitSyncs(2);
+
+      assertEquals(List.of("cart-1", "cart-1"), syncUseCase.synced);
+      assertEquals(2, events());
+      assertEquals(2, executions());
+    }
+
+    @Test
+    @DisplayName("runs pending syncs when stopped")
+    void runsPendingSyncsOnStop() {
+      start(true);
+      syncUseCase.release.countDown();
+
+      coalescer.submit("cart-1");
+      coalescer.stop();
+
+      assertEquals(List.of("cart-1"), syncUseCase.synced);
+      assertFalse(coalescer.isRunning());
+    }
+  }
+
+  @Nested
+  @DisplayName("Coalescing Disabled")
+  class CoalescingDisabled {
+
+    @Test
+    @DisplayName("syncs every change immediately on the calling thread")
+    void syncsEveryChangeImmediately() {
+      start(false);
+      syncUseCase.release.countDown();
+
+      coalescer.submit("cart-1");
+      coalescer.submit("cart-1");
+      coalescer.submit("cart-1");
+
+      assertFalse(coalescer.isRunning());
+      assertEquals(List.of("cart-1", "cart-1", "cart-1"), syncUseCase.synced);
+      assertEquals(
+          List.of(Thread.currentThread()), syncUseCase.threads.stream().distinct().toList());
+      assertEquals(3, events());
+      assertEquals(3, executions());
+    }
+
+    @Test
+    @DisplayName("counts a failed sync as executed")
+    void countsFailedSync() {
+      start(false);
+      syncUseCase.release.countDown();
+      syncUseCase.failing = true;
+
+      coalescer.submit("cart-1");
+
+      assertEquals(1, events());
+      assertEquals(1, executions());
+    }
+  }
+
+  private void start(final boolean coalescingEnabled) {
+    coalescer =
+        new CartSyncCoalescer(
+            syncUseCase,
+            new CartSyncCoalescingProperties(coalescingEnabled, WINDOW),
+            meterRegistry);
+    coalescer.start();
+  }
+
+  private void awaitSyncs(final int count) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (syncUseCase.synced.size() < count && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(count, syncUseCase.synced.size(), "unexpected number of syncs");
+  }
+
+  private double events() {
+    return meterRegistry.get("checkout.cart.sync.events").counter().count();
+  }
+
+  private double executions() {
+    return meterRegistry.get("checkout.cart.sync.executions").counter().count();
+  }
+
+  // Test doubles
+
+  /** Records syncs; the first sync blocks until {@code release} is counted down. */
+  private static class RecordingSyncUseCase implements SyncCheckoutWithCartInputPort {
+
+    private final List<String> synced = new CopyOnWriteArrayList<>();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch inSync = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean failing;
+
+    @Override
+    public SyncCheckoutWithCartResult execute(final SyncCheckoutWithCartCommand command) {
+      inSync.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (failing) {
+        throw new IllegalStateException("Cart service unavailable");
+      }
+      synced.add(command.cartId());
+      threads.add(Thread.currentThread());
+      return SyncCheckoutWithCartResult.synced("session-1", 1);
+    }
+  }
+}
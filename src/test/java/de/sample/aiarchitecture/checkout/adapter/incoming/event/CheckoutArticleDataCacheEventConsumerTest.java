@@ -0,0 +1,91 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutArticleDataCache;
+import de.sample.aiarchitecture.pricing.events.PriceChangedEvent;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * Unit tests for CheckoutArticleDataCacheEventConsumer.
+ *
+ * <p>Tests invalidation of cached checkout article data, covering:
+ *
+ * <ul>
+ *   <li>Outside a transaction the product is dropped once
+ *   <li>A value re-cached between the first drop and the commit does not survive the commit
+ * </ul>
+ */
+@DisplayName("CheckoutArticleDataCacheEventConsumer")
+class CheckoutArticleDataCacheEventConsumerTest {
+
+  private static final ProductId PRODUCT = ProductId.of("product-a");
+
+  private final TestCheckoutArticleDataCache cache = new TestCheckoutArticleDataCache();
+  private final CheckoutArticleDataCacheEventConsumer consumer =
+      new CheckoutArticleDataCacheEventConsumer(cache);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("drops the product once outside a transaction")
+  void dropsOnceOutsideTransaction() {
+    cache.cached.add(PRODUCT);
+
+    consumer.onPriceChanged(PriceChangedEvent.now(PRODUCT, Money.euro(10.00), Money.euro(12.00)));
+
+    assertFalse(cache.cached.contains(PRODUCT));
+    assertEquals(1, cache.invalidations);
+  }
+
+  @Test
+  @DisplayName("drops a value re-cached by a concurrent reader before the commit")
+  void dropsValueReCachedBeforeCommit() {
+    cache.cached.add(PRODUCT);
+    TransactionSynchronizationManager.initSynchronization();
+
+    consumer.onPriceChanged(PriceChangedEvent.now(PRODUCT, Money.euro(10.00), Money.euro(12.00)));
+    assertFalse(cache.cached.contains(PRODUCT));
+
+    // A reader outside the transaction still sees the old price and caches it again
+    cache.cached.add(PRODUCT);
+
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    TransactionSynchronizationUtils.invokeAfterCompletion(
+        synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+
+    assertFalse(cache.cached.contains(PRODUCT));
+    assertEquals(2, cache.invalidations);
+  }
+
+  // Test doubles
+
+  private static class TestCheckoutArticleDataCache implements CheckoutArticleDataCache {
+
+    private final Set<ProductId> cached = new HashSet<>();
+    private int invalidations;
+
+    @Override
+    public void invalidate(ProductId productId) {
+      invalidations++;
+      cached.remove(productId);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.evictcheckoutsession.EvictCheckoutSessionResult;
+import de.sample.aiarchitecture.checkout.application.expirecheckoutsession.ExpireCheckoutSessionInputPort;
+import de.sample.aiarchitecture.checkout.application.expirecheckoutsession.ExpireCheckoutSessionResult;
+import de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps.GetCheckoutSessionTimestampsResult;
+import de.sample.aiarchitecture.checkout.application.getcheckoutsessiontimestamps.GetCheckoutSessionTimestampsResult.SessionTimestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CheckoutSessionExpiryScheduler.
+ *
+ * <p>Tests the timers of sessions stored before startup, covering:
+ *
+ * <ul>
+ *   <li>Active sessions are expired once their last save is older than the inactivity timeout
+ *   <li>Finished sessions are evicted once their last save is older than the retention period
+ *   <li>A session the expire use case reports as not yet due is checked again at its due time
+ * </ul>
+ */
+@DisplayName("CheckoutSessionExpiryScheduler")
+class CheckoutSessionExpirySchedulerTest {
+
+  private static final Duration TIMEOUT = Duration.ofMinutes(30);
+  private static final Duration RETENTION = Duration.ofHours(24);
+
+  private final List<String> expired = new CopyOnWriteArrayList<>();
+  private final List<String> evicted = new CopyOnWriteArrayList<>();
+  private CheckoutSessionExpiryScheduler scheduler;
+
+  @AfterEach
+  void tearDown() {
+    if (scheduler != null) {
+      scheduler.stop();
+    }
+  }
+
+  @Nested
+  @DisplayName("Seeding")
+  class Seeding {
+
+    @Test
+    @DisplayName("expires a stored active session whose last save is older than the timeout")
+    void expiresStoredActiveSession() throws InterruptedException {
+      CountDownLatch done = new CountDownLatch(1);
+      start(
+          command -> {
+            expired.add(command.sessionId());
+            done.countDown();
+            return ExpireCheckoutSessionResult.expired(command.sessionId());
+          },
+          new SessionTimestamp("stale", true, Instant.now().minus(TIMEOUT).minusSeconds(1)),
+          new SessionTimestamp("recent", true, Instant.now()));
+
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+      assertEquals(List.of("stale"), expired);
+      assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    @DisplayName("evicts a stored finished session whose last save is older than the retention")
+    void evictsStoredFinishedSession() throws InterruptedException {
+      start(
+          command -> fail("active sessions only"),
+          new SessionTimestamp("old", false, Instant.now().minus(RETENTION).minusSeconds(1)),
+          new SessionTimestamp("retained", false, Instant.now()));
+
+      awaitEvicted(1);
+      assertEquals(List.of("old"), evicted);
+    }
+
+    @Test
+    @DisplayName("does not read stored sessions when disabled")
+    void doesNotSeedWhenDisabled() {
+      AtomicInteger reads = new AtomicInteger();
+      scheduler =
+          new CheckoutSessionExpiryScheduler(
+              command -> fail("must not expire"),
+              command -> fail("must not evict"),
+              query -> {
+                reads.incrementAndGet();
+                return new GetCheckoutSessionTimestampsResult(List.of());
+              },
+              new CheckoutSessionExpiryProperties(false, TIMEOUT, RETENTION, null));
+
+      scheduler.start();
+
+      assertFalse(scheduler.isRunning());
+      assertEquals(0, reads.get());
+    }
+  }
+
+  @Test
+  @DisplayName("checks a session again at the time the expire use case reports")
+  void rechecksSessionAtReportedDueTime() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(2);
+    start(
+        command -> {
+          expired.add(command.sessionId());
+          done.countDown();
+          return done.getCount() > 0
+              ? ExpireCheckoutSessionResult.notYetDue(
+                  command.sessionId(), Instant.now().plusMillis(50))
+              : ExpireCheckoutSessionResult.expired(command.sessionId());
+        },
+        new SessionTimestamp("saved-again", true, Instant.now().minus(Duration.ofHours(1))));
+
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertEquals(List.of("saved-again", "saved-again"), expired);
+  }
+
+  private void start(
+      final ExpireCheckoutSessionInputPort expireUseCase, final SessionTimestamp... stored) {
+    scheduler =
+        new CheckoutSessionExpiryScheduler(
+            expireUseCase,
+            command -> {
+              evicted.add(command.sessionId());
+              return EvictCheckoutSessionResult.evicted(command.sessionId(), false);
+            },
+            query -> new GetCheckoutSessionTimestampsResult(List.of(stored)),
+            new CheckoutSessionExpiryProperties(true, TIMEOUT, RETENTION, Duration.ofMillis(10)));
+    scheduler.start();
+  }
+
+  private void awaitEvicted(final int count) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (evicted.size() < count && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(count, evicted.size());
+  }
+}
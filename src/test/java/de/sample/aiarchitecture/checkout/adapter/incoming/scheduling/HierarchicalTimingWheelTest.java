@@ -0,0 +1,125 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+  private static final long TICK = 1_000;
+  private static final long START = 1_700_000_000_000L;
+
+  private HierarchicalTimingWheel<String> wheel;
+
+  @BeforeEach
+  void setUp() {
+    wheel = new HierarchicalTimingWheel<>(TICK, START);
+  }
+
+  @Nested
+  @DisplayName("Firing")
+  class FiringTests {
+
+    @Test
+    @DisplayName("timer fires once its deadline is reached, not before")
+    void firesAtDeadline() {
+      wheel.schedule("a", START + 5 * TICK);
+
+      assertEquals(List.of(), wheel.advanceTo(START + 4 * TICK));
+      assertEquals(List.of("a"), wheel.advanceTo(START + 5 * TICK));
+      assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("deadline between ticks is rounded up")
+    void roundsUpToNextTick() {
+      wheel.schedule("a", START + 2 * TICK + 1);
+
+      assertEquals(List.of(), wheel.advanceTo(START + 2 * TICK + 999));
+      assertEquals(List.of("a"), wheel.advanceTo(START + 3 * TICK));
+    }
+
+    @Test
+    @DisplayName("deadline in the past fires on the next tick")
+    void pastDeadlineFiresOnNextTick() {
+      wheel.advanceTo(START + 10 * TICK);
+      wheel.schedule("a", START);
+
+      assertEquals(List.of("a"), wheel.advanceTo(START + 11 * TICK));
+    }
+
+    @Test
+    @DisplayName("timers on higher levels cascade down and fire on their exact tick")
+    void cascadesFromHigherLevels() {
+      final long[] deadlines = {63, 64, 65, 4_095, 4_096, 4_097, 262_143, 262_144, 300_000};
+      for (final long deadline : deadlines) {
+        wheel.schedule("t" + deadline, START + deadline * TICK);
+      }
+
+      final List<String> fired = new ArrayList<>();
+      for (final long deadline : deadlines) {
+        assertEquals(List.of(), wheel.advanceTo(START + (deadline - 1) * TICK), "t" + deadline);
+        final List<String> due = wheel.advanceTo(START + deadline * TICK);
+        assertEquals(List.of("t" + deadline), due);
+        fired.addAll(due);
+      }
+      assertEquals(deadlines.length, fired.size());
+    }
+
+    @Test
+    @DisplayName("deadline beyond the top level still fires on its exact tick")
+    void firesBeyondTopLevel() {
+      final long deadline = 20_000_000L;
+      wheel.schedule("far", START + deadline * TICK);
+
+      assertEquals(List.of(), wheel.advanceTo(START + (deadline - 1) * TICK));
+      assertEquals(List.of("far"), wheel.advanceTo(START + deadline * TICK));
+    }
+  }
+
+  @Nested
+  @DisplayName("Rescheduling and Cancelling")
+  class ReschedulingTests {
+
+    @Test
+    @DisplayName("rescheduling replaces the previous deadline")
+    void rescheduleReplacesDeadline() {
+      wheel.schedule("a", START + 5 * TICK);
+      wheel.schedule("a", START + 100 * TICK);
+
+      assertEquals(1, wheel.size());
+      assertEquals(List.of(), wheel.advanceTo(START + 99 * TICK));
+      assertEquals(List.of("a"), wheel.advanceTo(START + 100 * TICK));
+    }
+
+    @Test
+    @DisplayName("cancelled timer never fires")
+    void cancelledTimerNeverFires() {
+      wheel.schedule("a", START + 5 * TICK);
+      wheel.schedule("b", START + 5 * TICK);
+
+      assertTrue(wheel.cancel("a"));
+      assertFalse(wheel.cancel("a"));
+      assertEquals(List.of("b"), wheel.advanceTo(START + 10 * TICK));
+    }
+
+    @Test
+    @DisplayName("timers sharing a slot are unlinked independently")
+    void unlinksFromSharedSlot() {
+      wheel.schedule("a", START + 7 * TICK);
+      wheel.schedule("b", START + 7 * TICK);
+      wheel.schedule("c", START + 7 * TICK);
+
+      wheel.cancel("b");
+
+      final List<String> due = wheel.advanceTo(START + 7 * TICK);
+      assertEquals(2, due.size());
+      assertTrue(due.containsAll(List.of("a", "c")));
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package de.sample.aiarchitecture.checkout.adapter.incoming.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutCommand;
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutInputPort;
+import de.sample.aiarchitecture.checkout.application.confirmcheckout.ConfirmCheckoutResult;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchInputPort;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchResult;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchResult.Confirmation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CheckoutConfirmationPipeline.
+ *
+ * <p>Tests group-committed confirmations, covering:
+ *
+ * <ul>
+ *   <li>Outcomes of batched confirmations, including the exception type of rejections
+ *   <li>Requests giving up after the timeout
+ *   <li>Confirming on the request thread once the worker is gone
+ * </ul>
+ */
+@DisplayName("CheckoutConfirmationPipeline")
+class CheckoutConfirmationPipelineTest {
+
+  private final AtomicInteger singleConfirmations = new AtomicInteger();
+  private final ConfirmCheckoutInputPort confirmCheckoutInputPort =
+      command -> {
+        singleConfirmations.incrementAndGet();
+        return confirmed(command.sessionId());
+      };
+  private CheckoutConfirmationPipeline pipeline;
+
+  @AfterEach
+  void tearDown() {
+    if (pipeline != null) {
+      pipeline.stop();
+    }
+  }
+
+  @Nested
+  @DisplayName("Batched Confirmations")
+  class BatchedConfirmations {
+
+    @Test
+    @DisplayName("returns the result of a confirmed session")
+    void returnsConfirmedResult() {
+      start(
+          command ->
+              new ConfirmCheckoutBatchResult(
+                  command.sessionIds().stream()
+                      .map(id -> Confirmation.confirmed(confirmed(id)))
+                      .toList()),
+          Duration.ofSeconds(5));
+
+      ConfirmCheckoutResult result = pipeline.confirm(new ConfirmCheckoutCommand("session-1"));
+
+      assertEquals("session-1", result.sessionId());
+      assertEquals(0, singleConfirmations.get());
+    }
+
+    @Test
+    @DisplayName("raises a missing session as IllegalArgumentException")
+    void raisesMissingSessionAsIllegalArgument() {
+      start(
+          command ->
+              new ConfirmCheckoutBatchResult(
+                  command.sessionIds().stream()
+                      .map(
+                          id ->
+                              Confirmation.rejected(
+                                  id, new IllegalArgumentException("Session not found: " + id)))
+                      .toList()),
+          Duration.ofSeconds(5));
+
+      IllegalArgumentException e =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> pipeline.confirm(new ConfirmCheckoutCommand("missing")));
+      assertEquals("Session not found: missing", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("raises a session that cannot be confirmed as IllegalStateException")
+    void raisesInvalidSessionAsIllegalState() {
+      start(
+          command ->
+              new ConfirmCheckoutBatchResult(
+                  command.sessionIds().stream()
+                      .map(
+                          id ->
+                              Confirmation.rejected(
+                                  id, new IllegalStateException("Can only confirm from review")))
+                      .toList()),
+          Duration.ofSeconds(5));
+
+      assertThrows(
+          IllegalStateException.class,
+          () -> pipeline.confirm(new ConfirmCheckoutCommand("session-1")));
+    }
+
+    @Test
+    @DisplayName("confirms one by one when the batch fails as a whole")
+    void confirmsOneByOneWhenBatchFails() {
+      start(
+          command -> {
+            throw new IllegalStateException("Transaction rolled back");
+          },
+          Duration.ofSeconds(5));
+
+      ConfirmCheckoutResult result = pipeline.confirm(new ConfirmCheckoutCommand("session-1"));
+
+      assertEquals("session-1", result.sessionId());
+      assertEquals(1, singleConfirmations.get());
+    }
+  }
+
+  @Nested
+  @DisplayName("Worker Failures")
+  class WorkerFailures {
+
+    @Test
+    @DisplayName("gives up after the timeout and confirms directly once the worker is gone")
+    void timesOutAndFallsBackToRequestThread() {
+      start(
+          command -> {
+            throw new AssertionError("worker crashed");
+          },
+          Duration.ofMillis(200));
+
+      IllegalStateException e =
+          assertThrows(
+              IllegalStateException.class,
+              () -> pipeline.confirm(new ConfirmCheckoutCommand("session-1")));
+      assertTrue(e.getMessage().contains("timed out"));
+      assertFalse(pipeline.isRunning());
+
+      ConfirmCheckoutResult result = pipeline.confirm(new ConfirmCheckoutCommand("session-2"));
+
+      assertEquals("session-2", result.sessionId());
+      assertEquals(1, singleConfirmations.get());
+    }
+  }
+
+  @Test
+  @DisplayName("confirms on the request thread when disabled")
+  void confirmsDirectlyWhenDisabled() {
+    pipeline =
+        new CheckoutConfirmationPipeline(
+            confirmCheckoutInputPort,
+            command -> fail("batch must not be used"),
+            new CheckoutConfirmationPipelineProperties(false, null, null, null),
+            new SimpleMeterRegistry());
+    pipeline.start();
+
+    ConfirmCheckoutResult result = pipeline.confirm(new ConfirmCheckoutCommand("session-1"));
+
+    assertEquals("session-1", result.sessionId());
+    assertFalse(pipeline.isRunning());
+    assertEquals(1, singleConfirmations.get());
+  }
+
+  private void start(final ConfirmCheckoutBatchInputPort batchInputPort, final Duration timeout) {
+    pipeline =
+        new CheckoutConfirmationPipeline(
+            confirmCheckoutInputPort,
+            batchInputPort,
+            new CheckoutConfirmationPipelineProperties(true, 8, Duration.ofMillis(1), timeout),
+            new SimpleMeterRegistry());
+    pipeline.start();
+  }
+
+  private static ConfirmCheckoutResult confirmed(final String sessionId) {
+    return new ConfirmCheckoutResult(
+        sessionId, "CONFIRMATION", "CONFIRMED", "cart-1", "customer", "20.00", "EUR", null);
+  }
+}
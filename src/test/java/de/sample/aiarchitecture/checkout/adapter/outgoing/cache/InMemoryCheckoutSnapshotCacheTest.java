@@ -0,0 +1,148 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.readmodel.CheckoutCartSnapshot;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for InMemoryCheckoutSnapshotCache.
+ *
+ * <p>Tests caching of checkout snapshots per session version, covering:
+ *
+ * <ul>
+ *   <li>Hits for the cached version, misses for unknown sessions and other versions
+ *   <li>A newer version replacing an older one, but not the other way round
+ *   <li>Invalidation and the size bound
+ * </ul>
+ */
+@DisplayName("InMemoryCheckoutSnapshotCache")
+class InMemoryCheckoutSnapshotCacheTest {
+
+  private final InMemoryCheckoutSnapshotCache cache = new InMemoryCheckoutSnapshotCache();
+  private final CheckoutSession session = startSession();
+
+  @Nested
+  @DisplayName("Lookups")
+  class Lookups {
+
+    @Test
+    @DisplayName("returns the snapshot cached for the requested version")
+    void returnsSnapshotOfCachedVersion() {
+      CheckoutCartSnapshot snapshot = CheckoutCartSnapshot.from(session);
+      cache.put(session.id(), session.version(), snapshot);
+
+      assertEquals(Optional.of(snapshot), cache.find(session.id(), session.version()));
+    }
+
+    @Test
+    @DisplayName("misses for a session that was never cached")
+    void missesUnknownSession() {
+      assertTrue(cache.find(CheckoutSessionId.generate(), 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("misses once the session moved on to a newer version")
+    void missesStaleVersion() {
+      cache.put(session.id(), session.version(), CheckoutCartSnapshot.from(session));
+
+      session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+
+      assertTrue(cache.find(session.id(), session.version()).isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Versions")
+  class Versions {
+
+    @Test
+    @DisplayName("replaces the snapshot of an older version with a newer one")
+    void newerVersionReplacesOlder() {
+      long oldVersion = session.version();
+      cache.put(session.id(), oldVersion, CheckoutCartSnapshot.from(session));
+      session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+      CheckoutCartSnapshot newer = CheckoutCartSnapshot.from(session);
+
+      cache.put(session.id(), session.version(), newer);
+
+      assertEquals(Optional.of(newer), cache.find(session.id(), session.version()));
+      assertTrue(cache.find(session.id(), oldVersion).isEmpty());
+    }
+
+    @Test
+    @DisplayName("keeps the newer snapshot when an older version is put afterwards")
+    void olderVersionDoesNotOverwriteNewer() {
+      CheckoutCartSnapshot older = CheckoutCartSnapshot.from(session);
+      long oldVersion = session.version();
+      session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+      CheckoutCartSnapshot newer = CheckoutCartSnapshot.from(session);
+      cache.put(session.id(), session.version(), newer);
+
+      // A reader that loaded the session before the change finishes last
+      cache.put(session.id(), oldVersion, older);
+
+      assertEquals(Optional.of(newer), cache.find(session.id(), session.version()));
+      assertTrue(cache.find(session.id(), oldVersion).isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Eviction")
+  class Eviction {
+
+    @Test
+    @DisplayName("drops an invalidated session")
+    void dropsInvalidatedSession() {
+      cache.put(session.id(), session.version(), CheckoutCartSnapshot.from(session));
+
+      cache.invalidate(session.id());
+
+      assertTrue(cache.find(session.id(), session.version()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("keeps no more sessions than the maximum size")
+    void keepsWithinMaximumSize() {
+      CheckoutCartSnapshot snapshot = CheckoutCartSnapshot.from(session);
+      List<CheckoutSessionId> ids =
+          Stream.generate(CheckoutSessionId::generate)
+              .limit(InMemoryCheckoutSnapshotCache.MAX_SIZE + 1L)
+              .toList();
+
+      ids.forEach(id -> cache.put(id, 0, snapshot));
+
+      long cached = ids.stream().filter(id -> cache.find(id, 0).isPresent()).count();
+      assertEquals(InMemoryCheckoutSnapshotCache.MAX_SIZE, cached);
+    }
+  }
+
+  private static CheckoutSession startSession() {
+    return CheckoutSession.start(
+        CartId.generate(),
+        CustomerId.of("customer-1"),
+        List.of(
+            CheckoutLineItem.of(
+                CheckoutLineItemId.generate(),
+                ProductId.of("P1"),
+                "Product One",
+                Money.euro(10.00),
+                1,
+                null)),
+        Money.euro(10.00));
+  }
+}
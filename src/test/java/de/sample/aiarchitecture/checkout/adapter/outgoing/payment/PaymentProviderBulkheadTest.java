@@ -0,0 +1,279 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProvider;
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProvider.PaymentResult;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for PaymentProviderBulkhead.
+ *
+ * <p>Tests the isolation of payment provider calls, covering:
+ *
+ * <ul>
+ *   <li>Results of calls completing within the deadline
+ *   <li>Failure results for timed out, rejected and failing calls
+ *   <li>Cancelling payments the provider completes after the deadline
+ *   <li>Unavailability while the circuit breaker is open
+ *   <li>Latency metrics
+ * </ul>
+ */
+@DisplayName("PaymentProviderBulkhead")
+class PaymentProviderBulkheadTest {
+
+  private static final CheckoutSessionId SESSION_ID = CheckoutSessionId.generate();
+  private static final Money AMOUNT = Money.euro(10.00);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private PaymentProviderBulkhead bulkhead;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    if (bulkhead != null) {
+      bulkhead.close();
+    }
+  }
+
+  @Nested
+  @DisplayName("Completed Calls")
+  class CompletedCalls {
+
+    @Test
+    @DisplayName("returns the provider result and records its latency")
+    void returnsProviderResult() {
+      bulkhead = bulkhead(new MockPaymentProvider(), Duration.ofSeconds(5), 4);
+
+      PaymentResult result = bulkhead.initiatePayment(SESSION_ID, AMOUNT);
+
+      assertTrue(result.success());
+      assertTrue(result.providerReference().startsWith("mock-"));
+      assertEquals(
+          1,
+          meterRegistry
+              .get("checkout.payment.provider.calls")
+              .tag("operation", "initiate")
+              .tag("outcome", "success")
+              .timer()
+              .count());
+    }
+
+    @Test
+    @DisplayName("turns provider exceptions into failure results")
+    void turnsExceptionsIntoFailures() {
+      bulkhead =
+          bulkhead(
+              new BlockingProvider(release) {
+                @Override
+                public PaymentResult confirmPayment(String providerReference) {
+                  throw new IllegalStateException("connection reset");
+                }
+              },
+              Duration.ofSeconds(5),
+              4);
+
+      PaymentResult result = bulkhead.confirmPayment("ref");
+
+      assertFalse(result.success());
+    }
+  }
+
+  @Nested
+  @DisplayName("Deadline")
+  class Deadline {
+
+    @Test
+    @DisplayName("fails a call that exceeds the timeout and interrupts the provider")
+    void failsTimedOutCall() throws Exception {
+      BlockingProvider provider = new BlockingProvider(release);
+      bulkhead = bulkhead(provider, Duration.ofMillis(50), 4);
+
+      PaymentResult result = bulkhead.initiatePayment(SESSION_ID, AMOUNT);
+
+      assertFalse(result.success());
+      assertTrue(provider.interrupted.await(5, TimeUnit.SECONDS));
+      assertEquals(
+          1,
+          meterRegistry
+              .get("checkout.payment.provider.calls")
+              .tag("outcome", "timeout")
+              .timer()
+              .count());
+    }
+
+    @Test
+    @DisplayName("cancels a payment the provider initiates after the deadline")
+    void cancelsPaymentInitiatedAfterDeadline() throws Exception {
+      UninterruptibleProvider provider = new UninterruptibleProvider(release);
+      bulkhead = bulkhead(provider, Duration.ofMillis(50), 4);
+
+      PaymentResult result = bulkhead.initiatePayment(SESSION_ID, AMOUNT);
+      release.countDown();
+
+      assertFalse(result.success());
+      assertTrue(provider.cancelled.await(5, TimeUnit.SECONDS));
+      assertEquals("late-ref", provider.cancelledReference);
+    }
+  }
+
+  @Nested
+  @DisplayName("Circuit Breaker")
+  class CircuitBreaker {
+
+    @Test
+    @DisplayName("becomes unavailable and rejects calls after repeated timeouts")
+    void opensAfterRepeatedTimeouts() {
+      bulkhead = bulkhead(new BlockingProvider(release), Duration.ofMillis(20), 4);
+
+      bulkhead.initiatePayment(SESSION_ID, AMOUNT);
+      bulkhead.initiatePayment(SESSION_ID, AMOUNT);
+
+      assertFalse(bulkhead.isAvailable());
+      assertFalse(bulkhead.confirmPayment("ref").success());
+      assertEquals(
+          1,
+          meterRegistry
+              .get("checkout.payment.provider.rejected")
+              .tag("reason", "circuit-open")
+              .counter()
+              .count(),
+          0.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("Concurrency Cap")
+  class ConcurrencyCap {
+
+    @Test
+    @DisplayName("rejects calls beyond the cap without waiting")
+    void rejectsCallsBeyondCap() {
+      bulkhead = bulkhead(new BlockingProvider(release), Duration.ofSeconds(5), 2);
+
+      CompletableFuture<PaymentResult> first = bulkhead.initiatePaymentAsync(SESSION_ID, AMOUNT);
+      CompletableFuture<PaymentResult> second = bulkhead.initiatePaymentAsync(SESSION_ID, AMOUNT);
+      CompletableFuture<PaymentResult> third = bulkhead.initiatePaymentAsync(SESSION_ID, AMOUNT);
+
+      assertTrue(third.isDone());
+      assertFalse(third.join().success());
+      assertEquals(2, inFlight());
+      assertEquals(
+          1,
+          meterRegistry
+              .get("checkout.payment.provider.rejected")
+              .tag("reason", "bulkhead-full")
+              .counter()
+              .count(),
+          0.0);
+
+      release.countDown();
+      assertTrue(first.join().success());
+      assertTrue(second.join().success());
+    }
+  }
+
+  private PaymentProviderBulkhead bulkhead(
+      PaymentProvider provider, Duration timeout, int maxConcurrentCalls) {
+    return new PaymentProviderBulkhead(
+        provider,
+        new PaymentProviderBulkheadProperties.Limits(timeout, maxConcurrentCalls),
+        new PaymentProviderHealth(new PaymentProviderHealthProperties(10, 2, 0.5, null)),
+        meterRegistry);
+  }
+
+  private double inFlight() {
+    return meterRegistry.get("checkout.payment.provider.in-flight").gauge().value();
+  }
+
+  /** Provider whose initiation blocks until released. */
+  private static class BlockingProvider implements PaymentProvider {
+
+    private final CountDownLatch release;
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    BlockingProvider(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public PaymentProviderId providerId() {
+      return PaymentProviderId.of("blocking");
+    }
+
+    @Override
+    public String displayName() {
+      return "Blocking";
+    }
+
+    @Override
+    public PaymentResult initiatePayment(CheckoutSessionId sessionId, Money amount) {
+      try {
+        release.await();
+        return PaymentResult.success("ref");
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        return PaymentResult.failure("interrupted");
+      }
+    }
+
+    @Override
+    public PaymentResult confirmPayment(String providerReference) {
+      return PaymentResult.success(providerReference);
+    }
+
+    @Override
+    public PaymentResult cancelPayment(String providerReference) {
+      return PaymentResult.success(providerReference);
+    }
+
+    @Override
+    public boolean isAvailable() {
+      return true;
+    }
+  }
+
+  /** Provider whose initiation ignores interrupts and succeeds once released. */
+  private static class UninterruptibleProvider extends BlockingProvider {
+
+    private final CountDownLatch release;
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private volatile String cancelledReference;
+
+    UninterruptibleProvider(CountDownLatch release) {
+      super(release);
+      this.release = release;
+    }
+
+    @Override
+    public PaymentResult initiatePayment(CheckoutSessionId sessionId, Money amount) {
+      while (true) {
+        try {
+          release.await();
+          return PaymentResult.success("late-ref");
+        } catch (InterruptedException e) {
+          // Like a blocking client that does not react to interrupts
+        }
+      }
+    }
+
+    @Override
+    public PaymentResult cancelPayment(String providerReference) {
+      cancelledReference = providerReference;
+      cancelled.countDown();
+      return PaymentResult.success(providerReference);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.payment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.adapter.outgoing.payment.PaymentProviderHealth.CircuitState;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for PaymentProviderHealth.
+ *
+ * <p>Tests the rolling statistics and circuit breaker of a payment provider, covering:
+ *
+ * <ul>
+ *   <li>Success rate and p95 latency over the rolling window
+ *   <li>Opening the circuit breaker at the failure rate threshold
+ *   <li>Half-open trial calls closing or reopening the circuit breaker
+ * </ul>
+ */
+@DisplayName("PaymentProviderHealth")
+class PaymentProviderHealthTest {
+
+  private static final long MILLIS = 1_000_000L;
+
+  private long now;
+  private PaymentProviderHealth health;
+
+  @BeforeEach
+  void setUp() {
+    now = 0;
+    health =
+        new PaymentProviderHealth(
+            new PaymentProviderHealthProperties(20, 4, 0.5, Duration.ofSeconds(10)), () -> now);
+  }
+
+  @Nested
+  @DisplayName("Statistics")
+  class Statistics {
+
+    @Test
+    @DisplayName("reports a healthy provider without calls")
+    void reportsHealthyWithoutCalls() {
+      PaymentProviderHealth.Stats stats = health.stats();
+
+      assertEquals(CircuitState.CLOSED, stats.circuitState());
+      assertEquals(0, stats.calls());
+      assertEquals(1.0, stats.successRate());
+    }
+
+    @Test
+    @DisplayName("computes success rate and p95 latency")
+    void computesSuccessRateAndP95() {
+      for (int i = 1; i <= 19; i++) {
+        health.onSuccess(i * MILLIS);
+      }
+      health.onFailure(100 * MILLIS);
+
+      PaymentProviderHealth.Stats stats = health.stats();
+
+      assertEquals(20, stats.calls());
+      assertEquals(0.95, stats.successRate(), 1e-9);
+      assertEquals(19.0, stats.p95LatencyMillis(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("only keeps the most recent calls")
+    void keepsMostRecentCalls() {
+      health =
+          new PaymentProviderHealth(
+              new PaymentProviderHealthProperties(4, 4, 1.0, Duration.ofSeconds(10)), () -> now);
+      health.onFailure(MILLIS);
+      health.onFailure(MILLIS);
+      for (int i = 0; i < 4; i++) {
+        health.onSuccess(MILLIS);
+      }
+
+      assertEquals(4, health.stats().calls());
+      assertEquals(1.0, health.stats().successRate());
+    }
+  }
+
+  @Nested
+  @DisplayName("Circuit Breaker")
+  class CircuitBreaker {
+
+    @Test
+    @DisplayName("stays closed below the minimum number of calls")
+    void staysClosedBelowMinimumCalls() {
+      health.onFailure(MILLIS);
+      health.onFailure(MILLIS);
+      health.onFailure(MILLIS);
+
+      assertTrue(health.isCallPermitted());
+      assertTrue(health.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("opens at the failure rate threshold")
+    void opensAtThreshold() {
+      tripBreaker();
+
+      assertFalse(health.isCallPermitted());
+      assertFalse(health.tryAcquirePermission());
+      assertEquals(CircuitState.OPEN, health.stats().circuitState());
+    }
+
+    @Test
+    @DisplayName("lets a single trial call through after the open duration")
+    void letsSingleTrialThrough() {
+      tripBreaker();
+      now += Duration.ofSeconds(10).toNanos();
+
+      assertTrue(health.isCallPermitted());
+      assertTrue(health.tryAcquirePermission());
+      assertFalse(health.tryAcquirePermission());
+      assertFalse(health.isCallPermitted());
+    }
+
+    @Test
+    @DisplayName("closes with a fresh window when the trial call succeeds")
+    void closesOnSuccessfulTrial() {
+      tripBreaker();
+      now += Duration.ofSeconds(10).toNanos();
+      health.tryAcquirePermission();
+
+      health.onSuccess(MILLIS);
+
+      assertEquals(CircuitState.CLOSED, health.stats().circuitState());
+      assertEquals(1, health.stats().calls());
+      assertTrue(health.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("reopens when the trial call fails")
+    void reopensOnFailedTrial() {
+      tripBreaker();
+      now += Duration.ofSeconds(10).toNanos();
+      health.tryAcquirePermission();
+
+      health.onFailure(MILLIS);
+
+      assertEquals(CircuitState.OPEN, health.stats().circuitState());
+      assertFalse(health.tryAcquirePermission());
+    }
+
+    @Test
+    @DisplayName("returns the trial permission when the call was not made")
+    void returnsTrialPermission() {
+      tripBreaker();
+      now += Duration.ofSeconds(10).toNanos();
+      health.tryAcquirePermission();
+
+      health.onNotCalled();
+
+      assertTrue(health.tryAcquirePermission());
+    }
+  }
+
+  private void tripBreaker() {
+    health.onSuccess(MILLIS);
+    health.onSuccess(MILLIS);
+    health.onFailure(MILLIS);
+    health.onFailure(MILLIS);
+  }
+}
@@ -0,0 +1,193 @@
+package de.sample.aiarchitecture.checkout.adapter.outgoing.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticlePriceResolver;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.model.DeliveryAddress;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentSelection;
+import de.sample.aiarchitecture.checkout.domain.model.ShippingOption;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the secondary indexes of InMemoryCheckoutSessionRepository.
+ *
+ * <p>Tests lookups by customer and cart across status transitions, covering:
+ *
+ * <ul>
+ *   <li>The active session index following sessions in and out of ACTIVE
+ *   <li>Falling back to another active session of the customer once the indexed one left ACTIVE
+ *   <li>The latest confirmed session index and the cart index
+ *   <li>Deleted sessions disappearing from all indexes
+ * </ul>
+ */
+@DisplayName("InMemoryCheckoutSessionRepository indexes")
+class InMemoryCheckoutSessionRepositoryTest {
+
+  private static final CustomerId CUSTOMER = CustomerId.of("customer-1");
+
+  private final InMemoryCheckoutSessionRepository repository =
+      new InMemoryCheckoutSessionRepository(
+          Clock.fixed(Instant.parse("2026-01-01T12:00:00Z"), ZoneOffset.UTC));
+
+  @Nested
+  @DisplayName("Active Session by Customer")
+  class ActiveByCustomer {
+
+    @Test
+    @DisplayName("finds a started session")
+    void findsStartedSession() {
+      CheckoutSession session = save(start(CartId.generate(), CUSTOMER));
+
+      assertEquals(Optional.of(session), repository.findActiveByCustomerId(CUSTOMER));
+      assertTrue(repository.findActiveByCustomerId(CustomerId.of("customer-2")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("finds nothing once the only active session is abandoned")
+    void findsNothingAfterAbandon() {
+      CheckoutSession session = save(start(CartId.generate(), CUSTOMER));
+
+      session.abandon();
+      repository.save(session);
+
+      assertTrue(repository.findActiveByCustomerId(CUSTOMER).isEmpty());
+    }
+
+    @Test
+    @DisplayName("falls back to another active session when the indexed one expires")
+    void fallsBackWhenIndexedSessionExpires() {
+      CheckoutSession older = save(start(CartId.generate(), CUSTOMER));
+      CheckoutSession newer = save(start(CartId.generate(), CUSTOMER));
+      assertEquals(Optional.of(newer), repository.findActiveByCustomerId(CUSTOMER));
+
+      newer.expire();
+      repository.save(newer);
+
+      assertEquals(Optional.of(older), repository.findActiveByCustomerId(CUSTOMER));
+    }
+
+    @Test
+    @DisplayName("falls back when the indexed session left ACTIVE without being saved yet")
+    void fallsBackOnUnsavedStatusChange() {
+      CheckoutSession older = save(start(CartId.generate(), CUSTOMER));
+      CheckoutSession newer = save(start(CartId.generate(), CUSTOMER));
+
+      newer.abandon();
+
+      assertEquals(Optional.of(older), repository.findActiveByCustomerId(CUSTOMER));
+    }
+
+    @Test
+    @DisplayName("finds a new session started after the previous one was confirmed")
+    void findsSessionStartedAfterConfirmation() {
+      CheckoutSession confirmed = save(confirm(start(CartId.generate(), CUSTOMER)));
+      assertTrue(repository.findActiveByCustomerId(CUSTOMER).isEmpty());
+
+      CheckoutSession next = save(start(CartId.generate(), CUSTOMER));
+
+      assertEquals(Optional.of(next), repository.findActiveByCustomerId(CUSTOMER));
+      assertNotEquals(confirmed.id(), next.id());
+    }
+  }
+
+  @Nested
+  @DisplayName("Confirmed Session by Customer")
+  class ConfirmedByCustomer {
+
+    @Test
+    @DisplayName("tracks the most recently confirmed session through completion")
+    void tracksLatestConfirmedSession() {
+      CheckoutSession first = save(confirm(start(CartId.generate(), CUSTOMER)));
+      assertEquals(Optional.of(first), repository.findConfirmedOrCompletedByCustomerId(CUSTOMER));
+
+      CheckoutSession second = save(confirm(start(CartId.generate(), CUSTOMER)));
+      first.complete("ORDER-1");
+      repository.save(first);
+
+      assertEquals(Optional.of(second), repository.findConfirmedOrCompletedByCustomerId(CUSTOMER));
+    }
+  }
+
+  @Nested
+  @DisplayName("Sessions by Cart")
+  class ByCart {
+
+    @Test
+    @DisplayName("finds the new active session after the previous one for the cart was abandoned")
+    void findsRestartedSessionForCart() {
+      CartId cartId = CartId.generate();
+      CheckoutSession abandoned = save(start(cartId, CUSTOMER));
+      abandoned.abandon();
+      repository.save(abandoned);
+
+      CheckoutSession restarted = save(start(cartId, CUSTOMER));
+
+      assertEquals(Optional.of(restarted), repository.findActiveByCartId(cartId));
+      assertTrue(repository.findByCartId(cartId).isPresent());
+    }
+  }
+
+  @Nested
+  @DisplayName("Deletion")
+  class Deletion {
+
+    @Test
+    @DisplayName("removes a deleted session from all indexes")
+    void removesDeletedSessionFromIndexes() {
+      CartId cartId = CartId.generate();
+      CheckoutSession session = save(start(cartId, CUSTOMER));
+
+      repository.deleteById(session.id());
+
+      assertTrue(repository.findActiveByCustomerId(CUSTOMER).isEmpty());
+      assertTrue(repository.findByCartId(cartId).isEmpty());
+      assertTrue(repository.findUpdatedAtById(session.id()).isEmpty());
+    }
+  }
+
+  private CheckoutSession save(CheckoutSession session) {
+    return repository.save(session);
+  }
+
+  private static CheckoutSession start(CartId cartId, CustomerId customerId) {
+    return CheckoutSession.start(
+        cartId,
+        customerId,
+        List.of(
+            CheckoutLineItem.of(
+                CheckoutLineItemId.generate(),
+                ProductId.of("P1"),
+                "Product One",
+                Money.euro(10.00),
+                1,
+                null)),
+        Money.euro(10.00));
+  }
+
+  private static CheckoutSession confirm(CheckoutSession session) {
+    session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+    session.submitDelivery(
+        DeliveryAddress.of("Main Street 1", "Berlin", "10115", "DE"),
+        ShippingOption.of("standard", "Standard Shipping", "3-5 business days", Money.euro(4.99)));
+    session.submitPayment(PaymentSelection.of(PaymentProviderId.of("mock")));
+    session.confirm(
+        productId -> new CheckoutArticlePriceResolver.ArticlePrice(Money.euro(10.00), true, 100));
+    return session;
+  }
+}
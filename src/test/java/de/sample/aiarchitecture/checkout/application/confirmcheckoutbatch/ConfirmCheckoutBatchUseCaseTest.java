@@ -0,0 +1,307 @@
+package de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchResult.Confirmation;
+import de.sample.aiarchitecture.checkout.application.confirmcheckoutbatch.ConfirmCheckoutBatchResult.Rejection;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutArticleDataPort;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionTimestamp;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutBatchConfirmed;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutConfirmed;
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticle;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.model.DeliveryAddress;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentSelection;
+import de.sample.aiarchitecture.checkout.domain.model.ShippingOption;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.DomainEventPublisher;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.AggregateRoot;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.DomainEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ConfirmCheckoutBatchUseCase.
+ *
+ * <p>Tests confirming several sessions in one transaction, covering:
+ *
+ * <ul>
+ *   <li>Stock taken by earlier sessions of the batch is not offered to later ones
+ *   <li>A session requested twice gets the outcome of its first confirmation
+ *   <li>Rejections keep the exception kind of a single confirmation
+ *   <li>Stock is reduced by the batch event only
+ * </ul>
+ */
+@DisplayName("ConfirmCheckoutBatchUseCase")
+class ConfirmCheckoutBatchUseCaseTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final ProductId PRODUCT = ProductId.of("product-a");
+
+  private TestCheckoutSessionRepository repository;
+  private TestCheckoutArticleDataPort articleDataPort;
+  private TestDomainEventPublisher eventPublisher;
+  private ConfirmCheckoutBatchUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    repository = new TestCheckoutSessionRepository();
+    articleDataPort = new TestCheckoutArticleDataPort();
+    eventPublisher = new TestDomainEventPublisher();
+    useCase = new ConfirmCheckoutBatchUseCase(repository, articleDataPort, eventPublisher);
+  }
+
+  @Nested
+  @DisplayName("Stock")
+  class Stock {
+
+    @Test
+    @DisplayName("rejects a session that no longer fits the stock left by earlier sessions")
+    void rejectsSessionExceedingRemainingStock() {
+      articleDataPort.stock = 3;
+      CheckoutSession first = reviewedSession(2);
+      CheckoutSession second = reviewedSession(2);
+
+      ConfirmCheckoutBatchResult result = confirm(first, second);
+
+      assertTrue(result.confirmations().get(0).isConfirmed());
+      Confirmation rejected = result.confirmations().get(1);
+      assertFalse(rejected.isConfirmed());
+      assertEquals(Rejection.INVALID_STATE, rejected.rejection());
+      assertEquals(CheckoutSessionStatus.CONFIRMED, first.status());
+      assertEquals(CheckoutSessionStatus.ACTIVE, second.status());
+
+      CheckoutBatchConfirmed batch = eventPublisher.single(CheckoutBatchConfirmed.class);
+      assertEquals(List.of(first.id()), batch.sessionIds());
+      assertEquals(
+          List.of(new CheckoutBatchConfirmed.ProductQuantity(PRODUCT, 2)), batch.quantities());
+    }
+
+    @Test
+    @DisplayName("confirms sessions that together fit the stock")
+    void confirmsSessionsWithinStock() {
+      articleDataPort.stock = 4;
+      CheckoutSession first = reviewedSession(2);
+      CheckoutSession second = reviewedSession(2);
+
+      ConfirmCheckoutBatchResult result = confirm(first, second);
+
+      assertTrue(result.confirmations().stream().allMatch(Confirmation::isConfirmed));
+      assertEquals(
+          List.of(new CheckoutBatchConfirmed.ProductQuantity(PRODUCT, 4)),
+          eventPublisher.single(CheckoutBatchConfirmed.class).quantities());
+    }
+
+    @Test
+    @DisplayName("marks the sessions' own confirmation events as reduced by the batch")
+    void marksSessionEventsAsReducedInBatch() {
+      articleDataPort.stock = 5;
+      CheckoutSession session = reviewedSession(1);
+
+      confirm(session);
+
+      assertTrue(eventPublisher.single(CheckoutConfirmed.class).stockReducedInBatch());
+      assertTrue(session.domainEvents().isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Outcomes")
+  class Outcomes {
+
+    @Test
+    @DisplayName("gives a duplicate session the outcome of its first confirmation")
+    void duplicateGetsFirstOutcome() {
+      articleDataPort.stock = 5;
+      CheckoutSession session = reviewedSession(1);
+      String id = session.id().value();
+
+      ConfirmCheckoutBatchResult result =
+          useCase.execute(new ConfirmCheckoutBatchCommand(List.of(id, id)));
+
+      assertTrue(result.confirmations().get(0).isConfirmed());
+      assertEquals(result.confirmations().get(0), result.confirmations().get(1));
+      assertEquals(
+          List.of(session.id()), eventPublisher.single(CheckoutBatchConfirmed.class).sessionIds());
+    }
+
+    @Test
+    @DisplayName("rejects a missing session as an invalid argument")
+    void rejectsMissingSessionAsInvalidArgument() {
+      ConfirmCheckoutBatchResult result =
+          useCase.execute(new ConfirmCheckoutBatchCommand(List.of("missing")));
+
+      Confirmation rejected = result.confirmations().get(0);
+      assertEquals(Rejection.INVALID_ARGUMENT, rejected.rejection());
+      assertEquals("Session not found: missing", rejected.errorMessage());
+      assertTrue(eventPublisher.events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("rejects a session that is not ready for confirmation as an invalid state")
+    void rejectsIncompleteSessionAsInvalidState() {
+      articleDataPort.stock = 5;
+      CheckoutSession session = startSession(1);
+      repository.save(session);
+
+      ConfirmCheckoutBatchResult result = confirm(session);
+
+      assertEquals(Rejection.INVALID_STATE, result.confirmations().get(0).rejection());
+      assertTrue(eventPublisher.events.isEmpty());
+    }
+  }
+
+  private ConfirmCheckoutBatchResult confirm(CheckoutSession... sessions) {
+    return useCase.execute(
+        new ConfirmCheckoutBatchCommand(
+            List.of(sessions).stream().map(session -> session.id().value()).toList()));
+  }
+
+  private CheckoutSession reviewedSession(int quantity) {
+    CheckoutSession session = startSession(quantity);
+    session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+    session.submitDelivery(
+        DeliveryAddress.of("Main Street 1", "Berlin", "10115", "DE"),
+        ShippingOption.of("standard", "Standard Shipping", "3-5 business days", euro(4.99)));
+    session.submitPayment(PaymentSelection.of(PaymentProviderId.of("mock")));
+    session.clearDomainEvents();
+    repository.save(session);
+    return session;
+  }
+
+  private static CheckoutSession startSession(int quantity) {
+    return CheckoutSession.start(
+        CartId.generate(),
+        CustomerId.of("customer"),
+        List.of(
+            CheckoutLineItem.of(
+                CheckoutLineItemId.generate(), PRODUCT, "Product A", euro(10.00), quantity, null)),
+        euro(10.00 * quantity));
+  }
+
+  private static Money euro(double amount) {
+    return Money.of(BigDecimal.valueOf(amount), EUR);
+  }
+
+  // Test doubles
+
+  private static class TestCheckoutArticleDataPort implements CheckoutArticleDataPort {
+
+    private int stock;
+
+    @Override
+    public Map<ProductId, CheckoutArticle> getArticleData(Collection<ProductId> productIds) {
+      Map<ProductId, CheckoutArticle> articles = new HashMap<>();
+      productIds.forEach(
+          productId ->
+              articles.put(
+                  productId,
+                  new CheckoutArticle(productId, "Product A", euro(10.00), stock, true, null)));
+      return articles;
+    }
+  }
+
+  private static class TestDomainEventPublisher implements DomainEventPublisher {
+
+    private final List<DomainEvent> events = new ArrayList<>();
+
+    @Override
+    public void publish(DomainEvent event) {
+      events.add(event);
+    }
+
+    @Override
+    public void publishAndClearEvents(AggregateRoot<?, ?> aggregate) {
+      events.addAll(aggregate.domainEvents());
+      aggregate.clearDomainEvents();
+    }
+
+    <T extends DomainEvent> T single(Class<T> type) {
+      List<T> matching = events.stream().filter(type::isInstance).map(type::cast).toList();
+      assertEquals(1, matching.size(), "expected exactly one " + type.getSimpleName());
+      return matching.get(0);
+    }
+  }
+
+  private static class TestCheckoutSessionRepository implements CheckoutSessionRepository {
+
+    private final Map<CheckoutSessionId, CheckoutSession> sessions = new HashMap<>();
+
+    @Override
+    public Optional<CheckoutSession> findById(CheckoutSessionId id) {
+      return Optional.ofNullable(sessions.get(id));
+    }
+
+    @Override
+    public CheckoutSession save(CheckoutSession session) {
+      sessions.put(session.id(), session);
+      return session;
+    }
+
+    @Override
+    public void deleteById(CheckoutSessionId id) {
+      sessions.remove(id);
+    }
+
+    @Override
+    public Optional<CheckoutSession> findByCartId(CartId cartId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<CheckoutSession> findActiveByCartId(CartId cartId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<CheckoutSession> findActiveByCustomerId(CustomerId customerId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSession> findExpiredSessions() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(CheckoutSessionId id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSessionTimestamp> findAllTimestamps() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSession> findAll() {
+      return List.copyOf(sessions.values());
+    }
+
+    @Override
+    public Optional<CheckoutSession> findConfirmedOrCompletedByCustomerId(CustomerId customerId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,233 @@
+package de.sample.aiarchitecture.checkout.application.evictcheckoutsession;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionTimestamp;
+import de.sample.aiarchitecture.checkout.application.shared.PlacedOrderArchive;
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutArticlePriceResolver;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.model.DeliveryAddress;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentSelection;
+import de.sample.aiarchitecture.checkout.domain.model.ShippingOption;
+import de.sample.aiarchitecture.checkout.domain.readmodel.PlacedOrder;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EvictCheckoutSessionUseCase.
+ *
+ * <p>Tests eviction from the live repository, covering:
+ *
+ * <ul>
+ *   <li>Archiving confirmed sessions as compact placed orders
+ *   <li>Dropping abandoned sessions without archiving
+ *   <li>Keeping active sessions
+ * </ul>
+ */
+@DisplayName("EvictCheckoutSessionUseCase")
+class EvictCheckoutSessionUseCaseTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final ProductId PRODUCT = ProductId.of("product-a");
+
+  private TestCheckoutSessionRepository repository;
+  private TestPlacedOrderArchive archive;
+  private EvictCheckoutSessionUseCase useCase;
+  private CheckoutSession session;
+
+  @BeforeEach
+  void setUp() {
+    repository = new TestCheckoutSessionRepository();
+    archive = new TestPlacedOrderArchive();
+    useCase = new EvictCheckoutSessionUseCase(repository, archive);
+    session =
+        CheckoutSession.start(
+            CartId.generate(),
+            CustomerId.of("customer"),
+            List.of(
+                CheckoutLineItem.of(
+                    CheckoutLineItemId.generate(), PRODUCT, "Product A", euro(10.00), 2, null)),
+            euro(20.00));
+  }
+
+  @Nested
+  @DisplayName("Placed Orders")
+  class PlacedOrders {
+
+    @Test
+    @DisplayName("archives a confirmed session and removes it from the live repository")
+    void archivesConfirmedSession() {
+      completeSteps();
+      session.confirm(
+          productId -> new CheckoutArticlePriceResolver.ArticlePrice(euro(10.00), true, 5));
+      repository.save(session);
+
+      EvictCheckoutSessionResult result = evict();
+
+      assertTrue(result.evicted());
+      assertTrue(result.archived());
+      assertTrue(repository.findById(session.id()).isEmpty());
+
+      PlacedOrder order = archive.findBySessionId(session.id()).orElseThrow();
+      assertEquals(CheckoutSessionStatus.CONFIRMED, order.status());
+      assertEquals(session.totals(), order.totals());
+      assertEquals(
+          List.of(new PlacedOrder.Line(PRODUCT, "Product A", euro(10.00), 2)), order.lines());
+    }
+  }
+
+  @Nested
+  @DisplayName("Other Sessions")
+  class OtherSessions {
+
+    @Test
+    @DisplayName("drops an abandoned session without archiving it")
+    void dropsAbandonedSession() {
+      session.abandon();
+      repository.save(session);
+
+      EvictCheckoutSessionResult result = evict();
+
+      assertTrue(result.evicted());
+      assertFalse(result.archived());
+      assertTrue(repository.findById(session.id()).isEmpty());
+      assertTrue(archive.findBySessionId(session.id()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("keeps an active session")
+    void keepsActiveSession() {
+      repository.save(session);
+
+      EvictCheckoutSessionResult result = evict();
+
+      assertFalse(result.evicted());
+      assertTrue(repository.findById(session.id()).isPresent());
+    }
+
+    @Test
+    @DisplayName("refuses to build a placed order from an active session")
+    void rejectsPlacedOrderOfActiveSession() {
+      assertThrows(IllegalStateException.class, () -> PlacedOrder.from(session));
+    }
+  }
+
+  private EvictCheckoutSessionResult evict() {
+    return useCase.execute(new EvictCheckoutSessionCommand(session.id().value()));
+  }
+
+  private void completeSteps() {
+    session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+    session.submitDelivery(
+        DeliveryAddress.of("Main Street 1", "Berlin", "10115", "DE"),
+        ShippingOption.of("standard", "Standard Shipping", "3-5 business days", euro(4.99)));
+    session.submitPayment(PaymentSelection.of(PaymentProviderId.of("mock")));
+  }
+
+  private static Money euro(double amount) {
+    return Money.of(BigDecimal.valueOf(amount), EUR);
+  }
+
+  // Test doubles
+
+  private static class TestCheckoutSessionRepository implements CheckoutSessionRepository {
+
+    private final Map<CheckoutSessionId, CheckoutSession> sessions = new HashMap<>();
+
+    @Override
+    public Optional<CheckoutSession> findById(CheckoutSessionId id) {
+      return Optional.ofNullable(sessions.get(id));
+    }
+
+    @Override
+    public CheckoutSession save(CheckoutSession session) {
+      sessions.put(session.id(), session);
+      return session;
+    }
+
+    @Override
+    public void deleteById(CheckoutSessionId id) {
+      sessions.remove(id);
+    }
+
+    @Override
+    public Optional<CheckoutSession> findByCartId(CartId cartId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<CheckoutSession> findActiveByCartId(CartId cartId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<CheckoutSession> findActiveByCustomerId(CustomerId customerId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSession> findExpiredSessions() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(CheckoutSessionId id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSessionTimestamp> findAllTimestamps() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSession> findAll() {
+      return List.copyOf(sessions.values());
+    }
+
+    @Override
+    public Optional<CheckoutSession> findConfirmedOrCompletedByCustomerId(CustomerId customerId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static class TestPlacedOrderArchive implements PlacedOrderArchive {
+
+    private final Map<CheckoutSessionId, PlacedOrder> orders = new HashMap<>();
+
+    @Override
+    public void archive(PlacedOrder order) {
+      orders.put(order.sessionId(), order);
+    }
+
+    @Override
+    public Optional<PlacedOrder> findBySessionId(CheckoutSessionId sessionId) {
+      return Optional.ofNullable(orders.get(sessionId));
+    }
+
+    @Override
+    public Optional<PlacedOrder> findLatestByCustomerId(CustomerId customerId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,226 @@
+package de.sample.aiarchitecture.checkout.application.expirecheckoutsession;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionTimestamp;
+import de.sample.aiarchitecture.checkout.domain.event.CheckoutExpired;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionStatus;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import de.sample.aiarchitecture.sharedkernel.marker.port.out.DomainEventPublisher;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.AggregateRoot;
+import de.sample.aiarchitecture.sharedkernel.marker.tactical.DomainEvent;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ExpireCheckoutSessionUseCase.
+ *
+ * <p>Tests expiry of inactive sessions, covering:
+ *
+ * <ul>
+ *   <li>Expiring an active session saved longer ago than the inactivity timeout
+ *   <li>Keeping an active session saved within the timeout and reporting when it becomes due
+ *   <li>Ignoring missing and no longer active sessions
+ * </ul>
+ */
+@DisplayName("ExpireCheckoutSessionUseCase")
+class ExpireCheckoutSessionUseCaseTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+  private TestCheckoutSessionRepository repository;
+  private TestDomainEventPublisher eventPublisher;
+  private ExpireCheckoutSessionUseCase useCase;
+  private CheckoutSession session;
+
+  @BeforeEach
+  void setUp() {
+    repository = new TestCheckoutSessionRepository();
+    eventPublisher = new TestDomainEventPublisher();
+    useCase = new ExpireCheckoutSessionUseCase(repository, eventPublisher);
+    session =
+        CheckoutSession.start(
+            CartId.generate(),
+            CustomerId.of("customer"),
+            List.of(
+                CheckoutLineItem.of(
+                    CheckoutLineItemId.generate(),
+                    ProductId.of("product-a"),
+                    "Product A",
+                    Money.of(BigDecimal.valueOf(10.00), EUR),
+                    1,
+                    null)),
+            Money.of(BigDecimal.valueOf(10.00), EUR));
+    session.clearDomainEvents();
+  }
+
+  @Nested
+  @DisplayName("Active Sessions")
+  class ActiveSessions {
+
+    @Test
+    @DisplayName("expires a session saved longer ago than the inactivity timeout")
+    void expiresInactiveSession() {
+      repository.save(session, Instant.now().minus(TIMEOUT).minusSeconds(1));
+
+      ExpireCheckoutSessionResult result = expire();
+
+      assertTrue(result.expired());
+      assertNull(result.dueAt());
+      assertEquals(CheckoutSessionStatus.EXPIRED, session.status());
+      assertTrue(eventPublisher.events.stream().anyMatch(CheckoutExpired.class::isInstance));
+    }
+
+    @Test
+    @DisplayName("keeps a session saved within the timeout and reports when it becomes due")
+    void keepsRecentlySavedSession() {
+      Instant updatedAt = Instant.now().minus(Duration.ofMinutes(10));
+      repository.save(session, updatedAt);
+
+      ExpireCheckoutSessionResult result = expire();
+
+      assertFalse(result.expired());
+      assertEquals(updatedAt.plus(TIMEOUT), result.dueAt());
+      assertEquals(CheckoutSessionStatus.ACTIVE, session.status());
+      assertTrue(eventPublisher.events.isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Other Sessions")
+  class OtherSessions {
+
+    @Test
+    @DisplayName("ignores a missing session")
+    void ignoresMissingSession() {
+      ExpireCheckoutSessionResult result = expire();
+
+      assertFalse(result.expired());
+      assertNull(result.dueAt());
+    }
+
+    @Test
+    @DisplayName("ignores a session that is no longer active")
+    void ignoresFinishedSession() {
+      session.abandon();
+      session.clearDomainEvents();
+      repository.save(session, Instant.now().minus(Duration.ofDays(1)));
+
+      ExpireCheckoutSessionResult result = expire();
+
+      assertFalse(result.expired());
+      assertNull(result.dueAt());
+      assertEquals(CheckoutSessionStatus.ABANDONED, session.status());
+    }
+  }
+
+  private ExpireCheckoutSessionResult expire() {
+    return useCase.execute(new ExpireCheckoutSessionCommand(session.id().value(), TIMEOUT));
+  }
+
+  // Test doubles
+
+  private static class TestDomainEventPublisher implements DomainEventPublisher {
+
+    private final List<DomainEvent> events = new ArrayList<>();
+
+    @Override
+    public void publish(DomainEvent event) {
+      events.add(event);
+    }
+
+    @Override
+    public void publishAndClearEvents(AggregateRoot<?, ?> aggregate) {
+      events.addAll(aggregate.domainEvents());
+      aggregate.clearDomainEvents();
+    }
+  }
+
+  private static class TestCheckoutSessionRepository implements CheckoutSessionRepository {
+
+    private final Map<CheckoutSessionId, CheckoutSession> sessions = new HashMap<>();
+    private final Map<CheckoutSessionId, Instant> updatedAt = new HashMap<>();
+
+    void save(CheckoutSession session, Instant savedAt) {
+      sessions.put(session.id(), session);
+      updatedAt.put(session.id(), savedAt);
+    }
+
+    @Override
+    public Optional<CheckoutSession> findById(CheckoutSessionId id) {
+      return Optional.ofNullable(sessions.get(id));
+    }
+
+    @Override
+    public CheckoutSession save(CheckoutSession session) {
+      save(session, Instant.now());
+      return session;
+    }
+
+    @Override
+    public void deleteById(CheckoutSessionId id) {
+      sessions.remove(id);
+      updatedAt.remove(id);
+    }
+
+    @Override
+    public Optional<CheckoutSession> findByCartId(CartId cartId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<CheckoutSession> findActiveByCartId(CartId cartId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<CheckoutSession> findActiveByCustomerId(CustomerId customerId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSession> findExpiredSessions() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(CheckoutSessionId id) {
+      return Optional.ofNullable(updatedAt.get(id));
+    }
+
+    @Override
+    public List<CheckoutSessionTimestamp> findAllTimestamps() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSession> findAll() {
+      return List.copyOf(sessions.values());
+    }
+
+    @Override
+    public Optional<CheckoutSession> findConfirmedOrCompletedByCustomerId(CustomerId customerId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
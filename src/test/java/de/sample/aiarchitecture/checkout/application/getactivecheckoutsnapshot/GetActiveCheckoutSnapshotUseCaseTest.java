@@ -0,0 +1,228 @@
+package de.sample.aiarchitecture.checkout.application.getactivecheckoutsnapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionRepository;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSessionTimestamp;
+import de.sample.aiarchitecture.checkout.application.shared.CheckoutSnapshotCache;
+import de.sample.aiarchitecture.checkout.domain.model.BuyerInfo;
+import de.sample.aiarchitecture.checkout.domain.model.CartId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItem;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutLineItemId;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSession;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.CustomerId;
+import de.sample.aiarchitecture.checkout.domain.readmodel.CheckoutCartSnapshot;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for GetActiveCheckoutSnapshotUseCase.
+ *
+ * <p>Tests serving the active session's snapshot through the snapshot cache, covering:
+ *
+ * <ul>
+ *   <li>Not found when the customer has no active session
+ *   <li>Building and caching the snapshot on a miss
+ *   <li>Serving the cached snapshot while the session version is unchanged
+ *   <li>Rebuilding the snapshot once the session has changed
+ * </ul>
+ */
+@DisplayName("GetActiveCheckoutSnapshotUseCase")
+class GetActiveCheckoutSnapshotUseCaseTest {
+
+  private static final String CUSTOMER = "customer-1";
+
+  private TestCheckoutSessionRepository repository;
+  private TestCheckoutSnapshotCache cache;
+  private GetActiveCheckoutSnapshotUseCase useCase;
+  private CheckoutSession session;
+
+  @BeforeEach
+  void setUp() {
+    repository = new TestCheckoutSessionRepository();
+    cache = new TestCheckoutSnapshotCache();
+    useCase = new GetActiveCheckoutSnapshotUseCase(repository, cache);
+    session =
+        CheckoutSession.start(
+            CartId.generate(),
+            CustomerId.of(CUSTOMER),
+            List.of(
+                CheckoutLineItem.of(
+                    CheckoutLineItemId.generate(),
+                    ProductId.of("P1"),
+                    "Product One",
+                    Money.euro(10.00),
+                    1,
+                    null)),
+            Money.euro(10.00));
+  }
+
+  @Nested
+  @DisplayName("Lookup")
+  class Lookup {
+
+    @Test
+    @DisplayName("returns not found when the customer has no active session")
+    void returnsNotFoundWithoutActiveSession() {
+      GetActiveCheckoutSnapshotResult result =
+          useCase.execute(GetActiveCheckoutSnapshotQuery.of(CUSTOMER));
+
+      assertFalse(result.found());
+      assertNull(result.session());
+      assertEquals(0, cache.puts);
+    }
+
+    @Test
+    @DisplayName("builds and caches the snapshot on a cache miss")
+    void buildsAndCachesSnapshotOnMiss() {
+      repository.save(session);
+
+      GetActiveCheckoutSnapshotResult result =
+          useCase.execute(GetActiveCheckoutSnapshotQuery.of(CUSTOMER));
+
+      assertTrue(result.found());
+      assertEquals(session.id(), result.session().sessionId());
+      assertEquals(1, cache.puts);
+      assertSame(result.session(), cache.find(session.id(), session.version()).orElseThrow());
+    }
+  }
+
+  @Nested
+  @DisplayName("Caching")
+  class Caching {
+
+    @Test
+    @DisplayName("serves the cached snapshot while the session is unchanged")
+    void servesCachedSnapshotForSameVersion() {
+      repository.save(session);
+      CheckoutCartSnapshot first =
+          useCase.execute(GetActiveCheckoutSnapshotQuery.of(CUSTOMER)).session();
+
+      CheckoutCartSnapshot second =
+          useCase.execute(GetActiveCheckoutSnapshotQuery.of(CUSTOMER)).session();
+
+      assertSame(first, second);
+      assertEquals(1, cache.puts);
+    }
+
+    @Test
+    @DisplayName("rebuilds the snapshot once the session has a newer version")
+    void rebuildsSnapshotForStaleVersion() {
+      repository.save(session);
+      CheckoutCartSnapshot before =
+          useCase.execute(GetActiveCheckoutSnapshotQuery.of(CUSTOMER)).session();
+
+      session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+      repository.save(session);
+      CheckoutCartSnapshot after =
+          useCase.execute(GetActiveCheckoutSnapshotQuery.of(CUSTOMER)).session();
+
+      assertNotSame(before, after);
+      assertNull(before.buyerInfo());
+      assertEquals(session.buyerInfo(), after.buyerInfo());
+      assertEquals(2, cache.puts);
+    }
+  }
+
+  // Test doubles
+
+  private static class TestCheckoutSessionRepository implements CheckoutSessionRepository {
+
+    private final Map<CheckoutSessionId, CheckoutSession> sessions = new HashMap<>();
+
+    @Override
+    public Optional<CheckoutSession> findById(CheckoutSessionId id) {
+      return Optional.ofNullable(sessions.get(id));
+    }
+
+    @Override
+    public CheckoutSession save(CheckoutSession session) {
+      sessions.put(session.id(), session);
+      return session;
+    }
+
+    @Override
+    public void deleteById(CheckoutSessionId id) {
+      sessions.remove(id);
+    }
+
+    @Override
+    public Optional<CheckoutSession> findByCartId(CartId cartId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<CheckoutSession> findActiveByCartId(CartId cartId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<CheckoutSession> findActiveByCustomerId(CustomerId customerId) {
+      return sessions.values().stream()
+          .filter(s -> s.customerId().equals(customerId) && s.isActive())
+          .findFirst();
+    }
+
+    @Override
+    public List<CheckoutSession> findExpiredSessions() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(CheckoutSessionId id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSessionTimestamp> findAllTimestamps() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<CheckoutSession> findAll() {
+      return List.copyOf(sessions.values());
+    }
+
+    @Override
+    public Optional<CheckoutSession> findConfirmedOrCompletedByCustomerId(CustomerId customerId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static class TestCheckoutSnapshotCache implements CheckoutSnapshotCache {
+
+    private final Map<CheckoutSessionId, Long> versions = new HashMap<>();
+    private final Map<CheckoutSessionId, CheckoutCartSnapshot> snapshots = new HashMap<>();
+    private int puts;
+
+    @Override
+    public Optional<CheckoutCartSnapshot> find(CheckoutSessionId sessionId, long version) {
+      return Long.valueOf(version).equals(versions.get(sessionId))
+          ? Optional.of(snapshots.get(sessionId))
+          : Optional.empty();
+    }
+
+    @Override
+    public void put(CheckoutSessionId sessionId, long version, CheckoutCartSnapshot snapshot) {
+      puts++;
+      versions.put(sessionId, version);
+      snapshots.put(sessionId, snapshot);
+    }
+
+    @Override
+    public void invalidate(CheckoutSessionId sessionId) {
+      versions.remove(sessionId);
+      snapshots.remove(sessionId);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package de.sample.aiarchitecture.checkout.application.shared;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.checkout.application.shared.PaymentProvider.PaymentResult;
+import de.sample.aiarchitecture.checkout.domain.model.CheckoutSessionId;
+import de.sample.aiarchitecture.checkout.domain.model.PaymentProviderId;
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the default asynchronous methods of PaymentProvider.
+ *
+ * <p>Tests that the defaults keep the contract of the asynchronous API, covering:
+ *
+ * <ul>
+ *   <li>Results of the blocking methods are passed through
+ *   <li>Exceptions of the blocking methods end in failure results, never in failed futures
+ * </ul>
+ */
+@DisplayName("PaymentProvider")
+class PaymentProviderTest {
+
+  private static final CheckoutSessionId SESSION_ID = CheckoutSessionId.generate();
+
+  @Test
+  @DisplayName("passes the result of the blocking call through")
+  void passesResultThrough() {
+    PaymentProvider provider = new TestPaymentProvider(false);
+
+    assertEquals(
+        PaymentResult.success("initiated"),
+        provider.initiatePaymentAsync(SESSION_ID, Money.euro(10.00)).join());
+    assertEquals(PaymentResult.success("confirmed"), provider.confirmPaymentAsync("ref").join());
+    assertEquals(PaymentResult.success("cancelled"), provider.cancelPaymentAsync("ref").join());
+  }
+
+  @Test
+  @DisplayName("completes with a failure result when the blocking call throws")
+  void completesWithFailureOnException() {
+    PaymentProvider provider = new TestPaymentProvider(true);
+
+    assertFailed(provider.initiatePaymentAsync(SESSION_ID, Money.euro(10.00)));
+    assertFailed(provider.confirmPaymentAsync("ref"));
+    assertFailed(provider.cancelPaymentAsync("ref"));
+  }
+
+  private static void assertFailed(CompletableFuture<PaymentResult> future) {
+    assertTrue(future.isDone());
+    assertFalse(future.isCompletedExceptionally());
+    PaymentResult result = future.join();
+    assertFalse(result.success());
+    assertEquals("Test failed to respond", result.errorMessage());
+  }
+
+  // Test doubles
+
+  private static class TestPaymentProvider implements PaymentProvider {
+
+    private final boolean failing;
+
+    TestPaymentProvider(boolean failing) {
+      this.failing = failing;
+    }
+
+    @Override
+    public PaymentProviderId providerId() {
+      return PaymentProviderId.of("test");
+    }
+
+    @Override
+    public String displayName() {
+      return "Test";
+    }
+
+    @Override
+    public PaymentResult initiatePayment(CheckoutSessionId sessionId, Money amount) {
+      return respond("initiated");
+    }
+
+    @Override
+    public PaymentResult confirmPayment(String providerReference) {
+      return respond("confirmed");
+    }
+
+    @Override
+    public PaymentResult cancelPayment(String providerReference) {
+      return respond("cancelled");
+    }
+
+    @Override
+    public boolean isAvailable() {
+      return true;
+    }
+
+    private PaymentResult respond(String reference) {
+      if (failing) {
+        throw new IllegalStateException("connection reset");
+      }
+      return PaymentResult.success(reference);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package de.sample.aiarchitecture.checkout.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.Money;
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CheckoutSession.syncLineItems() method.
+ *
+ * <p>Tests the diff-based synchronization with the cart, covering:
+ *
+ * <ul>
+ *   <li>Unchanged carts leaving the session untouched
+ *   <li>Stable line item IDs for matched products
+ *   <li>Incremental subtotal adjustment for added, changed and removed lines
+ * </ul>
+ */
+@DisplayName("CheckoutSession.syncLineItems()")
+class CheckoutSessionSyncLineItemsTest {
+
+  private static final Currency EUR = Currency.getInstance("EUR");
+  private static final ProductId PRODUCT_A = ProductId.of("product-a");
+  private static final ProductId PRODUCT_B = ProductId.of("product-b");
+  private static final ProductId PRODUCT_C = ProductId.of("product-c");
+
+  private CheckoutSession session;
+  private CheckoutLineItem lineA;
+  private CheckoutLineItem lineB;
+
+  @BeforeEach
+  void setUp() {
+    lineA = line(PRODUCT_A, 10.00, 2);
+    lineB = line(PRODUCT_B, 5.00, 1);
+    session =
+        CheckoutSession.start(
+            CartId.generate(), CustomerId.of("customer"), List.of(lineA, lineB), euro(25.00));
+  }
+
+  @Nested
+  @DisplayName("Unchanged Cart")
+  class UnchangedCart {
+
+    @Test
+    @DisplayName("returns false and keeps line items when the cart still matches")
+    void returnsFalseWhenCartMatches() {
+      boolean changed =
+          session.syncLineItems(
+              List.of(withNewId(lineA, lineA.quantity()), withNewId(lineB, lineB.quantity())));
+
+      assertFalse(changed);
+      assertSame(lineA, session.lineItems().get(0));
+      assertSame(lineB, session.lineItems().get(1));
+      assertEquals(euro(25.00), session.totals().subtotal());
+    }
+  }
+
+  @Nested
+  @DisplayName("Changed Cart")
+  class ChangedCart {
+
+    @Test
+    @DisplayName("keeps the line item ID when the quantity changes")
+    void keepsIdWhenQuantityChanges() {
+      boolean changed =
+          session.syncLineItems(List.of(withNewId(lineA, 5), withNewId(lineB, lineB.quantity())));
+
+      assertTrue(changed);
+      assertEquals(lineA.id(), session.lineItems().get(0).id());
+      assertEquals(5, session.lineItems().get(0).quantity());
+      assertSame(lineB, session.lineItems().get(1));
+      assertEquals(euro(55.00), session.totals().subtotal());
+      assertEquals(euro(55.00), session.totals().total());
+    }
+
+    @Test
+    @DisplayName("adds new products and removes missing ones")
+    void addsAndRemovesProducts() {
+      CheckoutLineItem lineC = line(PRODUCT_C, 7.50, 2);
+
+      boolean changed = session.syncLineItems(List.of(withNewId(lineA, lineA.quantity()), lineC));
+
+      assertTrue(changed);
+      assertEquals(List.of(lineA, lineC), session.lineItems());
+      assertEquals(euro(35.00), session.totals().subtotal());
+    }
+
+    @Test
+    @DisplayName("keeps shipping cost in the total")
+    void keepsShippingCost() {
+      completeDelivery(euro(4.99));
+
+      session.syncLineItems(List.of(withNewId(lineB, 3)));
+
+      assertEquals(euro(15.00), session.totals().subtotal());
+      assertEquals(euro(19.99), session.totals().total());
+    }
+  }
+
+  @Nested
+  @DisplayName("Invalid Input")
+  class InvalidInput {
+
+    @Test
+    @DisplayName("rejects an empty cart")
+    void rejectsEmptyCart() {
+      assertThrows(IllegalArgumentException.class, () -> session.syncLineItems(List.of()));
+    }
+
+    @Test
+    @DisplayName("rejects sync of an expired session")
+    void rejectsExpiredSession() {
+      session.expire();
+
+      assertThrows(IllegalStateException.class, () -> session.syncLineItems(List.of(lineA)));
+    }
+  }
+
+  private void completeDelivery(Money shippingCost) {
+    session.submitBuyerInfo(BuyerInfo.of("jane@example.com", "Jane", "Doe", "+49 123 456"));
+    session.submitDelivery(
+        DeliveryAddress.of("Main Street 1", "Berlin", "10115", "DE"),
+        ShippingOption.of("standard", "Standard Shipping", "3-5 business days", shippingCost));
+  }
+
+  private static CheckoutLineItem line(ProductId productId, double price, int quantity) {
+    return CheckoutLineItem.of(
+        CheckoutLineItemId.generate(),
+        productId,
+        "Product " + productId.value(),
+        euro(price),
+        quantity,
+        null);
+  }
+
+  private static CheckoutLineItem withNewId(CheckoutLineItem item, int quantity) {
+    return CheckoutLineItem.of(
+        CheckoutLineItemId.generate(),
+        item.productId(),
+        item.productName(),
+        item.unitPrice(),
+        quantity,
+        item.imageUrl());
+  }
+
+  private static Money euro(double amount) {
+    return Money.of(BigDecimal.valueOf(amount), EUR);
+  }
+}
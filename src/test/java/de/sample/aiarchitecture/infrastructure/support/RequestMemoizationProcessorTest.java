@@ -0,0 +1,194 @@
+package de.sample.aiarchitecture.infrastructure.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.sample.aiarchitecture.sharedkernel.marker.infrastructure.RequestMemoized;
+import de.sample.aiarchitecture.sharedkernel.marker.port.in.UseCase;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Unit tests for RequestMemoizationProcessor.
+ *
+ * <p>Drives proxied use cases through a controller in MockMvc, covering:
+ *
+ * <ul>
+ *   <li>A query repeated within one request is executed once
+ *   <li>A command clears the memo, so a later query is executed again
+ *   <li>Separate requests do not share results
+ *   <li>Only memoized queries and commands are proxied
+ * </ul>
+ */
+@DisplayName("RequestMemoizationProcessor")
+class RequestMemoizationProcessorTest {
+
+  private final RequestMemoizationProcessor processor = new RequestMemoizationProcessor();
+  private CountingQueryUseCase query;
+  private CountingCommandUseCase command;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    query = proxy(new CountingQueryUseCase());
+    command = proxy(new CountingCommandUseCase());
+    mockMvc = MockMvcBuilders.standaloneSetup(new TestController(query, command)).build();
+  }
+
+  @Nested
+  @DisplayName("Within one request")
+  class WithinOneRequest {
+
+    @Test
+    @DisplayName("executes a duplicated query once")
+    void executesDuplicatedQueryOnce() throws Exception {
+      mockMvc.perform(get("/page")).andExpect(status().isOk());
+
+      assertEquals(1, query.executions());
+    }
+
+    @Test
+    @DisplayName("executes different queries separately")
+    void executesDifferentQueriesSeparately() throws Exception {
+      mockMvc.perform(get("/two-products")).andExpect(status().isOk());
+
+      assertEquals(2, query.executions());
+    }
+
+    @Test
+    @DisplayName("executes the query again after a command")
+    void commandClearsMemo() throws Exception {
+      mockMvc.perform(post("/update")).andExpect(status().isOk());
+
+      assertEquals(2, query.executions());
+      assertEquals(1, command.executions());
+    }
+  }
+
+  @Nested
+  @DisplayName("Across requests")
+  class AcrossRequests {
+
+    @Test
+    @DisplayName("does not reuse results of a previous request")
+    void doesNotShareResultsBetweenRequests() throws Exception {
+      mockMvc.perform(get("/page")).andExpect(status().isOk());
+      mockMvc.perform(get("/page")).andExpect(status().isOk());
+
+      assertEquals(2, query.executions());
+    }
+
+    @Test
+    @DisplayName("does not memoize outside a web request")
+    void doesNotMemoizeOutsideRequest() {
+      query.execute(new TestQuery("product-1"));
+      query.execute(new TestQuery("product-1"));
+
+      assertEquals(2, query.executions());
+    }
+  }
+
+  @Nested
+  @DisplayName("Proxying")
+  class Proxying {
+
+    @Test
+    @DisplayName("proxies memoized queries and commands only")
+    void proxiesMemoizedQueriesAndCommandsOnly() {
+      assertTrue(AopUtils.isAopProxy(query));
+      assertTrue(AopUtils.isAopProxy(command));
+      assertFalse(AopUtils.isAopProxy(proxy(new PlainQueryUseCase())));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T proxy(final T useCase) {
+    return (T) processor.postProcessAfterInitialization(useCase, useCase.getClass().getName());
+  }
+
+  // Test doubles
+
+  record TestQuery(String productId) {}
+
+  record TestCommand(String productId) {}
+
+  @RequestMemoized
+  static class CountingQueryUseCase implements UseCase<TestQuery, String> {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Override
+    public String execute(final TestQuery query) {
+      executions.incrementAndGet();
+      return "view of " + query.productId();
+    }
+
+    public int executions() {
+      return executions.get();
+    }
+  }
+
+  static class CountingCommandUseCase implements UseCase<TestCommand, String> {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Override
+    public String execute(final TestCommand command) {
+      executions.incrementAndGet();
+      return "updated " + command.productId();
+    }
+
+    public int executions() {
+      return executions.get();
+    }
+  }
+
+  static class PlainQueryUseCase implements UseCase<TestQuery, String> {
+
+    @Override
+    public String execute(final TestQuery query) {
+      return "view of " + query.productId();
+    }
+  }
+
+  @RestController
+  static class TestController {
+
+    private final CountingQueryUseCase query;
+    private final CountingCommandUseCase command;
+
+    TestController(final CountingQueryUseCase query, final CountingCommandUseCase command) {
+      this.query = query;
+      this.command = command;
+    }
+
+    /** Page assembled from two parts that run the same query, like controller and advice. */
+    @GetMapping("/page")
+    String page() {
+      return query.execute(new TestQuery("product-1")) + query.execute(new TestQuery("product-1"));
+    }
+
+    @GetMapping("/two-products")
+    String twoProducts() {
+      return query.execute(new TestQuery("product-1")) + query.execute(new TestQuery("product-2"));
+    }
+
+    @PostMapping("/update")
+    String update() {
+      query.execute(new TestQuery("product-1"));
+      command.execute(new TestCommand("product-1"));
+      return query.execute(new TestQuery("product-1"));
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package de.sample.aiarchitecture.sharedkernel.adapter.outgoing.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.sample.aiarchitecture.sharedkernel.domain.model.ProductId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ProductDataCache.
+ *
+ * <p>Tests the article data near-cache, covering:
+ *
+ * <ul>
+ *   <li>Cached products are served from memory, missing ones loaded with one call
+ *   <li>Invalidated products are loaded again
+ *   <li>Values loaded while an invalidation happened are not kept
+ *   <li>The cache stays within its maximum size
+ * </ul>
+ */
+@DisplayName("ProductDataCache")
+class ProductDataCacheTest {
+
+  private static final ProductId A = ProductId.of("product-a");
+  private static final ProductId B = ProductId.of("product-b");
+
+  private final ProductDataCache<String> cache = new ProductDataCache<>(10, Duration.ofHours(1));
+  private final CountingLoader loader = new CountingLoader();
+
+  @Nested
+  @DisplayName("Lookups")
+  class Lookups {
+
+    @Test
+    @DisplayName("loads only the products that are not cached, in one call")
+    void loadsOnlyMissingProducts() {
+      cache.getAll(List.of(A), loader);
+
+      Map<ProductId, String> result = cache.getAll(List.of(A, B), loader);
+
+      assertEquals(Map.of(A, "a-v1", B, "b-v1"), result);
+      assertEquals(List.of(List.of(A), List.of(B)), loader.calls);
+      assertEquals(1, cache.hitCount());
+      assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("does not cache products the loader did not return")
+    void doesNotCacheMissingProducts() {
+      loader.values.remove(B);
+
+      assertEquals(Map.of(A, "a-v1"), cache.getAll(List.of(A, B), loader));
+      assertEquals(1, cache.size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Invalidation")
+  class Invalidation {
+
+    @Test
+    @DisplayName("loads an invalidated product again")
+    void loadsInvalidatedProductAgain() {
+      cache.getAll(List.of(A, B), loader);
+      loader.values.put(A, "a-v2");
+
+      cache.invalidate(A);
+
+      assertEquals(Map.of(A, "a-v2", B, "b-v1"), cache.getAll(List.of(A, B), loader));
+      assertEquals(List.of(A), loader.calls.get(1));
+    }
+
+    @Test
+    @DisplayName("returns but does not keep values loaded while an invalidation happened")
+    void doesNotKeepValuesLoadedDuringInvalidation() {
+      Map<ProductId, String> result =
+          cache.getAll(
+              List.of(A),
+              productIds -> {
+                Map<ProductId, String> stale = loader.apply(productIds);
+                cache.invalidate(A);
+                return stale;
+              });
+
+      assertEquals(Map.of(A, "a-v1"), result);
+      assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("refresh bypasses cached entries")
+    void refreshBypassesCache() {
+      cache.getAll(List.of(A), loader);
+      loader.values.put(A, "a-v2");
+
+      assertEquals(Map.of(A, "a-v2"), cache.refresh(List.of(A), loader));
+      assertEquals(Map.of(A, "a-v2"), cache.getAll(List.of(A), loader));
+    }
+  }
+
+  @Test
+  @DisplayName("evicts entries beyond the maximum size")
+  void evictsBeyondMaxSize() {
+    ProductDataCache<String> small = new ProductDataCache<>(1, Duration.ofHours(1));
+
+    small.getAll(List.of(A, B), loader);
+
+    assertEquals(1, small.size());
+  }
+
+  // Test doubles
+
+  private static class CountingLoader
+      implements Function<Collection<ProductId>, Map<ProductId, String>> {
+
+    private final Map<ProductId, String> values = new HashMap<>(Map.of(A, "a-v1", B, "b-v1"));
+    private final List<List<ProductId>> calls = new ArrayList<>();
+
+    @Override
+    public Map<ProductId, String> apply(Collection<ProductId> productIds) {
+      calls.add(List.copyOf(productIds));
+      Map<ProductId, String> loaded = new HashMap<>();
+      productIds.stream()
+          .filter(values::containsKey)
+          .forEach(productId -> loaded.put(productId, values.get(productId)));
+      return loaded;
+    }
+  }
+}
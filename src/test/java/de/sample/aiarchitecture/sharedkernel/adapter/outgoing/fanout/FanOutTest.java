@@ -0,0 +1,250 @@
+package de.sample.aiarchitecture.sharedkernel.adapter.outgoing.fanout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for FanOut.
+ *
+ * <p>Tests forking and joining cross-context lookups, covering:
+ *
+ * <ul>
+ *   <li>Sequential mode running lookups on the calling thread and failing from fork
+ *   <li>Parallel mode running lookups concurrently and returning results after join
+ *   <li>The deadline cancelling lookups that did not complete
+ *   <li>A failing lookup being reported with its source and cancelling the others
+ * </ul>
+ */
+@DisplayName("FanOut")
+class FanOutTest {
+
+  private static final Duration DEADLINE = Duration.ofSeconds(5);
+
+  @Nested
+  @DisplayName("Sequential Mode")
+  class SequentialMode {
+
+    @Test
+    @DisplayName("runs each lookup on the calling thread as soon as it is forked")
+    void runsLookupsInlineInForkOrder() {
+      List<String> calls = new ArrayList<>();
+      Thread caller = Thread.currentThread();
+
+      try (FanOut fanOut = FanOut.open(FanOutMode.SEQUENTIAL, DEADLINE)) {
+        Supplier<String> product = fanOut.fork("product", () -> record(calls, caller, "product"));
+        assertEquals(List.of("product"), calls);
+        Supplier<String> pricing = fanOut.fork("pricing", () -> record(calls, caller, "pricing"));
+        fanOut.join();
+
+        assertEquals("product", product.get());
+        assertEquals("pricing", pricing.get());
+      }
+      assertEquals(List.of("product", "pricing"), calls);
+    }
+
+    @Test
+    @DisplayName("raises a failing lookup from fork")
+    void raisesFailureFromFork() {
+      IllegalArgumentException cause = new IllegalArgumentException("no such product");
+
+      try (FanOut fanOut = FanOut.open(FanOutMode.SEQUENTIAL, DEADLINE)) {
+        FanOutException e =
+            assertThrows(
+                FanOutException.class,
+                () ->
+                    fanOut.fork(
+                        "product",
+                        () -> {
+                          throw cause;
+                        }));
+
+        assertEquals("product", e.source());
+        assertSame(cause, e.getCause());
+        assertEquals("Lookup 'product' failed: no such product", e.getMessage());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Parallel Mode")
+  class ParallelMode {
+
+    @Test
+    @DisplayName("runs lookups concurrently and returns their results after join")
+    void runsLookupsConcurrently() {
+      // Each lookup only completes once the other one has started
+      CountDownLatch started = new CountDownLatch(2);
+
+      try (FanOut fanOut = FanOut.open(FanOutMode.PARALLEL, DEADLINE)) {
+        Supplier<String> pricing = fanOut.fork("pricing", () -> awaitBoth(started, "price"));
+        Supplier<String> inventory = fanOut.fork("inventory", () -> awaitBoth(started, "stock"));
+        fanOut.join();
+
+        assertEquals("price", pricing.get());
+        assertEquals("stock", inventory.get());
+      }
+    }
+
+    @Test
+    @DisplayName("does not run lookups on the calling thread")
+    void runsLookupsOffCallingThread() {
+      try (FanOut fanOut = FanOut.open(FanOutMode.PARALLEL, DEADLINE)) {
+        Supplier<Thread> thread = fanOut.fork("product", Thread::currentThread);
+        fanOut.join();
+
+        assertNotSame(Thread.currentThread(), thread.get());
+        assertTrue(thread.get().isVirtual());
+      }
+    }
+
+    @Test
+    @DisplayName("rejects reading a result before join")
+    void rejectsResultBeforeJoin() {
+      try (FanOut fanOut = FanOut.open(FanOutMode.PARALLEL, DEADLINE)) {
+        Supplier<String> product = fanOut.fork("product", () -> "product");
+
+        assertThrows(IllegalStateException.class, product::get);
+      }
+    }
+
+    @Test
+    @DisplayName("rejects forking after join")
+    void rejectsForkAfterJoin() {
+      try (FanOut fanOut = FanOut.open(FanOutMode.PARALLEL, DEADLINE)) {
+        fanOut.join();
+
+        assertThrows(IllegalStateException.class, () -> fanOut.fork("product", () -> "product"));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Deadline")
+  class Deadline {
+
+    @Test
+    @DisplayName("names the lookups that did not complete and interrupts them")
+    void reportsAndInterruptsSlowLookups() throws InterruptedException {
+      CountDownLatch interrupted = new CountDownLatch(1);
+
+      try (FanOut fanOut = FanOut.open(FanOutMode.PARALLEL, Duration.ofMillis(100))) {
+        fanOut.fork("product", () -> "product");
+        fanOut.fork("inventory", () -> blockUntilInterrupted(interrupted));
+
+        FanOutException e = assertThrows(FanOutException.class, fanOut::join);
+
+        assertEquals("inventory", e.source());
+        assertEquals("No response from [inventory] within PT0.1S", e.getMessage());
+      }
+      assertTrue(interrupted.await(5, TimeUnit.SECONDS), "slow lookup was not interrupted");
+    }
+
+    @Test
+    @DisplayName("does not apply in sequential mode")
+    void doesNotApplySequentially() {
+      try (FanOut fanOut = FanOut.open(FanOutMode.SEQUENTIAL, Duration.ofMillis(1))) {
+        Supplier<String> product =
+            fanOut.fork(
+                "product",
+                () -> {
+                  Thread.sleep(20);
+                  return "product";
+                });
+        fanOut.join();
+
+        assertEquals("product", product.get());
+      }
+    }
+
+    @Test
+    @DisplayName("must be positive")
+    void rejectsNonPositiveDeadline() {
+      assertThrows(
+          IllegalArgumentException.class, () -> FanOut.open(FanOutMode.PARALLEL, Duration.ZERO));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> FanOut.open(FanOutMode.PARALLEL, Duration.ofSeconds(-1)));
+    }
+  }
+
+  @Nested
+  @DisplayName("Failing Lookups")
+  class FailingLookups {
+
+    @Test
+    @DisplayName("reports the failing source and its cause from join")
+    void reportsFailingSource() {
+      IllegalStateException cause = new IllegalStateException("pricing unavailable");
+
+      try (FanOut fanOut = FanOut.open(FanOutMode.PARALLEL, DEADLINE)) {
+        fanOut.fork("product", () -> "product");
+        fanOut.fork(
+            "pricing",
+            () -> {
+              throw cause;
+            });
+
+        FanOutException e = assertThrows(FanOutException.class, fanOut::join);
+
+        assertEquals("pricing", e.source());
+        assertSame(cause, e.getCause());
+        assertEquals("Lookup 'pricing' failed: pricing unavailable", e.getMessage());
+      }
+    }
+
+    @Test
+    @DisplayName("interrupts the lookups still running without waiting for the deadline")
+    void interruptsRemainingLookups() throws InterruptedException {
+      CountDownLatch interrupted = new CountDownLatch(1);
+      long startedAt = System.nanoTime();
+
+      try (FanOut fanOut = FanOut.open(FanOutMode.PARALLEL, DEADLINE)) {
+        fanOut.fork("inventory", () -> blockUntilInterrupted(interrupted));
+        fanOut.fork(
+            "pricing",
+            () -> {
+              throw new IllegalStateException("pricing unavailable");
+            });
+
+        FanOutException e = assertThrows(FanOutException.class, fanOut::join);
+
+        assertEquals("pricing", e.source());
+      }
+      assertTrue(interrupted.await(5, TimeUnit.SECONDS), "running lookup was not interrupted");
+      assertTrue(Duration.ofNanos(System.nanoTime() - startedAt).compareTo(DEADLINE) < 0);
+    }
+  }
+
+  private static String record(List<String> calls, Thread caller, String source) {
+    assertSame(caller, Thread.currentThread());
+    calls.add(source);
+    return source;
+  }
+
+  private static String awaitBoth(CountDownLatch started, String result)
+      throws InterruptedException {
+    started.countDown();
+    assertTrue(started.await(5, TimeUnit.SECONDS), "lookups did not run concurrently");
+    return result;
+  }
+
+  private static String blockUntilInterrupted(CountDownLatch interrupted) {
+    try {
+      new CountDownLatch(1).await();
+      return "never";
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+      Thread.currentThread().interrupt();
+      return "interrupted";
+    }
+  }
+}